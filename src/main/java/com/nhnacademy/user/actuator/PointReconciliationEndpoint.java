@@ -0,0 +1,41 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.actuator;
+
+import com.nhnacademy.user.dto.response.PointReconciliationReport;
+import com.nhnacademy.user.service.point.PointReconciliationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * 포인트 잔액 검증 actuator 엔드포인트
+ * <p>
+ * GET /actuator/pointreconciliation : 마지막 검증 결과 (읽기 전용)
+ * <p>
+ * 즉시 검증, 회원 잔액 보정처럼 데이터를 바꾸는 작업은 관리자 API(/api/admin/points/reconciliation)에서만 제공한다.
+ */
+@Component
+@Endpoint(id = "pointreconciliation")
+@RequiredArgsConstructor
+public class PointReconciliationEndpoint {
+
+    private final PointReconciliationService pointReconciliationService;
+
+    @ReadOperation
+    public PointReconciliationReport report() {
+        return pointReconciliationService.getLastReport();
+    }
+
+}
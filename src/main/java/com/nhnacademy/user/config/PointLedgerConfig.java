@@ -0,0 +1,45 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.config;
+
+import com.nhnacademy.user.properties.PointCoalescingProperties;
+import com.nhnacademy.user.repository.user.UserRepository;
+import com.nhnacademy.user.service.point.ledger.PointHistoryWriter;
+import com.nhnacademy.user.service.point.ledger.PointLedger;
+import com.nhnacademy.user.service.point.ledger.PointLotManager;
+import com.nhnacademy.user.service.point.ledger.impl.CoalescingPointLedger;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Configuration
+@EnableConfigurationProperties(PointCoalescingProperties.class)
+public class PointLedgerConfig {
+
+    // 묶음 처리 엔진: point.ledger.engine 으로 고른 기본 엔진 앞에 붙어서 지정한 회원의 변동만 묶음
+    @Bean
+    @Primary
+    @ConditionalOnProperty(prefix = "point.ledger.coalescing", name = "enabled", havingValue = "true")
+    public CoalescingPointLedger coalescingPointLedger(PointLedger pointLedger, UserRepository userRepository,
+                                                       PointHistoryWriter pointHistoryWriter,
+                                                       PointLotManager pointLotManager,
+                                                       TransactionTemplate transactionTemplate,
+                                                       PointCoalescingProperties properties) {
+        return new CoalescingPointLedger(pointLedger, userRepository, pointHistoryWriter, pointLotManager,
+                transactionTemplate, properties);
+    }
+
+}
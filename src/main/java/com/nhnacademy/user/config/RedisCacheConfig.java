@@ -12,6 +12,8 @@
 
 package com.nhnacademy.user.config;
 
+import com.nhnacademy.user.service.user.cache.InternalUserInfoCache;
+import com.nhnacademy.user.service.user.cache.InternalUserInfoCache.CachedInternalUser;
 import java.time.Duration;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
@@ -20,6 +22,7 @@ import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
@@ -38,8 +41,15 @@ public class RedisCacheConfig { // 캐싱을 위한 설정
                 .serializeValuesWith(RedisSerializationContext.SerializationPair
                         .fromSerializer(new GenericJackson2JsonRedisSerializer())); // Value: JSON
 
+        // 내부 통신용 회원 정보 (L2): 레코드는 타입 정보 없이 직렬화되므로 값 타입을 고정, 회원 정보가 바뀌면 커밋 후 비움
+        RedisCacheConfiguration internalUserInfoConfiguration = cacheConfiguration
+                .entryTtl(Duration.ofMinutes(10))
+                .serializeValuesWith(RedisSerializationContext.SerializationPair
+                        .fromSerializer(new Jackson2JsonRedisSerializer<>(CachedInternalUser.class)));
+
         return RedisCacheManager.builder(connectionFactory)
                 .cacheDefaults(cacheConfiguration)
+                .withCacheConfiguration(InternalUserInfoCache.CACHE_NAME, internalUserInfoConfiguration)
                 .build();
     }
 
@@ -0,0 +1,69 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.config;
+
+import com.nhnacademy.user.service.point.cache.PointPolicyCache;
+import com.nhnacademy.user.service.user.cache.InternalUserInfoCache;
+import com.nhnacademy.user.service.user.cache.ReferenceDataRegistry;
+import com.nhnacademy.user.service.user.cache.UserExistenceIndex;
+import java.nio.charset.StandardCharsets;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@Configuration
+public class RedisPubSubConfig {    // 인스턴스 간 로컬 캐시 무효화 채널 설정
+
+    public static final String POINT_POLICY_CHANNEL = "user:cache:point-policy";
+
+    public static final String INTERNAL_USER_INFO_CHANNEL = "user:cache:internal-user-info";
+
+    public static final String USER_EXISTENCE_CHANNEL = "user:cache:user-existence";
+
+    public static final String REFERENCE_DATA_CHANNEL = "user:cache:reference-data";
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                        PointPolicyCache pointPolicyCache,
+                                                                        InternalUserInfoCache internalUserInfoCache,
+                                                                        UserExistenceIndex userExistenceIndex,
+                                                                        ReferenceDataRegistry referenceDataRegistry) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+
+        // 정책이 바뀌면 (자기 자신 포함) 모든 인스턴스의 정책 캐시 전체를 비움
+        container.addMessageListener((message, pattern) -> pointPolicyCache.invalidateAll(),
+                new ChannelTopic(POINT_POLICY_CHANNEL));
+
+        // 회원 정보가 바뀌면 모든 인스턴스의 해당 회원 L1 캐시를 비움 (L2 는 변경한 인스턴스가 비움)
+        container.addMessageListener((message, pattern) -> internalUserInfoCache.evictLocal(
+                        Long.valueOf(new String(message.getBody(), StandardCharsets.UTF_8))),
+                new ChannelTopic(INTERNAL_USER_INFO_CHANNEL));
+
+        // 가입하면 (자기 자신 포함) 모든 인스턴스의 존재 여부 인덱스에 추가 (로그인 아이디에 ':' 가 있어도 첫 ':' 로만 나눔)
+        container.addMessageListener((message, pattern) -> {
+                    String[] body = new String(message.getBody(), StandardCharsets.UTF_8).split(":", 2);
+                    userExistenceIndex.add(Long.valueOf(body[0]), body[1]);
+                },
+                new ChannelTopic(USER_EXISTENCE_CHANNEL));
+
+        // 등급/상태 기준 데이터가 바뀌면 다른 인스턴스도 다시 읽음 (요청받은 인스턴스는 이미 갱신, 한 번 더 읽어도 무방)
+        container.addMessageListener((message, pattern) -> referenceDataRegistry.refresh(),
+                new ChannelTopic(REFERENCE_DATA_CHANNEL));
+
+        return container;
+    }
+
+}
@@ -12,18 +12,27 @@
 
 package com.nhnacademy.user.config;
 
+import com.nhnacademy.user.properties.SagaConsumerProperties;
+import com.nhnacademy.user.properties.SagaReplyProperties;
 import com.nhnacademy.user.saga.SagaTopic;
+import org.springframework.amqp.core.AcknowledgeMode;
 import org.springframework.amqp.core.Binding;
 import org.springframework.amqp.core.BindingBuilder;
 import org.springframework.amqp.core.DirectExchange;
 import org.springframework.amqp.core.Queue;
 import org.springframework.amqp.core.QueueBuilder;
 import org.springframework.amqp.core.TopicExchange;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.support.converter.MessageConverter;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
+@EnableConfigurationProperties({SagaConsumerProperties.class, SagaReplyProperties.class})
 public class SagaConfig {
 
 
@@ -60,6 +69,27 @@ public class SagaConfig {
                 .with(SagaTopic.USER_COMPENSATION_RK);
     }
 
+    /**
+     * 회원별 레인 소비자용 컨테이너 (saga.consumer.lanes.enabled=true)
+     * 큐 순서를 레인까지 그대로 넘겨야 하므로 소비자는 하나, ACK 는 레인이 처리를 마친 뒤 직접 보냄
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "saga.consumer.lanes", name = "enabled", havingValue = "true")
+    public SimpleRabbitListenerContainerFactory sagaLaneContainerFactory(ConnectionFactory connectionFactory,
+                                                                         MessageConverter jsonMessageConverter,
+                                                                         SagaConsumerProperties sagaConsumerProperties) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        factory.setConnectionFactory(connectionFactory);
+        factory.setMessageConverter(jsonMessageConverter);
+        factory.setAcknowledgeMode(AcknowledgeMode.MANUAL);
+        factory.setConcurrentConsumers(1);
+        factory.setMaxConcurrentConsumers(1);
+        factory.setPrefetchCount(sagaConsumerProperties.getPrefetch());
+        factory.setDefaultRequeueRejected(false);
+
+        return factory;
+    }
+
 
     // =============================
 
@@ -81,11 +111,29 @@ public class SagaConfig {
     @Bean
     public Queue userPointQueue() {
         return QueueBuilder.durable(userQueue)
-                .withArgument("x-dead-letter-exchange", "team3.user.dlx") // 큐에서 문제가 생기면 해당 DLX로 보냄
-                .withArgument("x-dead-letter-routing-key", "fail.user")
+                .withArgument("x-dead-letter-exchange", SagaTopic.USER_DLX) // 큐에서 문제가 생기면 해당 DLX로 보냄
+                .withArgument("x-dead-letter-routing-key", SagaTopic.USER_DLQ_RK)
                 .build();
     }
 
+    // DLX 로 넘어온 메시지를 모아 두는 큐 (UserDeadLetterReplayer 가 꺼내서 Outbox 로 다시 발행)
+    @Bean
+    public DirectExchange userDeadLetterExchange() {
+        return new DirectExchange(SagaTopic.USER_DLX);
+    }
+
+    @Bean
+    public Queue userDeadLetterQueue() {
+        return QueueBuilder.durable(SagaTopic.USER_DLQ).build();
+    }
+
+    @Bean
+    public Binding userDeadLetterBinding(Queue userDeadLetterQueue, DirectExchange userDeadLetterExchange) {
+        return BindingBuilder.bind(userDeadLetterQueue)
+                .to(userDeadLetterExchange)
+                .with(SagaTopic.USER_DLQ_RK);
+    }
+
     @Bean
     public Binding bindingBookDeducted(Queue userPointQueue, DirectExchange bookExchange) {
         return BindingBuilder.bind(userPointQueue)
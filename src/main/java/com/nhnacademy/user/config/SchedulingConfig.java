@@ -0,0 +1,64 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.config;
+
+import com.nhnacademy.user.properties.OutboxRelayProperties;
+import com.nhnacademy.user.properties.OutboxRetentionProperties;
+import com.nhnacademy.user.properties.OutboxRetryProperties;
+import com.nhnacademy.user.properties.PointArchiveProperties;
+import com.nhnacademy.user.properties.PointEarnQueueProperties;
+import com.nhnacademy.user.properties.PointExpiryProperties;
+import com.nhnacademy.user.properties.PointReconciliationProperties;
+import com.nhnacademy.user.properties.SagaIdempotencyProperties;
+import com.nhnacademy.user.properties.SagaPointHoldProperties;
+import com.nhnacademy.user.properties.UserExistenceIndexProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.task.ThreadPoolTaskSchedulerBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties({PointReconciliationProperties.class, PointExpiryProperties.class,
+        PointEarnQueueProperties.class, PointArchiveProperties.class, OutboxRelayProperties.class,
+        OutboxRetentionProperties.class, OutboxRetryProperties.class, SagaIdempotencyProperties.class,
+        SagaPointHoldProperties.class, UserExistenceIndexProperties.class})
+public class SchedulingConfig {
+    // 정기 배치 작업 (@Scheduled) 활성화
+
+    // 오래 걸리는 배치(만료, 보관, 잔액 검증, 정리, 재적재, 홀드 확정)가 쓰는 스케줄러 이름: @Scheduled(scheduler = ...)
+    public static final String BATCH_SCHEDULER = "batchTaskScheduler";
+
+    private static final int BATCH_POOL_SIZE = 3;
+
+    // 기본 스케줄러: 릴레이, 적립 대기열 반영처럼 짧은 주기의 작업 전용 (spring.task.scheduling.pool.size)
+    // 배치 스케줄러 빈이 있으면 Boot 기본 스케줄러가 만들어지지 않으므로 직접 등록
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(ThreadPoolTaskSchedulerBuilder builder) {
+        return builder.build();
+    }
+
+    // 배치 전용 스케줄러: 배치가 길게 돌아도 릴레이와 적립 반영이 기다리지 않도록 분리
+    @Bean(name = BATCH_SCHEDULER)
+    public ThreadPoolTaskScheduler batchTaskScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(BATCH_POOL_SIZE);
+        scheduler.setThreadNamePrefix("batch-scheduling-");
+        scheduler.setWaitForTasksToCompleteOnShutdown(false);
+        scheduler.initialize();
+        return scheduler;
+    }
+
+}
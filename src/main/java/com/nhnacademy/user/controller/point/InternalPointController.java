@@ -12,6 +12,7 @@
 
 package com.nhnacademy.user.controller.point;
 
+import com.nhnacademy.user.dto.request.PointEarnQueueRequest;
 import com.nhnacademy.user.dto.request.PointRequest;
 import com.nhnacademy.user.service.point.PointService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -59,4 +60,16 @@ public class InternalPointController {
         return ResponseEntity.ok().build();
     }
 
+    @PostMapping("/policy/queue")
+    @Operation(summary = "[내부] 정책 기반 포인트 적립 비동기 접수 (주문 ID 기준 멱등)")
+    @ApiResponse(responseCode = "202", description = "[내부] 적립 요청 접수 완료 (이미 접수된 주문 포함)")
+    @ApiResponse(responseCode = "400", description = "잘못된 포인트 입력 값")
+    @ApiResponse(responseCode = "404", description = "존재하지 않는 포인트 정책")
+    public ResponseEntity<Void> enqueueEarnByPolicy(@Valid @RequestBody PointEarnQueueRequest request) {
+        pointService.enqueueEarnByPolicy(request.userCreatedId(), request.policyType(), request.targetAmount(),
+                request.orderId());
+
+        return ResponseEntity.accepted().build();
+    }
+
 }
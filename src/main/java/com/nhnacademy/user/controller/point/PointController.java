@@ -13,18 +13,22 @@
 package com.nhnacademy.user.controller.point;
 
 import com.nhnacademy.user.dto.response.PointHistoryResponse;
+import com.nhnacademy.user.dto.response.PointHistorySliceResponse;
 import com.nhnacademy.user.service.point.PointService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @Tag(name = "포인트 API")
@@ -45,4 +49,20 @@ public class PointController {
         return ResponseEntity.ok().body(pointService.getMyPointHistory(userCreatedId, pageable));
     }
 
+    // GET /api/users/me/points/scroll?cursorCreatedAt=...&cursorId=...&size=20
+    @GetMapping("/scroll")
+    @Operation(summary = "내 포인트 내역 커서 조회", description = "첫 페이지는 커서 없이, 이후에는 응답의 nextCursor 값을 그대로 전달")
+    @ApiResponse(responseCode = "200", description = "내 포인트 내역 조회 완료")
+    @ApiResponse(responseCode = "400", description = "커서 값 중 하나만 전달")
+    @ApiResponse(responseCode = "404", description = "존재하지 않는 유저")
+    public ResponseEntity<PointHistorySliceResponse> scrollMyPoints(
+            @RequestHeader("X-User-Id") Long userCreatedId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            LocalDateTime cursorCreatedAt,
+            @RequestParam(required = false) Long cursorId,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok()
+                .body(pointService.scrollMyPointHistory(userCreatedId, cursorCreatedAt, cursorId, size));
+    }
+
 }
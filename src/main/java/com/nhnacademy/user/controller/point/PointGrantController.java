@@ -0,0 +1,78 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.controller.point;
+
+import com.nhnacademy.user.dto.request.PointGrantRequest;
+import com.nhnacademy.user.dto.response.PointGrantJobResponse;
+import com.nhnacademy.user.service.point.PointGrantService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import java.net.URI;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+@Tag(name = "포인트 일괄 지급 API - 관리자 전용")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/points/grants")
+public class PointGrantController {
+
+    private final PointGrantService pointGrantService;
+
+    @PostMapping
+    @Operation(summary = "포인트 일괄 지급 작업 등록")
+    @ApiResponse(responseCode = "202", description = "일괄 지급 작업 등록 완료 (백그라운드 진행)")
+    @ApiResponse(responseCode = "404", description = "존재하지 않는 등급 또는 상태")
+    public ResponseEntity<Void> startGrant(@RequestHeader("X-User-Id") Long userCreatedId,
+                                           @Valid @RequestBody PointGrantRequest request) {
+        Long pointGrantJobId = pointGrantService.startGrant(request);
+
+        URI location = ServletUriComponentsBuilder.fromCurrentRequest()
+                .path("/{id}")
+                .buildAndExpand(pointGrantJobId)
+                .toUri();
+
+        return ResponseEntity.accepted().location(location).build();
+    }
+
+    @GetMapping("/{pointGrantJobId}")
+    @Operation(summary = "포인트 일괄 지급 진행 상황 조회")
+    @ApiResponse(responseCode = "200", description = "진행 상황 조회 완료")
+    @ApiResponse(responseCode = "404", description = "존재하지 않는 작업")
+    public ResponseEntity<PointGrantJobResponse> getGrantJob(@RequestHeader("X-User-Id") Long userCreatedId,
+                                                             @PathVariable Long pointGrantJobId) {
+        return ResponseEntity.ok().body(pointGrantService.getGrantJob(pointGrantJobId));
+    }
+
+    @PostMapping("/{pointGrantJobId}/resume")
+    @Operation(summary = "포인트 일괄 지급 재개 (마지막 체크포인트부터)")
+    @ApiResponse(responseCode = "202", description = "재개 요청 완료")
+    @ApiResponse(responseCode = "404", description = "존재하지 않는 작업")
+    public ResponseEntity<Void> resumeGrant(@RequestHeader("X-User-Id") Long userCreatedId,
+                                            @PathVariable Long pointGrantJobId) {
+        pointGrantService.resumeGrant(pointGrantJobId);
+
+        return ResponseEntity.accepted().build();
+    }
+
+}
@@ -0,0 +1,53 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.controller.point;
+
+import com.nhnacademy.user.dto.response.PointDriftResponse;
+import com.nhnacademy.user.dto.response.PointReconciliationReport;
+import com.nhnacademy.user.service.point.PointReconciliationService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "포인트 잔액 검증 API - 관리자 전용")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/points/reconciliation")
+public class PointReconciliationController {
+
+    private final PointReconciliationService pointReconciliationService;
+
+    @PostMapping
+    @Operation(summary = "포인트 잔액 검증 즉시 실행 (스냅샷 이후 내역만 합산, 스냅샷 갱신)")
+    @ApiResponse(responseCode = "200", description = "검증 완료")
+    public ResponseEntity<PointReconciliationReport> reconcile(@RequestHeader("X-User-Id") Long adminId) {
+        return ResponseEntity.ok().body(pointReconciliationService.reconcile());
+    }
+
+    @PostMapping("/users/{userCreatedId}")
+    @Operation(summary = "특정 회원 잔액을 스냅샷 + 이후 내역으로 재계산 후 보정")
+    @ApiResponse(responseCode = "200", description = "재계산 완료")
+    @ApiResponse(responseCode = "404", description = "존재하지 않는 회원")
+    public ResponseEntity<PointDriftResponse> rebuild(@RequestHeader("X-User-Id") Long adminId,
+                                                      @PathVariable Long userCreatedId) {
+        return ResponseEntity.ok().body(pointReconciliationService.rebuild(userCreatedId));
+    }
+
+}
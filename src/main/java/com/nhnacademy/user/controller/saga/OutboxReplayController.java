@@ -0,0 +1,55 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.controller.saga;
+
+import com.nhnacademy.user.dto.response.OutboxReplayResponse;
+import com.nhnacademy.user.saga.UserDeadLetterReplayer;
+import com.nhnacademy.user.saga.UserOutboxRetryRelay;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "Outbox 재처리 API - 관리자 전용")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/outbox")
+public class OutboxReplayController {
+
+    private final UserOutboxRetryRelay userOutboxRetryRelay;
+
+    private final UserDeadLetterReplayer userDeadLetterReplayer;
+
+    @PostMapping("/failed/replay")
+    @Operation(summary = "재시도를 다 쓴 Outbox 행 재발행 (재시도 릴레이가 바로 발행)")
+    @ApiResponse(responseCode = "202", description = "재처리 요청 완료")
+    public ResponseEntity<OutboxReplayResponse> replayFailed(@RequestHeader("X-User-Id") Long userCreatedId,
+                                                             @RequestParam(defaultValue = "1000") int limit) {
+        return ResponseEntity.accepted().body(new OutboxReplayResponse(userOutboxRetryRelay.replayFailed(limit)));
+    }
+
+    @PostMapping("/dead-letters/replay")
+    @Operation(summary = "DLQ 메시지를 Outbox 로 옮겨 원래 큐로 재발행")
+    @ApiResponse(responseCode = "202", description = "재처리 요청 완료")
+    public ResponseEntity<OutboxReplayResponse> replayDeadLetters(@RequestHeader("X-User-Id") Long userCreatedId,
+                                                                  @RequestParam(defaultValue = "1000") int limit) {
+        return ResponseEntity.accepted().body(new OutboxReplayResponse(userDeadLetterReplayer.replay(limit)));
+    }
+
+}
@@ -0,0 +1,42 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.controller.user;
+
+import com.nhnacademy.user.dto.response.ExistenceIndexRebuildResponse;
+import com.nhnacademy.user.service.user.cache.UserExistenceIndex;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "존재 여부 인덱스 API - 관리자 전용")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/existence-index")
+public class ExistenceIndexController {
+
+    private final UserExistenceIndex userExistenceIndex;
+
+    @PostMapping("/rebuild")
+    @Operation(summary = "회원 ID / 로그인 아이디 존재 여부 인덱스 재적재 (대량 가입/이관 후, 거짓 양성 비율이 오를 때)")
+    @ApiResponse(responseCode = "200", description = "재적재 완료 (이미 적재 중이면 -1)")
+    public ResponseEntity<ExistenceIndexRebuildResponse> rebuild(@RequestHeader("X-User-Id") Long adminId) {
+        return ResponseEntity.ok().body(userExistenceIndex.rebuild());
+    }
+
+}
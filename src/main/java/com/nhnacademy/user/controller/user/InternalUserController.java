@@ -12,17 +12,27 @@
 
 package com.nhnacademy.user.controller.user;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nhnacademy.user.dto.request.InternalUserBatchRequest;
+import com.nhnacademy.user.dto.response.InternalUserBatchResponse;
 import com.nhnacademy.user.dto.response.InternalUserResponse;
 import com.nhnacademy.user.service.user.InternalUserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @Tag(name = "내부용 회원 API")
 @RestController
@@ -30,8 +40,13 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping("/api/internal/users")
 public class InternalUserController {
 
+    // IN 목록 한 번에 넣을 회원 수 (청크마다 회원 조회 + 배송지 조회 한 번씩, 조회한 만큼 바로 응답에 씀)
+    private static final int BATCH_CHUNK_SIZE = 1000;
+
     private final InternalUserService internalUserService;
 
+    private final ObjectMapper objectMapper;
+
     // GET /api/internal/users/{userCreatedId}/exists
     @Operation(summary = "[내부] 회원 유효성 검증")
     @GetMapping("/{userCreatedId}/exists")
@@ -50,4 +65,37 @@ public class InternalUserController {
         return ResponseEntity.ok().body(internalUserService.getInternalUserInfo(userCreatedId));
     }
 
+    // POST /api/internal/users/info/batch
+    @Operation(summary = "[내부] 주문 목록/리포트용 회원 정보 일괄 조회")
+    @PostMapping("/info/batch")
+    @ApiResponse(responseCode = "200", description = "[내부] 회원 정보 일괄 조회 완료 (없는 회원, 탈퇴한 계정은 항목별 error)")
+    @ApiResponse(responseCode = "400", description = "ID 목록이 비었거나 5000개 초과")
+    public ResponseEntity<StreamingResponseBody> getUserInfosForOrder(
+            @Valid @RequestBody InternalUserBatchRequest request) {
+        List<Long> ids = request.userCreatedIds().stream().distinct().toList();
+
+        // 청크마다 짧은 읽기 트랜잭션으로 조회하고 바로 JSON 배열에 이어 씀 (전체 결과를 메모리에 모으지 않음)
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.writeStartArray();
+
+                for (int from = 0; from < ids.size(); from += BATCH_CHUNK_SIZE) {
+                    List<Long> chunk = ids.subList(from, Math.min(from + BATCH_CHUNK_SIZE, ids.size()));
+
+                    for (InternalUserBatchResponse item : internalUserService.getInternalUserInfos(chunk)) {
+                        generator.writeObject(item);
+                    }
+
+                    generator.flush();
+                }
+
+                generator.writeEndArray();
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
 }
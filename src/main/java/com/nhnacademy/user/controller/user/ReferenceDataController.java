@@ -0,0 +1,48 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.controller.user;
+
+import com.nhnacademy.user.dto.response.ReferenceDataRefreshResponse;
+import com.nhnacademy.user.service.user.cache.ReferenceDataRegistry;
+import com.nhnacademy.user.service.user.cache.ReferenceDataRegistryBroadcaster;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "기준 데이터 API - 관리자 전용")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/reference-data")
+public class ReferenceDataController {
+
+    private final ReferenceDataRegistry referenceDataRegistry;
+
+    private final ReferenceDataRegistryBroadcaster referenceDataRegistryBroadcaster;
+
+    @PostMapping("/refresh")
+    @Operation(summary = "등급/상태 기준 데이터 갱신 (Grades, Statuses 테이블 변경 후 모든 인스턴스에 반영)")
+    @ApiResponse(responseCode = "200", description = "기준 데이터 갱신 완료")
+    public ResponseEntity<ReferenceDataRefreshResponse> refresh(@RequestHeader("X-User-Id") Long adminId) {
+        ReferenceDataRefreshResponse response = referenceDataRegistry.refresh();
+        referenceDataRegistryBroadcaster.broadcast();
+
+        return ResponseEntity.ok().body(response);
+    }
+
+}
@@ -0,0 +1,29 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.dto.request;
+
+import com.nhnacademy.user.entity.point.PointGrantTarget;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+public record PointGrantRequest(@NotNull PointGrantTarget targetType,
+                                @Size(max = 100000) List<Long> userCreatedIds,
+                                String gradeName,
+                                String statusName,
+                                @NotNull @Min(1) Long amount,
+                                @Size(max = 30) String description) {
+    // 관리자 전용, 포인트 일괄 지급 요청 DTO
+    // targetType 에 따라 userCreatedIds / gradeName / statusName 중 하나만 사용
+}
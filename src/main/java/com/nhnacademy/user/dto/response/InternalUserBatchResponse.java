@@ -0,0 +1,32 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.dto.response;
+
+public record InternalUserBatchResponse(Long userCreatedId,
+                                        InternalUserResponse user,
+                                        String error) {
+    // 회원 정보 일괄 조회 결과 한 건: 성공이면 user, 실패면 error (NOT_FOUND: 없는 회원, WITHDRAWN: 탈퇴한 계정)
+
+    public static final String NOT_FOUND = "NOT_FOUND";
+
+    public static final String WITHDRAWN = "WITHDRAWN";
+
+    public static InternalUserBatchResponse found(InternalUserResponse user) {
+        return new InternalUserBatchResponse(user.userCreatedId(), user, null);
+    }
+
+    public static InternalUserBatchResponse failed(Long userCreatedId, String error) {
+        return new InternalUserBatchResponse(userCreatedId, null, error);
+    }
+
+}
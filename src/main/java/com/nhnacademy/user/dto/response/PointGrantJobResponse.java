@@ -0,0 +1,30 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.dto.response;
+
+import com.nhnacademy.user.entity.point.PointGrantJobStatus;
+import com.nhnacademy.user.entity.point.PointGrantTarget;
+import java.time.LocalDateTime;
+
+public record PointGrantJobResponse(Long pointGrantJobId,
+                                    PointGrantTarget targetType,
+                                    PointGrantJobStatus status,
+                                    Long amount,
+                                    Long processedCount,
+                                    Long lastUserCreatedId,
+                                    double rowsPerSecond,
+                                    String failureReason,
+                                    LocalDateTime createdAt,
+                                    LocalDateTime finishedAt) {
+    // 관리자 전용, 포인트 일괄 지급 작업 진행 상황 DTO
+}
@@ -0,0 +1,24 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record PointHistorySliceResponse(List<PointHistoryResponse> content,
+                                        boolean hasNext,
+                                        LocalDateTime nextCursorCreatedAt,
+                                        Long nextCursorId) {
+    // 프론트엔드 조회용 커서 페이지 응답 DTO
+    // 다음 페이지는 nextCursorCreatedAt, nextCursorId 를 그대로 다시 보내면 됨 (마지막 페이지면 null)
+}
@@ -0,0 +1,26 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record PointReconciliationReport(LocalDateTime startedAt,
+                                        LocalDateTime finishedAt,
+                                        Long cutPointHistoryId,
+                                        long checkedUsers,
+                                        long advancedSnapshots,
+                                        long driftedUsers,
+                                        List<PointDriftResponse> drifts) {
+    // 잔액 검증 작업 결과 (drifts 는 설정한 개수까지만 담음)
+}
@@ -0,0 +1,65 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.entity.point;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+@Entity
+@Table(name = "PendingPointEarns", uniqueConstraints = {
+        // 같은 주문의 적립 요청은 대기열에 하나만
+        @UniqueConstraint(name = "uk_pending_point_earns_order_id", columnNames = "order_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PendingPointEarn {     // 비동기 적립 대기열 (반영되면 삭제)
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "pending_point_earn_id")
+    private Long pendingPointEarnId;    // 대기 요청 고유 ID (PK, AI)
+
+    @Column(name = "user_created_id", nullable = false)
+    private Long userCreatedId;         // 적립 대상 회원 ID
+
+    @Column(name = "order_id", nullable = false)
+    private Long orderId;               // 주문 ID (멱등 키)
+
+    @Column(nullable = false)
+    private Long amount;                // 정책으로 계산된 적립 금액
+
+    @Column(length = 30)
+    private String description;         // 포인트 내역에 남길 설명 (정책 이름)
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;    // 요청 접수일시
+
+    public PendingPointEarn(Long userCreatedId, Long orderId, Long amount, String description) {
+        this.userCreatedId = userCreatedId;
+        this.orderId = orderId;
+        this.amount = amount;
+        this.description = description;
+    }
+
+}
@@ -0,0 +1,80 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.entity.point;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+@Entity
+@Table(name = "PointBalanceSnapshots")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PointBalanceSnapshot implements Persistable<Long> {    // 회원별 포인트 잔액 스냅샷
+
+    @Id
+    @Column(name = "user_created_id")
+    private Long userCreatedId;             // 회원 고유 ID (PK, Users 테이블과 1:1)
+
+    @Column(nullable = false)
+    private Long balance;                   // last_point_history_id 까지의 내역 합계
+
+    @Column(name = "last_point_history_id", nullable = false)
+    private Long lastPointHistoryId;        // 스냅샷에 반영된 마지막 포인트 내역 ID
+
+    @Column(name = "snapshot_at", nullable = false)
+    private LocalDateTime snapshotAt;       // 스냅샷 갱신일시
+
+    @Transient
+    private boolean isNew = true;           // ID를 직접 지정하므로 save 시 merge(SELECT) 대신 persist 하도록
+
+    public PointBalanceSnapshot(Long userCreatedId, Long balance, Long lastPointHistoryId) {
+        this.userCreatedId = userCreatedId;
+        this.balance = balance;
+        this.lastPointHistoryId = lastPointHistoryId;
+        this.snapshotAt = LocalDateTime.now();
+    }
+
+    // 새로 합산한 구간을 더하고 기준 ID 이동
+    public void advance(Long settledAmount, Long lastPointHistoryId) {
+        this.balance += settledAmount;
+        this.lastPointHistoryId = lastPointHistoryId;
+        this.snapshotAt = LocalDateTime.now();
+    }
+
+    @Override
+    public Long getId() {
+        return userCreatedId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+}
@@ -0,0 +1,115 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.entity.point;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+@Entity
+@Table(name = "PointGrantJobs")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PointGrantJob {    // 포인트 일괄 지급 작업 (청크 단위 체크포인트)
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "point_grant_job_id")
+    private Long pointGrantJobId;           // 작업 고유 ID (PK, AI)
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "target_type", nullable = false, length = 10)
+    private PointGrantTarget targetType;    // 대상 지정 방식
+
+    @Column(name = "target_value", length = 30)
+    private String targetValue;             // 등급 이름 또는 상태 이름 (ID 목록 지정은 PointGrantJobTargets)
+
+    @Column(nullable = false)
+    private Long amount;                    // 회원당 지급 포인트
+
+    @Column(nullable = false, length = 30)
+    private String description;             // 포인트 내역에 남길 설명
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private PointGrantJobStatus status;     // 작업 상태
+
+    @Column(name = "last_user_created_id", nullable = false)
+    private Long lastUserCreatedId = 0L;    // 체크포인트: 마지막으로 처리한 회원 ID
+
+    @Column(name = "processed_count", nullable = false)
+    private Long processedCount = 0L;       // 지급 완료한 회원 수
+
+    @Column(name = "active_millis", nullable = false)
+    private Long activeMillis = 0L;         // 청크 처리에 쓴 누적 시간 (재개 전후 합산)
+
+    @Column(name = "failure_reason")
+    private String failureReason;           // 마지막 실패 사유
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;        // 생성일시
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;       // 완료일시
+
+    public PointGrantJob(PointGrantTarget targetType, String targetValue, Long amount, String description) {
+        this.targetType = targetType;
+        this.targetValue = targetValue;
+        this.amount = amount;
+        this.description = description;
+        this.status = PointGrantJobStatus.RUNNING;
+    }
+
+    // 청크 하나를 반영한 뒤 체크포인트 이동
+    public void advance(Long lastUserCreatedId, int count, long elapsedMillis) {
+        this.lastUserCreatedId = lastUserCreatedId;
+        this.processedCount += count;
+        this.activeMillis += elapsedMillis;
+    }
+
+    public void resume() {
+        this.status = PointGrantJobStatus.RUNNING;
+        this.failureReason = null;
+    }
+
+    public void complete() {
+        this.status = PointGrantJobStatus.COMPLETED;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    public void fail(String reason) {
+        this.status = PointGrantJobStatus.FAILED;
+        this.failureReason = reason == null || reason.length() <= 255 ? reason : reason.substring(0, 255);
+    }
+
+    public boolean isCompleted() {
+        return this.status == PointGrantJobStatus.COMPLETED;
+    }
+
+    // 초당 처리 회원 수 (청크 처리 시간 기준)
+    public double getRowsPerSecond() {
+        return activeMillis == 0 ? 0 : processedCount * 1000.0 / activeMillis;
+    }
+
+}
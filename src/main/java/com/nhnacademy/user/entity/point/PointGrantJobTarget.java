@@ -0,0 +1,59 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.entity.point;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import java.io.Serializable;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "PointGrantJobTargets")
+@IdClass(PointGrantJobTarget.Key.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PointGrantJobTarget {  // ID 목록 지정 일괄 지급 대상 (PK 순서 그대로 키셋 페이징)
+
+    @Id
+    @Column(name = "point_grant_job_id")
+    private Long pointGrantJobId;       // 일괄 지급 작업 ID
+
+    @Id
+    @Column(name = "user_created_id")
+    private Long userCreatedId;         // 대상 회원 ID
+
+    public PointGrantJobTarget(Long pointGrantJobId, Long userCreatedId) {
+        this.pointGrantJobId = pointGrantJobId;
+        this.userCreatedId = userCreatedId;
+    }
+
+    @Getter
+    @EqualsAndHashCode
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+
+        private Long pointGrantJobId;
+
+        private Long userCreatedId;
+
+    }
+
+}
@@ -21,6 +21,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -31,7 +32,15 @@ import lombok.NoArgsConstructor;
 import org.hibernate.annotations.CreationTimestamp;
 
 @Entity
-@Table(name = "PointHistories")
+@Table(name = "PointHistories", indexes = {
+        // 회원별 스냅샷 이후 구간 합산 (잔액 검증)
+        @Index(name = "idx_point_histories_user_id", columnList = "user_created_id, point_history_id"),
+        // 회원별 최신순 커서 조회 (created_at, point_history_id)
+        @Index(name = "idx_point_histories_user_created_at",
+                columnList = "user_created_id, created_at DESC, point_history_id DESC"),
+        // 주문 ID 멱등 검사 (비동기 적립)
+        @Index(name = "idx_point_histories_order_id", columnList = "order_id, type")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class PointHistory { // 포인트 사용 내역
@@ -0,0 +1,63 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.entity.point;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "PointHistoryArchives", indexes = {
+        // 회원별 최신순 커서/페이지 조회 (PointHistories 와 같은 정렬)
+        @Index(name = "idx_point_history_archives_user_created_at",
+                columnList = "user_created_id, created_at DESC, point_history_id DESC")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PointHistoryArchive {  // 보관 기간이 지나 옮겨진 포인트 내역 (읽기 전용)
+
+    @Id
+    @Column(name = "point_history_id")
+    private Long pointHistoryId;        // 원본 포인트 내역 ID 그대로 사용 (PK)
+
+    @Column(name = "user_created_id", nullable = false)
+    private Long userCreatedId;         // 회원 고유 ID
+
+    @Column(name = "order_id")
+    private Long orderId;               // 주문 ID
+
+    @Column(nullable = false)
+    private Long amount;                // 포인트 금액
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Type type;                  // 포인트 타입
+
+    @Column(length = 30)
+    private String description;         // 포인트 사유
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;    // 원본 내역 생성일시
+
+    @Column(name = "archived_at", nullable = false, updatable = false)
+    private LocalDateTime archivedAt;   // 보관 테이블로 옮긴 일시
+
+}
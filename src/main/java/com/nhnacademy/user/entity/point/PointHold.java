@@ -0,0 +1,88 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.entity.point;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "PointHolds", uniqueConstraints = {
+        // 같은 주문의 홀드는 하나만
+        @UniqueConstraint(name = "uk_point_holds_order_id", columnNames = "order_id")
+}, indexes = {
+        // 확정 대상 조회: HELD 구간만 만료 시각 순으로 범위 스캔 (확정/취소된 홀드는 읽지 않음)
+        @Index(name = "idx_point_holds_status_expires_at", columnList = "status, expires_at, point_hold_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PointHold {    // 주문 사가 포인트 홀드 (주문 한 건 = 홀드 하나, 확정 전까지 내역/묶음을 남기지 않음)
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "point_hold_id")
+    private Long pointHoldId;           // 홀드 고유 ID (PK, AI)
+
+    @Column(name = "user_created_id", nullable = false)
+    private Long userCreatedId;         // 대상 회원 ID
+
+    @Column(name = "order_id", nullable = false)
+    private Long orderId;               // 주문 ID (멱등 키)
+
+    @Column(name = "used_amount", nullable = false)
+    private Long usedAmount;            // 잡아 둔 사용 포인트 (Users.reserved_point 에 포함)
+
+    @Column(name = "saved_amount", nullable = false)
+    private Long savedAmount;           // 확정 시 적립할 포인트
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private PointHoldStatus status;     // 홀드 상태
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;    // 홀드 생성일시
+
+    @Column(name = "expires_at", nullable = false, updatable = false)
+    private LocalDateTime expiresAt;    // 보상 대기 만료일시 (이후 정리 배치가 확정)
+
+    public PointHold(Long userCreatedId, Long orderId, Long usedAmount, Long savedAmount,
+                     LocalDateTime createdAt, LocalDateTime expiresAt) {
+        this.userCreatedId = userCreatedId;
+        this.orderId = orderId;
+        this.usedAmount = usedAmount;
+        this.savedAmount = savedAmount;
+        this.status = PointHoldStatus.HELD;
+        this.createdAt = createdAt;
+        this.expiresAt = expiresAt;
+    }
+
+    public void commit() {
+        this.status = PointHoldStatus.COMMITTED;
+    }
+
+    public void cancel() {
+        this.status = PointHoldStatus.CANCELLED;
+    }
+
+}
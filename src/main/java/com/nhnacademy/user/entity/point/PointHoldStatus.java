@@ -0,0 +1,19 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.entity.point;
+
+public enum PointHoldStatus {   // 주문 사가 포인트 홀드 상태
+    HELD,       // 포인트를 잡아 둠 (확정 또는 취소 대기)
+    COMMITTED,  // 사용/적립으로 확정
+    CANCELLED   // 보상으로 취소 (잡아 둔 포인트 해제)
+}
@@ -0,0 +1,103 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.entity.point;
+
+import com.nhnacademy.user.entity.user.User;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "PointLots", indexes = {
+        // 만료 대상 조회: OPEN 구간만 유효기간 순으로 범위 스캔 (사용/만료된 묶음은 읽지 않음)
+        @Index(name = "idx_point_lots_status_expires_at", columnList = "status, expires_at, point_lot_id"),
+        // 회원별 선입선출 차감: 유효기간이 가장 먼저 끝나는 OPEN 묶음부터
+        @Index(name = "idx_point_lots_user_status_expires_at",
+                columnList = "user_created_id, status, expires_at, point_lot_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PointLot {     // 적립 포인트 묶음 (적립 한 건 = 묶음 하나, 유효기간 관리 단위)
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "point_lot_id")
+    private Long pointLotId;            // 포인트 묶음 고유 ID (PK, AI)
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_created_id", nullable = false)
+    private User user;                  // Users 테이블 외래키 (FK)
+
+    @Column(name = "earned_amount", nullable = false)
+    private Long earnedAmount;          // 적립 금액
+
+    @Column(name = "remaining_amount", nullable = false)
+    private Long remainingAmount;       // 남은 금액
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private PointLotStatus status;      // 묶음 상태
+
+    @Column(name = "earned_at", nullable = false, updatable = false)
+    private LocalDateTime earnedAt;     // 적립일시
+
+    @Column(name = "expires_at", nullable = false, updatable = false)
+    private LocalDateTime expiresAt;    // 만료일시
+
+    public PointLot(User user, Long earnedAmount, LocalDateTime earnedAt, LocalDateTime expiresAt) {
+        this.user = user;
+        this.earnedAmount = earnedAmount;
+        this.remainingAmount = earnedAmount;
+        this.status = PointLotStatus.OPEN;
+        this.earnedAt = earnedAt;
+        this.expiresAt = expiresAt;
+    }
+
+    // 요청 금액 중 이 묶음에서 차감한 금액 반환, 남은 금액이 0 이 되면 USED
+    public long consume(long requested) {
+        long taken = Math.min(remainingAmount, requested);
+        this.remainingAmount -= taken;
+
+        if (remainingAmount == 0) {
+            this.status = PointLotStatus.USED;
+        }
+
+        return taken;
+    }
+
+    // 남은 금액을 최대 limit 까지 소멸시키고 소멸된 금액 반환 (다 소멸되지 않으면 OPEN 으로 남음)
+    public long expire(long limit) {
+        long expired = Math.min(remainingAmount, Math.max(limit, 0L));
+        this.remainingAmount -= expired;
+
+        if (remainingAmount == 0) {
+            this.status = PointLotStatus.EXPIRED;
+        }
+
+        return expired;
+    }
+
+}
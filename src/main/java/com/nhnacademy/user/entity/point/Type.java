@@ -16,6 +16,7 @@ public enum Type {  // 포인트 타입
 
     EARN,   // 적립
     USE,    // 사용
-    CANCEL  // 취소
+    CANCEL, // 취소
+    EXPIRE  // 유효기간 만료 (차감)
 
 }
@@ -15,18 +15,26 @@ package com.nhnacademy.user.entity.saga;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import java.time.LocalDateTime;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.CreationTimestamp;
+import org.springframework.data.domain.Persistable;
 
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "user_deduplication_log")
-public class UserDeduplicationLog {
+@Table(name = "user_deduplication_log", indexes = {
+        // 보관 기간(TTL)이 지난 기록 정리
+        @Index(name = "idx_user_deduplication_log_received_at", columnList = "received_at")
+})
+public class UserDeduplicationLog implements Persistable<String> {
 
     @Id
     @Column(name = "message_id", length = 128) // RabbitMQ 메시지 ID 또는 이벤트 ID를 가정
@@ -36,8 +44,29 @@ public class UserDeduplicationLog {
     @Column(name = "received_at", nullable = false, updatable = false)
     private LocalDateTime receivedAt;
 
+    // ID 를 직접 넣는 엔티티: save() 가 merge(SELECT 후 INSERT) 대신 INSERT 한 번으로 끝나도록 새 행 여부를 직접 관리
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private boolean persisted;
+
     public UserDeduplicationLog(String messageId) {
         this.messageId = messageId;
         this.receivedAt = LocalDateTime.now(); // @CreatedDate가 아닌 경우 수동으로 설정
     }
+
+    @Override
+    public String getId() {
+        return messageId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.persisted = true;
+    }
 }
@@ -13,6 +13,8 @@
 package com.nhnacademy.user.entity.saga;
 
 
+import com.nhnacademy.user.saga.codec.EncodedPayload;
+import com.nhnacademy.user.saga.codec.JsonPayloadCodec;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -20,7 +22,9 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import lombok.Getter;
 import org.hibernate.annotations.CreationTimestamp;
@@ -28,7 +32,12 @@ import org.hibernate.annotations.UpdateTimestamp;
 
 @Getter
 @Entity
-@Table(name = "user_outbox")
+@Table(name = "user_outbox", indexes = {
+        // 폴링 릴레이: 상태별 생성 순서로 발행 대기 행을 찾음
+        @Index(name = "idx_user_outbox_status_created_at", columnList = "status, createdAt"),
+        // 재시도 릴레이: 다음 시도 시각이 지난 행을 시각 순서로 찾음
+        @Index(name = "idx_user_outbox_status_next_attempt_at", columnList = "status, nextAttemptAt")
+})
 public class UserOutbox {
 
     @Id
@@ -44,9 +53,23 @@ public class UserOutbox {
     // retry_count는 발행 시도 횟수를 기록합니다.
     private int retryCount = 0;
 
+    // 다음 발행 시도 시각 (첫 시도 전에는 null: 커밋 직후 릴레이와 폴링 릴레이 몫)
+    private LocalDateTime nextAttemptAt;
+
+    // DLQ 에서 되살려 다시 보낸 횟수 (발행 메시지 헤더로 실어 보냄)
+    private int deadLetterReplays = 0;
+
     @Column(columnDefinition = "TEXT")
     private String payload;
 
+    // 바이너리 코덱으로 인코딩한 본문 (텍스트 형식이면 payload 에 저장)
+    @Column(columnDefinition = "BLOB")
+    private byte[] payloadBinary;
+
+    // 메시지 content_type 헤더 (없으면 JSON: 코덱 도입 전 행)
+    @Column(length = 100)
+    private String contentType;
+
     @Enumerated(EnumType.STRING)
     private OutboxStatus status = OutboxStatus.PENDING;
 
@@ -71,6 +94,23 @@ public class UserOutbox {
         // status와 retryCount는 기본값(PENDING, 0)을 사용합니다.
     }
 
+    // 코덱으로 인코딩한 본문을 담는 생성자
+    public UserOutbox(Long aggregateId, String aggregateType, String topic, String routingKey,
+                      EncodedPayload encoded) {
+        this(aggregateId, aggregateType, topic, routingKey, encoded.textual() ? encoded.text() : null);
+        this.payloadBinary = encoded.textual() ? null : encoded.body();
+        this.contentType = encoded.contentType();
+    }
+
+    public String getContentType() {
+        return contentType != null ? contentType : JsonPayloadCodec.CONTENT_TYPE;
+    }
+
+    // 발행할 본문 바이트
+    public byte[] body() {
+        return payloadBinary != null ? payloadBinary : payload.getBytes(StandardCharsets.UTF_8);
+    }
+
     // 3. Relay 프로세스를 위한 상태 변경 메서드
     public void markAsPublished() {
         this.status = OutboxStatus.PUBLISHED;
@@ -80,7 +120,15 @@ public class UserOutbox {
         this.status = OutboxStatus.FAILED;
     }
 
-    public void incrementRetryCount() {
+    // 발행 실패: 재시도 횟수를 올리고 다음 시도 시각까지 재시도 릴레이가 미룸
+    public void scheduleRetry(LocalDateTime nextAttemptAt) {
         this.retryCount++;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    // DLQ 재처리: replays 번째로 다시 보낼 메시지, 처음 발행 시각부터 재시도 릴레이 몫
+    public void deferDeadLetter(int replays, LocalDateTime nextAttemptAt) {
+        this.deadLetterReplays = replays;
+        this.nextAttemptAt = nextAttemptAt;
     }
 }
\ No newline at end of file
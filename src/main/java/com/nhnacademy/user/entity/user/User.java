@@ -62,6 +62,9 @@ public class User {     // 회원 기본 정보
     @Column(name = "current_point", nullable = false)
     private Long currentPoint;
 
+    @Column(name = "reserved_point", nullable = false)
+    private Long reservedPoint = 0L;        // 주문 사가가 잡아 둔 포인트 (확정 전까지 사용 불가)
+
     public User(String userName, String phoneNumber, String email, LocalDate birth) {
         this.userName = userName;
         this.phoneNumber = phoneNumber;
@@ -94,6 +97,18 @@ public class User {     // 회원 기본 정보
         this.currentPoint += amount;
     }
 
+    public void releasePoint(long amount) {     // 잡아 둔 포인트를 푸는 메소드 (확정 또는 취소)
+        this.reservedPoint = Math.max(0L, getReservedPoint() - amount);
+    }
+
+    public long getAvailablePoint() {   // 사용 가능 포인트 (현재 포인트 - 잡아 둔 포인트)
+        return (currentPoint == null ? 0L : currentPoint) - getReservedPoint();
+    }
+
+    public long getReservedPoint() {
+        return reservedPoint == null ? 0L : reservedPoint;
+    }
+
     @OneToOne(mappedBy = "user", fetch = FetchType.LAZY, cascade = CascadeType.ALL)
     private Account account;                // 연관 계정, 일대일 관계, User 삭제 시 Account 함께 삭제
 
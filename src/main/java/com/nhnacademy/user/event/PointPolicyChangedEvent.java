@@ -0,0 +1,4 @@
+package com.nhnacademy.user.event;
+
+public record PointPolicyChangedEvent(String policyType) {
+}
@@ -0,0 +1,5 @@
+package com.nhnacademy.user.event;
+
+// 새로 가입한 회원 (존재 여부 인덱스에 추가)
+public record UserSignedUpEvent(Long userCreatedId, String loginId) {
+}
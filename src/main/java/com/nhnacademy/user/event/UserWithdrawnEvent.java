@@ -0,0 +1,5 @@
+package com.nhnacademy.user.event;
+
+// 탈퇴한 회원 (존재 여부 인덱스의 있음 캐시 정리)
+public record UserWithdrawnEvent(Long userCreatedId, String loginId) {
+}
@@ -0,0 +1,28 @@
+package com.nhnacademy.user.event.listener;
+
+import com.nhnacademy.user.event.PointPolicyChangedEvent;
+import com.nhnacademy.user.service.point.cache.PointPolicyCache;
+import com.nhnacademy.user.service.point.cache.PointPolicyCacheBroadcaster;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PointPolicyChangedEventListener {
+
+    private final PointPolicyCache pointPolicyCache;
+
+    private final PointPolicyCacheBroadcaster pointPolicyCacheBroadcaster;
+
+    // 커밋 전에 비우면 다른 요청이 이전 값을 다시 캐시할 수 있으므로 커밋 후 처리
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void afterCommitInvalidatePolicyCache(PointPolicyChangedEvent event) {
+        pointPolicyCache.invalidateAll();
+        pointPolicyCacheBroadcaster.broadcast(event.policyType());
+        log.info("커밋 후 포인트 정책 캐시 무효화 policyType={}", event.policyType());
+    }
+}
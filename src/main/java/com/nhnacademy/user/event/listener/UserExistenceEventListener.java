@@ -0,0 +1,35 @@
+package com.nhnacademy.user.event.listener;
+
+import com.nhnacademy.user.event.UserSignedUpEvent;
+import com.nhnacademy.user.event.UserWithdrawnEvent;
+import com.nhnacademy.user.service.user.cache.UserExistenceIndex;
+import com.nhnacademy.user.service.user.cache.UserExistenceIndexBroadcaster;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserExistenceEventListener {
+
+    private final UserExistenceIndex userExistenceIndex;
+
+    private final UserExistenceIndexBroadcaster userExistenceIndexBroadcaster;
+
+    // 롤백된 가입을 "있음" 으로 남기지 않도록 커밋 후 처리 (다른 인스턴스는 pub/sub 으로 받아서 추가)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void afterCommitAddToExistenceIndex(UserSignedUpEvent event) {
+        userExistenceIndex.add(event.userCreatedId(), event.loginId());
+        userExistenceIndexBroadcaster.broadcast(event.userCreatedId(), event.loginId());
+        log.debug("커밋 후 존재 여부 인덱스 추가 userCreatedId={}", event.userCreatedId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void afterCommitEvictFromExistenceIndex(UserWithdrawnEvent event) {
+        userExistenceIndex.evict(event.userCreatedId(), event.loginId());
+        log.debug("커밋 후 존재 여부 있음 캐시 정리 userCreatedId={}", event.userCreatedId());
+    }
+}
@@ -0,0 +1,28 @@
+package com.nhnacademy.user.event.listener;
+
+import com.nhnacademy.user.event.UserInfoChangedEvent;
+import com.nhnacademy.user.service.user.cache.InternalUserInfoCache;
+import com.nhnacademy.user.service.user.cache.InternalUserInfoCacheBroadcaster;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserInfoChangedEventListener {
+
+    private final InternalUserInfoCache internalUserInfoCache;
+
+    private final InternalUserInfoCacheBroadcaster internalUserInfoCacheBroadcaster;
+
+    // 커밋 전에 비우면 다른 요청이 이전 값을 다시 캐시할 수 있으므로 커밋 후 처리
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void afterCommitInvalidateUserInfoCache(UserInfoChangedEvent event) {
+        internalUserInfoCache.evict(event.userCreatedId());
+        internalUserInfoCacheBroadcaster.broadcast(event.userCreatedId());
+        log.debug("커밋 후 회원 정보 캐시 무효화 userCreatedId={}", event.userCreatedId());
+    }
+}
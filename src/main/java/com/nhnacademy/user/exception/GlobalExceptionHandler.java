@@ -24,6 +24,7 @@ import com.nhnacademy.user.exception.address.DefaultAddressRequiredException;
 import com.nhnacademy.user.exception.message.InvalidCodeException;
 import com.nhnacademy.user.exception.message.MailSendException;
 import com.nhnacademy.user.exception.point.InvalidPointInputException;
+import com.nhnacademy.user.exception.point.PointGrantJobNotFoundException;
 import com.nhnacademy.user.exception.point.PointNotEnoughException;
 import com.nhnacademy.user.exception.point.PointPolicyAlreadyExistsException;
 import com.nhnacademy.user.exception.point.PointPolicyNotFoundException;
@@ -197,6 +198,14 @@ public class GlobalExceptionHandler {
                 .body(new ErrorResponse(NOT_FOUND, 404, ex.getMessage()));
     }
 
+    @ExceptionHandler(PointGrantJobNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handlerPointGrantJobNotFoundException(PointGrantJobNotFoundException ex) {
+        // 찾을 수 없는 포인트 일괄 지급 작업
+        return ResponseEntity
+                .status(HttpStatus.NOT_FOUND)
+                .body(new ErrorResponse(NOT_FOUND, 404, ex.getMessage()));
+    }
+
     @ExceptionHandler(StateNotFoundException.class)
     public ResponseEntity<ErrorResponse> handlerStateNotFoundException(StateNotFoundException ex) {
         // 찾을 수 없는 상태 정보
@@ -0,0 +1,48 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.properties;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "outbox.relay")
+public class OutboxRelayProperties {
+
+    // 폴링 릴레이 실행 여부
+    private boolean enabled = true;
+
+    // 한 트랜잭션에서 잡아서 발행할 Outbox 행 수
+    private int batchSize = 200;
+
+    // 커밋 직후 릴레이가 처리할 시간: 이보다 오래된 발행 대기 행만 폴링 릴레이가 가져감
+    private Duration minAge = Duration.ofSeconds(5);
+
+    // 배치 전체의 publisher confirm 대기 시간
+    private Duration confirmTimeout = Duration.ofSeconds(5);
+
+    // 재시도 횟수를 다 쓰면 FAILED 로 표시
+    private int maxRetries = 3;
+
+    // 커밋 직후 릴레이를 confirm 비동기 방식으로 실행 (끄면 행마다 REQUIRES_NEW 트랜잭션에서 발행)
+    private boolean asyncConfirm = false;
+
+    // 비동기 방식에서 confirm 을 기다리는 최대 메시지 수
+    // 넘치면 커밋 직후 릴레이는 행마다 REQUIRES_NEW 트랜잭션에서 confirm 을 기다리며 동기 발행(processRelay)하고,
+    // 응답 묶음 발행은 PENDING 으로 남겨 폴링 릴레이에 맡김
+    private int maxInFlight = 1000;
+
+}
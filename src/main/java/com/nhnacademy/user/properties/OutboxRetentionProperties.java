@@ -0,0 +1,40 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.properties;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "outbox.retention")
+public class OutboxRetentionProperties {
+
+    // 정리 배치 실행 여부
+    private boolean enabled = true;
+
+    // 발행 완료 행을 남겨둘 기간
+    private Duration retention = Duration.ofDays(7);
+
+    // 청크 크기: 청크마다 짧은 트랜잭션으로 삭제
+    private int chunkSize = 1000;
+
+    // user_outbox 가 RANGE (TO_DAYS(createdAt)) 일 단위 파티션 테이블이면 지난 파티션을 통째로 버림
+    private boolean partitioned = false;
+
+    // 파티션 모드에서 미리 만들어 둘 앞날 파티션 수
+    private int partitionsAhead = 3;
+
+}
@@ -0,0 +1,54 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.properties;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "outbox.retry")
+public class OutboxRetryProperties {
+
+    // 재시도 릴레이 실행 여부 (끄면 발행 실패 행은 관리자 재처리로만 다시 발행)
+    private boolean enabled = true;
+
+    // 첫 재시도 대기 시간, 이후 시도마다 multiplier 배씩 늘림
+    private Duration initialBackoff = Duration.ofSeconds(1);
+
+    private double multiplier = 2.0;
+
+    // 대기 시간 상한
+    private Duration maxBackoff = Duration.ofMinutes(5);
+
+    // 대기 시간에서 무작위로 줄이는 비율 (0.5 면 계산한 값의 50~100%): 같이 실패한 행이 같은 시각에 몰리지 않게 함
+    private double jitter = 0.5;
+
+    // 한 트랜잭션에서 잡아서 재발행할 행 수
+    private int batchSize = 100;
+
+    // 관리자 재처리: FAILED 행을 PENDING 으로 되돌리는 청크 크기
+    private int replayChunkSize = 500;
+
+    // DLQ 를 주기적으로 비워 Outbox 로 옮김 (끄면 관리자 요청으로만)
+    private boolean deadLetterEnabled = false;
+
+    // DLQ 재처리: 한 번에 큐에서 꺼내는 메시지 수
+    private int deadLetterBatchSize = 100;
+
+    // DLQ 로 이만큼 넘어온 메시지는 더 보내지 않고 FAILED 로 보관
+    private int deadLetterMaxReplays = 3;
+
+}
@@ -0,0 +1,34 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.properties;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "point.archive")
+public class PointArchiveProperties {
+
+    // 정기 보관 실행 여부
+    private boolean enabled = true;
+
+    // hot 테이블(PointHistories)에 남겨둘 기간, 이보다 오래된 내역은 보관 테이블로 이동
+    private Duration hotRetention = Duration.ofDays(180);
+
+    // 한 트랜잭션에서 옮길 내역 수
+    private int chunkSize = 1000;
+
+}
@@ -0,0 +1,38 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.properties;
+
+import java.util.HashSet;
+import java.util.Set;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "point.ledger.coalescing")
+public class PointCoalescingProperties {
+
+    // 묶음 처리 엔진 사용 여부 (기본 엔진 앞에 붙음)
+    private boolean enabled = false;
+
+    // 묶어서 처리할 회원 ID (법인 구매자, 테스트 계정 등 초당 수백 건씩 몰리는 회원)
+    private Set<Long> hotUserIds = new HashSet<>();
+
+    // 회원 ID 해시로 나눌 대기열 stripe 수 (stripe 마다 잠금 하나)
+    private int stripes = 64;
+
+    // 한 트랜잭션에서 반영할 최대 변동 수
+    private int maxBatchSize = 256;
+
+}
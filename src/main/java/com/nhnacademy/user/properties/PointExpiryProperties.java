@@ -0,0 +1,34 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.properties;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "point.expiry")
+public class PointExpiryProperties {
+
+    // 적립 포인트 유효기간 (적립 시각 기준)
+    private Duration validity = Duration.ofDays(365);
+
+    // 정기 만료 처리 실행 여부
+    private boolean enabled = true;
+
+    // 한 트랜잭션에서 만료 처리할 묶음 수 (회원/묶음 행 잠금을 짧게 유지)
+    private int chunkSize = 500;
+
+}
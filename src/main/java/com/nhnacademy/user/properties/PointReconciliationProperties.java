@@ -0,0 +1,38 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.properties;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "point.reconciliation")
+public class PointReconciliationProperties {
+
+    // 정기 검증 실행 여부
+    private boolean enabled = true;
+
+    // 한 트랜잭션에서 검증할 회원 수
+    private int chunkSize = 1000;
+
+    // 이 시간보다 최근 내역은 스냅샷에 넣지 않음
+    // IDENTITY 값은 커밋 순서와 다를 수 있어, 아직 커밋 안 된 낮은 ID 가 스냅샷 뒤에 나타나는 것을 막기 위함
+    private Duration safetyLag = Duration.ofMinutes(5);
+
+    // 보고서에 담을 최대 불일치 건수
+    private int maxReportedDrifts = 100;
+
+}
@@ -0,0 +1,40 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.properties;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "saga.consumer.lanes")
+public class SagaConsumerProperties {
+
+    // 회원별 처리 레인 방식 사용 여부 (끄면 SagaListener 가 기본 컨테이너로 한 건씩 처리)
+    private boolean enabled = false;
+
+    // 동시에 처리할 레인 수: 같은 회원의 이벤트는 항상 같은 레인에서 순서대로 처리
+    private int count = 8;
+
+    // 브로커가 ACK 없이 한 번에 넘겨줄 메시지 수 (모든 레인의 대기 메시지 합의 상한)
+    private int prefetch = 64;
+
+    // 레인 안에서 처리할 최대 시도 횟수 (다 쓰면 reject > DLQ)
+    private int maxAttempts = 3;
+
+    // 첫 재시도 대기 시간 (이후 두 배씩 증가)
+    private Duration retryInterval = Duration.ofSeconds(1);
+
+}
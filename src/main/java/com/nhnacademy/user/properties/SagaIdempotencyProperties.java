@@ -0,0 +1,41 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.properties;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "saga.idempotency")
+public class SagaIdempotencyProperties {
+
+    // 처리한 메시지 기록 저장소: jpa (기본값, user_deduplication_log) / redis (SET NX EX, 장애 시 jpa)
+    private String store = "jpa";
+
+    // 처리 기록 보관 기간: 브로커 재전송, 오케스트레이터 재시도 기간보다 길게
+    private Duration ttl = Duration.ofDays(7);
+
+    // jpa 저장소 앞단 Bloom filter 크기 (보관 기간 동안 쌓일 메시지 수)
+    private long bloomExpectedInsertions = 1_000_000L;
+
+    private double bloomFpp = 0.01;
+
+    // 보관 기간이 지난 기록 정리
+    private boolean cleanupEnabled = true;
+
+    private int cleanupChunkSize = 1000;
+
+}
@@ -0,0 +1,38 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.properties;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "saga.point-hold")
+public class SagaPointHoldProperties {
+
+    // 주문 사가 포인트를 바로 차감/적립하지 않고 홀드로 잡아 둠 (끄면 기존처럼 즉시 반영, 보상 시 되돌리는 내역 기록)
+    private boolean enabled = false;
+
+    // 끈 뒤에도 남은 홀드가 정리될 때까지 true: 보상 시 홀드부터 확인 (홀드를 한 번도 켜지 않았으면 false, 홀드 테이블 조회 안 함)
+    private boolean draining = false;
+
+    // 보상 대기 기간: 오케스트레이터가 보상 메시지를 보낼 수 있는 기간보다 길게, 지나면 정리 배치가 확정
+    // 성공한 주문에는 확정 메시지가 없으므로 적립 포인트도 이 기간만큼 늦게 반영됨
+    private Duration ttl = Duration.ofMinutes(30);
+
+    // 한 트랜잭션에서 확정할 홀드 수 (회원/홀드 행 잠금을 짧게 유지)
+    private int chunkSize = 500;
+
+}
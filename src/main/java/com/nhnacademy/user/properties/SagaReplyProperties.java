@@ -0,0 +1,37 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.properties;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "saga.reply")
+public class SagaReplyProperties {
+
+    // 응답을 모아서 저장/발행 (끄면 응답마다 REQUIRES_NEW 트랜잭션에서 Outbox 한 행 저장)
+    private boolean batching = false;
+
+    // 한 번에 저장할 최대 응답 수
+    private int batchSize = 100;
+
+    // 첫 응답이 들어온 뒤 더 모으며 기다리는 시간
+    private Duration window = Duration.ofMillis(5);
+
+    // 응답을 넘긴 쪽이 저장 완료를 기다리는 최대 시간
+    private Duration persistTimeout = Duration.ofSeconds(5);
+
+}
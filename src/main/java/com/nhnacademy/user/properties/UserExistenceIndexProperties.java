@@ -0,0 +1,42 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.properties;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "user.existence-index")
+public class UserExistenceIndexProperties {
+
+    // 회원 ID / 로그인 아이디 존재 여부를 메모리 인덱스로 먼저 확인 (끄면 매번 DB 조회)
+    private boolean enabled = true;
+
+    // Bloom filter 크기 (재적재 주기 사이에 늘어날 회원까지 포함한 수)
+    private long expectedInsertions = 1_000_000L;
+
+    private double fpp = 0.01;
+
+    // 존재 확인된 키 캐시
+    private long positiveCacheSize = 100_000L;
+
+    private Duration positiveCacheTtl = Duration.ofMinutes(10);
+
+    // 회원 ID 기준점 여유: 적재 시작보다 이만큼 앞서 가입한 회원까지만 Bloom filter 로 거름
+    // (ID 는 할당 순서와 커밋 순서가 달라, 적재 중 아직 커밋되지 않은 낮은 ID 가 빠질 수 있음)
+    private Duration watermarkLag = Duration.ofMinutes(5);
+
+}
@@ -13,12 +13,26 @@
 package com.nhnacademy.user.repository.account;
 
 import com.nhnacademy.user.entity.account.Account;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
 import java.util.Optional;
+import java.util.stream.Stream;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 public interface AccountRepository extends JpaRepository<Account, String> {
 
     // User의 PK로 Account 찾기
     Optional<Account> findByUser_UserCreatedId(Long userUserCreatedId);
 
+    // 존재 여부 인덱스 적재: 엔티티 없이 로그인 아이디만 흘려 읽음 (호출하는 쪽 트랜잭션 안에서 닫아야 함)
+    @QueryHints({@QueryHint(name = "org.hibernate.fetchSize", value = "1000")})
+    @Query("SELECT a.loginId FROM Account a")
+    Stream<String> streamAllLoginIds();
+
+    // 존재 여부 인덱스의 회원 ID 기준점: cutoff 이전에 가입한 회원 중 최대 ID
+    @Query("SELECT MAX(a.user.userCreatedId) FROM Account a WHERE a.joinedAt <= :cutoff")
+    Long findMaxUserIdJoinedBefore(LocalDateTime cutoff);
+
 }
@@ -36,6 +36,10 @@ public interface AddressRepository extends JpaRepository<Address, Long> {
     @Query("SELECT a FROM Address a JOIN FETCH a.user WHERE a.user = :user")
     List<Address> findAllByUser(User user);
 
+    // 여러 회원의 주소 목록 한 번에 조회 (내부 회원 정보 일괄 조회)
+    @Query("SELECT a FROM Address a WHERE a.user.userCreatedId IN :userCreatedIds ORDER BY a.addressId ASC")
+    List<Address> findAllByUserIds(List<Long> userCreatedIds);
+
     // 주소 아이디와 사용자 정보로 주소 조회
     @Query("SELECT a FROM Address a JOIN FETCH a.user WHERE a.addressId = :addressId AND a.user = :user")
     Optional<Address> findByAddressIdAndUser(Long addressId, User user);
@@ -0,0 +1,30 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.repository.point;
+
+import com.nhnacademy.user.entity.point.PointGrantJob;
+import jakarta.persistence.LockModeType;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+
+public interface PointGrantJobRepository extends JpaRepository<PointGrantJob, Long> {
+
+    // 청크 처리 시작 시 작업 행을 잠가 같은 작업이 두 곳에서 동시에 진행되지 않도록 함
+    // 최신 체크포인트를 읽고 같은 트랜잭션에서 갱신하므로 재개가 겹쳐도 같은 청크를 두 번 지급하지 않음
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT j FROM PointGrantJob j WHERE j.pointGrantJobId = :pointGrantJobId")
+    Optional<PointGrantJob> findByIdForUpdate(Long pointGrantJobId);
+
+}
@@ -0,0 +1,35 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.repository.point;
+
+import com.nhnacademy.user.entity.point.PointGrantJobTarget;
+import com.nhnacademy.user.repository.point.jdbc.PointGrantJobTargetJdbcRepository;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+public interface PointGrantJobTargetRepository
+        extends JpaRepository<PointGrantJobTarget, PointGrantJobTarget.Key>, PointGrantJobTargetJdbcRepository {
+
+    // 체크포인트 이후 대상 ID: (point_grant_job_id, user_created_id) PK 범위 스캔, 등급/상태 대상과 같은 키셋 페이징
+    @Query("""
+        select t.userCreatedId
+        from PointGrantJobTarget t
+        where t.pointGrantJobId = :pointGrantJobId
+          and t.userCreatedId > :lastSeenId
+        order by t.userCreatedId asc
+    """)
+    List<Long> findUserIdsAfter(Long pointGrantJobId, long lastSeenId, Pageable pageable);
+
+}
@@ -0,0 +1,40 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.repository.point;
+
+import com.nhnacademy.user.entity.point.PointHistoryArchive;
+import com.nhnacademy.user.repository.point.jdbc.PointHistoryArchiveJdbcRepository;
+import com.nhnacademy.user.repository.point.querydsl.PointHistoryArchiveQuerydslRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+public interface PointHistoryArchiveRepository extends JpaRepository<PointHistoryArchive, Long>,
+        PointHistoryArchiveJdbcRepository, PointHistoryArchiveQuerydslRepository {
+
+    long countByUserCreatedId(Long userCreatedId);
+
+    // 커서 이후(더 오래된) 보관 내역: PointHistoryRepository.findBefore 와 같은 조건, 같은 정렬
+    @Query("""
+        select a from PointHistoryArchive a
+        where a.userCreatedId = :userCreatedId
+          and a.createdAt <= :createdAt
+          and (a.createdAt < :createdAt or a.pointHistoryId < :pointHistoryId)
+        order by a.userCreatedId, a.createdAt desc, a.pointHistoryId desc
+    """)
+    List<PointHistoryArchive> findBefore(Long userCreatedId, LocalDateTime createdAt, Long pointHistoryId,
+                                         Limit limit);
+
+}
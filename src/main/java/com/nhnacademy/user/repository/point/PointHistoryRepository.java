@@ -13,14 +13,89 @@
 package com.nhnacademy.user.repository.point;
 
 import com.nhnacademy.user.entity.point.PointHistory;
+import com.nhnacademy.user.entity.point.Type;
 import com.nhnacademy.user.entity.user.User;
+import com.nhnacademy.user.repository.point.jdbc.PointHistoryJdbcRepository;
+import com.nhnacademy.user.repository.point.projection.PointBalanceDelta;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
-public interface PointHistoryRepository extends JpaRepository<PointHistory, Long> {
+public interface PointHistoryRepository extends JpaRepository<PointHistory, Long>, PointHistoryJdbcRepository {
 
     // 특정 회원의 포인트 내역 페이징 조회
     Page<PointHistory> findAllByUserOrderByCreatedAtDesc(User user, Pageable pageable);
 
+    // 커서 조회: (created_at, point_history_id) 가 커서보다 이전인 행부터 최신순
+    // OFFSET 없이 (user_created_id, created_at DESC, point_history_id DESC) 인덱스에서 커서 위치로 바로 이동하므로
+    // 깊은 페이지도 첫 페이지와 비용이 같음
+    // created_at <= 커서 조건을 따로 두어야 옵티마이저가 선두 컬럼 범위 스캔으로 인덱스를 고름
+    // 정렬에 user_created_id 를 넣어 인덱스 순서와 정렬을 그대로 맞춤 (값은 하나라 결과 순서는 같음)
+    @Query("""
+        select h from PointHistory h
+        where h.user.userCreatedId = :userCreatedId
+          and h.createdAt <= :createdAt
+          and (h.createdAt < :createdAt or h.pointHistoryId < :pointHistoryId)
+        order by h.user.userCreatedId, h.createdAt desc, h.pointHistoryId desc
+    """)
+    List<PointHistory> findBefore(Long userCreatedId, LocalDateTime createdAt, Long pointHistoryId, Limit limit);
+
+    // 주문 ID 멱등 검사: 이미 해당 타입 내역이 있는 주문 ID
+    @Query("select h.orderId from PointHistory h where h.orderId in :orderIds and h.type = :type")
+    List<Long> findOrderIdsByType(List<Long> orderIds, Type type);
+
+    boolean existsByOrderIdAndType(Long orderId, Type type);
+
+    // 기준 시각 이전에 생성된 마지막 내역 ID
+    // PK 역순으로 훑다가 처음 만나는 행에서 멈추므로 최근 구간만 읽음
+    @Query("select h.pointHistoryId from PointHistory h where h.createdAt < :cutoff order by h.pointHistoryId desc")
+    List<Long> findLastIdCreatedBefore(LocalDateTime cutoff, Limit limit);
+
+    // 보관 대상: 기준 ID 이하이면서 잔액 스냅샷에 이미 반영된 내역만 (PK 순서로 청크 단위)
+    // 스냅샷에 반영되지 않은 내역은 잔액 검증이 아직 읽어야 하므로 hot 테이블에 남김
+    @Query("""
+        select h.pointHistoryId
+        from PointHistory h
+        join PointBalanceSnapshot s on s.userCreatedId = h.user.userCreatedId
+        where h.pointHistoryId > :lastSeenId
+          and h.pointHistoryId <= :cutId
+          and h.pointHistoryId <= s.lastPointHistoryId
+        order by h.pointHistoryId asc
+    """)
+    List<Long> findArchivableIds(long lastSeenId, long cutId, Limit limit);
+
+    // 스냅샷 이후 내역만 회원별로 합산 (USE, EXPIRE 는 차감, 나머지는 적립)
+    // 스냅샷 행마다 (user_created_id, point_history_id) 인덱스를 기준 ID 이후 구간만 읽으므로 전체 내역을 다시 읽지 않음
+    @Query("""
+        select new com.nhnacademy.user.repository.point.projection.PointBalanceDelta(
+            s.userCreatedId,
+            sum(case when h.pointHistoryId <= :cutId then (case when h.type in (com.nhnacademy.user.entity.point.Type.USE, com.nhnacademy.user.entity.point.Type.EXPIRE) then -h.amount else h.amount end) else 0L end),
+            sum(case when h.pointHistoryId <= :cutId then 1L else 0L end),
+            sum((case when h.type in (com.nhnacademy.user.entity.point.Type.USE, com.nhnacademy.user.entity.point.Type.EXPIRE) then -h.amount else h.amount end))
+        )
+        from PointBalanceSnapshot s
+        join PointHistory h on h.user.userCreatedId = s.userCreatedId and h.pointHistoryId > s.lastPointHistoryId
+        where s.userCreatedId in :userCreatedIds
+        group by s.userCreatedId
+    """)
+    List<PointBalanceDelta> sumSinceSnapshot(List<Long> userCreatedIds, long cutId);
+
+    // 스냅샷이 없는 회원(첫 검증, 신규 가입)의 전체 내역 합산
+    @Query("""
+        select new com.nhnacademy.user.repository.point.projection.PointBalanceDelta(
+            h.user.userCreatedId,
+            sum(case when h.pointHistoryId <= :cutId then (case when h.type in (com.nhnacademy.user.entity.point.Type.USE, com.nhnacademy.user.entity.point.Type.EXPIRE) then -h.amount else h.amount end) else 0L end),
+            sum(case when h.pointHistoryId <= :cutId then 1L else 0L end),
+            sum((case when h.type in (com.nhnacademy.user.entity.point.Type.USE, com.nhnacademy.user.entity.point.Type.EXPIRE) then -h.amount else h.amount end))
+        )
+        from PointHistory h
+        where h.user.userCreatedId in :userCreatedIds
+        group by h.user.userCreatedId
+    """)
+    List<PointBalanceDelta> sumAll(List<Long> userCreatedIds, long cutId);
+
 }
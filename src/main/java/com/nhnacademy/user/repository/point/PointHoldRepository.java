@@ -0,0 +1,79 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.repository.point;
+
+import com.nhnacademy.user.entity.point.PointHold;
+import com.nhnacademy.user.entity.point.PointHoldStatus;
+import com.nhnacademy.user.repository.point.projection.PointHoldRef;
+import jakarta.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+
+public interface PointHoldRepository extends JpaRepository<PointHold, Long> {
+
+    boolean existsByOrderId(Long orderId);
+
+    // 보상 취소 전 확인: 잠그지 않음, 홀드가 없는 주문은 회원 행을 잠그지 않고 돌려보냄
+    boolean existsByOrderIdAndStatus(Long orderId, PointHoldStatus status);
+
+    // 보상 취소 대상: 회원 행을 잠근 트랜잭션 안에서 호출 (잠금 순서 회원 > 홀드)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+        select h from PointHold h
+        where h.orderId = :orderId
+          and h.status = com.nhnacademy.user.entity.point.PointHoldStatus.HELD
+    """)
+    Optional<PointHold> findHeldByOrderIdForUpdate(Long orderId);
+
+    // 확정 대상 후보: (status, expires_at) 인덱스에서 만료 시각 이전 구간만 읽음, 잠그지 않음
+    @Query("""
+        select new com.nhnacademy.user.repository.point.projection.PointHoldRef(
+            h.pointHoldId, h.userCreatedId, h.expiresAt)
+        from PointHold h
+        where h.status = com.nhnacademy.user.entity.point.PointHoldStatus.HELD
+          and h.expiresAt <= :now
+        order by h.expiresAt asc, h.pointHoldId asc
+    """)
+    List<PointHoldRef> findExpired(LocalDateTime now, Limit limit);
+
+    // 다음 청크 후보: 앞 청크 마지막 (expires_at, point_hold_id) 이후만 읽음
+    // 잔액 부족으로 확정하지 못하고 HELD 로 남긴 홀드를 같은 실행 안에서 다시 읽지 않기 위함
+    @Query("""
+        select new com.nhnacademy.user.repository.point.projection.PointHoldRef(
+            h.pointHoldId, h.userCreatedId, h.expiresAt)
+        from PointHold h
+        where h.status = com.nhnacademy.user.entity.point.PointHoldStatus.HELD
+          and h.expiresAt <= :now
+          and (h.expiresAt > :afterExpiresAt
+               or (h.expiresAt = :afterExpiresAt and h.pointHoldId > :afterPointHoldId))
+        order by h.expiresAt asc, h.pointHoldId asc
+    """)
+    List<PointHoldRef> findExpiredAfter(LocalDateTime now, LocalDateTime afterExpiresAt, Long afterPointHoldId,
+                                        Limit limit);
+
+    // 확정 직전 재확인: 후보 조회 이후 보상으로 취소된 홀드는 제외
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+        select h from PointHold h
+        where h.pointHoldId in :pointHoldIds
+          and h.status = com.nhnacademy.user.entity.point.PointHoldStatus.HELD
+        order by h.pointHoldId asc
+    """)
+    List<PointHold> findHeldByIdsForUpdate(List<Long> pointHoldIds);
+
+}
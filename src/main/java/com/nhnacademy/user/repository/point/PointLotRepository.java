@@ -0,0 +1,75 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.repository.point;
+
+import com.nhnacademy.user.entity.point.PointLot;
+import com.nhnacademy.user.repository.point.jdbc.PointLotJdbcRepository;
+import com.nhnacademy.user.repository.point.projection.PointLotRef;
+import jakarta.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+
+public interface PointLotRepository extends JpaRepository<PointLot, Long>, PointLotJdbcRepository {
+
+    // 선입선출 차감 대상: 유효기간이 먼저 끝나는 OPEN 묶음부터 (회원 행을 잠근 트랜잭션 안에서 호출)
+    // 스냅샷 읽기가 아닌 잠금 읽기로 가장 최근에 커밋된 잔여 금액을 읽음
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+        select l from PointLot l
+        where l.user.userCreatedId = :userCreatedId
+          and l.status = com.nhnacademy.user.entity.point.PointLotStatus.OPEN
+        order by l.expiresAt asc, l.pointLotId asc
+    """)
+    List<PointLot> findOpenLotsForUpdate(Long userCreatedId, Limit limit);
+
+    // 만료 대상 후보: (status, expires_at) 인덱스에서 만료 시각 이전 구간만 읽음, 잠그지 않음
+    @Query("""
+        select new com.nhnacademy.user.repository.point.projection.PointLotRef(
+            l.pointLotId, l.user.userCreatedId, l.expiresAt)
+        from PointLot l
+        where l.status = com.nhnacademy.user.entity.point.PointLotStatus.OPEN
+          and l.expiresAt <= :now
+        order by l.expiresAt asc, l.pointLotId asc
+    """)
+    List<PointLotRef> findExpired(LocalDateTime now, Limit limit);
+
+    // 다음 청크 후보: 앞 청크 마지막 (expires_at, point_lot_id) 이후만 읽음
+    // 잡아 둔 포인트 때문에 OPEN 으로 남은 묶음을 같은 실행 안에서 다시 읽지 않기 위함
+    @Query("""
+        select new com.nhnacademy.user.repository.point.projection.PointLotRef(
+            l.pointLotId, l.user.userCreatedId, l.expiresAt)
+        from PointLot l
+        where l.status = com.nhnacademy.user.entity.point.PointLotStatus.OPEN
+          and l.expiresAt <= :now
+          and (l.expiresAt > :afterExpiresAt
+               or (l.expiresAt = :afterExpiresAt and l.pointLotId > :afterPointLotId))
+        order by l.expiresAt asc, l.pointLotId asc
+    """)
+    List<PointLotRef> findExpiredAfter(LocalDateTime now, LocalDateTime afterExpiresAt, Long afterPointLotId,
+                                       Limit limit);
+
+    // 만료 처리 직전 재확인: 후보 조회 이후 사용된 묶음은 제외, 소멸 한도를 먼저 만료된 묶음부터 쓰도록 만료일시 순
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+        select l from PointLot l
+        where l.pointLotId in :pointLotIds
+          and l.status = com.nhnacademy.user.entity.point.PointLotStatus.OPEN
+        order by l.expiresAt asc, l.pointLotId asc
+    """)
+    List<PointLot> findOpenByIdsForUpdate(List<Long> pointLotIds);
+
+}
@@ -0,0 +1,22 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.repository.point.jdbc;
+
+import java.util.List;
+
+public interface PointGrantJobTargetJdbcRepository {
+
+    // 일괄 지급 대상 다건 저장: 수십만 건 ID 목록도 엔티티 없이 multi-row INSERT 로 처리
+    int insertAll(Long pointGrantJobId, List<Long> userCreatedIds);
+
+}
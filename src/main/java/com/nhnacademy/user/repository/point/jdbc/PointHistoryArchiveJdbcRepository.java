@@ -0,0 +1,23 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.repository.point.jdbc;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface PointHistoryArchiveJdbcRepository {
+
+    // PointHistories 의 지정한 행을 보관 테이블로 복사: 엔티티를 읽지 않고 INSERT ... SELECT 한 번
+    int copyFromHistories(List<Long> pointHistoryIds, LocalDateTime archivedAt);
+
+}
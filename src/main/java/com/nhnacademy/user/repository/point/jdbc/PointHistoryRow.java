@@ -0,0 +1,25 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.repository.point.jdbc;
+
+import com.nhnacademy.user.entity.point.Type;
+import java.time.LocalDateTime;
+
+public record PointHistoryRow(Long userCreatedId,
+                              Long orderId,
+                              Long amount,
+                              Type type,
+                              String description,
+                              LocalDateTime createdAt) {
+    // 다건 INSERT 용 포인트 내역 한 행 (엔티티를 만들지 않고 컬럼 값만 전달)
+}
@@ -0,0 +1,79 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.repository.point.jdbc.impl;
+
+import com.nhnacademy.user.repository.point.jdbc.PointGrantJobTargetJdbcRepository;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@RequiredArgsConstructor
+@Repository
+public class PointGrantJobTargetJdbcRepositoryImpl implements PointGrantJobTargetJdbcRepository {
+
+    // 한 문장에 담는 최대 행 수 (2 컬럼 * 1000 = 바인딩 변수 2000개)
+    static final int ROWS_PER_STATEMENT = 1000;
+
+    private static final String INSERT_PREFIX =
+            "INSERT INTO PointGrantJobTargets (point_grant_job_id, user_created_id) VALUES ";
+    private static final String VALUES_GROUP = "(?, ?)";
+
+    private static final String FULL_STATEMENT = buildStatement(ROWS_PER_STATEMENT);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public int insertAll(Long pointGrantJobId, List<Long> userCreatedIds) {
+        int inserted = 0;
+
+        for (int from = 0; from < userCreatedIds.size(); from += ROWS_PER_STATEMENT) {
+            List<Long> chunk = userCreatedIds.subList(from, Math.min(from + ROWS_PER_STATEMENT, userCreatedIds.size()));
+
+            String sql = chunk.size() == ROWS_PER_STATEMENT ? FULL_STATEMENT : buildStatement(chunk.size());
+
+            inserted += jdbcTemplate.update(sql, toArguments(pointGrantJobId, chunk));
+        }
+
+        return inserted;
+    }
+
+    private Object[] toArguments(Long pointGrantJobId, List<Long> chunk) {
+        Object[] args = new Object[chunk.size() * 2];
+
+        int i = 0;
+
+        for (Long userCreatedId : chunk) {
+            args[i++] = pointGrantJobId;
+            args[i++] = userCreatedId;
+        }
+
+        return args;
+    }
+
+    private static String buildStatement(int rowCount) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + rowCount * (VALUES_GROUP.length() + 2));
+        sql.append(INSERT_PREFIX);
+
+        for (int i = 0; i < rowCount; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+
+            sql.append(VALUES_GROUP);
+        }
+
+        return sql.toString();
+    }
+
+}
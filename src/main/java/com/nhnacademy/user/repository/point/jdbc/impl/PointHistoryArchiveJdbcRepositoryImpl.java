@@ -0,0 +1,55 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.repository.point.jdbc.impl;
+
+import com.nhnacademy.user.repository.point.jdbc.PointHistoryArchiveJdbcRepository;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@RequiredArgsConstructor
+@Repository
+public class PointHistoryArchiveJdbcRepositoryImpl implements PointHistoryArchiveJdbcRepository {
+
+    private static final String COPY_PREFIX = """
+            INSERT INTO PointHistoryArchives
+                (point_history_id, user_created_id, order_id, amount, type, description, created_at, archived_at)
+            SELECT point_history_id, user_created_id, order_id, amount, type, description, created_at, ?
+            FROM PointHistories
+            WHERE point_history_id IN (""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public int copyFromHistories(List<Long> pointHistoryIds, LocalDateTime archivedAt) {
+        if (pointHistoryIds.isEmpty()) {
+            return 0;
+        }
+
+        String sql = COPY_PREFIX + String.join(", ", Collections.nCopies(pointHistoryIds.size(), "?")) + ")";
+
+        Object[] args = new Object[pointHistoryIds.size() + 1];
+        args[0] = Timestamp.valueOf(archivedAt);
+
+        for (int i = 0; i < pointHistoryIds.size(); i++) {
+            args[i + 1] = pointHistoryIds.get(i);
+        }
+
+        return jdbcTemplate.update(sql, args);
+    }
+
+}
@@ -0,0 +1,87 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.repository.point.jdbc.impl;
+
+import com.nhnacademy.user.repository.point.jdbc.PointHistoryJdbcRepository;
+import com.nhnacademy.user.repository.point.jdbc.PointHistoryRow;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@RequiredArgsConstructor
+@Repository
+public class PointHistoryJdbcRepositoryImpl implements PointHistoryJdbcRepository {
+
+    // 한 문장에 담는 최대 행 수 (6 컬럼 * 500 = 바인딩 변수 3000개, MySQL 제한 65535개 이내)
+    static final int ROWS_PER_STATEMENT = 500;
+
+    private static final String INSERT_PREFIX =
+            "INSERT INTO PointHistories (user_created_id, order_id, amount, type, description, created_at) VALUES ";
+    private static final String VALUES_GROUP = "(?, ?, ?, ?, ?, ?)";
+
+    private static final String FULL_STATEMENT = buildStatement(ROWS_PER_STATEMENT);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public int insertAll(List<PointHistoryRow> rows) {
+        int inserted = 0;
+
+        for (int from = 0; from < rows.size(); from += ROWS_PER_STATEMENT) {
+            List<PointHistoryRow> chunk = rows.subList(from, Math.min(from + ROWS_PER_STATEMENT, rows.size()));
+
+            String sql = chunk.size() == ROWS_PER_STATEMENT ? FULL_STATEMENT : buildStatement(chunk.size());
+
+            inserted += jdbcTemplate.update(sql, toArguments(chunk));
+        }
+
+        return inserted;
+    }
+
+    private Object[] toArguments(List<PointHistoryRow> chunk) {
+        Object[] args = new Object[chunk.size() * 6];
+        LocalDateTime now = LocalDateTime.now();
+
+        int i = 0;
+
+        for (PointHistoryRow row : chunk) {
+            args[i++] = row.userCreatedId();
+            args[i++] = row.orderId();
+            args[i++] = row.amount();
+            args[i++] = row.type().name();
+            args[i++] = row.description();
+            args[i++] = Timestamp.valueOf(row.createdAt() != null ? row.createdAt() : now);
+        }
+
+        return args;
+    }
+
+    private static String buildStatement(int rowCount) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + rowCount * (VALUES_GROUP.length() + 2));
+        sql.append(INSERT_PREFIX);
+
+        for (int i = 0; i < rowCount; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+
+            sql.append(VALUES_GROUP);
+        }
+
+        return sql.toString();
+    }
+
+}
@@ -0,0 +1,86 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.repository.point.jdbc.impl;
+
+import com.nhnacademy.user.entity.point.PointLotStatus;
+import com.nhnacademy.user.repository.point.jdbc.PointLotJdbcRepository;
+import com.nhnacademy.user.repository.point.jdbc.PointLotRow;
+import java.sql.Timestamp;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@RequiredArgsConstructor
+@Repository
+public class PointLotJdbcRepositoryImpl implements PointLotJdbcRepository {
+
+    // 한 문장에 담는 최대 행 수 (6 컬럼 * 500 = 바인딩 변수 3000개)
+    static final int ROWS_PER_STATEMENT = 500;
+
+    private static final String INSERT_PREFIX =
+            "INSERT INTO PointLots (user_created_id, earned_amount, remaining_amount, status, earned_at, expires_at) VALUES ";
+    private static final String VALUES_GROUP = "(?, ?, ?, ?, ?, ?)";
+
+    private static final String FULL_STATEMENT = buildStatement(ROWS_PER_STATEMENT);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public int insertAll(List<PointLotRow> rows) {
+        int inserted = 0;
+
+        for (int from = 0; from < rows.size(); from += ROWS_PER_STATEMENT) {
+            List<PointLotRow> chunk = rows.subList(from, Math.min(from + ROWS_PER_STATEMENT, rows.size()));
+
+            String sql = chunk.size() == ROWS_PER_STATEMENT ? FULL_STATEMENT : buildStatement(chunk.size());
+
+            inserted += jdbcTemplate.update(sql, toArguments(chunk));
+        }
+
+        return inserted;
+    }
+
+    private Object[] toArguments(List<PointLotRow> chunk) {
+        Object[] args = new Object[chunk.size() * 6];
+
+        int i = 0;
+
+        for (PointLotRow row : chunk) {
+            args[i++] = row.userCreatedId();
+            args[i++] = row.amount();
+            args[i++] = row.amount();
+            args[i++] = PointLotStatus.OPEN.name();
+            args[i++] = Timestamp.valueOf(row.earnedAt());
+            args[i++] = Timestamp.valueOf(row.expiresAt());
+        }
+
+        return args;
+    }
+
+    private static String buildStatement(int rowCount) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + rowCount * (VALUES_GROUP.length() + 2));
+        sql.append(INSERT_PREFIX);
+
+        for (int i = 0; i < rowCount; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+
+            sql.append(VALUES_GROUP);
+        }
+
+        return sql.toString();
+    }
+
+}
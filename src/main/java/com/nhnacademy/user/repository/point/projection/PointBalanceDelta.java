@@ -0,0 +1,21 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.repository.point.projection;
+
+public record PointBalanceDelta(Long userCreatedId,
+                                Long settledAmount,
+                                Long settledCount,
+                                Long totalAmount) {
+    // 스냅샷 이후 포인트 내역 합계 (부호 반영)
+    // settled*: 기준 ID 이하 (스냅샷에 반영할 구간), total*: 기준 ID 이후까지 포함한 전체
+}
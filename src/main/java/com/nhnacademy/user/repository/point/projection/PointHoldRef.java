@@ -0,0 +1,21 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.repository.point.projection;
+
+import java.time.LocalDateTime;
+
+public record PointHoldRef(Long pointHoldId,
+                           Long userCreatedId,
+                           LocalDateTime expiresAt) {
+    // 확정 대상 홀드 (엔티티를 읽지 않고 ID 만 조회, 만료일시는 다음 청크 조회 기준)
+}
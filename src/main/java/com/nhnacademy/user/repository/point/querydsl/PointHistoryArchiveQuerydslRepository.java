@@ -0,0 +1,23 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.repository.point.querydsl;
+
+import com.nhnacademy.user.entity.point.PointHistoryArchive;
+import java.util.List;
+
+public interface PointHistoryArchiveQuerydslRepository {
+
+    // 회원별 보관 내역 최신순 조회 (페이지 경계가 hot 테이블과 보관 테이블 사이에 걸리므로 임의 offset 사용)
+    List<PointHistoryArchive> findLatest(Long userCreatedId, long offset, int limit);
+
+}
@@ -0,0 +1,41 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.repository.point.querydsl.impl;
+
+import static com.nhnacademy.user.entity.point.QPointHistoryArchive.pointHistoryArchive;
+
+import com.nhnacademy.user.entity.point.PointHistoryArchive;
+import com.nhnacademy.user.repository.point.querydsl.PointHistoryArchiveQuerydslRepository;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+@RequiredArgsConstructor
+@Repository
+public class PointHistoryArchiveQuerydslRepositoryImpl implements PointHistoryArchiveQuerydslRepository {
+
+    private final JPAQueryFactory jpaQueryFactory;
+
+    @Override
+    public List<PointHistoryArchive> findLatest(Long userCreatedId, long offset, int limit) {
+        return jpaQueryFactory
+                .selectFrom(pointHistoryArchive)
+                .where(pointHistoryArchive.userCreatedId.eq(userCreatedId))
+                .orderBy(pointHistoryArchive.createdAt.desc(), pointHistoryArchive.pointHistoryId.desc())
+                .offset(offset)
+                .limit(limit)
+                .fetch();
+    }
+
+}
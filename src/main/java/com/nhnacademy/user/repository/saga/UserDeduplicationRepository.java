@@ -1,8 +1,26 @@
 package com.nhnacademy.user.repository.saga;
 
 import com.nhnacademy.user.entity.saga.UserDeduplicationLog;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
 public interface UserDeduplicationRepository extends JpaRepository<UserDeduplicationLog, Long> {
     boolean existsByMessageId(String messageId);
+
+    // Bloom filter 적재: 메시지 ID 키셋 페이징
+    @Query("select d.messageId from UserDeduplicationLog d where d.messageId > :lastSeenId order by d.messageId asc")
+    List<String> findMessageIdsAfter(String lastSeenId, Limit limit);
+
+    // 보관 기간이 지난 기록 (received_at 인덱스 순서, 지운 행은 다음 청크에서 안 보이므로 커서 없음)
+    @Query("select d.messageId from UserDeduplicationLog d where d.receivedAt < :receivedBefore order by d.receivedAt asc")
+    List<String> findMessageIdsReceivedBefore(LocalDateTime receivedBefore, Limit limit);
+
+    // 메시지 ID 로 일괄 삭제 (JpaRepository 의 ID 타입 선언이 Long 이라 직접 정의)
+    @Modifying
+    @Query("delete from UserDeduplicationLog d where d.messageId in :messageIds")
+    int deleteAllByMessageIdIn(List<String> messageIds);
 }
@@ -1,7 +1,108 @@
 package com.nhnacademy.user.repository.saga;
 
+import com.nhnacademy.user.entity.saga.OutboxStatus;
 import com.nhnacademy.user.entity.saga.UserOutbox;
+import com.nhnacademy.user.repository.saga.jdbc.UserOutboxJdbcRepository;
+import com.nhnacademy.user.repository.saga.jdbc.UserOutboxPartitionJdbcRepository;
+import com.nhnacademy.user.repository.saga.projection.OutboxRetryState;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+public interface UserOutboxRepository extends JpaRepository<UserOutbox, Long>, UserOutboxJdbcRepository,
+        UserOutboxPartitionJdbcRepository {
+
+    // 커밋 직후 릴레이: 아직 발행 대기 중이고 다른 릴레이가 잡고 있지 않은 행만 (lock.timeout -2 = SKIP LOCKED)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints({@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2")})
+    @Query("select o from UserOutbox o where o.id = :id and o.status = :status")
+    Optional<UserOutbox> findByIdAndStatusForUpdate(Long id, OutboxStatus status);
+
+    // 응답 묶음 발행: 방금 저장한 행 중 아직 발행 대기 중이고 다른 릴레이가 잡고 있지 않은 행만
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints({@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2")})
+    @Query("select o from UserOutbox o where o.id in :ids and o.status = :status order by o.id asc")
+    List<UserOutbox> findAllByIdsAndStatusForUpdate(List<Long> ids, OutboxStatus status);
+
+    // 폴링 릴레이: 생성된 지 일정 시간 지난 발행 대기 행을 생성 순서대로, 다른 인스턴스가 잡은 행은 건너뜀
+    // 한 번이라도 발행에 실패한 행(nextAttemptAt 있음)은 재시도 릴레이 몫
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints({@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2")})
+    @Query("""
+        select o from UserOutbox o
+        where o.status = :status
+          and o.createdAt < :createdBefore
+          and o.nextAttemptAt is null
+        order by o.createdAt asc, o.id asc
+    """)
+    List<UserOutbox> findBatchForUpdate(OutboxStatus status, LocalDateTime createdBefore, Limit limit);
+
+    // 배치 상태 변경: UPDATE 한 번 (벌크 연산이라 @UpdateTimestamp 대신 직접 기록)
+    @Modifying
+    @Query("UPDATE UserOutbox o SET o.status = :status, o.updatedAt = :now WHERE o.id IN :ids")
+    int updateStatus(List<Long> ids, OutboxStatus status, LocalDateTime now);
+
+    // 발행 실패 배치: 재시도 횟수를 다 쓴 행은 FAILED, 나머지는 재시도 횟수만 증가
+    @Modifying
+    @Query("""
+        UPDATE UserOutbox o
+        SET o.status = com.nhnacademy.user.entity.saga.OutboxStatus.FAILED, o.updatedAt = :now
+        WHERE o.id IN :ids AND o.retryCount >= :maxRetries
+    """)
+    int markFailedOverRetries(List<Long> ids, int maxRetries, LocalDateTime now);
+
+    // 재시도 대상: 발행 실패 후에도 아직 발행 대기 중인 행의 재시도 횟수
+    @Query("""
+        select new com.nhnacademy.user.repository.saga.projection.OutboxRetryState(o.id, o.retryCount)
+        from UserOutbox o
+        where o.id in :ids and o.status = com.nhnacademy.user.entity.saga.OutboxStatus.PENDING
+    """)
+    List<OutboxRetryState> findRetryStates(List<Long> ids);
+
+    // 재시도 릴레이: 다음 시도 시각이 지난 행을 시각 순서대로 ((status, nextAttemptAt) 인덱스), 다른 인스턴스가 잡은 행은 건너뜀
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints({@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2")})
+    @Query("""
+        select o from UserOutbox o
+        where o.status = com.nhnacademy.user.entity.saga.OutboxStatus.PENDING
+          and o.nextAttemptAt <= :now
+        order by o.nextAttemptAt asc, o.id asc
+    """)
+    List<UserOutbox> findDueRetriesForUpdate(LocalDateTime now, Limit limit);
+
+    // 관리자 재처리: 재시도를 다 쓴 행 (되돌린 행은 다음 청크에서 안 보이므로 커서 없음)
+    @Query("""
+        select o.id from UserOutbox o
+        where o.status = com.nhnacademy.user.entity.saga.OutboxStatus.FAILED
+        order by o.id asc
+    """)
+    List<Long> findFailedIds(Limit limit);
+
+    // FAILED 행을 재시도 횟수 0 으로 되돌려 바로 재시도 릴레이가 발행하게 함
+    @Modifying
+    @Query("""
+        UPDATE UserOutbox o
+        SET o.status = com.nhnacademy.user.entity.saga.OutboxStatus.PENDING,
+            o.retryCount = 0, o.nextAttemptAt = :now, o.updatedAt = :now
+        WHERE o.id IN :ids AND o.status = com.nhnacademy.user.entity.saga.OutboxStatus.FAILED
+    """)
+    int replayFailed(List<Long> ids, LocalDateTime now);
+
+    // 보관 기간이 지난 발행 완료 행: (status, createdAt) 인덱스 순서 그대로 읽음 (지운 행은 다음 청크에서 안 보이므로 커서 없음)
+    @Query("""
+        select o.id from UserOutbox o
+        where o.status = com.nhnacademy.user.entity.saga.OutboxStatus.PUBLISHED
+          and o.createdAt < :createdBefore
+        order by o.createdAt asc, o.id asc
+    """)
+    List<Long> findPublishedIdsBefore(LocalDateTime createdBefore, Limit limit);
 
-public interface UserOutboxRepository extends JpaRepository<UserOutbox, Long> {
 }
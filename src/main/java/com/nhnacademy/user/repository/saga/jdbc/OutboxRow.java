@@ -0,0 +1,44 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.repository.saga.jdbc;
+
+import com.nhnacademy.user.saga.codec.EncodedPayload;
+import com.nhnacademy.user.saga.codec.JsonPayloadCodec;
+import java.nio.charset.StandardCharsets;
+
+public record OutboxRow(Long aggregateId,
+                        String aggregateType,
+                        String topic,
+                        String routingKey,
+                        String contentType,
+                        String payload,
+                        byte[] payloadBinary) {
+    // 다건 INSERT 용 Outbox 한 행 (상태는 PENDING, 재시도 횟수 0 으로 저장)
+
+    // JSON 본문
+    public OutboxRow(Long aggregateId, String aggregateType, String topic, String routingKey, String payload) {
+        this(aggregateId, aggregateType, topic, routingKey, JsonPayloadCodec.CONTENT_TYPE, payload, null);
+    }
+
+    // 코덱으로 인코딩한 본문 (텍스트 형식이면 payload, 아니면 payloadBinary 에 저장)
+    public static OutboxRow of(Long aggregateId, String aggregateType, String topic, String routingKey,
+                               EncodedPayload encoded) {
+        return new OutboxRow(aggregateId, aggregateType, topic, routingKey, encoded.contentType(),
+                encoded.textual() ? encoded.text() : null, encoded.textual() ? null : encoded.body());
+    }
+
+    // 발행할 본문 바이트
+    public byte[] body() {
+        return payloadBinary != null ? payloadBinary : payload.getBytes(StandardCharsets.UTF_8);
+    }
+}
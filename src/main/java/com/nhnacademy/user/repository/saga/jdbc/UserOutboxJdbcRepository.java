@@ -0,0 +1,27 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.repository.saga.jdbc;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+public interface UserOutboxJdbcRepository {
+
+    // Outbox 다건 저장: IDENTITY 전략이라 JPA 배치가 불가능한 INSERT 를 multi-row INSERT 로 묶고, 생성된 ID 를 행 순서대로 반환
+    List<Long> insertAll(List<OutboxRow> rows);
+
+    // 발행 실패 행마다 다른 다음 시도 시각을 기록하며 재시도 횟수 증가: JDBC 배치 UPDATE 한 번 (아직 PENDING 인 행만)
+    int scheduleRetries(Map<Long, LocalDateTime> nextAttemptAts, LocalDateTime now);
+
+}
@@ -0,0 +1,41 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.repository.saga.jdbc;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * user_outbox 파티션 관리 (MySQL 전용, RANGE (TO_DAYS(createdAt)) 일 단위 파티션)
+ */
+public interface UserOutboxPartitionJdbcRepository {
+
+    // 파티션 목록 (경계값 오름차순), 파티션이 없는 테이블이면 빈 목록
+    List<OutboxPartition> findPartitions();
+
+    // 파티션 안의 전체 행 수
+    long countRows(String partitionName);
+
+    // 파티션 안의 발행 완료되지 않은 행 수 (남아 있으면 파티션을 버리지 않음)
+    long countUnpublished(String partitionName);
+
+    void dropPartition(String partitionName);
+
+    // 지정한 경계값(해당 날짜 00시 미만)마다 일 단위 파티션 추가, MAXVALUE 파티션이 있으면 그 앞에 끼워 넣음
+    void addPartitions(List<LocalDate> lessThanDates);
+
+    // information_schema 기준 테이블 크기 (조회할 수 없는 DB면 empty)
+    Optional<OutboxTableSize> findTableSize();
+
+}
@@ -0,0 +1,142 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.repository.saga.jdbc.impl;
+
+import com.nhnacademy.user.entity.saga.OutboxStatus;
+import com.nhnacademy.user.repository.saga.jdbc.OutboxRow;
+import com.nhnacademy.user.repository.saga.jdbc.UserOutboxJdbcRepository;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataRetrievalFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.stereotype.Repository;
+
+@RequiredArgsConstructor
+@Repository
+public class UserOutboxJdbcRepositoryImpl implements UserOutboxJdbcRepository {
+
+    // 한 문장에 담는 최대 행 수 (12 컬럼 * 500 = 바인딩 변수 6000개, MySQL 제한 65535개 이내)
+    static final int ROWS_PER_STATEMENT = 500;
+
+    private static final String INSERT_PREFIX = "INSERT INTO user_outbox "
+            + "(aggregateId, aggregateType, topic, routingKey, contentType, payload, payloadBinary, status, retryCount,"
+            + " deadLetterReplays, createdAt, updatedAt) VALUES ";
+    private static final String VALUES_GROUP = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String FULL_STATEMENT = buildStatement(ROWS_PER_STATEMENT);
+
+    private static final String SCHEDULE_RETRY = "UPDATE user_outbox "
+            + "SET retryCount = retryCount + 1, nextAttemptAt = ?, updatedAt = ? WHERE id = ? AND status = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<Long> insertAll(List<OutboxRow> rows) {
+        List<Long> ids = new ArrayList<>(rows.size());
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        for (int from = 0; from < rows.size(); from += ROWS_PER_STATEMENT) {
+            List<OutboxRow> chunk = rows.subList(from, Math.min(from + ROWS_PER_STATEMENT, rows.size()));
+
+            String sql = chunk.size() == ROWS_PER_STATEMENT ? FULL_STATEMENT : buildStatement(chunk.size());
+            Object[] args = toArguments(chunk, now);
+            GeneratedKeyHolder keyHolder = new GeneratedKeyHolder();
+
+            jdbcTemplate.update(con -> {
+                PreparedStatement ps = con.prepareStatement(sql, new String[]{"id"});
+                for (int i = 0; i < args.length; i++) {
+                    ps.setObject(i + 1, args[i]);
+                }
+                return ps;
+            }, keyHolder);
+
+            List<Map<String, Object>> keys = keyHolder.getKeyList();
+            if (keys.size() != chunk.size()) {
+                throw new DataRetrievalFailureException(
+                        "생성된 Outbox ID 수가 저장한 행 수와 다릅니다: " + keys.size() + " / " + chunk.size());
+            }
+
+            for (Map<String, Object> key : keys) {
+                ids.add(((Number) key.values().iterator().next()).longValue());
+            }
+        }
+
+        return ids;
+    }
+
+    @Override
+    public int scheduleRetries(Map<Long, LocalDateTime> nextAttemptAts, LocalDateTime now) {
+        if (nextAttemptAts.isEmpty()) {
+            return 0;
+        }
+
+        Timestamp updatedAt = Timestamp.valueOf(now);
+        List<Object[]> args = new ArrayList<>(nextAttemptAts.size());
+
+        nextAttemptAts.forEach((id, nextAttemptAt) -> args.add(
+                new Object[]{Timestamp.valueOf(nextAttemptAt), updatedAt, id, OutboxStatus.PENDING.name()}));
+
+        int updated = 0;
+        for (int count : jdbcTemplate.batchUpdate(SCHEDULE_RETRY, args)) {
+            // 드라이버가 배치 건수를 알려주지 않으면 (SUCCESS_NO_INFO) 1건으로 셈
+            updated += count >= 0 ? count : 1;
+        }
+
+        return updated;
+    }
+
+    private Object[] toArguments(List<OutboxRow> chunk, Timestamp now) {
+        Object[] args = new Object[chunk.size() * 12];
+
+        int i = 0;
+
+        for (OutboxRow row : chunk) {
+            args[i++] = row.aggregateId();
+            args[i++] = row.aggregateType();
+            args[i++] = row.topic();
+            args[i++] = row.routingKey();
+            args[i++] = row.contentType();
+            args[i++] = row.payload();
+            args[i++] = row.payloadBinary();
+            args[i++] = OutboxStatus.PENDING.name();
+            args[i++] = 0;
+            args[i++] = 0;
+            args[i++] = now;
+            args[i++] = now;
+        }
+
+        return args;
+    }
+
+    private static String buildStatement(int rowCount) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + rowCount * (VALUES_GROUP.length() + 2));
+        sql.append(INSERT_PREFIX);
+
+        for (int i = 0; i < rowCount; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+
+            sql.append(VALUES_GROUP);
+        }
+
+        return sql.toString();
+    }
+
+}
@@ -0,0 +1,136 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.repository.saga.jdbc.impl;
+
+import com.nhnacademy.user.repository.saga.jdbc.OutboxPartition;
+import com.nhnacademy.user.repository.saga.jdbc.OutboxTableSize;
+import com.nhnacademy.user.repository.saga.jdbc.UserOutboxPartitionJdbcRepository;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Slf4j
+@RequiredArgsConstructor
+@Repository
+public class UserOutboxPartitionJdbcRepositoryImpl implements UserOutboxPartitionJdbcRepository {
+
+    private static final String TABLE_NAME = "user_outbox";
+
+    private static final String MAX_PARTITION = "pmax";
+
+    // TO_DAYS('1970-01-01')
+    private static final long TO_DAYS_EPOCH = 719_528L;
+
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.BASIC_ISO_DATE;
+
+    // 파티션 이름은 DDL 에 그대로 들어가므로 형식을 제한
+    private static final Pattern PARTITION_NAME = Pattern.compile("p[0-9a-z_]+");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<OutboxPartition> findPartitions() {
+        return jdbcTemplate.query("""
+                SELECT PARTITION_NAME, PARTITION_DESCRIPTION
+                FROM information_schema.PARTITIONS
+                WHERE TABLE_SCHEMA = DATABASE()
+                  AND TABLE_NAME = ?
+                  AND PARTITION_NAME IS NOT NULL
+                ORDER BY PARTITION_ORDINAL_POSITION
+                """, (rs, rowNum) -> new OutboxPartition(rs.getString(1), toLessThan(rs.getString(2))), TABLE_NAME);
+    }
+
+    @Override
+    public long countRows(String partitionName) {
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM " + TABLE_NAME + " PARTITION (" + checked(partitionName) + ")", Long.class);
+        return count != null ? count : 0L;
+    }
+
+    @Override
+    public long countUnpublished(String partitionName) {
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM " + TABLE_NAME + " PARTITION (" + checked(partitionName) + ")"
+                        + " WHERE status IS NULL OR status <> 'PUBLISHED'", Long.class);
+        return count != null ? count : 0L;
+    }
+
+    @Override
+    public void dropPartition(String partitionName) {
+        jdbcTemplate.execute("ALTER TABLE " + TABLE_NAME + " DROP PARTITION " + checked(partitionName));
+    }
+
+    @Override
+    public void addPartitions(List<LocalDate> lessThanDates) {
+        if (lessThanDates.isEmpty()) {
+            return;
+        }
+
+        String definitions = lessThanDates.stream()
+                .map(lessThan -> "PARTITION p" + lessThan.minusDays(1).format(PARTITION_SUFFIX)
+                        + " VALUES LESS THAN (" + (lessThan.toEpochDay() + TO_DAYS_EPOCH) + ")")
+                .collect(Collectors.joining(", "));
+
+        boolean hasMaxPartition = findPartitions().stream().anyMatch(partition -> partition.lessThan() == null);
+
+        if (hasMaxPartition) {
+            jdbcTemplate.execute("ALTER TABLE " + TABLE_NAME + " REORGANIZE PARTITION " + MAX_PARTITION + " INTO ("
+                    + definitions + ", PARTITION " + MAX_PARTITION + " VALUES LESS THAN MAXVALUE)");
+        } else {
+            jdbcTemplate.execute("ALTER TABLE " + TABLE_NAME + " ADD PARTITION (" + definitions + ")");
+        }
+    }
+
+    @Override
+    public Optional<OutboxTableSize> findTableSize() {
+        try {
+            return jdbcTemplate.query("""
+                    SELECT TABLE_ROWS, DATA_LENGTH + INDEX_LENGTH
+                    FROM information_schema.TABLES
+                    WHERE TABLE_SCHEMA = DATABASE()
+                      AND TABLE_NAME = ?
+                    """, (rs, rowNum) -> new OutboxTableSize(rs.getLong(1), rs.getLong(2)), TABLE_NAME)
+                    .stream()
+                    .findFirst();
+        } catch (DataAccessException e) {
+            log.debug("[OutboxRetention] 테이블 크기 조회 불가: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    // PARTITION_DESCRIPTION: TO_DAYS 값 또는 MAXVALUE
+    private LocalDate toLessThan(String description) {
+        if (description == null || "MAXVALUE".equalsIgnoreCase(description)) {
+            return null;
+        }
+
+        return LocalDate.ofEpochDay(Long.parseLong(description.trim()) - TO_DAYS_EPOCH);
+    }
+
+    private String checked(String partitionName) {
+        if (!PARTITION_NAME.matcher(partitionName).matches()) {
+            throw new IllegalArgumentException("잘못된 파티션 이름: " + partitionName);
+        }
+
+        return partitionName;
+    }
+
+}
@@ -14,6 +14,7 @@ package com.nhnacademy.user.repository.user;
 
 import com.nhnacademy.user.dto.response.BirthdayUserResponse;
 import com.nhnacademy.user.entity.user.User;
+import com.nhnacademy.user.repository.point.projection.UserPointBalance;
 import com.nhnacademy.user.repository.user.querydsl.UserQuerydslRepository;
 import feign.Param;
 import jakarta.persistence.LockModeType;
@@ -21,10 +22,12 @@ import jakarta.persistence.QueryHint;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.jpa.repository.QueryHints;
 
@@ -34,10 +37,25 @@ public interface UserRepository extends JpaRepository<User, Long>, UserQuerydslR
 
     boolean existsByEmail(String email);
 
+    // 존재 여부 인덱스 적재: 엔티티 없이 PK 만 흘려 읽음 (호출하는 쪽 트랜잭션 안에서 닫아야 함)
+    @QueryHints({@QueryHint(name = "org.hibernate.fetchSize", value = "1000")})
+    @Query("SELECT u.userCreatedId FROM User u")
+    Stream<Long> streamAllIds();
+
     // 내 정보 조회 성능 최적화
     @Query("SELECT u FROM User u JOIN FETCH u.account WHERE u.userCreatedId = :userCreatedId")
     Optional<User> findByIdWithAccount(Long userCreatedId);
 
+    // 내부 회원 정보 일괄 조회: 계정, 상태, 등급까지 한 번에 (배송지는 별도 IN 조회, 컬렉션까지 묶으면 행이 곱해짐)
+    @Query("""
+        SELECT u FROM User u
+        JOIN FETCH u.account a
+        JOIN FETCH a.status
+        JOIN FETCH u.grade
+        WHERE u.userCreatedId IN :userCreatedIds
+    """)
+    List<User> findAllWithAccountByIdIn(List<Long> userCreatedIds);
+
     // 포인트 수동 처리를 위한 조회 쿼리
     // 동시에 여러 요청이 들어오면 안 됨: 비관적 락 사용
     @Lock(LockModeType.PESSIMISTIC_WRITE)
@@ -45,6 +63,89 @@ public interface UserRepository extends JpaRepository<User, Long>, UserQuerydslR
     @Query("SELECT u FROM User u WHERE u.userCreatedId = :userCreatedId")
     Optional<User> findByIdForUpdate(Long userCreatedId);
 
+    // 여러 회원 행을 ID 오름차순으로 잠금 (포인트 만료 배치)
+    // 단건 포인트 처리와 같은 순서(회원 > 포인트 묶음)로 잠가 교착을 피함
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints({@QueryHint(name = "jakarta.persistence.lock.timeout", value = "3000")})
+    @Query("SELECT u FROM User u WHERE u.userCreatedId IN :userCreatedIds ORDER BY u.userCreatedId ASC")
+    List<User> findAllByIdForUpdate(List<Long> userCreatedIds);
+
+    // 조건부 원자적 포인트 증감: 잔액 검증과 변경을 UPDATE 한 번으로 처리 (변경된 행 수 반환)
+    // 차감은 주문 사가가 잡아 둔 포인트를 뺀 사용 가능 잔액으로 검증
+    // 벌크 연산이라 영속성 컨텍스트를 거치지 않음 > 쓰기 지연된 변경은 먼저 flush, 이후 1차 캐시는 비움
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        UPDATE User u SET u.currentPoint = u.currentPoint + :delta
+        WHERE u.userCreatedId = :userCreatedId
+          AND (:delta >= 0 OR u.currentPoint - u.reservedPoint + :delta >= 0)
+    """)
+    int addPointIfSufficient(Long userCreatedId, long delta);
+
+    // 주문 사가 포인트 홀드: 사용 가능 잔액 검증과 예약 증가를 UPDATE 한 번으로 처리 (변경된 행 수 반환)
+    // 포인트 내역, 묶음은 건드리지 않고 확정될 때 한 번에 기록
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        UPDATE User u SET u.reservedPoint = u.reservedPoint + :amount
+        WHERE u.userCreatedId = :userCreatedId
+          AND u.currentPoint - u.reservedPoint >= :amount
+    """)
+    int reservePointIfAvailable(Long userCreatedId, long amount);
+
+    // 회원 한 명 포인트 적립 (비동기 적립 대기열 반영)
+    @Modifying
+    @Query("UPDATE User u SET u.currentPoint = COALESCE(u.currentPoint, 0) + :amount WHERE u.userCreatedId = :userCreatedId")
+    int addPoint(Long userCreatedId, long amount);
+
+    // 포인트 일괄 지급: 청크 단위 집합 UPDATE 한 번 (변경된 행 수 반환)
+    // 일괄 지급 트랜잭션은 User 엔티티를 읽지 않으므로 1차 캐시를 비우지 않음
+    @Modifying
+    @Query("""
+        UPDATE User u SET u.currentPoint = COALESCE(u.currentPoint, 0) + :amount
+        WHERE u.userCreatedId IN :userCreatedIds
+    """)
+    int addPointToAll(List<Long> userCreatedIds, long amount);
+
+    // 포인트 일괄 지급 대상: 등급 기준 키셋 페이징 (ID만 조회)
+    @Query("""
+        select u.userCreatedId
+        from User u
+        where u.grade.gradeName = :gradeName
+          and u.userCreatedId > :lastSeenId
+        order by u.userCreatedId asc
+    """)
+    List<Long> findIdsByGradeAfter(String gradeName, long lastSeenId, Pageable pageable);
+
+    // 포인트 일괄 지급 대상: 계정 상태 기준 키셋 페이징 (ID만 조회)
+    @Query("""
+        select u.userCreatedId
+        from User u
+        join u.account a
+        where a.status.statusName = :statusName
+          and u.userCreatedId > :lastSeenId
+        order by u.userCreatedId asc
+    """)
+    List<Long> findIdsByStatusAfter(String statusName, long lastSeenId, Pageable pageable);
+
+    // 포인트 일괄 지급 대상: 지정한 ID 중 실제로 존재하는 회원만
+    @Query("select u.userCreatedId from User u where u.userCreatedId in :userCreatedIds order by u.userCreatedId asc")
+    List<Long> findExistingIds(List<Long> userCreatedIds);
+
+    // 전체 회원 키셋 페이징 (ID만 조회)
+    @Query("select u.userCreatedId from User u where u.userCreatedId > :lastSeenId order by u.userCreatedId asc")
+    List<Long> findIdsAfter(long lastSeenId, Pageable pageable);
+
+    // 사용 가능 포인트만 조회 (캐시된 내부 통신용 회원 정보에 최신 값으로 덧씌움)
+    @Query("select u.currentPoint - u.reservedPoint from User u where u.userCreatedId = :userCreatedId")
+    Optional<Long> findAvailablePoint(Long userCreatedId);
+
+    // 잔액 검증용: 엔티티 대신 잔액 컬럼만 조회
+    @Query("""
+        select new com.nhnacademy.user.repository.point.projection.UserPointBalance(u.userCreatedId, u.currentPoint)
+        from User u
+        where u.userCreatedId in :userCreatedIds
+    """)
+    List<UserPointBalance> findPointBalances(List<Long> userCreatedIds);
+
 
     @Query("""
         select new com.nhnacademy.user.dto.response.BirthdayUserResponse(
@@ -0,0 +1,32 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.repository.user.projection;
+
+import java.math.BigDecimal;
+
+public record InternalUserRow(Long userCreatedId,
+                              String userName,
+                              String phoneNumber,
+                              String email,
+                              String gradeName,
+                              BigDecimal pointRate,
+                              Long currentPoint,
+                              Long reservedPoint,
+                              String statusName) {
+    // 주문/결제용 회원 정보 (엔티티를 읽지 않고 회원 + 계정 상태 + 등급 컬럼만 조회)
+
+    public Long availablePoint() {
+        return currentPoint - reservedPoint;
+    }
+
+}
@@ -12,8 +12,12 @@
 
 package com.nhnacademy.user.repository.user.querydsl;
 
+import com.nhnacademy.user.dto.response.InternalAddressResponse;
 import com.nhnacademy.user.dto.response.UserResponse;
 import com.nhnacademy.user.dto.search.UserSearchCriteria;
+import com.nhnacademy.user.repository.user.projection.InternalUserRow;
+import java.util.List;
+import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -22,4 +26,10 @@ public interface UserQuerydslRepository {
     // 관리자 전용: N+1 없이 모든 정보를 한 번에 조회
     Page<UserResponse> findAllUser(Pageable pageable, UserSearchCriteria criteria);
 
+    // 주문/결제용: 엔티티 없이 회원 + 계정 상태 + 등급 컬럼만 조회
+    Optional<InternalUserRow> findInternalUser(Long userCreatedId);
+
+    // 주문/결제용: 엔티티 없이 배송지 컬럼만 조회
+    List<InternalAddressResponse> findInternalAddresses(Long userCreatedId);
+
 }
@@ -13,11 +13,14 @@
 package com.nhnacademy.user.repository.user.querydsl.impl;
 
 import static com.nhnacademy.user.entity.account.QAccount.account;
+import static com.nhnacademy.user.entity.address.QAddress.address;
 import static com.nhnacademy.user.entity.user.QUser.user;
 
+import com.nhnacademy.user.dto.response.InternalAddressResponse;
 import com.nhnacademy.user.dto.response.UserResponse;
 import com.nhnacademy.user.dto.search.UserSearchCriteria;
 import com.nhnacademy.user.entity.user.User;
+import com.nhnacademy.user.repository.user.projection.InternalUserRow;
 import com.nhnacademy.user.repository.user.querydsl.UserQuerydslRepository;
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.Order;
@@ -26,6 +29,7 @@ import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.PathBuilder;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import java.util.List;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -77,6 +81,46 @@ public class UserQuerydslRepositoryImpl implements UserQuerydslRepository {
         return new PageImpl<>(content, pageable, count != null ? count : 0);
     }
 
+    @Override
+    public Optional<InternalUserRow> findInternalUser(Long userCreatedId) {
+        // DTO 로 바로 받으므로 영속성 컨텍스트에 엔티티가 올라가지 않음 (스냅샷/더티 체킹 없음)
+        return Optional.ofNullable(jpaQueryFactory
+                .select(Projections.constructor(InternalUserRow.class,
+                        user.userCreatedId,
+                        user.userName,
+                        user.phoneNumber,
+                        user.email,
+                        user.grade.gradeName,
+                        user.grade.pointRate,
+                        user.currentPoint,
+                        user.reservedPoint,
+                        account.status.statusName
+                ))
+                .from(user)
+                .join(user.account, account)
+                .join(user.grade)
+                .join(account.status)
+                .where(user.userCreatedId.eq(userCreatedId))
+                .fetchOne());
+    }
+
+    @Override
+    public List<InternalAddressResponse> findInternalAddresses(Long userCreatedId) {
+        return jpaQueryFactory
+                .select(Projections.constructor(InternalAddressResponse.class,
+                        address.addressId,
+                        address.addressName,
+                        address.zipCode,
+                        address.roadAddress,
+                        address.addressDetail,
+                        address.isDefault
+                ))
+                .from(address)
+                .where(address.user.userCreatedId.eq(userCreatedId))
+                .orderBy(address.addressId.asc())
+                .fetch();
+    }
+
     private BooleanBuilder containsKeyword(String keyword) {
         BooleanBuilder builder = new BooleanBuilder();
 
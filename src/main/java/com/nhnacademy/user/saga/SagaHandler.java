@@ -17,12 +17,15 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.nhnacademy.user.dto.request.PointRequest;
 import com.nhnacademy.user.entity.point.Type;
 import com.nhnacademy.user.exception.point.PointNotEnoughException;
+import com.nhnacademy.user.properties.SagaPointHoldProperties;
+import com.nhnacademy.user.properties.SagaReplyProperties;
 import com.nhnacademy.user.repository.saga.UserOutboxRepository;
 import com.nhnacademy.user.saga.event.OrderCompensateEvent;
 import com.nhnacademy.user.saga.event.OrderConfirmedEvent;
 import com.nhnacademy.user.saga.event.OrderRefundEvent;
 import com.nhnacademy.user.saga.event.SagaEvent;
 import com.nhnacademy.user.saga.event.SagaReply;
+import com.nhnacademy.user.service.point.PointHoldService;
 import com.nhnacademy.user.service.point.PointService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -40,8 +43,12 @@ public class SagaHandler {
     private final ApplicationEventPublisher publisher;
     private final SagaTestService testService;
     private final SagaReplyService replyService;
+    private final SagaReplyAggregator replyAggregator;
+    private final SagaReplyProperties replyProperties;
 
     private final PointService pointService;
+    private final PointHoldService pointHoldService;
+    private final SagaPointHoldProperties pointHoldProperties;
 
     @Transactional
     public void onMessage(SagaEvent event) {
@@ -55,8 +62,18 @@ public class SagaHandler {
         String reason = null; // 실패시 사유
 
         try {
+            // 홀드 모드: 사용 포인트는 잡아 두기만 하고, 적립과 함께 보상 대기 기간이 지나면 확정
+            if (pointHoldProperties.isEnabled() && event.getOrderId() > 0) {
+                pointHoldService.hold(
+                        event.getUserId(),
+                        event.getOrderId(),
+                        event.getUsedPoint() != null ? event.getUsedPoint() : 0L,
+                        event.getSavedPoint() != null ? event.getSavedPoint() : 0L);
+
+                log.debug("[User API] 포인트 홀드 성공 - Order : {}", event.getOrderId());
+            }
             // 포인트 차감
-            if (event instanceof OrderConfirmedEvent confirmedEvent) {
+            else if (event instanceof OrderConfirmedEvent confirmedEvent) {
                 if (confirmedEvent.getUsedPoint() != null && confirmedEvent.getUsedPoint() > 0 &&
                         event.getOrderId() > 0) {
                     pointService.processPoint(new PointRequest(
@@ -104,7 +121,7 @@ public class SagaHandler {
             );
 
             // 응답 메시지 전송
-            replyService.send(event, reply, SagaTopic.REPLY_RK);
+            reply(event, reply, SagaTopic.REPLY_RK);
         }
     }
 
@@ -146,7 +163,7 @@ public class SagaHandler {
                     reason
             );
             // 응답 메시지 전송
-            replyService.send(event, reply, SagaTopic.REPLY_RK);
+            reply(event, reply, SagaTopic.REPLY_RK);
         }
     }
     // 보상 전용
@@ -158,8 +175,14 @@ public class SagaHandler {
         SagaEvent originalEvent = event.getOriginalEvent();
 
         try {
+            // 홀드가 남아 있으면 취소만 (포인트 내역 없음), 끈 뒤에는 draining 동안만 남은 홀드부터 확인
+            if (originalEvent instanceof OrderConfirmedEvent confirmedEvent &&
+                    (pointHoldProperties.isEnabled() || pointHoldProperties.isDraining()) &&
+                    pointHoldService.cancel(confirmedEvent.getUserId(), confirmedEvent.getOrderId())) {
+                log.debug("[User API] 포인트 홀드 취소 성공 - Order : {}", event.getOrderId());
+            }
             // 사용했던 포인트 복구
-            if(originalEvent instanceof OrderConfirmedEvent confirmedEvent) {
+            else if(originalEvent instanceof OrderConfirmedEvent confirmedEvent) {
                 if (confirmedEvent.getUsedPoint() > 0 && confirmedEvent.getUsedPoint() != null) {
                     pointService.processPoint(new PointRequest(
                             confirmedEvent.getUserId(),
@@ -199,8 +222,16 @@ public class SagaHandler {
             );
 
             // 응답 메시지 전송
-            replyService.send(event, reply, SagaTopic.REPLY_COMPENSATION_RK);
+            reply(event, reply, SagaTopic.REPLY_COMPENSATION_RK);
         }
     }
-}
 
+    // 묶음 모드면 다른 응답과 모아서 한 트랜잭션에 저장, 아니면 응답마다 독립 트랜잭션에 저장
+    private void reply(SagaEvent event, SagaReply reply, String key) {
+        if (replyProperties.isBatching()) {
+            replyAggregator.send(event, reply, key);
+        } else {
+            replyService.send(event, reply, key);
+        }
+    }
+}
@@ -1,10 +1,9 @@
 package com.nhnacademy.user.saga;
 
-import com.nhnacademy.user.entity.saga.UserDeduplicationLog;
-import com.nhnacademy.user.repository.saga.UserDeduplicationRepository;
 import com.nhnacademy.user.saga.event.OrderCompensateEvent;
 import com.nhnacademy.user.saga.event.OrderConfirmedEvent;
 import com.nhnacademy.user.saga.event.SagaEvent;
+import com.nhnacademy.user.saga.idempotency.IdempotencyStore;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
@@ -17,46 +16,43 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 public class SagaListener {
 
-    private final UserDeduplicationRepository deduplicationRepository;
+    // 회원별 레인 소비자(SagaLaneListener)를 쓰면 이 리스너는 큐를 구독하지 않고, 레인에서 메소드만 호출됨
+    private static final String LANES_DISABLED = "#{!${saga.consumer.lanes.enabled:false}}";
+
+    private final IdempotencyStore idempotencyStore;
     private final SagaHandler sagaHandler;
 
     @Transactional
-    @RabbitListener(queues = SagaTopic.USER_QUEUE)
+    @RabbitListener(queues = SagaTopic.USER_QUEUE, autoStartup = LANES_DISABLED)
     public void onEvent(SagaEvent event) {
 
-        // 중복 검사
-        if(deduplicationRepository.existsByMessageId(String.valueOf(event.getEventId()))) {
+        // 중복 검사 + 멱등성 보장 (처리 기록은 이 트랜잭션이 롤백되면 함께 취소)
+        if (!idempotencyStore.tryAcquire(String.valueOf(event.getEventId()))) {
             log.info("[Saga] 중복된 요청 무시 - Event ID : {} ", event.getEventId());
             return;
         }
 
         log.info("[Saga] 주문 이벤트 수신 - OrderID: {}", event.getOrderId());
 
-        // 멱등성 보장
-        deduplicationRepository.save(new UserDeduplicationLog(event.getEventId()));
-
         // 실제 작업은 핸들러가
         sagaHandler.onMessage(event);
     }
 
     // 보상 로직
     @Transactional
-    @RabbitListener(queues = SagaTopic.USER_COMPENSATION_QUEUE)
+    @RabbitListener(queues = SagaTopic.USER_COMPENSATION_QUEUE, autoStartup = LANES_DISABLED)
     public void onCompensateEvent(SagaEvent event) {
 
         String dedupeKey = event.getEventId() + "_USER_COMP";
 
-        // 중복 검사
-        if(deduplicationRepository.existsByMessageId(dedupeKey)) {
+        // 중복 검사 + 멱등성 보장
+        if (!idempotencyStore.tryAcquire(dedupeKey)) {
             log.info("[Saga] 중복된 보상 요청 무시 - Event ID : {} ", event.getEventId());
             return;
         }
 
         log.info("[Saga] 보상 이벤트 수신 - OrderID: {}", event.getOrderId());
 
-        // 멱등성 보장
-        deduplicationRepository.save(new UserDeduplicationLog(dedupeKey));
-
         // 실제 작업은 핸들러가
         sagaHandler.onMessage(event);
     }
@@ -0,0 +1,292 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.saga;
+
+import com.nhnacademy.user.entity.saga.OutboxStatus;
+import com.nhnacademy.user.exception.saga.ReplyPersistenceException;
+import com.nhnacademy.user.properties.OutboxRelayProperties;
+import com.nhnacademy.user.properties.SagaReplyProperties;
+import com.nhnacademy.user.repository.saga.UserOutboxRepository;
+import com.nhnacademy.user.repository.saga.jdbc.OutboxRow;
+import com.nhnacademy.user.saga.codec.PayloadCodecs;
+import com.nhnacademy.user.saga.event.SagaEvent;
+import com.nhnacademy.user.saga.event.SagaReply;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Saga 응답 묶음 저장/발행 (saga.reply.batching=true)
+ * <p>
+ * 응답마다 REQUIRES_NEW 트랜잭션을 열어 Outbox 한 행을 저장하는 대신, 짧은 시간(window) 또는 batchSize 만큼 모은 응답을
+ * 트랜잭션 하나에서 multi-row INSERT 로 저장합니다. 응답을 넘긴 쪽은 자기 행이 커밋될 때까지만 기다리므로
+ * 기존처럼 메시지 ACK 전에 응답이 저장되어 있음이 보장됩니다.
+ * <p>
+ * 저장한 행은 행마다 Outbox ID 를 CorrelationData 로 붙여 연달아 보내고 confirm 을 한꺼번에 받습니다.
+ * 발행은 별도 스레드(saga-reply-publisher)에서 하므로 브로커 confirm 대기가 다음 묶음 저장을 막지 않습니다.
+ * 메시지 본문은 응답 하나씩 그대로라 오케스트레이터는 기존과 같이 응답 단위로 받습니다.
+ * 발행하지 못했거나 발행 대기열이 가득 차 넘긴 행은 PENDING 으로 남아 폴링 릴레이가 이어받습니다.
+ * <p>
+ * 대기 시간이 지나 포기한 응답은 묶음에 들어가기 전이면 저장하지 않습니다. 이미 묶음 트랜잭션에 들어간 응답은 결과를 끝까지 기다립니다.
+ */
+@RequiredArgsConstructor
+@Slf4j
+@Component
+public class SagaReplyAggregator {
+
+    private static final int PUBLISH_QUEUE_CAPACITY = 64;
+
+    private final PayloadCodecs payloadCodecs;
+
+    private final UserOutboxRepository userOutboxRepository;
+
+    private final UserOutboxPollingRelay userOutboxPollingRelay;
+
+    private final UserOutboxAsyncRelay userOutboxAsyncRelay;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final SagaReplyProperties sagaReplyProperties;
+
+    private final OutboxRelayProperties outboxRelayProperties;
+
+    private final BlockingQueue<PendingReply> pendingReplies = new LinkedBlockingQueue<>();
+
+    private ExecutorService flusher;
+
+    private ExecutorService publisher;
+
+    private volatile boolean running;
+
+    @PostConstruct
+    public void start() {
+        if (!sagaReplyProperties.isBatching() || running) {
+            return;
+        }
+
+        running = true;
+        // 발행 대기열이 가득 차면 버림: 저장된 행은 PENDING 으로 남아 폴링 릴레이가 발행
+        publisher = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(PUBLISH_QUEUE_CAPACITY), r -> new Thread(r, "saga-reply-publisher"),
+                (task, executor) -> log.warn("[Saga Reply] 발행 대기열이 가득 차 폴링 릴레이에 넘깁니다."));
+        flusher = Executors.newSingleThreadExecutor(r -> new Thread(r, "saga-reply-flusher"));
+        flusher.execute(this::flushLoop);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (!running) {
+            return;
+        }
+
+        // 남은 응답을 모두 저장한 뒤 종료, 발행하지 못한 행은 PENDING 으로 남아 폴링 릴레이가 이어받음
+        running = false;
+        flusher.shutdown();
+        try {
+            if (!flusher.awaitTermination(sagaReplyProperties.getPersistTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+                log.warn("[Saga Reply] 저장하지 못한 응답이 남은 채 종료합니다: {}건", pendingReplies.size());
+            }
+
+            publisher.shutdown();
+            publisher.awaitTermination(sagaReplyProperties.getPersistTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 응답을 묶음에 넣고 저장이 끝날 때까지 기다리는 메소드
+     *
+     * @return 저장된 Outbox ID
+     */
+    public Long send(SagaEvent event, SagaReply reply, String key) {
+        if (!running) {
+            throw new ReplyPersistenceException("응답 묶음 저장이 실행 중이 아닙니다.");
+        }
+
+        PendingReply pending = new PendingReply(OutboxRow.of(
+                event.getOrderId(),
+                "USER",
+                SagaTopic.ORDER_EXCHANGE,
+                key,
+                payloadCodecs.current().encode(reply)
+        ), new CompletableFuture<>());
+
+        pendingReplies.add(pending);
+
+        try {
+            Long outboxId = await(pending);
+            log.info("[Saga Reply] 묶음 트랜잭션에 Outbox 저장 완료 (OrderID: {})", event.getOrderId());
+            return outboxId;
+        } catch (ExecutionException e) {
+            throw new ReplyPersistenceException("응답 메시지 저장 실패", e.getCause());
+        } catch (TimeoutException e) {
+            throw new ReplyPersistenceException("응답 메시지 저장 대기 시간 초과");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ReplyPersistenceException("응답 메시지 저장 대기 중 중단");
+        }
+    }
+
+    // 저장 결과를 기다림, 시간 초과 시 아직 묶음에 들어가지 않은 응답이면 포기 표시 후 취소해 저장되지 않게 함
+    private Long await(PendingReply pending) throws ExecutionException, TimeoutException, InterruptedException {
+        long timeout = sagaReplyProperties.getPersistTimeout().toMillis();
+
+        try {
+            return pending.persisted().get(timeout, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            if (pending.claimed().compareAndSet(false, true)) {
+                pending.persisted().cancel(false);
+                throw e;
+            }
+
+            // 이미 묶음 트랜잭션에 들어간 응답: 포기하면 예외 뒤에 행이 커밋되어 재전송 응답과 중복되므로 결과를 기다림
+            log.warn("[Saga Reply] 저장 대기 시간 초과, 진행 중인 묶음 트랜잭션 결과를 기다립니다.");
+            return pending.persisted().get();
+        }
+    }
+
+    private void flushLoop() {
+        List<PendingReply> batch = new ArrayList<>(sagaReplyProperties.getBatchSize());
+
+        while (running || !pendingReplies.isEmpty()) {
+            try {
+                PendingReply first = pendingReplies.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+
+                batch.add(first);
+                collect(batch);
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("[Saga Reply] 응답 묶음 처리 중 오류", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    // 첫 응답 이후 window 동안 batchSize 까지 더 모음
+    private void collect(List<PendingReply> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + sagaReplyProperties.getWindow().toNanos();
+
+        pendingReplies.drainTo(batch, sagaReplyProperties.getBatchSize() - batch.size());
+
+        while (batch.size() < sagaReplyProperties.getBatchSize()) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                break;
+            }
+
+            PendingReply next = pendingReplies.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+
+            batch.add(next);
+            pendingReplies.drainTo(batch, sagaReplyProperties.getBatchSize() - batch.size());
+        }
+    }
+
+    /**
+     * 모인 응답을 트랜잭션 하나에서 저장하고, 저장한 행을 한꺼번에 발행하는 메소드
+     *
+     * @return 저장한 행 수
+     */
+    int flush(List<PendingReply> pendings) {
+        // 기다리던 쪽이 먼저 포기(취소)한 응답은 저장하지 않음
+        List<PendingReply> batch = new ArrayList<>(pendings.size());
+        for (PendingReply pending : pendings) {
+            if (pending.claimed().compareAndSet(false, true)) {
+                batch.add(pending);
+            }
+        }
+
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        List<OutboxRow> rows = batch.stream().map(PendingReply::row).toList();
+        List<Long> ids;
+
+        try {
+            ids = transactionTemplate.execute(status -> userOutboxRepository.insertAll(rows));
+        } catch (RuntimeException e) {
+            log.error("[Saga Reply] 응답 {}건 저장 실패", batch.size(), e);
+            batch.forEach(pending -> pending.persisted().completeExceptionally(e));
+            return 0;
+        }
+
+        for (int i = 0; i < batch.size(); i++) {
+            batch.get(i).persisted().complete(ids.get(i));
+        }
+
+        // 발행은 발행 스레드에 넘기고 바로 다음 묶음을 모음 (confirm 대기가 저장 지연으로 이어지지 않게)
+        publisher.execute(() -> {
+            try {
+                publish(ids, rows);
+            } catch (RuntimeException e) {
+                // 발행하지 못한 행은 PENDING 으로 남아 폴링 릴레이가 이어받음
+                log.warn("[Saga Reply] 응답 묶음 발행 실패 (폴링 릴레이가 재시도): {}", e.getMessage());
+            }
+        });
+
+        return ids.size();
+    }
+
+    private void publish(List<Long> ids, List<OutboxRow> rows) {
+        if (outboxRelayProperties.isAsyncConfirm()) {
+            // confirm 대기 한도를 넘겨 보내지 못한 행은 PENDING 으로 남아 폴링 릴레이가 발행
+            for (int i = 0; i < ids.size(); i++) {
+                OutboxRow row = rows.get(i);
+                userOutboxAsyncRelay.publish(new UserOutboxCommittedEvent(this, ids.get(i), row.topic(),
+                        row.routingKey(), row.contentType(), row.body()));
+            }
+            return;
+        }
+
+        transactionTemplate.executeWithoutResult(status -> userOutboxPollingRelay.publishBatch(
+                userOutboxRepository.findAllByIdsAndStatusForUpdate(ids, OutboxStatus.PENDING), LocalDateTime.now()));
+    }
+
+    // claimed: 묶음 저장(flusher)과 대기 포기(send) 중 먼저 잡은 쪽만 진행
+    record PendingReply(OutboxRow row, CompletableFuture<Long> persisted, AtomicBoolean claimed) {
+
+        PendingReply(OutboxRow row, CompletableFuture<Long> persisted) {
+            this(row, persisted, new AtomicBoolean());
+        }
+
+    }
+
+}
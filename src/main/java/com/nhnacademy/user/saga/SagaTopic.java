@@ -47,4 +47,11 @@ public final class SagaTopic {
     public static final String COUPON_COMPENSATION_QUEUE = "team3.saga.coupon.rollback";
     public static final String ORDER_COMPENSATION_QUEUE = "team3.saga.rollback.reply";
 
+
+    // ==== 처리 실패 (DLX) ====
+
+    public static final String USER_DLX = "team3.user.dlx";
+    public static final String USER_DLQ = "team3.user.dlq";
+    public static final String USER_DLQ_RK = "fail.user";
+
 }
@@ -0,0 +1,185 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.saga;
+
+import com.nhnacademy.user.entity.saga.UserOutbox;
+import com.nhnacademy.user.properties.OutboxRetryProperties;
+import com.nhnacademy.user.repository.saga.UserOutboxRepository;
+import com.nhnacademy.user.saga.codec.EncodedPayload;
+import com.nhnacademy.user.saga.codec.JsonPayloadCodec;
+import com.nhnacademy.user.saga.codec.PayloadCodec;
+import com.nhnacademy.user.saga.codec.PayloadCodecs;
+import com.rabbitmq.client.AMQP;
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.GetResponse;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * DLQ(team3.user.dlq) 메시지를 Outbox 로 옮겨 원래 큐로 다시 보내는 재처리기
+ * <p>
+ * DLQ 에서 메시지를 배치 단위로 꺼내(basicGet, 수동 ACK) 원래 큐(x-death 의 queue)로 가는 Outbox 행으로 저장하고,
+ * 커밋한 뒤에 ACK 합니다. 저장한 행은 재처리 횟수에 따른 대기 시간 뒤로 다음 시도 시각을 잡아 두므로
+ * 재시도 릴레이(UserOutboxRetryRelay)가 시각 순서대로 발행합니다.
+ * <p>
+ * 다시 보낸 메시지가 또 DLQ 로 오면 재처리 횟수 헤더로 이어서 세고, deadLetterMaxReplays 를 넘으면 보내지 않고 FAILED 행으로
+ * 보관합니다 (관리자 재처리 대상).
+ */
+@RequiredArgsConstructor
+@Slf4j
+@Component
+public class UserDeadLetterReplayer {
+
+    // 재처리 횟수 헤더: 브로커는 클라이언트가 보낸 x-death 를 무시하므로 따로 실어 보냄
+    public static final String REPLAY_COUNT_HEADER = "x-user-replay-count";
+
+    static final String AGGREGATE_TYPE = "DEAD_LETTER";
+
+    private final RabbitTemplate rabbitTemplate;
+
+    private final UserOutboxRepository userOutboxRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final UserOutboxRetryBackoff userOutboxRetryBackoff;
+
+    private final OutboxRetryProperties outboxRetryProperties;
+
+    private final PayloadCodecs payloadCodecs;
+
+    private final AtomicBoolean replaying = new AtomicBoolean();
+
+    @Scheduled(fixedDelayString = "${outbox.retry.dead-letter-interval:30000}")
+    public void scheduledReplay() {
+        if (outboxRetryProperties.isEnabled() && outboxRetryProperties.isDeadLetterEnabled()) {
+            replay(Integer.MAX_VALUE);
+        }
+    }
+
+    /**
+     * DLQ 가 빌 때까지 (최대 limit 건) 메시지를 Outbox 로 옮기는 메소드
+     *
+     * @param limit 옮길 최대 메시지 수
+     * @return 옮긴 메시지 수 (FAILED 로 보관한 메시지 포함)
+     */
+    public int replay(int limit) {
+        if (!replaying.compareAndSet(false, true)) {
+            return 0;
+        }
+
+        try {
+            int moved = 0;
+
+            while (moved < limit) {
+                int size = Math.min(outboxRetryProperties.getDeadLetterBatchSize(), limit - moved);
+                Integer batch = rabbitTemplate.execute(channel -> moveBatch(channel, size));
+
+                if (batch == null || batch == 0) {
+                    break;
+                }
+
+                moved += batch;
+            }
+
+            if (moved > 0) {
+                log.info("[OutboxRetry] DLQ 메시지 {}건을 Outbox 로 옮김", moved);
+            }
+
+            return moved;
+        } finally {
+            replaying.set(false);
+        }
+    }
+
+    // 같은 채널에서 꺼낸 메시지를 한 트랜잭션에 저장하고, 커밋한 뒤에 한꺼번에 ACK (저장 실패면 모두 DLQ 로 되돌림)
+    private int moveBatch(Channel channel, int size) throws IOException {
+        List<GetResponse> messages = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++) {
+            GetResponse response = channel.basicGet(SagaTopic.USER_DLQ, false);
+            if (response == null) {
+                break;
+            }
+            messages.add(response);
+        }
+
+        if (messages.isEmpty()) {
+            return 0;
+        }
+
+        long lastTag = messages.getLast().getEnvelope().getDeliveryTag();
+        LocalDateTime now = LocalDateTime.now();
+
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    userOutboxRepository.saveAll(messages.stream().map(message -> toOutbox(message, now)).toList()));
+        } catch (RuntimeException e) {
+            channel.basicNack(lastTag, true, true);
+            throw e;
+        }
+
+        channel.basicAck(lastTag, true);
+        return messages.size();
+    }
+
+    UserOutbox toOutbox(GetResponse message, LocalDateTime now) {
+        AMQP.BasicProperties properties = message.getProps();
+        Map<String, Object> headers = properties.getHeaders() != null ? properties.getHeaders() : Map.of();
+
+        String contentType = properties.getContentType() != null
+                ? properties.getContentType() : JsonPayloadCodec.CONTENT_TYPE;
+        // 등록된 코덱 형식이면 코덱 기준으로 TEXT/BLOB 컬럼을 고르고, 모르는 형식은 text/* 만 텍스트로 저장
+        boolean textual = payloadCodecs.forContentType(properties.getContentType())
+                .map(PayloadCodec::textual)
+                .orElse(contentType.startsWith("text/"));
+        String originQueue = originQueue(headers);
+
+        // 기본 exchange 로 원래 큐에 바로 보냄, 원래 큐를 모르면 DLQ 로 돌아가게 저장하고 보관만 함
+        EncodedPayload payload = new EncodedPayload(contentType, message.getBody(), textual);
+        UserOutbox outbox = originQueue != null
+                ? new UserOutbox(null, AGGREGATE_TYPE, "", originQueue, payload)
+                : new UserOutbox(null, AGGREGATE_TYPE, SagaTopic.USER_DLX, SagaTopic.USER_DLQ_RK, payload);
+
+        int replays = headers.get(REPLAY_COUNT_HEADER) instanceof Number count ? count.intValue() : 0;
+
+        if (originQueue == null || replays >= outboxRetryProperties.getDeadLetterMaxReplays()) {
+            outbox.markAsFailed();
+            log.warn("[OutboxRetry] DLQ 메시지 재처리 중단, FAILED 로 보관 (queue: {}, 재처리 {}회)", originQueue, replays);
+        } else {
+            outbox.deferDeadLetter(replays + 1, userOutboxRetryBackoff.nextAttemptAt(replays + 1, now));
+        }
+
+        return outbox;
+    }
+
+    // 가장 최근에 메시지를 DLX 로 보낸 큐 (x-death 첫 항목)
+    private static String originQueue(Map<String, Object> headers) {
+        if (headers.get("x-death") instanceof List<?> deaths && !deaths.isEmpty()
+                && deaths.getFirst() instanceof Map<?, ?> death && death.get("queue") != null) {
+            return death.get("queue").toString();
+        }
+
+        return null;
+    }
+
+}
@@ -12,13 +12,26 @@
 
 package com.nhnacademy.user.saga;
 
+import com.nhnacademy.user.entity.saga.UserOutbox;
 import com.nhnacademy.user.exception.saga.ExternalServiceException;
+import com.nhnacademy.user.saga.codec.JsonPayloadCodec;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.amqp.core.AmqpTemplate;
+import org.springframework.amqp.AmqpException;
 import org.springframework.amqp.core.Message;
 import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
@@ -27,19 +40,18 @@ import org.springframework.stereotype.Service;
 @Service
 public class UserEventPublisher {
 
+    // Lombok 생성자에는 @Qualifier 가 복사되지 않으므로 필드 이름을 빈 이름과 맞춰 둠
     @Qualifier("outboxRabbitTemplate")
-    private final AmqpTemplate rabbitTemplate;
+    private final RabbitTemplate outboxRabbitTemplate;
 
     public void publishUserOutboxMessage(String topic, String routingKey, String payload) {
-        try {
-            byte[] body = payload.getBytes(StandardCharsets.UTF_8);
-
-            MessageProperties properties = new MessageProperties();
-            properties.setContentType(MessageProperties.CONTENT_TYPE_JSON); // 👈 핵심 수정
-            properties.setContentEncoding("UTF-8");
-            Message message = new Message(body);
+        publishUserOutboxMessage(topic, routingKey, payload.getBytes(StandardCharsets.UTF_8),
+                JsonPayloadCodec.CONTENT_TYPE);
+    }
 
-            rabbitTemplate.send(topic, routingKey, message); // 직렬화 해서 생으로 보냄
+    public void publishUserOutboxMessage(String topic, String routingKey, byte[] body, String contentType) {
+        try {
+            outboxRabbitTemplate.send(topic, routingKey, toMessage(body, contentType)); // 직렬화 해서 생으로 보냄
 
             log.info("[User API] ===== 메세지 발송됨 =====");
             log.info("[User API] Routing Key : {}", routingKey);
@@ -50,4 +62,123 @@ public class UserEventPublisher {
         }
     }
 
+    /**
+     * Outbox 행 여러 건을 연달아 보낸 뒤 publisher confirm 을 한꺼번에 기다리는 메소드
+     * <p>
+     * 메시지마다 Outbox ID 를 CorrelationData 로 붙여 보내므로, 브로커의 ACK/NACK 을 행 단위로 구분할 수 있습니다.
+     * 전송 중 예외가 나면 남은 행은 보내지 않고 실패로 돌려줍니다.
+     *
+     * @param outboxes       발행할 Outbox 행 (발행 순서)
+     * @param confirmTimeout 배치 전체의 confirm 대기 시간
+     * @return ACK 받은 ID 와 그 외(NACK, 타임아웃, 전송 실패) ID
+     */
+    public OutboxPublishResult publishConfirmed(List<UserOutbox> outboxes, Duration confirmTimeout) {
+        Map<Long, CorrelationData> sent = new LinkedHashMap<>();
+        List<Long> failedIds = new ArrayList<>();
+
+        for (UserOutbox outbox : outboxes) {
+            if (!failedIds.isEmpty()) {
+                failedIds.add(outbox.getId());
+                continue;
+            }
+
+            CorrelationData correlationData = new CorrelationData(String.valueOf(outbox.getId()));
+
+            try {
+                outboxRabbitTemplate.send(outbox.getTopic(), outbox.getRoutingKey(), toMessage(outbox),
+                        correlationData);
+                sent.put(outbox.getId(), correlationData);
+            } catch (AmqpException e) {
+                log.warn("[User API] 메세지 발행 실패 OutboxID : {} ({})", outbox.getId(), e.getMessage());
+                failedIds.add(outbox.getId());
+            }
+        }
+
+        long deadline = System.nanoTime() + confirmTimeout.toNanos();
+        List<Long> ackedIds = new ArrayList<>(sent.size());
+
+        for (Map.Entry<Long, CorrelationData> entry : sent.entrySet()) {
+            if (isAcked(entry.getValue(), deadline)) {
+                ackedIds.add(entry.getKey());
+            } else {
+                failedIds.add(entry.getKey());
+            }
+        }
+
+        return new OutboxPublishResult(ackedIds, failedIds);
+    }
+
+    /**
+     * confirm 을 기다리지 않고 보내는 메소드 - 채널마다 여러 메시지가 동시에 confirm 대기 상태로 남음
+     *
+     * @param outboxId   CorrelationData 로 붙일 Outbox ID
+     * @param topic      exchange 이름
+     * @param routingKey 라우팅 키
+     * @param contentType 메시지 본문 형식 (content_type 헤더)
+     * @param body       메시지 본문
+     * @return 브로커가 ACK 하면 true, NACK 이면 false 로 완료되는 future (전송 실패 시 예외로 완료)
+     */
+    public CompletableFuture<Boolean> publishAsync(Long outboxId, String topic, String routingKey, String contentType,
+                                                   byte[] body) {
+        CorrelationData correlationData = new CorrelationData(String.valueOf(outboxId));
+
+        try {
+            outboxRabbitTemplate.send(topic, routingKey, toMessage(body, contentType), correlationData);
+        } catch (AmqpException e) {
+            log.warn("[User API] 메세지 발행 실패 OutboxID : {} ({})", outboxId, e.getMessage());
+            return CompletableFuture.failedFuture(e);
+        }
+
+        return correlationData.getFuture().thenApply(confirm -> {
+            if (!confirm.isAck()) {
+                log.warn("[User API] 브로커 NACK OutboxID : {} ({})", outboxId, confirm.getReason());
+            }
+
+            return confirm.isAck();
+        });
+    }
+
+    // 본문 형식을 content_type 헤더로 실어 보냄 (받는 쪽은 헤더를 보고 코덱을 고름)
+    // DLQ 에서 되살린 행은 재처리 횟수를 헤더로 실어 다시 DLQ 로 오면 이어서 셈 (브로커는 클라이언트가 보낸 x-death 를 무시)
+    private static Message toMessage(UserOutbox outbox) {
+        Message message = toMessage(outbox.body(), outbox.getContentType());
+
+        if (outbox.getDeadLetterReplays() > 0) {
+            message.getMessageProperties().setHeader(UserDeadLetterReplayer.REPLAY_COUNT_HEADER,
+                    outbox.getDeadLetterReplays());
+        }
+
+        return message;
+    }
+
+    private static Message toMessage(byte[] body, String contentType) {
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(contentType);
+
+        if (contentType.startsWith(JsonPayloadCodec.CONTENT_TYPE)) {
+            properties.setContentEncoding(StandardCharsets.UTF_8.name());
+        }
+
+        return new Message(body, properties);
+    }
+
+    private boolean isAcked(CorrelationData correlationData, long deadline) {
+        try {
+            long remaining = Math.max(0L, deadline - System.nanoTime());
+            CorrelationData.Confirm confirm = correlationData.getFuture().get(remaining, TimeUnit.NANOSECONDS);
+
+            if (!confirm.isAck()) {
+                log.warn("[User API] 브로커 NACK OutboxID : {} ({})", correlationData.getId(), confirm.getReason());
+            }
+
+            return confirm.isAck();
+        } catch (TimeoutException | ExecutionException e) {
+            log.warn("[User API] publisher confirm 대기 실패 OutboxID : {}", correlationData.getId());
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
 }
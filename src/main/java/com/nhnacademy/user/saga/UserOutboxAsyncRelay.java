@@ -0,0 +1,154 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.saga;
+
+import com.nhnacademy.user.entity.saga.OutboxStatus;
+import com.nhnacademy.user.properties.OutboxRelayProperties;
+import com.nhnacademy.user.repository.saga.UserOutboxRepository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 커밋 직후 릴레이의 비동기 confirm 방식 (outbox.relay.async-confirm=true)
+ * <p>
+ * 메시지를 보낸 뒤 confirm 을 기다리지 않고 바로 반환하므로, 채널마다 여러 메시지가 동시에 confirm 대기 상태로 남습니다.
+ * 브로커의 ACK/NACK 은 CorrelationData 의 Outbox ID 로 구분해 모아 두었다가, 주기적으로 UPDATE 한 번씩 배치로 반영합니다.
+ * <p>
+ * 상태 반영 전에 프로세스가 죽거나 confirm 이 오지 않은 행은 PENDING 으로 남아 폴링 릴레이가 다시 발행합니다. (최소 한 번 발행)
+ */
+@RequiredArgsConstructor
+@Slf4j
+@Component
+public class UserOutboxAsyncRelay {
+
+    // 상태 UPDATE 한 번에 담을 Outbox ID 수
+    private static final int IDS_PER_UPDATE = 500;
+
+    private final UserEventPublisher userEventPublisher;
+
+    private final UserOutboxRepository userOutboxRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final OutboxRelayProperties outboxRelayProperties;
+
+    private final UserOutboxRetryBackoff userOutboxRetryBackoff;
+
+    private final Queue<Long> ackedIds = new ConcurrentLinkedQueue<>();
+
+    private final Queue<Long> failedIds = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private final AtomicBoolean flushing = new AtomicBoolean();
+
+    /**
+     * confirm 을 기다리지 않고 발행하는 메소드
+     *
+     * @param event 커밋된 Outbox 행의 ID 와 메시지 내용
+     * @return 보냈으면 true, 메시지 내용이 없거나 confirm 대기 수가 한도를 넘으면 false
+     */
+    public boolean publish(UserOutboxCommittedEvent event) {
+        if (event.getBody() == null) {
+            return false;
+        }
+
+        if (inFlight.incrementAndGet() > outboxRelayProperties.getMaxInFlight()) {
+            inFlight.decrementAndGet();
+            log.debug("[OutboxRelay] confirm 대기 한도 초과 OutboxID : {}", event.getOutboxId());
+            return false;
+        }
+
+        Long outboxId = event.getOutboxId();
+
+        userEventPublisher.publishAsync(outboxId, event.getTopic(), event.getRoutingKey(), event.getContentType(),
+                        event.getBody())
+                .whenComplete((acked, e) -> {
+                    inFlight.decrementAndGet();
+                    (Boolean.TRUE.equals(acked) ? ackedIds : failedIds).add(outboxId);
+                });
+
+        return true;
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay.confirm-flush-interval:100}")
+    public void scheduledFlush() {
+        if (outboxRelayProperties.isAsyncConfirm()) {
+            flush();
+        }
+    }
+
+    /**
+     * 지금까지 모인 ACK/NACK 을 배치로 반영하는 메소드
+     *
+     * @return PUBLISHED 로 표시한 행 수
+     */
+    public int flush() {
+        if (!flushing.compareAndSet(false, true)) {
+            return 0;
+        }
+
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            int published = 0;
+
+            for (List<Long> ids = drain(ackedIds); !ids.isEmpty(); ids = drain(ackedIds)) {
+                List<Long> chunk = ids;
+                transactionTemplate.executeWithoutResult(status ->
+                        userOutboxRepository.updateStatus(chunk, OutboxStatus.PUBLISHED, now));
+                published += chunk.size();
+            }
+
+            for (List<Long> ids = drain(failedIds); !ids.isEmpty(); ids = drain(failedIds)) {
+                List<Long> chunk = ids;
+                transactionTemplate.executeWithoutResult(status -> userOutboxRetryBackoff.recordFailures(chunk, now));
+                log.warn("[OutboxRelay] 비동기 발행 실패 {}건 (재시도 릴레이가 대기 후 발행)", chunk.size());
+            }
+
+            return published;
+        } catch (RuntimeException e) {
+            // 반영하지 못한 행은 PENDING 으로 남아 폴링 릴레이가 다시 발행
+            log.warn("[OutboxRelay] confirm 결과 반영 실패: {}", e.getMessage());
+            return 0;
+        } finally {
+            flushing.set(false);
+        }
+    }
+
+    // 현재 confirm 을 기다리는 메시지 수
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private List<Long> drain(Queue<Long> queue) {
+        List<Long> ids = new ArrayList<>();
+        Long id;
+
+        while (ids.size() < IDS_PER_UPDATE && (id = queue.poll()) != null) {
+            ids.add(id);
+        }
+
+        return ids;
+    }
+
+}
@@ -12,6 +12,7 @@
 
 package com.nhnacademy.user.saga;
 
+import com.nhnacademy.user.entity.saga.UserOutbox;
 import lombok.Getter;
 import org.springframework.context.ApplicationEvent;
 
@@ -19,9 +20,28 @@ import org.springframework.context.ApplicationEvent;
 public class UserOutboxCommittedEvent extends ApplicationEvent {
     private final Long outboxId;
 
+    // 비동기 confirm 릴레이가 행을 다시 읽지 않고 바로 발행할 수 있도록 메시지 내용도 함께 전달 (없으면 null)
+    private final String topic;
+    private final String routingKey;
+    private final String contentType;
+    private final byte[] body;
+
     public UserOutboxCommittedEvent(Object source, Long outboxId) {
+        this(source, outboxId, null, null, null, null);
+    }
+
+    public UserOutboxCommittedEvent(Object source, UserOutbox outbox) {
+        this(source, outbox.getId(), outbox.getTopic(), outbox.getRoutingKey(), outbox.getContentType(), outbox.body());
+    }
+
+    public UserOutboxCommittedEvent(Object source, Long outboxId, String topic, String routingKey, String contentType,
+                                    byte[] body) {
         super(source);
         this.outboxId = outboxId;
+        this.topic = topic;
+        this.routingKey = routingKey;
+        this.contentType = contentType;
+        this.body = body;
     }
 
 }
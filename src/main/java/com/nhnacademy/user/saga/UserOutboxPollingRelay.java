@@ -0,0 +1,139 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.saga;
+
+import com.nhnacademy.user.entity.saga.OutboxStatus;
+import com.nhnacademy.user.entity.saga.UserOutbox;
+import com.nhnacademy.user.properties.OutboxRelayProperties;
+import com.nhnacademy.user.repository.saga.UserOutboxRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * user_outbox 테이블을 주기적으로 훑어서 남은 발행 대기 행을 발행하는 릴레이
+ * <p>
+ * 커밋 직후 릴레이(UserOutboxRelayManager)는 같은 프로세스의 이벤트로만 동작하므로, 프로세스가 죽거나 발행이 실패한 행은
+ * 이 릴레이가 이어받습니다. 배치 단위로 SKIP LOCKED 로 행을 잡아서 연달아 보내고 publisher confirm 을 한꺼번에 기다린 뒤,
+ * ACK 받은 행은 UPDATE 한 번으로 PUBLISHED 표시합니다. 잡은 행은 커밋 전까지 다른 인스턴스와 커밋 직후 릴레이가 건너뜁니다.
+ * <p>
+ * 발행에 실패한 행은 다음 시도 시각을 기록해 두고 재시도 릴레이(UserOutboxRetryRelay)에 넘깁니다.
+ */
+@RequiredArgsConstructor
+@Slf4j
+@Component
+public class UserOutboxPollingRelay {
+
+    private final UserOutboxRepository userOutboxRepository;
+
+    private final UserEventPublisher userEventPublisher;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final OutboxRelayProperties outboxRelayProperties;
+
+    private final UserOutboxRetryBackoff userOutboxRetryBackoff;
+
+    private final AtomicBoolean relaying = new AtomicBoolean();
+
+    @Scheduled(fixedDelayString = "${outbox.relay.poll-interval:1000}")
+    public void scheduledRelay() {
+        if (outboxRelayProperties.isEnabled()) {
+            relay();
+        }
+    }
+
+    /**
+     * 발행 대기 행이 없거나 발행 실패가 날 때까지 배치 단위로 발행하는 메소드
+     *
+     * @return PUBLISHED 로 표시한 행 수
+     */
+    public int relay() {
+        if (!relaying.compareAndSet(false, true)) {
+            return 0;
+        }
+
+        try {
+            int published = 0;
+
+            while (true) {
+                OutboxPublishResult result = transactionTemplate.execute(status -> relayBatch());
+
+                if (result == null) {
+                    break;
+                }
+
+                published += result.ackedIds().size();
+
+                // 브로커 장애 중에는 같은 행을 바로 다시 잡지 않도록 다음 주기로 넘김
+                if (!result.failedIds().isEmpty()
+                        || result.ackedIds().size() < outboxRelayProperties.getBatchSize()) {
+                    break;
+                }
+            }
+
+            if (published > 0) {
+                log.debug("[OutboxRelay] 폴링 릴레이 발행: {}건", published);
+            }
+
+            return published;
+        } finally {
+            relaying.set(false);
+        }
+    }
+
+    // 배치 하나 발행, 가져온 행이 없으면 null
+    private OutboxPublishResult relayBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<UserOutbox> batch = userOutboxRepository.findBatchForUpdate(OutboxStatus.PENDING,
+                now.minus(outboxRelayProperties.getMinAge()), Limit.of(outboxRelayProperties.getBatchSize()));
+
+        if (batch.isEmpty()) {
+            return null;
+        }
+
+        return publishBatch(batch, now);
+    }
+
+    /**
+     * 잡아 둔 Outbox 행을 confirm 방식으로 발행하고 결과를 UPDATE 로 반영하는 메소드 (호출한 트랜잭션 안에서 실행)
+     *
+     * @param batch 현재 트랜잭션이 잠근 발행 대기 행
+     * @param now   상태 변경 시각
+     * @return ACK 받은 ID 와 그 외 ID
+     */
+    public OutboxPublishResult publishBatch(List<UserOutbox> batch, LocalDateTime now) {
+        OutboxPublishResult result = userEventPublisher.publishConfirmed(batch,
+                outboxRelayProperties.getConfirmTimeout());
+
+        if (!result.ackedIds().isEmpty()) {
+            userOutboxRepository.updateStatus(result.ackedIds(), OutboxStatus.PUBLISHED, now);
+        }
+
+        if (!result.failedIds().isEmpty()) {
+            int failed = userOutboxRetryBackoff.recordFailures(result.failedIds(), now);
+
+            log.warn("[OutboxRelay] 발행 실패 {}건 (재시도 횟수 초과로 FAILED: {}건, 나머지는 재시도 릴레이가 대기 후 발행)",
+                    result.failedIds().size(), failed);
+        }
+
+        return result;
+    }
+
+}
@@ -12,6 +12,7 @@
 
 package com.nhnacademy.user.saga;
 
+import com.nhnacademy.user.properties.OutboxRelayProperties;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.event.TransactionPhase;
@@ -22,10 +23,18 @@ import org.springframework.transaction.event.TransactionalEventListener;
 public class UserOutboxRelayManager {
 
     private final UserOutboxRelayProcessor userOutboxRelayProcessor;
+    private final UserOutboxAsyncRelay userOutboxAsyncRelay;
+    private final OutboxRelayProperties outboxRelayProperties;
 
     // PaymentEventListener가 커밋된 이후 실행됨
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void handleOutboxCommitted(UserOutboxCommittedEvent event) {
+        // 비동기 confirm 방식: 보내고 바로 반환, 상태는 confirm 이 오면 배치로 반영
+        if (outboxRelayProperties.isAsyncConfirm() && userOutboxAsyncRelay.publish(event)) {
+            return;
+        }
+
+        // 기본 방식 (confirm 대기 한도를 넘겨도 여기로): 행마다 REQUIRES_NEW 트랜잭션에서 발행
         userOutboxRelayProcessor.processRelay(event.getOutboxId());
     }
 
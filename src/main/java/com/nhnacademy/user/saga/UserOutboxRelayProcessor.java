@@ -12,9 +12,12 @@
 
 package com.nhnacademy.user.saga;
 
+import com.nhnacademy.user.entity.saga.OutboxStatus;
 import com.nhnacademy.user.entity.saga.UserOutbox;
 import com.nhnacademy.user.exception.saga.ExternalServiceException;
+import com.nhnacademy.user.properties.OutboxRelayProperties;
 import com.nhnacademy.user.repository.saga.UserOutboxRepository;
+import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -28,26 +31,37 @@ public class UserOutboxRelayProcessor {
 
     private final UserEventPublisher userEventPublisher;
     private final UserOutboxRepository userOutboxRepository;
+    private final UserOutboxRetryBackoff userOutboxRetryBackoff;
+    private final OutboxRelayProperties outboxRelayProperties;
 
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    // 발행 실패 예외는 호출한 쪽으로 그대로 던지되, 재시도 기록은 롤백하지 않고 커밋
+    @Transactional(propagation = Propagation.REQUIRES_NEW, noRollbackFor = ExternalServiceException.class)
     public void processRelay(Long outboxId) {
 
-        UserOutbox outbox = userOutboxRepository.findById(outboxId).orElseThrow();
-        // <<<<<< 예외처리
+        // 폴링 릴레이가 이미 발행했거나 잡고 있는 행은 건너뜀 (중복 발행 방지)
+        UserOutbox outbox = userOutboxRepository.findByIdAndStatusForUpdate(outboxId, OutboxStatus.PENDING)
+                .orElse(null);
+
+        if (outbox == null) {
+            log.info("[User API] 이미 처리 중이거나 발행된 Outbox OutboxID : {}", outboxId);
+            return;
+        }
 
         try {
             userEventPublisher.publishUserOutboxMessage(
                     outbox.getTopic(),
                     outbox.getRoutingKey(),
-                    outbox.getPayload()
+                    outbox.body(),
+                    outbox.getContentType()
             );
             log.info("[User API] Order ID : {}", outbox.getAggregateId());
             outbox.markAsPublished();
             userOutboxRepository.save(outbox);
 
-        } catch (ExternalServiceException e) { // 실패시 재시도 및 롤백
-            if (outbox.getRetryCount() < 3) {
-                outbox.incrementRetryCount();
+        } catch (ExternalServiceException e) { // 실패시 다음 시도 시각을 잡아 재시도 릴레이에 넘김
+            if (outbox.getRetryCount() < outboxRelayProperties.getMaxRetries()) {
+                outbox.scheduleRetry(userOutboxRetryBackoff.nextAttemptAt(outbox.getRetryCount() + 1,
+                        LocalDateTime.now()));
                 userOutboxRepository.save(outbox); // DB에 업데이트
             } else {
                 outbox.markAsFailed();
@@ -55,7 +69,7 @@ public class UserOutboxRelayProcessor {
                 log.error("[User API] Outbox 메세지 최종 발행 실패 OutboxID : {}", outboxId);
             }
 
-            throw e; // 예외 던져서 롤백 유도
+            throw e;
         }
     }
 
@@ -0,0 +1,207 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.saga;
+
+import com.nhnacademy.user.config.SchedulingConfig;
+import com.nhnacademy.user.properties.OutboxRetentionProperties;
+import com.nhnacademy.user.repository.saga.UserOutboxRepository;
+import com.nhnacademy.user.repository.saga.jdbc.OutboxPartition;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 발행 완료된 Outbox 행 정리
+ * <p>
+ * 보관 기간이 지난 PUBLISHED 행을 (status, createdAt) 인덱스 순서로 청크 단위로 읽어, 청크마다 짧은 트랜잭션에서 삭제합니다.
+ * PENDING, FAILED 행은 지우지 않습니다.
+ * <p>
+ * outbox.retention.partitioned=true 이면 user_outbox 가 RANGE (TO_DAYS(createdAt)) 일 단위 파티션 테이블이라고 보고,
+ * 경계가 보관 기간 이전인 파티션을 DROP PARTITION 으로 통째로 버리고 앞날 파티션을 미리 만듭니다.
+ * 발행 완료되지 않은 행이 남은 파티션은 버리지 않고 청크 삭제에 맡깁니다.
+ * (파티션 테이블 전환은 PK 에 createdAt 을 포함해야 하므로 DDL 로 따로 적용)
+ * <p>
+ * 지표: outbox.retention.deleted (삭제 행 누적), outbox.retention.rate (마지막 실행의 초당 삭제 행 수),
+ * outbox.table.rows / outbox.table.bytes (information_schema 기준 테이블 크기)
+ */
+@Slf4j
+@Component
+public class UserOutboxRetention {
+
+    private final UserOutboxRepository userOutboxRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final OutboxRetentionProperties outboxRetentionProperties;
+
+    private final Counter deletedCounter;
+
+    private final AtomicLong lastRate = new AtomicLong();
+
+    private final AtomicLong tableRows = new AtomicLong(-1);
+
+    private final AtomicLong tableBytes = new AtomicLong(-1);
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public UserOutboxRetention(UserOutboxRepository userOutboxRepository, TransactionTemplate transactionTemplate,
+                               OutboxRetentionProperties outboxRetentionProperties, MeterRegistry meterRegistry) {
+        this.userOutboxRepository = userOutboxRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.outboxRetentionProperties = outboxRetentionProperties;
+
+        this.deletedCounter = Counter.builder("outbox.retention.deleted")
+                .description("정리한 발행 완료 Outbox 행 수")
+                .register(meterRegistry);
+        Gauge.builder("outbox.retention.rate", lastRate, AtomicLong::get)
+                .description("마지막 정리 실행의 초당 삭제 행 수")
+                .register(meterRegistry);
+        Gauge.builder("outbox.table.rows", tableRows, AtomicLong::get)
+                .description("user_outbox 행 수 (추정치)")
+                .register(meterRegistry);
+        Gauge.builder("outbox.table.bytes", tableBytes, AtomicLong::get)
+                .description("user_outbox 데이터 + 인덱스 크기")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${outbox.retention.cron:0 20 * * * *}", scheduler = SchedulingConfig.BATCH_SCHEDULER)
+    public void scheduledPrune() {
+        if (outboxRetentionProperties.isEnabled()) {
+            prune();
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 발행 완료 행을 정리하는 메소드
+     *
+     * @return 삭제한 행 수 (버린 파티션의 행 포함)
+     */
+    public long prune() {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("[OutboxRetention] 이미 Outbox 정리가 진행 중입니다.");
+            return 0;
+        }
+
+        try {
+            long begin = System.nanoTime();
+            LocalDateTime cutoff = LocalDateTime.now().minus(outboxRetentionProperties.getRetention());
+
+            long deleted = outboxRetentionProperties.isPartitioned() ? rotatePartitions(cutoff) : 0L;
+            deleted += deleteChunks(cutoff);
+
+            long elapsedNanos = Math.max(1L, System.nanoTime() - begin);
+            lastRate.set(deleted * 1_000_000_000L / elapsedNanos);
+            deletedCounter.increment(deleted);
+            refreshTableSize();
+
+            log.info("[OutboxRetention] Outbox 정리 완료: {}건 (기준 시각: {}, 초당 {}건)", deleted, cutoff, lastRate.get());
+
+            return deleted;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private long deleteChunks(LocalDateTime cutoff) {
+        int chunkSize = outboxRetentionProperties.getChunkSize();
+        long deleted = 0;
+
+        while (true) {
+            List<Long> ids = userOutboxRepository.findPublishedIdsBefore(cutoff, Limit.of(chunkSize));
+
+            if (ids.isEmpty()) {
+                break;
+            }
+
+            transactionTemplate.executeWithoutResult(status -> userOutboxRepository.deleteAllByIdInBatch(ids));
+            deleted += ids.size();
+
+            if (ids.size() < chunkSize) {
+                break;
+            }
+        }
+
+        return deleted;
+    }
+
+    // 경계가 기준 시각 이전인 파티션을 버리고, 오늘부터 partitionsAhead 일 뒤까지 파티션을 만들어 둠
+    private long rotatePartitions(LocalDateTime cutoff) {
+        List<OutboxPartition> partitions = userOutboxRepository.findPartitions();
+
+        if (partitions.isEmpty()) {
+            log.warn("[OutboxRetention] user_outbox 가 파티션 테이블이 아니어서 청크 삭제만 수행합니다.");
+            return 0L;
+        }
+
+        long dropped = 0;
+        LocalDate lastLessThan = null;
+
+        for (OutboxPartition partition : partitions) {
+            if (partition.lessThan() == null) {
+                continue;
+            }
+
+            lastLessThan = partition.lessThan();
+
+            if (partition.lessThan().atStartOfDay().isAfter(cutoff)) {
+                continue;
+            }
+
+            if (userOutboxRepository.countUnpublished(partition.name()) > 0) {
+                log.warn("[OutboxRetention] 발행 완료되지 않은 행이 남은 파티션은 유지: {}", partition.name());
+                continue;
+            }
+
+            long rows = userOutboxRepository.countRows(partition.name());
+            userOutboxRepository.dropPartition(partition.name());
+            dropped += rows;
+
+            log.info("[OutboxRetention] 파티션 삭제: {} ({}건)", partition.name(), rows);
+        }
+
+        LocalDate until = LocalDate.now().plusDays(outboxRetentionProperties.getPartitionsAhead() + 1L);
+        LocalDate next = lastLessThan != null ? lastLessThan.plusDays(1) : LocalDate.now().plusDays(1);
+        List<LocalDate> lessThanDates = new ArrayList<>();
+
+        for (LocalDate lessThan = next; !lessThan.isAfter(until); lessThan = lessThan.plusDays(1)) {
+            lessThanDates.add(lessThan);
+        }
+
+        if (!lessThanDates.isEmpty()) {
+            userOutboxRepository.addPartitions(lessThanDates);
+            log.info("[OutboxRetention] 파티션 추가: {}개 (마지막 경계: {})", lessThanDates.size(), lessThanDates.getLast());
+        }
+
+        return dropped;
+    }
+
+    private void refreshTableSize() {
+        userOutboxRepository.findTableSize().ifPresent(size -> {
+            tableRows.set(size.rows());
+            tableBytes.set(size.bytes());
+        });
+    }
+
+}
@@ -0,0 +1,79 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.saga;
+
+import com.nhnacademy.user.properties.OutboxRelayProperties;
+import com.nhnacademy.user.properties.OutboxRetryProperties;
+import com.nhnacademy.user.repository.saga.UserOutboxRepository;
+import com.nhnacademy.user.repository.saga.projection.OutboxRetryState;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Outbox 발행 실패 행의 다음 시도 시각 계산과 기록
+ * <p>
+ * n 번째 재시도는 initialBackoff * multiplier^(n-1) (maxBackoff 상한) 에서 jitter 비율만큼 무작위로 줄인 시간 뒤에 시도합니다.
+ * 브로커 장애로 한꺼번에 실패한 행이 같은 시각에 다시 몰리지 않도록 행마다 따로 계산합니다.
+ * 재시도 횟수를 다 쓴 행은 FAILED 로 표시하고 관리자 재처리 전까지 발행하지 않습니다.
+ */
+@RequiredArgsConstructor
+@Component
+public class UserOutboxRetryBackoff {
+
+    private final UserOutboxRepository userOutboxRepository;
+
+    private final OutboxRelayProperties outboxRelayProperties;
+
+    private final OutboxRetryProperties outboxRetryProperties;
+
+    /**
+     * 발행에 실패한 행을 FAILED 로 표시하거나 다음 시도 시각을 기록하는 메소드 (호출한 트랜잭션 안에서 실행)
+     *
+     * @param failedIds 발행에 실패한 Outbox ID
+     * @param now       상태 변경 시각
+     * @return 재시도 횟수를 다 써서 FAILED 로 표시한 행 수
+     */
+    public int recordFailures(List<Long> failedIds, LocalDateTime now) {
+        int failed = userOutboxRepository.markFailedOverRetries(failedIds, outboxRelayProperties.getMaxRetries(), now);
+
+        Map<Long, LocalDateTime> nextAttemptAts = new LinkedHashMap<>();
+        for (OutboxRetryState state : userOutboxRepository.findRetryStates(failedIds)) {
+            nextAttemptAts.put(state.id(), nextAttemptAt(state.retryCount() + 1, now));
+        }
+
+        userOutboxRepository.scheduleRetries(nextAttemptAts, now);
+
+        return failed;
+    }
+
+    // attempt 번째 재시도 시각
+    public LocalDateTime nextAttemptAt(int attempt, LocalDateTime now) {
+        return now.plus(delay(attempt));
+    }
+
+    Duration delay(int attempt) {
+        double base = outboxRetryProperties.getInitialBackoff().toMillis()
+                * Math.pow(outboxRetryProperties.getMultiplier(), Math.max(0, attempt - 1));
+        double capped = Math.min(base, outboxRetryProperties.getMaxBackoff().toMillis());
+        double jitter = Math.clamp(outboxRetryProperties.getJitter(), 0.0, 1.0);
+
+        return Duration.ofMillis((long) (capped * (1.0 - jitter * ThreadLocalRandom.current().nextDouble())));
+    }
+
+}
@@ -0,0 +1,139 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.saga;
+
+import com.nhnacademy.user.entity.saga.UserOutbox;
+import com.nhnacademy.user.properties.OutboxRetryProperties;
+import com.nhnacademy.user.repository.saga.UserOutboxRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 발행에 실패한 Outbox 행을 다음 시도 시각 순서대로 다시 발행하는 릴레이
+ * <p>
+ * 다음 시도 시각(nextAttemptAt)이 지난 PENDING 행을 (status, nextAttemptAt) 인덱스 순서로 배치 단위로 SKIP LOCKED 로 잡아
+ * 폴링 릴레이와 같은 방식(confirm 을 한꺼번에 대기, UPDATE 한 번)으로 발행합니다. 또 실패한 행은 UserOutboxRetryBackoff 가
+ * 더 늦은 시각으로 미룹니다.
+ * <p>
+ * 재시도를 다 쓴 FAILED 행은 관리자 요청(replayFailed)이 있을 때만 재시도 횟수를 0 으로 되돌려 다시 발행합니다.
+ */
+@RequiredArgsConstructor
+@Slf4j
+@Component
+public class UserOutboxRetryRelay {
+
+    private final UserOutboxRepository userOutboxRepository;
+
+    private final UserOutboxPollingRelay userOutboxPollingRelay;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final OutboxRetryProperties outboxRetryProperties;
+
+    private final AtomicBoolean relaying = new AtomicBoolean();
+
+    @Scheduled(fixedDelayString = "${outbox.retry.poll-interval:1000}")
+    public void scheduledRetry() {
+        if (outboxRetryProperties.isEnabled()) {
+            retryDue();
+        }
+    }
+
+    /**
+     * 다음 시도 시각이 지난 행이 없거나 발행 실패가 날 때까지 배치 단위로 다시 발행하는 메소드
+     *
+     * @return PUBLISHED 로 표시한 행 수
+     */
+    public int retryDue() {
+        if (!relaying.compareAndSet(false, true)) {
+            return 0;
+        }
+
+        try {
+            int published = 0;
+
+            while (true) {
+                OutboxPublishResult result = transactionTemplate.execute(status -> retryBatch());
+
+                if (result == null) {
+                    break;
+                }
+
+                published += result.ackedIds().size();
+
+                // 브로커 장애 중이면 실패한 행은 이미 뒤로 미뤘으므로 다음 주기에 남은 행을 이어서 처리
+                if (!result.failedIds().isEmpty() || result.ackedIds().size() < outboxRetryProperties.getBatchSize()) {
+                    break;
+                }
+            }
+
+            if (published > 0) {
+                log.info("[OutboxRetry] 재시도 발행: {}건", published);
+            }
+
+            return published;
+        } finally {
+            relaying.set(false);
+        }
+    }
+
+    // 배치 하나 재발행, 가져온 행이 없으면 null
+    private OutboxPublishResult retryBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<UserOutbox> batch = userOutboxRepository.findDueRetriesForUpdate(now,
+                Limit.of(outboxRetryProperties.getBatchSize()));
+
+        if (batch.isEmpty()) {
+            return null;
+        }
+
+        return userOutboxPollingRelay.publishBatch(batch, now);
+    }
+
+    /**
+     * FAILED 행을 청크 단위로 PENDING 으로 되돌려 재시도 릴레이가 바로 발행하게 하는 메소드 (관리자 재처리)
+     *
+     * @param limit 되돌릴 최대 행 수
+     * @return 되돌린 행 수
+     */
+    public int replayFailed(int limit) {
+        int replayed = 0;
+
+        while (replayed < limit) {
+            int size = Math.min(outboxRetryProperties.getReplayChunkSize(), limit - replayed);
+
+            Integer chunk = transactionTemplate.execute(status -> {
+                List<Long> ids = userOutboxRepository.findFailedIds(Limit.of(size));
+                return ids.isEmpty() ? 0 : userOutboxRepository.replayFailed(ids, LocalDateTime.now());
+            });
+
+            if (chunk == null || chunk == 0) {
+                break;
+            }
+
+            replayed += chunk;
+        }
+
+        log.info("[OutboxRetry] FAILED 행 재처리 요청: {}건", replayed);
+
+        return replayed;
+    }
+
+}
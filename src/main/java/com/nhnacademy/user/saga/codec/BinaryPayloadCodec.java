@@ -0,0 +1,199 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.saga.codec;
+
+import com.nhnacademy.user.exception.saga.FailedSerializationException;
+import com.nhnacademy.user.saga.event.SagaReply;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.BufferUnderflowException;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import org.springframework.stereotype.Component;
+
+/**
+ * Saga 응답 전용 바이너리 코덱 (스키마 고정, 필드 이름 없이 순서대로 기록)
+ * <p>
+ * 형식: [버전 1B][플래그 1B][eventId][orderId][serviceName][reason]
+ * <ul>
+ *     <li>플래그: success, 필드별 존재 여부, eventId 가 UUID 형식인지</li>
+ *     <li>eventId: UUID 형식이면 16바이트, 아니면 길이(varint) + UTF-8</li>
+ *     <li>orderId: zigzag varint</li>
+ *     <li>serviceName, reason: 길이(varint) + UTF-8</li>
+ * </ul>
+ * 필드를 바꾸면 버전을 올리고, 받는 쪽은 content_type 의 버전으로 구분합니다.
+ */
+@Component
+public class BinaryPayloadCodec implements PayloadCodec {
+
+    public static final String NAME = "binary";
+
+    public static final String CONTENT_TYPE = "application/x-saga-reply-v1";
+
+    private static final byte VERSION = 1;
+
+    private static final int SUCCESS = 1;
+    private static final int HAS_EVENT_ID = 1 << 1;
+    private static final int UUID_EVENT_ID = 1 << 2;
+    private static final int HAS_ORDER_ID = 1 << 3;
+    private static final int HAS_SERVICE_NAME = 1 << 4;
+    private static final int HAS_REASON = 1 << 5;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public String contentType() {
+        return CONTENT_TYPE;
+    }
+
+    @Override
+    public boolean textual() {
+        return false;
+    }
+
+    @Override
+    public EncodedPayload encode(SagaReply reply) {
+        UUID uuid = asUuid(reply.getEventId());
+
+        int flags = (reply.isSuccess() ? SUCCESS : 0)
+                | (reply.getEventId() != null ? HAS_EVENT_ID : 0)
+                | (uuid != null ? UUID_EVENT_ID : 0)
+                | (reply.getOrderId() != null ? HAS_ORDER_ID : 0)
+                | (reply.getServiceName() != null ? HAS_SERVICE_NAME : 0)
+                | (reply.getReason() != null ? HAS_REASON : 0);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(48);
+        out.write(VERSION);
+        out.write(flags);
+
+        if (uuid != null) {
+            writeLong(out, uuid.getMostSignificantBits());
+            writeLong(out, uuid.getLeastSignificantBits());
+        } else if (reply.getEventId() != null) {
+            writeString(out, reply.getEventId());
+        }
+
+        if (reply.getOrderId() != null) {
+            long value = reply.getOrderId();
+            writeVarint(out, (value << 1) ^ (value >> 63));
+        }
+
+        if (reply.getServiceName() != null) {
+            writeString(out, reply.getServiceName());
+        }
+
+        if (reply.getReason() != null) {
+            writeString(out, reply.getReason());
+        }
+
+        return new EncodedPayload(CONTENT_TYPE, out.toByteArray(), textual());
+    }
+
+    @Override
+    public SagaReply decode(byte[] body) {
+        try {
+            ByteBuffer in = ByteBuffer.wrap(body);
+
+            if (in.get() != VERSION) {
+                throw new FailedSerializationException("지원하지 않는 응답 메시지 버전입니다.");
+            }
+
+            int flags = in.get();
+
+            String eventId = null;
+            if ((flags & UUID_EVENT_ID) != 0) {
+                eventId = new UUID(in.getLong(), in.getLong()).toString();
+            } else if ((flags & HAS_EVENT_ID) != 0) {
+                eventId = readString(in);
+            }
+
+            Long orderId = null;
+            if ((flags & HAS_ORDER_ID) != 0) {
+                long zigzag = readVarint(in);
+                orderId = (zigzag >>> 1) ^ -(zigzag & 1);
+            }
+
+            String serviceName = (flags & HAS_SERVICE_NAME) != 0 ? readString(in) : null;
+            String reason = (flags & HAS_REASON) != 0 ? readString(in) : null;
+
+            return new SagaReply(eventId, orderId, serviceName, (flags & SUCCESS) != 0, reason);
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            throw new FailedSerializationException("응답 메시지 역직렬화 실패");
+        }
+    }
+
+    // 소문자 정규 형식 UUID 만 16바이트로 줄임 (되돌렸을 때 원래 문자열과 같아야 하므로)
+    private static UUID asUuid(String value) {
+        if (value == null || value.length() != 36) {
+            return null;
+        }
+
+        try {
+            UUID uuid = UUID.fromString(value);
+            return uuid.toString().equals(value) ? uuid : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static void writeLong(ByteArrayOutputStream out, long value) {
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            out.write((int) (value >>> shift));
+        }
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static void writeString(ByteArrayOutputStream out, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarint(out, bytes.length);
+        out.write(bytes, 0, bytes.length);
+    }
+
+    private static long readVarint(ByteBuffer in) {
+        long value = 0;
+
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+
+        throw new IllegalArgumentException("varint 형식이 잘못되었습니다.");
+    }
+
+    private static String readString(ByteBuffer in) {
+        long length = readVarint(in);
+
+        if (length > in.remaining()) {
+            throw new IllegalArgumentException("문자열 길이가 남은 본문보다 깁니다.");
+        }
+
+        String value = new String(in.array(), in.arrayOffset() + in.position(), (int) length, StandardCharsets.UTF_8);
+        in.position(in.position() + (int) length);
+        return value;
+    }
+
+}
@@ -0,0 +1,30 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.saga.codec;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 코덱으로 인코딩한 메시지 본문
+ *
+ * @param contentType 메시지 헤더(content_type)에 실어 보낼 형식
+ * @param body        본문 바이트
+ * @param textual     UTF-8 텍스트 형식 여부 (Outbox 의 TEXT 컬럼에 저장, 아니면 BLOB 컬럼)
+ */
+public record EncodedPayload(String contentType, byte[] body, boolean textual) {
+
+    public String text() {
+        return new String(body, StandardCharsets.UTF_8);
+    }
+
+}
@@ -0,0 +1,73 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.saga.codec;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nhnacademy.user.exception.saga.FailedSerializationException;
+import com.nhnacademy.user.saga.event.SagaReply;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기본 코덱: Jackson JSON (기존 형식 그대로)
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class JsonPayloadCodec implements PayloadCodec {
+
+    public static final String NAME = "json";
+
+    public static final String CONTENT_TYPE = MessageProperties.CONTENT_TYPE_JSON;
+
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public String contentType() {
+        return CONTENT_TYPE;
+    }
+
+    @Override
+    public boolean textual() {
+        return true;
+    }
+
+    @Override
+    public EncodedPayload encode(SagaReply reply) {
+        try {
+            return new EncodedPayload(CONTENT_TYPE, objectMapper.writeValueAsBytes(reply), textual());
+        } catch (JsonProcessingException e) {
+            log.error("응답 메시지 직렬화 실패", e);
+            throw new FailedSerializationException("응답 메시지 직렬화 실패");
+        }
+    }
+
+    @Override
+    public SagaReply decode(byte[] body) {
+        try {
+            return objectMapper.readValue(body, SagaReply.class);
+        } catch (IOException e) {
+            throw new FailedSerializationException("응답 메시지 역직렬화 실패");
+        }
+    }
+
+}
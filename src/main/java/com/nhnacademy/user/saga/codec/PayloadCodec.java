@@ -0,0 +1,36 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.saga.codec;
+
+import com.nhnacademy.user.saga.event.SagaReply;
+
+/**
+ * Outbox / Saga 응답 메시지 본문 코덱
+ * <p>
+ * 인코딩한 형식은 content_type 헤더로 함께 보내므로, 받는 쪽은 헤더를 보고 같은 형식의 코덱으로 읽습니다.
+ */
+public interface PayloadCodec {
+
+    // saga.payload.codec 에 적는 이름
+    String name();
+
+    String contentType();
+
+    // UTF-8 텍스트 형식 여부 (Outbox 의 TEXT 컬럼에 저장, 아니면 BLOB 컬럼)
+    boolean textual();
+
+    EncodedPayload encode(SagaReply reply);
+
+    SagaReply decode(byte[] body);
+
+}
@@ -0,0 +1,71 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.saga.codec;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 등록된 코덱 모음
+ * <p>
+ * 보낼 때는 saga.payload.codec 으로 고른 코덱을 쓰고, DLQ 메시지를 Outbox 로 옮길 때는(UserDeadLetterReplayer)
+ * content_type 으로 코덱을 찾아 본문 저장 형식(TEXT/BLOB)을 고릅니다. (content_type 이 없는 예전 메시지는 JSON)
+ */
+@Component
+public class PayloadCodecs {
+
+    private final Map<String, PayloadCodec> byContentType = new LinkedHashMap<>();
+
+    private final PayloadCodec current;
+
+    public PayloadCodecs(List<PayloadCodec> codecs, @Value("${saga.payload.codec:json}") String codecName) {
+        PayloadCodec selected = null;
+
+        for (PayloadCodec codec : codecs) {
+            byContentType.put(codec.contentType(), codec);
+
+            if (codec.name().equalsIgnoreCase(codecName)) {
+                selected = codec;
+            }
+        }
+
+        if (selected == null) {
+            throw new IllegalStateException("saga.payload.codec 에 해당하는 코덱이 없습니다: " + codecName);
+        }
+
+        this.current = selected;
+    }
+
+    // 새 메시지를 인코딩할 코덱
+    public PayloadCodec current() {
+        return current;
+    }
+
+    // content_type 헤더로 코덱 찾기 (파라미터(charset 등)는 무시)
+    public Optional<PayloadCodec> forContentType(String contentType) {
+        if (contentType == null) {
+            return Optional.ofNullable(byContentType.get(MessageProperties.CONTENT_TYPE_JSON));
+        }
+
+        int parameters = contentType.indexOf(';');
+        String mediaType = (parameters >= 0 ? contentType.substring(0, parameters) : contentType).trim();
+
+        return Optional.ofNullable(byContentType.get(mediaType));
+    }
+
+}
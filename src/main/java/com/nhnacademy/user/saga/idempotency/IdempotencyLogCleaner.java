@@ -0,0 +1,98 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.saga.idempotency;
+
+import com.nhnacademy.user.config.SchedulingConfig;
+import com.nhnacademy.user.properties.SagaIdempotencyProperties;
+import com.nhnacademy.user.repository.saga.UserDeduplicationRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 보관 기간(saga.idempotency.ttl)이 지난 처리 기록 정리
+ * <p>
+ * received_at 인덱스 순서로 청크 단위로 읽어 청크마다 짧은 트랜잭션에서 삭제하고, 지운 뒤 Bloom filter 를 새로 만듭니다.
+ */
+@RequiredArgsConstructor
+@Slf4j
+@Component
+public class IdempotencyLogCleaner {
+
+    private final UserDeduplicationRepository deduplicationRepository;
+
+    private final JpaIdempotencyStore jpaIdempotencyStore;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final SagaIdempotencyProperties sagaIdempotencyProperties;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    @Scheduled(cron = "${saga.idempotency.cleanup-cron:0 40 * * * *}", scheduler = SchedulingConfig.BATCH_SCHEDULER)
+    public void scheduledCleanup() {
+        if (sagaIdempotencyProperties.isCleanupEnabled()) {
+            cleanup();
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 처리 기록을 삭제하는 메소드
+     *
+     * @return 삭제한 기록 수
+     */
+    public int cleanup() {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("[Idempotency] 이미 처리 기록 정리가 진행 중입니다.");
+            return 0;
+        }
+
+        try {
+            LocalDateTime cutoff = LocalDateTime.now().minus(sagaIdempotencyProperties.getTtl());
+            int chunkSize = sagaIdempotencyProperties.getCleanupChunkSize();
+            int deleted = 0;
+
+            while (true) {
+                List<String> ids = deduplicationRepository.findMessageIdsReceivedBefore(cutoff, Limit.of(chunkSize));
+
+                if (ids.isEmpty()) {
+                    break;
+                }
+
+                transactionTemplate.executeWithoutResult(status -> deduplicationRepository.deleteAllByMessageIdIn(ids));
+                deleted += ids.size();
+
+                if (ids.size() < chunkSize) {
+                    break;
+                }
+            }
+
+            if (deleted > 0) {
+                jpaIdempotencyStore.rebuild();
+            }
+
+            log.info("[Idempotency] 처리 기록 정리 완료: {}건 (기준 시각: {})", deleted, cutoff);
+
+            return deleted;
+        } finally {
+            running.set(false);
+        }
+    }
+
+}
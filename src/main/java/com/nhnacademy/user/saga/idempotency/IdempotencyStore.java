@@ -0,0 +1,35 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.saga.idempotency;
+
+/**
+ * 사가 메시지 중복 처리 방지용 처리 기록 저장소
+ * <p>
+ * saga.idempotency.store 설정 값으로 구현체를 선택합니다.
+ * <ul>
+ *     <li>jpa (기본값): user_deduplication_log 에 INSERT, 메모리 Bloom filter 로 처음 보는 메시지는 조회 생략</li>
+ *     <li>redis: SET NX EX 로 재전송을 먼저 거르고 처음 보는 키는 jpa 저장소에도 기록, Redis 장애 시 jpa 저장소로 처리</li>
+ * </ul>
+ */
+public interface IdempotencyStore {
+
+    /**
+     * 처음 보는 키면 처리 기록을 남기고 true, 이미 처리한 키면 false
+     * <p>
+     * 호출한 트랜잭션이 롤백되면 기록도 취소되어 재전송된 메시지를 다시 처리할 수 있습니다.
+     *
+     * @param key 메시지 ID (보상 메시지는 접미사를 붙인 ID)
+     */
+    boolean tryAcquire(String key);
+
+}
@@ -0,0 +1,115 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.saga.idempotency;
+
+import com.nhnacademy.user.common.BloomFilter;
+import com.nhnacademy.user.entity.saga.UserDeduplicationLog;
+import com.nhnacademy.user.properties.SagaIdempotencyProperties;
+import com.nhnacademy.user.repository.saga.UserDeduplicationRepository;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+/**
+ * user_deduplication_log 기반 처리 기록 저장소 (기본값, redis 저장소의 장애 대비용)
+ * <p>
+ * 테이블의 메시지 ID 를 메모리 Bloom filter 에 올려 두고, Bloom filter 에 없는 키는 조회 없이 INSERT 한 번으로 끝냅니다.
+ * Bloom filter 에 있다고 나오는 키(이미 처리했거나 거짓 양성)만 테이블을 조회합니다.
+ * Bloom filter 가 놓친 키(다른 인스턴스가 먼저 기록, 재적재 중 기록)는 PK 중복으로 INSERT 가 실패하므로
+ * 처리 전에 예외로 끝나고, 그 키를 Bloom filter 에 넣어 두어 리스너 재시도 때 중복으로 걸러집니다.
+ * <p>
+ * 시작 직후 Bloom filter 를 채우기 전에는 매번 테이블을 조회합니다.
+ */
+@RequiredArgsConstructor
+@Slf4j
+@Component
+public class JpaIdempotencyStore implements IdempotencyStore {
+
+    private static final int LOAD_PAGE_SIZE = 10_000;
+
+    private final UserDeduplicationRepository deduplicationRepository;
+
+    private final SagaIdempotencyProperties sagaIdempotencyProperties;
+
+    // 채우기 전에는 null
+    private volatile BloomFilter seen;
+
+    @Override
+    public boolean tryAcquire(String key) {
+        BloomFilter filter = seen;
+
+        if ((filter == null || filter.mightContain(key)) && deduplicationRepository.existsByMessageId(key)) {
+            return false;
+        }
+
+        try {
+            // 트랜잭션 안에서 바로 INSERT: 다른 인스턴스가 먼저 기록했으면 처리 전에 PK 중복으로 실패
+            deduplicationRepository.saveAndFlush(new UserDeduplicationLog(key));
+        } catch (DataIntegrityViolationException e) {
+            // Bloom filter 가 놓친 키: 재시도 때는 테이블을 조회해서 중복으로 걸러지도록 표시
+            log.info("[Idempotency] 다른 곳에서 먼저 처리된 메시지 - Key : {}", key);
+            if (filter != null) {
+                filter.put(key);
+            }
+            throw e;
+        }
+
+        if (filter != null) {
+            filter.put(key);
+        }
+
+        return true;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        rebuild();
+    }
+
+    /**
+     * 테이블의 메시지 ID 로 Bloom filter 를 새로 만드는 메소드 (정리 배치 후 호출)
+     * <p>
+     * 적재하는 동안 기록된 키가 새 filter 에서 빠질 수 있지만, 위의 PK 중복 처리로 재시도 한 번에 걸러집니다.
+     *
+     * @return 적재한 메시지 ID 수
+     */
+    public long rebuild() {
+        BloomFilter filter = new BloomFilter(sagaIdempotencyProperties.getBloomExpectedInsertions(),
+                sagaIdempotencyProperties.getBloomFpp());
+        String lastSeenId = "";
+        long loaded = 0;
+
+        while (true) {
+            List<String> ids = deduplicationRepository.findMessageIdsAfter(lastSeenId, Limit.of(LOAD_PAGE_SIZE));
+            ids.forEach(filter::put);
+            loaded += ids.size();
+
+            if (ids.size() < LOAD_PAGE_SIZE) {
+                break;
+            }
+
+            lastSeenId = ids.getLast();
+        }
+
+        seen = filter;
+        log.info("[Idempotency] 처리 기록 Bloom filter 적재: {}건", loaded);
+
+        return loaded;
+    }
+
+}
@@ -0,0 +1,96 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.saga.idempotency;
+
+import com.nhnacademy.user.properties.SagaIdempotencyProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Redis SET NX EX 기반 처리 기록 저장소 (saga.idempotency.store=redis)
+ * <p>
+ * 키 하나당 SET NX EX 한 번으로 확인과 기록을 같이 하고, 보관 기간이 지나면 Redis 가 지웁니다.
+ * 이미 처리한 메시지(재전송)는 DB 를 거치지 않고 Redis 에서 바로 걸러집니다.
+ * <p>
+ * 처음 보는 키는 JPA 저장소(user_deduplication_log)에도 호출한 트랜잭션 안에서 기록합니다. Redis 키가 유실되거나
+ * Redis 장애로 JPA 저장소로 처리할 때도 이미 처리한 메시지를 알아볼 수 있게 하기 위함입니다.
+ * Redis 는 DB 트랜잭션에 묶이지 않으므로, 호출한 트랜잭션이 롤백되면 기록한 키를 지워 재전송된 메시지를 다시 처리하게 합니다.
+ */
+@Primary
+@RequiredArgsConstructor
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "saga.idempotency", name = "store", havingValue = "redis")
+public class RedisIdempotencyStore implements IdempotencyStore {
+
+    private static final String KEY_PREFIX = "saga:idempotency:";
+
+    private final StringRedisTemplate redisTemplate;
+
+    private final JpaIdempotencyStore jpaIdempotencyStore;
+
+    private final SagaIdempotencyProperties sagaIdempotencyProperties;
+
+    @Override
+    public boolean tryAcquire(String key) {
+        String redisKey = KEY_PREFIX + key;
+        Boolean acquired;
+
+        try {
+            acquired = redisTemplate.opsForValue().setIfAbsent(redisKey, "1", sagaIdempotencyProperties.getTtl());
+        } catch (DataAccessException e) {
+            log.warn("[Idempotency] Redis 처리 기록 실패, DB 로 처리 - Key : {} ({})", key, e.getMessage());
+            return jpaIdempotencyStore.tryAcquire(key);
+        }
+
+        if (!Boolean.TRUE.equals(acquired)) {
+            return false;
+        }
+
+        // 롤백 시 Redis 키 삭제를 먼저 등록: 아래 DB 기록이 PK 중복으로 실패해도 키가 남지 않음
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        release(redisKey);
+                    }
+                }
+            });
+        }
+
+        // DB 에도 기록: Redis 에서 키가 유실(eviction, 재시작)된 메시지면 여기서 걸러짐
+        if (!jpaIdempotencyStore.tryAcquire(key)) {
+            log.info("[Idempotency] Redis 에 없던 처리 기록을 DB 에서 확인 - Key : {}", key);
+            return false;
+        }
+
+        return true;
+    }
+
+    private void release(String redisKey) {
+        try {
+            redisTemplate.delete(redisKey);
+        } catch (DataAccessException e) {
+            log.warn("[Idempotency] 롤백된 메시지의 처리 기록 삭제 실패 - Key : {} ({})", redisKey, e.getMessage());
+        }
+    }
+
+}
@@ -0,0 +1,112 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.saga.lane;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 키(회원 ID)를 해시해서 항상 같은 단일 스레드 레인에 작업을 넘기는 실행기
+ * <p>
+ * 같은 키의 작업은 넘긴 순서대로 한 스레드에서 처리되고, 서로 다른 레인의 작업은 동시에 처리됩니다.
+ */
+@Slf4j
+public class SagaLaneExecutor {
+
+    private final ExecutorService[] lanes;
+
+    // 레인마다 넘겨받았지만 아직 끝나지 않은 작업 수
+    private final AtomicInteger[] backlogs;
+
+    public SagaLaneExecutor(int laneCount) {
+        if (laneCount < 1) {
+            throw new IllegalArgumentException("레인 수는 1 이상이어야 합니다: " + laneCount);
+        }
+
+        this.lanes = new ExecutorService[laneCount];
+        this.backlogs = new AtomicInteger[laneCount];
+
+        for (int i = 0; i < laneCount; i++) {
+            String name = "saga-lane-" + i;
+            lanes[i] = Executors.newSingleThreadExecutor(r -> new Thread(r, name));
+            backlogs[i] = new AtomicInteger();
+        }
+    }
+
+    public int laneCount() {
+        return lanes.length;
+    }
+
+    /**
+     * 키가 배정될 레인 번호
+     * <p>
+     * 연속된 회원 ID 가 한 레인에 몰리지 않도록 섞은 뒤 나머지를 구함
+     */
+    public int laneOf(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return Math.floorMod((int) (h ^ (h >>> 32)), lanes.length);
+    }
+
+    public void execute(long key, Runnable task) {
+        int lane = laneOf(key);
+        AtomicInteger backlog = backlogs[lane];
+
+        backlog.incrementAndGet();
+        try {
+            lanes[lane].execute(() -> {
+                try {
+                    task.run();
+                } finally {
+                    backlog.decrementAndGet();
+                }
+            });
+        } catch (RuntimeException e) {
+            backlog.decrementAndGet();
+            throw e;
+        }
+    }
+
+    public int backlog(int lane) {
+        return backlogs[lane].get();
+    }
+
+    /**
+     * 새 작업을 막고 대기 중인 작업이 끝날 때까지 기다리는 메소드
+     *
+     * @return 제한 시간 안에 모든 레인이 비었으면 true
+     */
+    public boolean shutdown(Duration timeout) {
+        for (ExecutorService lane : lanes) {
+            lane.shutdown();
+        }
+
+        long deadline = System.nanoTime() + timeout.toNanos();
+        try {
+            for (ExecutorService lane : lanes) {
+                if (!lane.awaitTermination(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+                    log.warn("[SagaLane] 제한 시간 안에 끝나지 않은 레인 작업이 있습니다.");
+                    return false;
+                }
+            }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+}
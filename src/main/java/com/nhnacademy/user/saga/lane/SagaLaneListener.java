@@ -0,0 +1,241 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.saga.lane;
+
+import com.nhnacademy.user.properties.SagaConsumerProperties;
+import com.nhnacademy.user.saga.SagaListener;
+import com.nhnacademy.user.saga.SagaTopic;
+import com.nhnacademy.user.saga.event.OrderCompensateEvent;
+import com.nhnacademy.user.saga.event.OrderConfirmedEvent;
+import com.nhnacademy.user.saga.event.OrderRefundEvent;
+import com.nhnacademy.user.saga.event.SagaEvent;
+import com.rabbitmq.client.Channel;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.core.QueueInformation;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Saga 명령/보상 큐를 회원별 레인으로 나눠 동시에 처리하는 소비자 (saga.consumer.lanes.enabled=true)
+ * <p>
+ * 브로커에서는 prefetch 만큼 미리 받아 오고, 이벤트의 회원 ID 를 해시해서 단일 스레드 레인에 넘깁니다.
+ * 같은 회원의 차감/보상은 항상 같은 레인에서 받은 순서대로 처리되므로 포인트 차감끼리 경합하지 않고,
+ * 다른 회원의 이벤트는 레인 수만큼 동시에 처리됩니다.
+ * <p>
+ * 처리는 기존 SagaListener 의 트랜잭션 메소드를 그대로 호출하고, 레인 안에서 재시도한 뒤 직접 ACK/reject 합니다.
+ * (큐 순서를 레인까지 유지해야 하므로 컨테이너 소비자는 하나만 두고, 동시성은 레인 수로 조절)
+ * <p>
+ * 지표: saga.consumer.process (처리 시간/건수, 결과별), saga.consumer.lane.wait (레인 대기 시간),
+ * saga.consumer.message.age (발행 시각부터 처리 시작까지), saga.consumer.lane.backlog (레인별 대기 메시지 수),
+ * saga.consumer.queue.depth (브로커 큐에 쌓인 메시지 수)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "saga.consumer.lanes", name = "enabled", havingValue = "true")
+public class SagaLaneListener {
+
+    private static final List<String> QUEUES = List.of(SagaTopic.USER_QUEUE, SagaTopic.USER_COMPENSATION_QUEUE);
+
+    private final SagaListener sagaListener;
+
+    private final SagaConsumerProperties sagaConsumerProperties;
+
+    private final AmqpAdmin amqpAdmin;
+
+    private final SagaLaneExecutor laneExecutor;
+
+    private final Timer successTimer;
+
+    private final Timer failureTimer;
+
+    private final Timer laneWaitTimer;
+
+    private final Timer messageAgeTimer;
+
+    private final Map<String, AtomicLong> queueDepths = new ConcurrentHashMap<>();
+
+    public SagaLaneListener(SagaListener sagaListener, SagaConsumerProperties sagaConsumerProperties,
+                            AmqpAdmin amqpAdmin, MeterRegistry meterRegistry) {
+        this.sagaListener = sagaListener;
+        this.sagaConsumerProperties = sagaConsumerProperties;
+        this.amqpAdmin = amqpAdmin;
+        this.laneExecutor = new SagaLaneExecutor(sagaConsumerProperties.getCount());
+
+        this.successTimer = Timer.builder("saga.consumer.process")
+                .description("Saga 이벤트 처리 시간 (재시도 포함)")
+                .tag("outcome", "success")
+                .register(meterRegistry);
+        this.failureTimer = Timer.builder("saga.consumer.process")
+                .description("Saga 이벤트 처리 시간 (재시도 포함)")
+                .tag("outcome", "failure")
+                .register(meterRegistry);
+        this.laneWaitTimer = Timer.builder("saga.consumer.lane.wait")
+                .description("브로커에서 받은 뒤 레인에서 처리가 시작될 때까지 걸린 시간")
+                .register(meterRegistry);
+        this.messageAgeTimer = Timer.builder("saga.consumer.message.age")
+                .description("메시지 발행 시각부터 처리 시작까지 걸린 시간 (timestamp 속성이 있는 메시지만)")
+                .register(meterRegistry);
+
+        for (int lane = 0; lane < laneExecutor.laneCount(); lane++) {
+            int index = lane;
+            Gauge.builder("saga.consumer.lane.backlog", laneExecutor, e -> e.backlog(index))
+                    .description("레인에 넘겨졌지만 아직 끝나지 않은 메시지 수")
+                    .tag("lane", String.valueOf(lane))
+                    .register(meterRegistry);
+        }
+        for (String queue : QUEUES) {
+            AtomicLong depth = queueDepths.computeIfAbsent(queue, q -> new AtomicLong(-1));
+            Gauge.builder("saga.consumer.queue.depth", depth, AtomicLong::get)
+                    .description("브로커 큐에 쌓여 아직 전달되지 않은 메시지 수")
+                    .tag("queue", queue)
+                    .register(meterRegistry);
+        }
+    }
+
+    @RabbitListener(queues = {SagaTopic.USER_QUEUE, SagaTopic.USER_COMPENSATION_QUEUE},
+            containerFactory = "sagaLaneContainerFactory")
+    public void onMessage(SagaEvent event, Message message, Channel channel) {
+        MessageProperties properties = message.getMessageProperties();
+        String queue = properties.getConsumerQueue();
+        long deliveryTag = properties.getDeliveryTag();
+        Date publishedAt = properties.getTimestamp();
+        long receivedAt = System.nanoTime();
+
+        laneExecutor.execute(laneKey(event), () -> {
+            laneWaitTimer.record(System.nanoTime() - receivedAt, TimeUnit.NANOSECONDS);
+            if (publishedAt != null) {
+                messageAgeTimer.record(Duration.ofMillis(Math.max(0, System.currentTimeMillis() - publishedAt.getTime())));
+            }
+
+            long begin = System.nanoTime();
+            Boolean handled = handle(event, queue);
+            (Boolean.TRUE.equals(handled) ? successTimer : failureTimer)
+                    .record(System.nanoTime() - begin, TimeUnit.NANOSECONDS);
+
+            settle(channel, deliveryTag, handled);
+        });
+    }
+
+    /**
+     * 레인에서 재시도하며 이벤트를 처리하는 메소드
+     *
+     * @return 처리했으면 true, 재시도를 다 쓰면 false, 종료 중이라 중단했으면 null
+     */
+    private Boolean handle(SagaEvent event, String queue) {
+        int maxAttempts = Math.max(1, sagaConsumerProperties.getMaxAttempts());
+        long interval = sagaConsumerProperties.getRetryInterval().toMillis();
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                if (SagaTopic.USER_COMPENSATION_QUEUE.equals(queue)) {
+                    sagaListener.onCompensateEvent(event);
+                } else {
+                    sagaListener.onEvent(event);
+                }
+                return true;
+            } catch (RuntimeException e) {
+                if (attempt >= maxAttempts) {
+                    log.error("[SagaLane] 이벤트 처리 실패 - Event ID : {}, 시도 {}회", event.getEventId(), attempt, e);
+                    return false;
+                }
+                log.warn("[SagaLane] 이벤트 처리 재시도 - Event ID : {}, 시도 {}회: {}",
+                        event.getEventId(), attempt, e.getMessage());
+            }
+
+            try {
+                Thread.sleep(interval);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+            interval *= 2;
+        }
+    }
+
+    // 처리했으면 ACK, 재시도를 다 썼으면 reject (DLQ 로), 중단했으면 다시 큐로
+    private void settle(Channel channel, long deliveryTag, Boolean handled) {
+        try {
+            synchronized (channel) {
+                if (Boolean.TRUE.equals(handled)) {
+                    channel.basicAck(deliveryTag, false);
+                } else {
+                    channel.basicNack(deliveryTag, false, handled == null);
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            // 채널이 닫혔으면 ACK 되지 않은 메시지는 브로커가 다시 보내고, 처리 기록으로 중복을 걸러냄
+            log.warn("[SagaLane] ACK 실패 - deliveryTag : {}: {}", deliveryTag, e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${saga.consumer.lanes.depth-refresh-interval:5000}")
+    public void refreshQueueDepth() {
+        for (String queue : QUEUES) {
+            try {
+                QueueInformation info = amqpAdmin.getQueueInfo(queue);
+                queueDepths.get(queue).set(info != null ? info.getMessageCount() : -1);
+            } catch (RuntimeException e) {
+                log.debug("[SagaLane] 큐 깊이 조회 실패 - {}: {}", queue, e.getMessage());
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        laneExecutor.shutdown(Duration.ofSeconds(30));
+    }
+
+    /**
+     * 레인 배정 키: 회원 ID (보상 이벤트는 원래 이벤트의 회원 ID)
+     * <p>
+     * 회원 ID 가 없는 이벤트는 주문 ID 로 나눔
+     */
+    static long laneKey(SagaEvent event) {
+        Long userId = userIdOf(event);
+        if (userId != null) {
+            return userId;
+        }
+
+        Long orderId = event instanceof OrderCompensateEvent compensate && compensate.getOriginalEvent() == null
+                ? null : event.getOrderId();
+        return orderId != null ? orderId : 0L;
+    }
+
+    private static Long userIdOf(SagaEvent event) {
+        return switch (event) {
+            case OrderConfirmedEvent confirmed -> confirmed.getUserId();
+            case OrderRefundEvent refund -> refund.getUserId();
+            case OrderCompensateEvent compensate when compensate.getOriginalEvent() != null ->
+                    userIdOf(compensate.getOriginalEvent());
+            default -> null;
+        };
+    }
+
+}
@@ -16,15 +16,18 @@ import com.nhnacademy.user.entity.account.Account;
 import com.nhnacademy.user.entity.account.AccountStatusHistory;
 import com.nhnacademy.user.entity.account.Status;
 import com.nhnacademy.user.entity.user.User;
+import com.nhnacademy.user.event.UserInfoChangedEvent;
 import com.nhnacademy.user.exception.account.StateNotFoundException;
 import com.nhnacademy.user.exception.user.UserNotFoundException;
 import com.nhnacademy.user.repository.account.AccountRepository;
 import com.nhnacademy.user.repository.account.AccountStatusHistoryRepository;
-import com.nhnacademy.user.repository.account.StatusRepository;
 import com.nhnacademy.user.repository.user.UserRepository;
 import com.nhnacademy.user.service.account.AccountService;
+import com.nhnacademy.user.service.user.cache.ReferenceDataRegistry;
+import com.nhnacademy.user.service.user.cache.UserExistenceIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -36,20 +39,23 @@ public class AccountServiceImpl implements AccountService {
     private final UserRepository userRepository;
     private final AccountRepository accountRepository;
     private final AccountStatusHistoryRepository accountStatusHistoryRepository;
-    private final StatusRepository statusRepository;
+    private final ReferenceDataRegistry referenceDataRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UserExistenceIndex userExistenceIndex;
 
     private static final String ACTIVE_STATUS = "ACTIVE";
 
     /**
      * 존재하는 계정 아이디인지 검증하는 메소드
+     * <p>
+     * 가입 화면에서 글자마다 호출되므로 존재 여부 인덱스로 먼저 답하고, 확실하지 않을 때만 DB 를 조회한다.
      *
      * @param loginId 로그인 아이디
      * @return 로그인 아이디
      */
     @Override
-    @Transactional(readOnly = true)
     public boolean existsLoginId(String loginId) {
-        return accountRepository.existsById(loginId);
+        return userExistenceIndex.existsLoginId(loginId, () -> accountRepository.existsById(loginId));
     }
 
     /**
@@ -68,7 +74,7 @@ public class AccountServiceImpl implements AccountService {
 
         Account account = user.getAccount();
 
-        Status status = statusRepository.findByStatusName(ACTIVE_STATUS)
+        Status status = referenceDataRegistry.findStatus(ACTIVE_STATUS)
                 .orElseThrow(() -> {
                     log.error("[AccountService] 계정 상태 변환 실패: 존재하지 않는 상태 ({})", ACTIVE_STATUS);
                     return new StateNotFoundException("존재하지 않는 상태입니다.");
@@ -76,6 +82,9 @@ public class AccountServiceImpl implements AccountService {
 
         accountStatusHistoryRepository.save(new AccountStatusHistory(account, status));
         account.modifyStatus(status);
+
+        // 커밋 후 내부 통신용 회원 정보 캐시 무효화
+        eventPublisher.publishEvent(new UserInfoChangedEvent(userCreatedId));
     }
 
 }
@@ -16,6 +16,7 @@ import com.nhnacademy.user.dto.request.AddressRequest;
 import com.nhnacademy.user.dto.response.AddressResponse;
 import com.nhnacademy.user.entity.address.Address;
 import com.nhnacademy.user.entity.user.User;
+import com.nhnacademy.user.event.UserInfoChangedEvent;
 import com.nhnacademy.user.exception.address.AddressLimitExceededException;
 import com.nhnacademy.user.exception.address.AddressNotFoundException;
 import com.nhnacademy.user.exception.address.DefaultAddressDeletionException;
@@ -27,6 +28,7 @@ import com.nhnacademy.user.service.address.AddressService;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -37,6 +39,7 @@ public class AddressServiceImpl implements AddressService {
 
     private final UserRepository userRepository;
     private final AddressRepository addressRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 새 배송지를 추가하는 메소드
@@ -69,7 +72,12 @@ public class AddressServiceImpl implements AddressService {
         Address address = new Address(user,
                 request.addressName(), request.zipCode(), request.roadAddress(), request.addressDetail(), isDefault);
 
-        return addressRepository.save(address).getAddressId();
+        Long addressId = addressRepository.save(address).getAddressId();
+
+        // 배송지 추가/수정/삭제 모두 커밋 후 내부 통신용 회원 정보 캐시 무효화
+        eventPublisher.publishEvent(new UserInfoChangedEvent(userCreatedId));
+
+        return addressId;
     }
 
     /**
@@ -121,6 +129,8 @@ public class AddressServiceImpl implements AddressService {
 
         address.modifyDetails(request.addressName(),
                 request.zipCode(), request.roadAddress(), request.addressDetail(), request.isDefault());
+
+        eventPublisher.publishEvent(new UserInfoChangedEvent(userCreatedId));
     }
 
     /**
@@ -143,6 +153,8 @@ public class AddressServiceImpl implements AddressService {
         }
 
         addressRepository.delete(address);
+
+        eventPublisher.publishEvent(new UserInfoChangedEvent(userCreatedId));
     }
 
     private User getUser(Long userCreatedId) {
@@ -0,0 +1,29 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.service.point;
+
+import com.nhnacademy.user.dto.request.PointGrantRequest;
+import com.nhnacademy.user.dto.response.PointGrantJobResponse;
+
+public interface PointGrantService {
+
+    // 일괄 지급 작업 등록 후 백그라운드 실행, 작업 ID 반환
+    Long startGrant(PointGrantRequest request);
+
+    // 중단(실패)된 작업을 마지막 체크포인트부터 재개
+    void resumeGrant(Long pointGrantJobId);
+
+    // 진행 상황 조회
+    PointGrantJobResponse getGrantJob(Long pointGrantJobId);
+
+}
@@ -0,0 +1,26 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.service.point;
+
+public interface PointHoldService {
+
+    // 주문 사용 포인트를 잡아 두고 적립 포인트는 확정 때까지 미룸 (사용 가능 잔액 부족 시 PointNotEnoughException)
+    void hold(Long userCreatedId, Long orderId, long usedPoint, long savedPoint);
+
+    // 보상: 주문의 홀드를 취소하고 잡아 둔 포인트를 해제 (취소할 홀드가 없으면 false)
+    boolean cancel(Long userCreatedId, Long orderId);
+
+    // 보상 대기 기간이 지난 홀드를 청크 단위로 확정 (확정된 홀드 수 반환)
+    int commitExpired();
+
+}
@@ -0,0 +1,29 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.service.point;
+
+import com.nhnacademy.user.dto.response.PointDriftResponse;
+import com.nhnacademy.user.dto.response.PointReconciliationReport;
+
+public interface PointReconciliationService {
+
+    // 전체 회원 잔액 검증 + 스냅샷 갱신
+    PointReconciliationReport reconcile();
+
+    // 마지막 검증 결과 (아직 실행 전이면 null)
+    PointReconciliationReport getLastReport();
+
+    // 특정 회원의 잔액을 스냅샷 + 이후 내역 합계로 다시 맞춤
+    PointDriftResponse rebuild(Long userCreatedId);
+
+}
@@ -14,7 +14,9 @@ package com.nhnacademy.user.service.point;
 
 import com.nhnacademy.user.dto.request.PointRequest;
 import com.nhnacademy.user.dto.response.PointHistoryResponse;
+import com.nhnacademy.user.dto.response.PointHistorySliceResponse;
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -26,10 +28,17 @@ public interface PointService {
     // 기준 금액이 필요한 포인트 적립
     void earnPointByPolicy(Long userCreatedId, String policyType, BigDecimal targetAmount);
 
+    // 정책 기반 포인트 적립 대기열 접수 (주문 ID 기준 멱등)
+    boolean enqueueEarnByPolicy(Long userCreatedId, String policyType, BigDecimal targetAmount, Long orderId);
+
     // 포인트 변동 수동 처리
     void processPoint(PointRequest request);
 
     // 내 포인트 내역 조회
     Page<PointHistoryResponse> getMyPointHistory(Long userCreatedId, Pageable pageable);
 
+    // 내 포인트 내역 커서 조회
+    PointHistorySliceResponse scrollMyPointHistory(Long userCreatedId, LocalDateTime cursorCreatedAt, Long cursorId,
+                                                   int size);
+
 }
@@ -0,0 +1,74 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.service.point.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.nhnacademy.user.dto.response.PointPolicyResponse;
+import com.nhnacademy.user.repository.point.PointPolicyRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 포인트 정책 조회 캐시 (인스턴스 로컬, Caffeine)
+ * <p>
+ * 정책은 거의 바뀌지 않으므로 policyType 별로 메모리에 두고, 정책이 바뀌면 Redis pub/sub 으로 모든 인스턴스가 비운다.
+ * 메시지를 놓친 인스턴스도 TTL 이 지나면 다시 읽는다.
+ * 적중/미스 수는 /actuator/metrics/cache.gets?tag=cache:pointPolicy 로 확인.
+ */
+@Slf4j
+@Component
+public class PointPolicyCache {
+
+    public static final String CACHE_NAME = "pointPolicy";
+
+    private static final Duration EXPIRE_AFTER_WRITE = Duration.ofMinutes(10);
+
+    private final PointPolicyRepository pointPolicyRepository;
+
+    private final Cache<String, PointPolicyResponse> cache = Caffeine.newBuilder()
+            .maximumSize(1_000)
+            .expireAfterWrite(EXPIRE_AFTER_WRITE)
+            .recordStats()
+            .build();
+
+    public PointPolicyCache(PointPolicyRepository pointPolicyRepository, MeterRegistry meterRegistry) {
+        this.pointPolicyRepository = pointPolicyRepository;
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    // 없는 정책은 캐시하지 않음 (다음 조회 때 다시 DB 확인)
+    public Optional<PointPolicyResponse> get(String policyType) {
+        return Optional.ofNullable(cache.get(policyType, this::load));
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+        log.debug("[PointPolicyCache] 포인트 정책 캐시 비움");
+    }
+
+    private PointPolicyResponse load(String policyType) {
+        return pointPolicyRepository.findByPolicyType(policyType)
+                .map(pointPolicy -> new PointPolicyResponse(pointPolicy.getPointPolicyId(),
+                        pointPolicy.getPolicyName(),
+                        pointPolicy.getPolicyType(),
+                        pointPolicy.getMethod(),
+                        pointPolicy.getEarnPoint()))
+                .orElse(null);
+    }
+
+}
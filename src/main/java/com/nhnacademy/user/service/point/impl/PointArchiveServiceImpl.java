@@ -0,0 +1,111 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.service.point.impl;
+
+import com.nhnacademy.user.config.SchedulingConfig;
+import com.nhnacademy.user.properties.PointArchiveProperties;
+import com.nhnacademy.user.repository.point.PointHistoryArchiveRepository;
+import com.nhnacademy.user.repository.point.PointHistoryRepository;
+import com.nhnacademy.user.service.point.PointArchiveService;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 포인트 내역 보관
+ * <p>
+ * 보관 기간(hot retention)보다 오래된 내역을 PK 순서로 청크 단위로 읽어, 청크마다 짧은 트랜잭션 하나에서
+ * 보관 테이블로 INSERT ... SELECT 한 뒤 PointHistories 에서 삭제한다.
+ * <p>
+ * 잔액 스냅샷에 이미 반영된 내역만 옮긴다. 잔액 검증은 스냅샷 이후 내역만 PointHistories 에서 읽으므로
+ * 보관 테이블을 볼 필요가 없다. 잔액 검증이 한 번도 돌지 않은 회원의 내역은 옮기지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PointArchiveServiceImpl implements PointArchiveService {
+
+    private final PointHistoryRepository pointHistoryRepository;
+
+    private final PointHistoryArchiveRepository pointHistoryArchiveRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final PointArchiveProperties pointArchiveProperties;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    @Scheduled(cron = "${point.archive.cron:0 0 4 * * *}", scheduler = SchedulingConfig.BATCH_SCHEDULER)
+    public void scheduledArchive() {
+        if (pointArchiveProperties.isEnabled()) {
+            archive();
+        }
+    }
+
+    @Override
+    public int archive() {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("[PointArchiveService] 이미 포인트 내역 보관이 진행 중입니다.");
+            return 0;
+        }
+
+        try {
+            LocalDateTime cutoff = LocalDateTime.now().minus(pointArchiveProperties.getHotRetention());
+
+            long cutId = pointHistoryRepository.findLastIdCreatedBefore(cutoff, Limit.of(1)).stream()
+                    .findFirst()
+                    .orElse(0L);
+
+            int chunkSize = pointArchiveProperties.getChunkSize();
+            long lastSeenId = 0L;
+            int archived = 0;
+
+            while (true) {
+                List<Long> ids = pointHistoryRepository.findArchivableIds(lastSeenId, cutId, Limit.of(chunkSize));
+
+                if (ids.isEmpty()) {
+                    break;
+                }
+
+                transactionTemplate.executeWithoutResult(status -> moveChunk(ids));
+
+                archived += ids.size();
+                lastSeenId = ids.getLast();
+
+                if (ids.size() < chunkSize) {
+                    break;
+                }
+            }
+
+            log.info("[PointArchiveService] 포인트 내역 보관 완료: {}건 (기준 내역 ID: {}, 기준 시각: {})",
+                    archived, cutId, cutoff);
+
+            return archived;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    // 복사와 삭제를 같은 트랜잭션에서: 중간에 실패해도 양쪽에 중복되거나 사라지는 내역이 없음
+    private void moveChunk(List<Long> ids) {
+        pointHistoryArchiveRepository.copyFromHistories(ids, LocalDateTime.now());
+        pointHistoryRepository.deleteAllByIdInBatch(ids);
+    }
+
+}
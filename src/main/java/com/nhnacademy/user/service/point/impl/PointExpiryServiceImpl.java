@@ -0,0 +1,186 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.service.point.impl;
+
+import com.nhnacademy.user.config.SchedulingConfig;
+import com.nhnacademy.user.entity.point.PointLot;
+import com.nhnacademy.user.entity.point.PointLotStatus;
+import com.nhnacademy.user.entity.point.Type;
+import com.nhnacademy.user.entity.user.User;
+import com.nhnacademy.user.properties.PointExpiryProperties;
+import com.nhnacademy.user.repository.point.PointLotRepository;
+import com.nhnacademy.user.repository.point.jdbc.PointHistoryRow;
+import com.nhnacademy.user.repository.point.projection.PointLotRef;
+import com.nhnacademy.user.repository.user.UserRepository;
+import com.nhnacademy.user.service.point.PointExpiryService;
+import com.nhnacademy.user.service.point.ledger.PointHistoryWriter;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 적립 포인트 유효기간 만료 처리
+ * <p>
+ * (status, expires_at) 인덱스에서 만료 시각 이전의 OPEN 묶음만 청크 단위로 읽고, 청크마다 짧은 트랜잭션 하나에서
+ * 회원 잔액 차감 + 묶음 소멸 + EXPIRE 내역 INSERT 를 함께 커밋한다.
+ * <p>
+ * 잠금 순서는 단건 포인트 처리와 같다(회원 행 > 묶음 행). 회원은 ID 오름차순으로 잠그므로 배치끼리, 일괄 지급과도 교착이 생기지 않는다.
+ * <p>
+ * 주문 사가가 잡아 둔 포인트(Users.reserved_point)는 소멸시키지 않는다. 회원별 소멸 한도는 현재 포인트 - 잡아 둔 포인트이고,
+ * 한도를 넘는 만료 묶음은 남은 금액만큼 OPEN 으로 남아 홀드 확정 때 선입선출 차감으로 먼저 사용된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PointExpiryServiceImpl implements PointExpiryService {
+
+    private static final String EXPIRE_DESCRIPTION = "포인트 유효기간 만료";
+
+    private final PointLotRepository pointLotRepository;
+
+    private final UserRepository userRepository;
+
+    private final PointHistoryWriter pointHistoryWriter;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final PointExpiryProperties pointExpiryProperties;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    @Scheduled(cron = "${point.expiry.cron:0 30 0 * * *}", scheduler = SchedulingConfig.BATCH_SCHEDULER)
+    public void scheduledExpire() {
+        if (pointExpiryProperties.isEnabled()) {
+            expire();
+        }
+    }
+
+    @Override
+    public int expire() {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("[PointExpiryService] 이미 포인트 만료 처리가 진행 중입니다.");
+            return 0;
+        }
+
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            int chunkSize = pointExpiryProperties.getChunkSize();
+            int expiredLots = 0;
+
+            PointLotRef last = null;
+
+            while (true) {
+                // 후보 조회는 트랜잭션 밖에서 잠그지 않고 읽음, 잠금은 아래 청크 트랜잭션에서만
+                // 잡아 둔 포인트로 OPEN 이 남는 묶음이 있으므로 처음부터 다시 읽지 않고 앞 청크 이후부터 읽음
+                List<PointLotRef> candidates = last == null
+                        ? pointLotRepository.findExpired(now, Limit.of(chunkSize))
+                        : pointLotRepository.findExpiredAfter(now, last.expiresAt(), last.pointLotId(),
+                                Limit.of(chunkSize));
+
+                if (candidates.isEmpty()) {
+                    break;
+                }
+
+                Integer expired = transactionTemplate.execute(status -> expireChunk(candidates));
+                expiredLots += expired != null ? expired : 0;
+
+                if (candidates.size() < chunkSize) {
+                    break;
+                }
+
+                last = candidates.getLast();
+            }
+
+            log.info("[PointExpiryService] 포인트 만료 처리 완료: 소멸 묶음 {}건 (기준 시각: {})", expiredLots, now);
+
+            return expiredLots;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    // 청크 하나 소멸 처리, 전부 소멸된 묶음 수 반환
+    private int expireChunk(List<PointLotRef> candidates) {
+        List<Long> userIds = candidates.stream()
+                .map(PointLotRef::userCreatedId)
+                .distinct()
+                .sorted()
+                .toList();
+
+        // 회원 행을 먼저 잠근 뒤 묶음을 다시 읽음: 그 사이 사용된 묶음은 OPEN 이 아니므로 빠짐
+        List<User> users = userRepository.findAllByIdForUpdate(userIds);
+        List<PointLot> lots = pointLotRepository.findOpenByIdsForUpdate(
+                candidates.stream().map(PointLotRef::pointLotId).toList());
+
+        // 회원별 소멸 한도: 잡아 둔 포인트는 확정 때 차감해야 하므로 남겨 둠
+        Map<Long, Long> budgets = new HashMap<>(users.size() * 2);
+
+        for (User user : users) {
+            long currentPoint = user.getCurrentPoint() != null ? user.getCurrentPoint() : 0L;
+            budgets.put(user.getUserCreatedId(), Math.max(0L, currentPoint - user.getReservedPoint()));
+        }
+
+        Map<Long, Long> expiredByUser = new TreeMap<>();
+        int expiredLots = 0;
+
+        // 묶음은 만료일시 순이므로 한도가 모자라면 먼저 만료된 묶음부터 소멸
+        for (PointLot lot : lots) {
+            Long userCreatedId = lot.getUser().getUserCreatedId();
+            long budget = budgets.getOrDefault(userCreatedId, 0L);
+            long amount = lot.expire(budget);
+
+            if (amount > 0) {
+                budgets.put(userCreatedId, budget - amount);
+                expiredByUser.merge(userCreatedId, amount, Long::sum);
+            }
+
+            if (lot.getStatus() == PointLotStatus.EXPIRED) {
+                expiredLots++;
+            } else {
+                log.debug("[PointExpiryService] 잡아 둔 포인트로 만료 묶음 일부 유지: 회원 {}, 묶음 {}, 남은 금액 {}",
+                        userCreatedId, lot.getPointLotId(), lot.getRemainingAmount());
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<PointHistoryRow> rows = new ArrayList<>(expiredByUser.size());
+
+        for (User user : users) {
+            Long amount = expiredByUser.get(user.getUserCreatedId());
+
+            if (amount == null) {
+                continue;
+            }
+
+            // 한도가 현재 포인트 - 잡아 둔 포인트 이므로 음수 잔액이 생기지 않음
+            user.modifyPoint(-amount);
+            rows.add(new PointHistoryRow(user.getUserCreatedId(), null, amount, Type.EXPIRE,
+                    EXPIRE_DESCRIPTION, now));
+        }
+
+        pointHistoryWriter.appendAll(rows);
+
+        return expiredLots;
+    }
+
+}
@@ -0,0 +1,289 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.service.point.impl;
+
+import com.nhnacademy.user.dto.request.PointGrantRequest;
+import com.nhnacademy.user.dto.response.PointGrantJobResponse;
+import com.nhnacademy.user.entity.point.PointGrantJob;
+import com.nhnacademy.user.entity.point.PointGrantJobStatus;
+import com.nhnacademy.user.entity.point.PointGrantTarget;
+import com.nhnacademy.user.entity.point.Type;
+import com.nhnacademy.user.exception.account.StateNotFoundException;
+import com.nhnacademy.user.exception.point.InvalidPointInputException;
+import com.nhnacademy.user.exception.point.PointGrantJobNotFoundException;
+import com.nhnacademy.user.exception.user.GradeNotFoundException;
+import com.nhnacademy.user.properties.PointGrantProperties;
+import com.nhnacademy.user.repository.account.StatusRepository;
+import com.nhnacademy.user.repository.point.PointGrantJobRepository;
+import com.nhnacademy.user.repository.point.PointGrantJobTargetRepository;
+import com.nhnacademy.user.repository.point.jdbc.PointHistoryRow;
+import com.nhnacademy.user.repository.user.GradeRepository;
+import com.nhnacademy.user.repository.user.UserRepository;
+import com.nhnacademy.user.service.point.PointGrantService;
+import com.nhnacademy.user.service.point.ledger.PointHistoryWriter;
+import com.nhnacademy.user.service.point.ledger.PointLotManager;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * 캠페인성 포인트 일괄 지급
+ * <p>
+ * 대상 회원을 ID 오름차순 키셋 페이징으로 청크 단위로 나누고, 청크마다 짧은 트랜잭션 하나에서
+ * 잔액 UPDATE 한 번 + 포인트 내역 다건 INSERT + 체크포인트 갱신을 함께 커밋한다.
+ * 중간에 실패하거나 서버가 내려가도 체크포인트 이후부터 재개하면 중복 지급이 없다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PointGrantServiceImpl implements PointGrantService {
+
+    private static final String DEFAULT_DESCRIPTION = "포인트 일괄 지급";
+
+    private final PointGrantJobRepository pointGrantJobRepository;
+
+    private final PointGrantJobTargetRepository pointGrantJobTargetRepository;
+
+    private final UserRepository userRepository;
+
+    private final GradeRepository gradeRepository;
+
+    private final StatusRepository statusRepository;
+
+    private final PointHistoryWriter pointHistoryWriter;
+
+    private final PointLotManager pointLotManager;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final TaskExecutor pointGrantExecutor;
+
+    private final PointGrantProperties pointGrantProperties;
+
+    // 이 인스턴스에서 실행 중인 작업: 같은 작업의 재개 요청이 겹쳐도 루프는 하나만
+    private final Set<Long> runningJobs = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public Long startGrant(PointGrantRequest request) {
+        PointGrantJob job = toJob(request);
+
+        // 작업 행과 대상 ID 목록을 한 트랜잭션에서 저장
+        transactionTemplate.executeWithoutResult(status -> {
+            pointGrantJobRepository.save(job);
+
+            if (job.getTargetType() == PointGrantTarget.IDS) {
+                pointGrantJobTargetRepository.insertAll(job.getPointGrantJobId(), toTargetIds(request));
+            }
+        });
+
+        log.info("[PointGrantService] 일괄 지급 작업 등록: jobId={}, target={}, amount={}",
+                job.getPointGrantJobId(), job.getTargetType(), job.getAmount());
+
+        // 작업 행이 커밋된 뒤 실행해야 워커가 체크포인트를 읽을 수 있음
+        submit(job.getPointGrantJobId());
+
+        return job.getPointGrantJobId();
+    }
+
+    @Override
+    public void resumeGrant(Long pointGrantJobId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            PointGrantJob job = getJob(pointGrantJobId);
+
+            if (job.isCompleted()) {
+                throw new InvalidPointInputException("이미 완료된 일괄 지급 작업입니다.");
+            }
+
+            job.resume();
+        });
+
+        log.info("[PointGrantService] 일괄 지급 작업 재개: jobId={}", pointGrantJobId);
+
+        submit(pointGrantJobId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PointGrantJobResponse getGrantJob(Long pointGrantJobId) {
+        PointGrantJob job = getJob(pointGrantJobId);
+
+        return new PointGrantJobResponse(job.getPointGrantJobId(), job.getTargetType(), job.getStatus(),
+                job.getAmount(), job.getProcessedCount(), job.getLastUserCreatedId(), job.getRowsPerSecond(),
+                job.getFailureReason(), job.getCreatedAt(), job.getFinishedAt());
+    }
+
+    private void submit(Long pointGrantJobId) {
+        pointGrantExecutor.execute(() -> run(pointGrantJobId));
+    }
+
+    private void run(Long pointGrantJobId) {
+        if (!runningJobs.add(pointGrantJobId)) {
+            log.warn("[PointGrantService] 이미 실행 중인 작업: jobId={}", pointGrantJobId);
+            return;
+        }
+
+        try {
+            while (grantNextChunk(pointGrantJobId)) {
+                // 청크마다 커밋, 남은 대상이 없으면 종료
+            }
+        } catch (RuntimeException e) {
+            log.error("[PointGrantService] 일괄 지급 작업 실패: jobId={}", pointGrantJobId, e);
+            transactionTemplate.executeWithoutResult(status -> getJob(pointGrantJobId).fail(e.getMessage()));
+        } finally {
+            runningJobs.remove(pointGrantJobId);
+        }
+    }
+
+    // 청크 하나 처리, 다음 청크가 남아 있으면 true
+    private boolean grantNextChunk(Long pointGrantJobId) {
+        Boolean hasNext = transactionTemplate.execute(status -> {
+            PointGrantJob job = pointGrantJobRepository.findByIdForUpdate(pointGrantJobId)
+                    .orElseThrow(() -> new PointGrantJobNotFoundException("존재하지 않는 일괄 지급 작업입니다."));
+
+            if (job.getStatus() != PointGrantJobStatus.RUNNING) {
+                return false;
+            }
+
+            long begin = System.nanoTime();
+
+            Chunk chunk = nextChunk(job);
+
+            if (chunk.isEnd()) {
+                job.complete();
+
+                log.info("[PointGrantService] 일괄 지급 작업 완료: jobId={}, processed={}, rows/sec={}",
+                        pointGrantJobId, job.getProcessedCount(), String.format("%.1f", job.getRowsPerSecond()));
+
+                return false;
+            }
+
+            List<Long> userIds = chunk.userIds();
+
+            if (!userIds.isEmpty()) {
+                userRepository.addPointToAll(userIds, job.getAmount());
+                pointHistoryWriter.appendAll(toHistoryRows(userIds, job));
+                pointLotManager.openAll(userIds, job.getAmount());
+            }
+
+            job.advance(chunk.lastSeenId(), userIds.size(), (System.nanoTime() - begin) / 1_000_000);
+
+            log.info("[PointGrantService] 일괄 지급 진행: jobId={}, checkpoint={}, processed={}, rows/sec={}",
+                    pointGrantJobId, job.getLastUserCreatedId(), job.getProcessedCount(),
+                    String.format("%.1f", job.getRowsPerSecond()));
+
+            return true;
+        });
+
+        return Boolean.TRUE.equals(hasNext);
+    }
+
+    // 체크포인트 이후의 다음 대상 청크
+    private Chunk nextChunk(PointGrantJob job) {
+        int size = pointGrantProperties.getChunkSize();
+        long lastSeenId = job.getLastUserCreatedId();
+        PageRequest page = PageRequest.of(0, size);
+
+        List<Long> userIds = switch (job.getTargetType()) {
+            case GRADE -> userRepository.findIdsByGradeAfter(job.getTargetValue(), lastSeenId, page);
+            case STATUS -> userRepository.findIdsByStatusAfter(job.getTargetValue(), lastSeenId, page);
+            case IDS -> pointGrantJobTargetRepository.findUserIdsAfter(job.getPointGrantJobId(), lastSeenId, page);
+        };
+
+        if (userIds.isEmpty()) {
+            return Chunk.END;
+        }
+
+        if (job.getTargetType() == PointGrantTarget.IDS) {
+            // ID 목록 지정: 후보 구간 중 존재하는 회원만 지급
+            // 존재하는 회원이 하나도 없는 구간이어도 체크포인트는 구간 끝까지 이동
+            return new Chunk(userRepository.findExistingIds(userIds), userIds.getLast());
+        }
+
+        return new Chunk(userIds, userIds.getLast());
+    }
+
+    private List<PointHistoryRow> toHistoryRows(List<Long> userIds, PointGrantJob job) {
+        LocalDateTime now = LocalDateTime.now();
+
+        return userIds.stream()
+                .map(id -> new PointHistoryRow(id, null, job.getAmount(), Type.EARN, job.getDescription(), now))
+                .toList();
+    }
+
+    private PointGrantJob toJob(PointGrantRequest request) {
+        String description = StringUtils.hasText(request.description()) ? request.description() : DEFAULT_DESCRIPTION;
+
+        return switch (request.targetType()) {
+            case IDS -> {
+                if (CollectionUtils.isEmpty(request.userCreatedIds())) {
+                    throw new InvalidPointInputException("지급 대상 회원 ID 목록이 비어 있습니다.");
+                }
+
+                // 대상 ID 는 작업 행 저장 후 PointGrantJobTargets 에 저장
+                yield new PointGrantJob(request.targetType(), null, request.amount(), description);
+            }
+            case GRADE -> {
+                gradeRepository.findByGradeName(request.gradeName())
+                        .orElseThrow(() -> {
+                            log.error("[PointGrantService] 일괄 지급 등록 실패: 존재하지 않는 등급 ({})", request.gradeName());
+                            return new GradeNotFoundException("존재하지 않는 등급입니다.");
+                        });
+
+                yield new PointGrantJob(request.targetType(), request.gradeName(), request.amount(), description);
+            }
+            case STATUS -> {
+                statusRepository.findByStatusName(request.statusName())
+                        .orElseThrow(() -> {
+                            log.error("[PointGrantService] 일괄 지급 등록 실패: 존재하지 않는 상태 ({})", request.statusName());
+                            return new StateNotFoundException("존재하지 않는 상태입니다.");
+                        });
+
+                yield new PointGrantJob(request.targetType(), request.statusName(), request.amount(), description);
+            }
+        };
+    }
+
+    // PK 가 (작업, 회원) 이므로 중복 제거, 오름차순 INSERT 로 인덱스 페이지 분할을 줄임
+    private List<Long> toTargetIds(PointGrantRequest request) {
+        return request.userCreatedIds().stream()
+                .distinct()
+                .sorted()
+                .toList();
+    }
+
+    private PointGrantJob getJob(Long pointGrantJobId) {
+        return pointGrantJobRepository.findById(pointGrantJobId)
+                .orElseThrow(() -> new PointGrantJobNotFoundException("존재하지 않는 일괄 지급 작업입니다."));
+    }
+
+    // 대상 청크: 지급할 회원 ID + 커밋 후 체크포인트
+    private record Chunk(List<Long> userIds, long lastSeenId) {
+
+        private static final Chunk END = new Chunk(List.of(), -1);
+
+        boolean isEnd() {
+            return this == END;
+        }
+    }
+
+}
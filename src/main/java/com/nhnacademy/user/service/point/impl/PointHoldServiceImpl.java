@@ -0,0 +1,266 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.service.point.impl;
+
+import com.nhnacademy.user.config.SchedulingConfig;
+import com.nhnacademy.user.entity.point.PointHold;
+import com.nhnacademy.user.entity.point.PointHoldStatus;
+import com.nhnacademy.user.entity.point.Type;
+import com.nhnacademy.user.entity.user.User;
+import com.nhnacademy.user.exception.point.PointNotEnoughException;
+import com.nhnacademy.user.exception.user.UserNotFoundException;
+import com.nhnacademy.user.properties.SagaPointHoldProperties;
+import com.nhnacademy.user.repository.point.PointHoldRepository;
+import com.nhnacademy.user.repository.point.projection.PointHoldRef;
+import com.nhnacademy.user.repository.user.UserRepository;
+import com.nhnacademy.user.service.point.PointHoldService;
+import com.nhnacademy.user.service.point.ledger.PointChange;
+import com.nhnacademy.user.service.point.ledger.PointHistoryWriter;
+import com.nhnacademy.user.service.point.ledger.PointLotManager;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 주문 사가 포인트 홀드 (2단계 차감)
+ * <p>
+ * 주문 확정 이벤트는 조건부 UPDATE 한 번으로 사용 포인트를 Users.reserved_point 에 잡아 두고 홀드 한 행만 남긴다.
+ * 보상 이벤트는 홀드를 취소하고 잡아 둔 포인트만 풀기 때문에 실패한 주문은 포인트 내역, 묶음을 하나도 남기지 않는다.
+ * <p>
+ * 성공한 주문에는 오케스트레이터가 따로 메시지를 보내지 않으므로, 보상 대기 기간이 지난 홀드는 정리 배치가 청크 단위로 확정한다.
+ * 잠금 순서는 단건 포인트 처리와 같다(회원 행 > 홀드 행 > 묶음 행). 회원은 ID 오름차순으로 잠근다.
+ * <p>
+ * 유효기간 만료는 잡아 둔 포인트를 소멸시키지 않으므로 확정 시점 잔액은 사용 포인트 이상이어야 한다.
+ * 그래도 잔액이 모자라면 차감 금액을 줄이지 않고 홀드를 HELD 로 남겨 두고 오류 로그를 남긴다(다음 정리 주기에 다시 시도).
+ * 성공한 주문의 적립 포인트도 이 정리 배치에서만 반영되므로 홀드를 켜면 적립은 최대 TTL 만큼 늦어진다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PointHoldServiceImpl implements PointHoldService {
+
+    private static final String USE_DESCRIPTION = "주문/결제시 포인트 사용";
+
+    private static final String EARN_DESCRIPTION = "주문/결제 후 포인트 적립";
+
+    private final PointHoldRepository pointHoldRepository;
+
+    private final UserRepository userRepository;
+
+    private final PointHistoryWriter pointHistoryWriter;
+
+    private final PointLotManager pointLotManager;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final SagaPointHoldProperties sagaPointHoldProperties;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    /**
+     * 주문 사용 포인트를 잡아 두는 메소드
+     *
+     * @param userCreatedId Users 테이블 PK
+     * @param orderId       주문 ID (같은 주문은 한 번만 잡음)
+     * @param usedPoint     사용 포인트
+     * @param savedPoint    확정 시 적립할 포인트
+     */
+    @Override
+    @Transactional
+    public void hold(Long userCreatedId, Long orderId, long usedPoint, long savedPoint) {
+        if (usedPoint <= 0 && savedPoint <= 0) {
+            return;
+        }
+
+        if (pointHoldRepository.existsByOrderId(orderId)) {
+            log.info("[PointHoldService] 이미 포인트 홀드가 있는 주문 (주문: {})", orderId);
+            return;
+        }
+
+        if (usedPoint > 0) {
+            if (userRepository.reservePointIfAvailable(userCreatedId, usedPoint) == 0) {
+                // 변경된 행이 없으면 회원이 없거나 사용 가능 잔액이 부족한 경우
+                if (!userRepository.existsById(userCreatedId)) {
+                    throw new UserNotFoundException("찾을 수 없는 회원입니다.");
+                }
+
+                log.warn("[PointHoldService] 포인트 홀드 실패: 잔액 부족 (회원: {})", userCreatedId);
+                throw new PointNotEnoughException("포인트 잔액이 부족합니다.");
+            }
+        } else if (!userRepository.existsById(userCreatedId)) {
+            throw new UserNotFoundException("찾을 수 없는 회원입니다.");
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        pointHoldRepository.save(new PointHold(userCreatedId, orderId, Math.max(usedPoint, 0L),
+                Math.max(savedPoint, 0L), now, now.plus(sagaPointHoldProperties.getTtl())));
+    }
+
+    /**
+     * 주문의 홀드를 취소하고 잡아 둔 포인트를 푸는 메소드
+     *
+     * @param userCreatedId Users 테이블 PK
+     * @param orderId       주문 ID
+     * @return 취소한 홀드가 있으면 true, 홀드가 없거나 이미 확정/취소되었으면 false
+     */
+    @Override
+    @Transactional
+    public boolean cancel(Long userCreatedId, Long orderId) {
+        // 홀드 없이 처리된 주문의 보상은 회원 행을 잠그지 않음
+        if (!pointHoldRepository.existsByOrderIdAndStatus(orderId, PointHoldStatus.HELD)) {
+            return false;
+        }
+
+        User user = userRepository.findByIdForUpdate(userCreatedId)
+                .orElseThrow(() -> new UserNotFoundException("찾을 수 없는 회원입니다."));
+
+        // 잠금 순서(회원 > 홀드)대로 다시 읽음: 그 사이 정리 배치가 확정했으면 기존 방식으로 되돌리도록 false
+        Optional<PointHold> held = pointHoldRepository.findHeldByOrderIdForUpdate(orderId);
+
+        if (held.isEmpty()) {
+            return false;
+        }
+
+        PointHold hold = held.get();
+        user.releasePoint(hold.getUsedAmount());
+        hold.cancel();
+
+        return true;
+    }
+
+    // 꺼 둔 뒤에도 남아 있는 홀드는 확정해야 하므로 사용 여부와 상관없이 실행
+    @Scheduled(fixedDelayString = "${saga.point-hold.sweep-interval:60000}", scheduler = SchedulingConfig.BATCH_SCHEDULER)
+    public void scheduledCommit() {
+        commitExpired();
+    }
+
+    @Override
+    public int commitExpired() {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("[PointHoldService] 이미 포인트 홀드 확정이 진행 중입니다.");
+            return 0;
+        }
+
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            int chunkSize = sagaPointHoldProperties.getChunkSize();
+            int committed = 0;
+
+            PointHoldRef last = null;
+
+            while (true) {
+                // 후보 조회는 트랜잭션 밖에서 잠그지 않고 읽음, 잠금은 아래 청크 트랜잭션에서만
+                // 확정하지 못하고 HELD 로 남는 홀드가 있으므로 처음부터 다시 읽지 않고 앞 청크 이후부터 읽음
+                List<PointHoldRef> candidates = last == null
+                        ? pointHoldRepository.findExpired(now, Limit.of(chunkSize))
+                        : pointHoldRepository.findExpiredAfter(now, last.expiresAt(), last.pointHoldId(),
+                                Limit.of(chunkSize));
+
+                if (candidates.isEmpty()) {
+                    break;
+                }
+
+                Integer count = transactionTemplate.execute(status -> commitChunk(candidates));
+                committed += count != null ? count : 0;
+
+                if (candidates.size() < chunkSize) {
+                    break;
+                }
+
+                last = candidates.getLast();
+            }
+
+            if (committed > 0) {
+                log.info("[PointHoldService] 포인트 홀드 확정 완료: {}건 (기준 시각: {})", committed, now);
+            }
+
+            return committed;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    // 청크 하나 확정 처리, 실제로 확정된 홀드 수 반환
+    private int commitChunk(List<PointHoldRef> candidates) {
+        List<Long> userIds = candidates.stream()
+                .map(PointHoldRef::userCreatedId)
+                .distinct()
+                .sorted()
+                .toList();
+
+        // 회원 행을 먼저 잠근 뒤 홀드를 다시 읽음: 그 사이 취소된 홀드는 HELD 가 아니므로 빠짐
+        Map<Long, User> users = userRepository.findAllByIdForUpdate(userIds).stream()
+                .collect(Collectors.toMap(User::getUserCreatedId, Function.identity()));
+        List<PointHold> holds = pointHoldRepository.findHeldByIdsForUpdate(
+                candidates.stream().map(PointHoldRef::pointHoldId).toList());
+
+        List<PointChange> changes = new ArrayList<>(holds.size() * 2);
+        int committed = 0;
+
+        for (PointHold hold : holds) {
+            User user = users.get(hold.getUserCreatedId());
+
+            if (user == null) {
+                // 홀드 이후 탈퇴로 회원 행이 삭제된 경우: 반영할 잔액이 없으므로 취소
+                log.warn("[PointHoldService] 회원이 없는 포인트 홀드 취소 (주문: {})", hold.getOrderId());
+                hold.cancel();
+                continue;
+            }
+
+            long used = hold.getUsedAmount();
+            long currentPoint = user.getCurrentPoint() != null ? user.getCurrentPoint() : 0L;
+
+            if (used > currentPoint) {
+                // 잡아 둔 포인트는 만료되지 않으므로 잔액 불일치: 차감을 줄여 확정하지 않고 홀드를 그대로 남김
+                log.error("[PointHoldService] 포인트 홀드 확정 보류: 잔액 부족 (회원: {}, 주문: {}, 사용: {}, 잔액: {})",
+                        user.getUserCreatedId(), hold.getOrderId(), used, currentPoint);
+                continue;
+            }
+
+            user.releasePoint(used);
+
+            if (used > 0) {
+                user.modifyPoint(-used);
+                changes.add(new PointChange(user.getUserCreatedId(), used, Type.USE, USE_DESCRIPTION));
+            }
+
+            if (hold.getSavedAmount() > 0) {
+                user.modifyPoint(hold.getSavedAmount());
+                changes.add(new PointChange(user.getUserCreatedId(), hold.getSavedAmount(), Type.EARN,
+                        EARN_DESCRIPTION));
+            }
+
+            hold.commit();
+            committed++;
+        }
+
+        // 내역은 multi-row INSERT 한 번, 적립 묶음도 한 번에 만들고 사용은 회원별 선입선출 차감
+        pointHistoryWriter.appendAll(changes.stream().map(PointChange::toHistoryRow).toList());
+        pointLotManager.recordAll(changes);
+
+        return committed;
+    }
+
+}
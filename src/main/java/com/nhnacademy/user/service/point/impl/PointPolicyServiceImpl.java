@@ -15,6 +15,7 @@ package com.nhnacademy.user.service.point.impl;
 import com.nhnacademy.user.dto.request.PointPolicyRequest;
 import com.nhnacademy.user.dto.response.PointPolicyResponse;
 import com.nhnacademy.user.entity.point.PointPolicy;
+import com.nhnacademy.user.event.PointPolicyChangedEvent;
 import com.nhnacademy.user.exception.point.PointPolicyAlreadyExistsException;
 import com.nhnacademy.user.exception.point.PointPolicyNotFoundException;
 import com.nhnacademy.user.repository.point.PointPolicyRepository;
@@ -22,6 +23,7 @@ import com.nhnacademy.user.service.point.PointPolicyService;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -32,6 +34,8 @@ public class PointPolicyServiceImpl implements PointPolicyService {
 
     private final PointPolicyRepository pointPolicyRepository;
 
+    private final ApplicationEventPublisher eventPublisher;
+
     /**
      * (관리자 전용) 포인트 정책을 등록하는 메소드
      *
@@ -47,6 +51,9 @@ public class PointPolicyServiceImpl implements PointPolicyService {
 
         pointPolicyRepository.save(
                 new PointPolicy(request.policyName(), request.policyType(), request.method(), request.earnPoint()));
+
+        // 등록/수정/삭제 모두 커밋 후 전체 인스턴스의 정책 캐시를 비움
+        eventPublisher.publishEvent(new PointPolicyChangedEvent(request.policyType()));
     }
 
     /**
@@ -82,7 +89,11 @@ public class PointPolicyServiceImpl implements PointPolicyService {
                     return new PointPolicyNotFoundException("찾을 수 없는 정책입니다.");
                 });
 
+        String previousPolicyType = pointPolicy.getPolicyType();
+
         pointPolicy.modifyPolicy(request.policyName(), request.policyType(), request.method(), request.earnPoint());
+
+        eventPublisher.publishEvent(new PointPolicyChangedEvent(previousPolicyType));
     }
 
     /**
@@ -93,12 +104,15 @@ public class PointPolicyServiceImpl implements PointPolicyService {
     @Override
     @Transactional
     public void deletePolicy(Long pointPolicyId) {
-        if (!pointPolicyRepository.existsById(pointPolicyId)) {
-            log.warn("[PointPolicyService] 포인트 정책 삭제 실패: 찾을 수 없는 정책 ({})", pointPolicyId);
-            throw new PointPolicyNotFoundException("찾을 수 없는 정책입니다.");
-        }
+        PointPolicy pointPolicy = pointPolicyRepository.findById(pointPolicyId)
+                .orElseThrow(() -> {
+                    log.warn("[PointPolicyService] 포인트 정책 삭제 실패: 찾을 수 없는 정책 ({})", pointPolicyId);
+                    return new PointPolicyNotFoundException("찾을 수 없는 정책입니다.");
+                });
+
+        pointPolicyRepository.delete(pointPolicy);
 
-        pointPolicyRepository.deleteById(pointPolicyId);
+        eventPublisher.publishEvent(new PointPolicyChangedEvent(pointPolicy.getPolicyType()));
     }
 
 }
@@ -0,0 +1,243 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.service.point.impl;
+
+import com.nhnacademy.user.config.SchedulingConfig;
+import com.nhnacademy.user.dto.response.PointDriftResponse;
+import com.nhnacademy.user.dto.response.PointReconciliationReport;
+import com.nhnacademy.user.entity.point.PointBalanceSnapshot;
+import com.nhnacademy.user.entity.user.User;
+import com.nhnacademy.user.exception.user.UserNotFoundException;
+import com.nhnacademy.user.properties.PointReconciliationProperties;
+import com.nhnacademy.user.repository.point.PointBalanceSnapshotRepository;
+import com.nhnacademy.user.repository.point.PointHistoryRepository;
+import com.nhnacademy.user.repository.point.projection.PointBalanceDelta;
+import com.nhnacademy.user.repository.point.projection.UserPointBalance;
+import com.nhnacademy.user.repository.user.UserRepository;
+import com.nhnacademy.user.service.point.PointReconciliationService;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 포인트 잔액 검증
+ * <p>
+ * 회원별 스냅샷(잔액, 마지막 반영 내역 ID)을 기준으로, 스냅샷 이후의 내역만 합산해 currentPoint 와 비교한다.
+ * 검증하면서 안전 구간(safety lag) 이전 내역까지 스냅샷을 앞으로 옮겨 두므로, 다음 검증은 그 이후 내역만 읽는다.
+ * <p>
+ * 잔액, 스냅샷, 내역 합계는 청크마다 한 트랜잭션에서 읽는다.
+ * 잔액 변경과 내역 INSERT 가 같은 트랜잭션이므로, 같은 시점을 보면 진행 중인 포인트 처리는 양쪽 모두에서 보이지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PointReconciliationServiceImpl implements PointReconciliationService {
+
+    private final UserRepository userRepository;
+
+    private final PointHistoryRepository pointHistoryRepository;
+
+    private final PointBalanceSnapshotRepository pointBalanceSnapshotRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final PointReconciliationProperties pointReconciliationProperties;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    private volatile PointReconciliationReport lastReport;
+
+    @Scheduled(cron = "${point.reconciliation.cron:0 0 3 * * *}", scheduler = SchedulingConfig.BATCH_SCHEDULER)
+    public void scheduledReconcile() {
+        if (pointReconciliationProperties.isEnabled()) {
+            reconcile();
+        }
+    }
+
+    @Override
+    public PointReconciliationReport reconcile() {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("[PointReconciliationService] 이미 잔액 검증이 진행 중입니다.");
+            return lastReport;
+        }
+
+        try {
+            LocalDateTime startedAt = LocalDateTime.now();
+            LocalDateTime cutoff = startedAt.minus(pointReconciliationProperties.getSafetyLag());
+
+            long cutId = pointHistoryRepository.findLastIdCreatedBefore(cutoff, Limit.of(1)).stream()
+                    .findFirst()
+                    .orElse(0L);
+
+            Tally tally = new Tally(pointReconciliationProperties.getMaxReportedDrifts());
+            PageRequest page = PageRequest.of(0, pointReconciliationProperties.getChunkSize());
+            long lastSeenId = 0L;
+
+            while (true) {
+                List<Long> userIds = userRepository.findIdsAfter(lastSeenId, page);
+
+                if (userIds.isEmpty()) {
+                    break;
+                }
+
+                transactionTemplate.executeWithoutResult(status -> reconcileChunk(userIds, cutId, tally));
+                lastSeenId = userIds.getLast();
+            }
+
+            PointReconciliationReport report = new PointReconciliationReport(startedAt, LocalDateTime.now(), cutId,
+                    tally.checkedUsers, tally.advancedSnapshots, tally.driftedUsers, List.copyOf(tally.drifts));
+
+            lastReport = report;
+
+            if (report.driftedUsers() > 0) {
+                log.warn("[PointReconciliationService] 잔액 불일치 발견: {}명 / 검증 {}명 (기준 내역 ID: {})",
+                        report.driftedUsers(), report.checkedUsers(), cutId);
+            } else {
+                log.info("[PointReconciliationService] 잔액 검증 완료: 검증 {}명, 스냅샷 갱신 {}건 (기준 내역 ID: {})",
+                        report.checkedUsers(), report.advancedSnapshots(), cutId);
+            }
+
+            return report;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    @Override
+    public PointReconciliationReport getLastReport() {
+        return lastReport;
+    }
+
+    /**
+     * 회원 행을 먼저 잠근 뒤 스냅샷 + 이후 내역 합계로 잔액을 다시 계산해 맞추는 메소드
+     *
+     * @param userCreatedId Users 테이블 PK
+     * @return 보정 전 잔액과 계산된 잔액
+     */
+    @Override
+    @Transactional
+    public PointDriftResponse rebuild(Long userCreatedId) {
+        // 잠금을 먼저 잡아야 이후 조회가 진행 중이던 포인트 처리의 커밋 결과까지 봄
+        User user = userRepository.findByIdForUpdate(userCreatedId)
+                .orElseThrow(() -> new UserNotFoundException("찾을 수 없는 회원입니다."));
+
+        Optional<PointBalanceSnapshot> snapshot = pointBalanceSnapshotRepository.findById(userCreatedId);
+        long base = snapshot.map(PointBalanceSnapshot::getBalance).orElse(0L);
+
+        // 스냅샷 이후 전체 내역 합계만 사용 (기준 ID 는 의미 없음)
+        List<Long> target = List.of(userCreatedId);
+        List<PointBalanceDelta> deltas = snapshot.isPresent()
+                ? pointHistoryRepository.sumSinceSnapshot(target, 0L)
+                : pointHistoryRepository.sumAll(target, 0L);
+        long total = deltas.stream().findFirst().map(PointBalanceDelta::totalAmount).orElse(0L);
+
+        long current = Objects.requireNonNullElse(user.getCurrentPoint(), 0L);
+        long expected = base + total;
+
+        if (current != expected) {
+            user.modifyPoint(expected - current);
+            log.warn("[PointReconciliationService] 회원 ({}) 잔액 보정: {} -> {}", userCreatedId, current, expected);
+        }
+
+        return new PointDriftResponse(userCreatedId, current, expected, current - expected);
+    }
+
+    private void reconcileChunk(List<Long> userIds, long cutId, Tally tally) {
+        Map<Long, PointBalanceSnapshot> snapshots = pointBalanceSnapshotRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(PointBalanceSnapshot::getUserCreatedId, Function.identity()));
+
+        // 스냅샷이 있는 회원은 기준 ID 이후만, 없는 회원(신규)은 처음부터 합산
+        List<Long> fresh = userIds.stream().filter(id -> !snapshots.containsKey(id)).toList();
+
+        Map<Long, PointBalanceDelta> deltas = new HashMap<>();
+        if (!snapshots.isEmpty()) {
+            pointHistoryRepository.sumSinceSnapshot(List.copyOf(snapshots.keySet()), cutId)
+                    .forEach(delta -> deltas.put(delta.userCreatedId(), delta));
+        }
+        if (!fresh.isEmpty()) {
+            pointHistoryRepository.sumAll(fresh, cutId).forEach(delta -> deltas.put(delta.userCreatedId(), delta));
+        }
+
+        List<PointBalanceSnapshot> created = new ArrayList<>();
+
+        for (UserPointBalance balance : userRepository.findPointBalances(userIds)) {
+            Long userCreatedId = balance.userCreatedId();
+            PointBalanceSnapshot snapshot = snapshots.get(userCreatedId);
+            PointBalanceDelta delta = deltas.get(userCreatedId);
+
+            long base = snapshot == null ? 0L : snapshot.getBalance();
+            long expected = base + (delta == null ? 0L : delta.totalAmount());
+            long current = Objects.requireNonNullElse(balance.currentPoint(), 0L);
+
+            tally.checkedUsers++;
+
+            if (current != expected) {
+                tally.drift(new PointDriftResponse(userCreatedId, current, expected, current - expected));
+            }
+
+            long settledAmount = delta == null ? 0L : delta.settledAmount();
+
+            if (snapshot == null) {
+                created.add(new PointBalanceSnapshot(userCreatedId, settledAmount, cutId));
+                tally.advancedSnapshots++;
+            } else if (delta != null && delta.settledCount() > 0) {
+                snapshot.advance(settledAmount, cutId);
+                tally.advancedSnapshots++;
+            }
+        }
+
+        pointBalanceSnapshotRepository.saveAll(created);
+    }
+
+    // 검증 중 집계 (검증 작업은 한 번에 하나만 돌기 때문에 동기화 불필요)
+    private static final class Tally {
+
+        private final int maxReportedDrifts;
+
+        private final List<PointDriftResponse> drifts = new ArrayList<>();
+
+        private long checkedUsers;
+
+        private long advancedSnapshots;
+
+        private long driftedUsers;
+
+        private Tally(int maxReportedDrifts) {
+            this.maxReportedDrifts = maxReportedDrifts;
+        }
+
+        private void drift(PointDriftResponse drift) {
+            driftedUsers++;
+
+            if (drifts.size() < maxReportedDrifts) {
+                drifts.add(drift);
+            }
+        }
+    }
+
+}
@@ -14,23 +14,34 @@ package com.nhnacademy.user.service.point.impl;
 
 import com.nhnacademy.user.dto.request.PointRequest;
 import com.nhnacademy.user.dto.response.PointHistoryResponse;
+import com.nhnacademy.user.dto.response.PointHistorySliceResponse;
+import com.nhnacademy.user.dto.response.PointPolicyResponse;
 import com.nhnacademy.user.entity.point.Method;
 import com.nhnacademy.user.entity.point.PointHistory;
-import com.nhnacademy.user.entity.point.PointPolicy;
+import com.nhnacademy.user.entity.point.PointHistoryArchive;
 import com.nhnacademy.user.entity.point.Type;
 import com.nhnacademy.user.entity.user.User;
 import com.nhnacademy.user.exception.point.InvalidPointInputException;
-import com.nhnacademy.user.exception.point.PointNotEnoughException;
 import com.nhnacademy.user.exception.point.PointPolicyNotFoundException;
 import com.nhnacademy.user.exception.user.UserNotFoundException;
+import com.nhnacademy.user.repository.point.PointHistoryArchiveRepository;
 import com.nhnacademy.user.repository.point.PointHistoryRepository;
-import com.nhnacademy.user.repository.point.PointPolicyRepository;
 import com.nhnacademy.user.repository.user.UserRepository;
 import com.nhnacademy.user.service.point.PointService;
+import com.nhnacademy.user.service.point.cache.PointPolicyCache;
+import com.nhnacademy.user.service.point.ledger.PointChange;
+import com.nhnacademy.user.service.point.ledger.PointEarnQueue;
+import com.nhnacademy.user.service.point.ledger.PointLedger;
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -40,9 +51,14 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 public class PointServiceImpl implements PointService {
 
+    private static final int MAX_SCROLL_SIZE = 100;
+
     private final UserRepository userRepository;
     private final PointHistoryRepository pointHistoryRepository;
-    private final PointPolicyRepository pointPolicyRepository;
+    private final PointHistoryArchiveRepository pointHistoryArchiveRepository;
+    private final PointPolicyCache pointPolicyCache;
+    private final PointLedger pointLedger;
+    private final PointEarnQueue pointEarnQueue;
 
     /**
      * 포인트 정책을 기반으로 포인트 적립하는 메소드
@@ -51,7 +67,6 @@ public class PointServiceImpl implements PointService {
      * @param policyType    포인트 정책 타입
      */
     @Override
-    @Transactional
     public void earnPointByPolicy(Long userCreatedId, String policyType) {
         earnPointByPolicy(userCreatedId, policyType, null);
     }
@@ -65,33 +80,33 @@ public class PointServiceImpl implements PointService {
      */
     @Override
     public void earnPointByPolicy(Long userCreatedId, String policyType, BigDecimal targetAmount) {
-        User user = getLockUser(userCreatedId);
+        // 트랜잭션은 포인트 엔진이 직접 엶 (묶음 처리 엔진이 요청 스레드 트랜잭션 밖에서 배치를 커밋할 수 있도록)
+        // 정책 조회와 적립액 계산은 회원 행을 잠그기 전에 끝내서 락 보유 시간을 줄임
+        PointPolicyResponse pointPolicy = getPolicy(policyType);
+        long calculatedAmount = calculateEarnAmount(pointPolicy, targetAmount);
 
-        PointPolicy pointPolicy = pointPolicyRepository.findByPolicyType(policyType)
-                .orElseThrow(() -> {
-                    log.error("[PointService] 포인트 정책 기반 적립 실패: 찾을 수 없는 포인트 정책 ({})", policyType);
-                    return new PointPolicyNotFoundException("존재하지 않는 포인트 정책입니다.");
-                });
-
-        long calculatedAmount;
-
-        if (pointPolicy.getMethod() == Method.AMOUNT) { // 정액일 때
-            calculatedAmount = pointPolicy.getEarnPoint().longValue();  // 정책에 설정된 값 그대로 사용 (소수점 버림)
-
-        } else {    // 정률일 때
-            if (targetAmount == null || targetAmount.compareTo(BigDecimal.ZERO) <= 0) {
-                log.warn("[PointService] 포인트 정책 기반 적립 실패: 잘못된 포인트 입력 값");
-                throw new InvalidPointInputException("정률(RATIO) 정책은 기준 금액이 필수입니다.");
-            }
-
-            calculatedAmount = targetAmount.multiply(pointPolicy.getEarnPoint()).longValue();
-        }
+        // 포인트 내역 저장 + Users 테이블 현재 포인트 동기화
+        pointLedger.apply(new PointChange(userCreatedId, calculatedAmount, Type.EARN, pointPolicy.policyName()));
+    }
 
-        // 포인트 내역 저장
-        pointHistoryRepository.save(new PointHistory(user, calculatedAmount, Type.EARN, pointPolicy.getPolicyName()));
+    /**
+     * 주문 적립처럼 몰리는 정책 기반 적립을 대기열에 넣고 바로 반환하는 메소드
+     * <p>
+     * 정책 검증과 적립액 계산까지만 요청 스레드에서 하고, 잔액 반영은 대기열이 회원별로 합쳐서 처리
+     * 호출한 쪽 트랜잭션이 롤백되어도 접수는 취소되지 않으므로 트랜잭션 밖에서 호출
+     *
+     * @param userCreatedId Users 테이블 PK
+     * @param policyType    포인트 정책 타입
+     * @param targetAmount  적립할 포인트 값 (정률일 때 기준 금액)
+     * @param orderId       주문 ID (멱등 키)
+     * @return 새로 접수했으면 true, 이미 접수된 주문이면 false
+     */
+    @Override
+    public boolean enqueueEarnByPolicy(Long userCreatedId, String policyType, BigDecimal targetAmount, Long orderId) {
+        PointPolicyResponse pointPolicy = getPolicy(policyType);
+        long calculatedAmount = calculateEarnAmount(pointPolicy, targetAmount);
 
-        // Users 테이블 현재 포인트 필드도 같이 동기화
-        user.modifyPoint(calculatedAmount);
+        return pointEarnQueue.enqueue(userCreatedId, orderId, calculatedAmount, pointPolicy.policyName());
     }
 
     /**
@@ -100,28 +115,15 @@ public class PointServiceImpl implements PointService {
      * @param request Users 테이블 PK, 적립할 금액, 포인트 타입(적립/사용/취소), 설명
      */
     @Override
-    @Transactional
     public void processPoint(PointRequest request) {
-        User user = getLockUser(request.userCreatedId());
-
-        if (request.type() == Type.USE) {
-            Long currentPoint = user.getCurrentPoint();
-
-            if (currentPoint == null) {
-                currentPoint = 0L;
-            }
-
-            if (currentPoint.compareTo(request.amount()) < 0) {
-                log.warn("[PointService] 포인트 변동 수동 처리 실패: 잔액 부족 (현재: {})", currentPoint);
-                throw new PointNotEnoughException("포인트 잔액이 부족합니다.");
-            }
+        if (request.type() == Type.EXPIRE) {
+            log.warn("[PointService] 포인트 수동 처리 실패: 만료 차감은 수동으로 처리할 수 없음");
+            throw new InvalidPointInputException("만료 차감은 수동으로 처리할 수 없습니다.");
         }
 
-        // 포인트 내역 저장
-        pointHistoryRepository.save(new PointHistory(user, request.amount(), request.type(), request.description()));
-
-        // Users 테이블 현재 포인트 필드도 같이 동기화
-        user.modifyPoint(request.type() == Type.USE ? -request.amount() : request.amount());
+        // 잔액 검증, 포인트 내역 저장, Users 테이블 현재 포인트 동기화는 포인트 엔진이 처리
+        pointLedger.apply(new PointChange(request.userCreatedId(), request.amount(), request.type(),
+                request.description()));
     }
 
     /**
@@ -136,9 +138,79 @@ public class PointServiceImpl implements PointService {
     public Page<PointHistoryResponse> getMyPointHistory(Long userCreatedId, Pageable pageable) {
         User user = getUser(userCreatedId);
 
-        return pointHistoryRepository.findAllByUserOrderByCreatedAtDesc(user, pageable)
-                .map(history -> new PointHistoryResponse(
-                        history.getAmount(), history.getType(), history.getDescription(), history.getCreatedAt()));
+        Page<PointHistory> hot = pointHistoryRepository.findAllByUserOrderByCreatedAtDesc(user, pageable);
+        long archivedCount = pointHistoryArchiveRepository.countByUserCreatedId(userCreatedId);
+
+        List<PointHistoryResponse> content = new ArrayList<>(pageable.getPageSize());
+        hot.forEach(history -> content.add(HistoryEntry.of(history).response()));
+
+        // hot 내역만으로 페이지가 다 차지 않으면 보관 내역으로 이어서 채움 (보관 내역은 항상 hot 내역보다 오래됨)
+        int missing = pageable.getPageSize() - content.size();
+
+        if (missing > 0 && archivedCount > 0) {
+            long archiveOffset = Math.max(0L, pageable.getOffset() - hot.getTotalElements());
+
+            pointHistoryArchiveRepository.findLatest(userCreatedId, archiveOffset, missing)
+                    .forEach(archive -> content.add(HistoryEntry.of(archive).response()));
+        }
+
+        return new PageImpl<>(content, pageable, hot.getTotalElements() + archivedCount);
+    }
+
+    /**
+     * 포인트 내역을 커서 기반으로 조회하는 메소드 (COUNT, OFFSET 없음)
+     *
+     * @param userCreatedId   Users 테이블 PK
+     * @param cursorCreatedAt 이전 페이지 마지막 내역의 생성일시 (첫 페이지면 null)
+     * @param cursorId        이전 페이지 마지막 내역의 PK (첫 페이지면 null)
+     * @param size            페이지 크기
+     * @return 내역 목록과 다음 페이지 커서
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public PointHistorySliceResponse scrollMyPointHistory(Long userCreatedId, LocalDateTime cursorCreatedAt,
+                                                          Long cursorId, int size) {
+        if ((cursorCreatedAt == null) != (cursorId == null)) {
+            throw new InvalidPointInputException("커서는 생성일시와 내역 ID를 함께 보내야 합니다.");
+        }
+
+        int pageSize = Math.clamp(size, 1, MAX_SCROLL_SIZE);
+        // 한 건 더 읽어서 다음 페이지 존재 여부 판단
+        Limit limit = Limit.of(pageSize + 1);
+
+        if (cursorId == null) {
+            // 첫 페이지에서만 회원 존재 확인, 커서는 요청 시각 기준 가장 최신 위치
+            if (!userRepository.existsById(userCreatedId)) {
+                throw new UserNotFoundException("찾을 수 없는 회원입니다.");
+            }
+            cursorCreatedAt = LocalDateTime.now();
+            cursorId = Long.MAX_VALUE;
+        }
+
+        List<HistoryEntry> entries = new ArrayList<>(pageSize + 1);
+        pointHistoryRepository.findBefore(userCreatedId, cursorCreatedAt, cursorId, limit)
+                .forEach(history -> entries.add(HistoryEntry.of(history)));
+
+        if (entries.size() < limit.max()) {
+            // 커서가 hot 구간을 지나면 같은 커서로 보관 테이블에서 이어서 읽고, 정렬 순서대로 합침
+            pointHistoryArchiveRepository.findBefore(userCreatedId, cursorCreatedAt, cursorId, limit)
+                    .forEach(archive -> entries.add(HistoryEntry.of(archive)));
+            entries.sort(HistoryEntry.NEWEST_FIRST);
+        }
+
+        boolean hasNext = entries.size() > pageSize;
+        List<HistoryEntry> page = hasNext ? entries.subList(0, pageSize) : entries;
+
+        List<PointHistoryResponse> content = page.stream()
+                .map(HistoryEntry::response)
+                .toList();
+
+        if (!hasNext) {
+            return new PointHistorySliceResponse(content, false, null, null);
+        }
+
+        HistoryEntry last = page.getLast();
+        return new PointHistorySliceResponse(content, true, last.createdAt(), last.pointHistoryId());
     }
 
     private User getUser(Long userCreatedId) {
@@ -146,9 +218,44 @@ public class PointServiceImpl implements PointService {
                 .orElseThrow(() -> new UserNotFoundException("찾을 수 없는 회원입니다."));
     }
 
-    private User getLockUser(Long userCreatedId) {
-        return userRepository.findByIdForUpdate(userCreatedId)
-                .orElseThrow(() -> new UserNotFoundException("찾을 수 없는 회원입니다."));
+    private PointPolicyResponse getPolicy(String policyType) {
+        return pointPolicyCache.get(policyType)
+                .orElseThrow(() -> {
+                    log.error("[PointService] 포인트 정책 기반 적립 실패: 찾을 수 없는 포인트 정책 ({})", policyType);
+                    return new PointPolicyNotFoundException("존재하지 않는 포인트 정책입니다.");
+                });
+    }
+
+    private long calculateEarnAmount(PointPolicyResponse pointPolicy, BigDecimal targetAmount) {
+        if (pointPolicy.method() == Method.AMOUNT) { // 정액일 때
+            return pointPolicy.earnPoint().longValue();  // 정책에 설정된 값 그대로 사용 (소수점 버림)
+        }
+
+        // 정률일 때
+        if (targetAmount == null || targetAmount.compareTo(BigDecimal.ZERO) <= 0) {
+            log.warn("[PointService] 포인트 정책 기반 적립 실패: 잘못된 포인트 입력 값");
+            throw new InvalidPointInputException("정률(RATIO) 정책은 기준 금액이 필수입니다.");
+        }
+
+        return targetAmount.multiply(pointPolicy.earnPoint()).longValue();
+    }
+
+    // hot 내역과 보관 내역을 같은 정렬 기준으로 합치기 위한 한 행
+    private record HistoryEntry(Long pointHistoryId, LocalDateTime createdAt, PointHistoryResponse response) {
+
+        private static final Comparator<HistoryEntry> NEWEST_FIRST = Comparator
+                .comparing(HistoryEntry::createdAt, Comparator.reverseOrder())
+                .thenComparing(HistoryEntry::pointHistoryId, Comparator.reverseOrder());
+
+        static HistoryEntry of(PointHistory history) {
+            return new HistoryEntry(history.getPointHistoryId(), history.getCreatedAt(), new PointHistoryResponse(
+                    history.getAmount(), history.getType(), history.getDescription(), history.getCreatedAt()));
+        }
+
+        static HistoryEntry of(PointHistoryArchive archive) {
+            return new HistoryEntry(archive.getPointHistoryId(), archive.getCreatedAt(), new PointHistoryResponse(
+                    archive.getAmount(), archive.getType(), archive.getDescription(), archive.getCreatedAt()));
+        }
     }
 
 }
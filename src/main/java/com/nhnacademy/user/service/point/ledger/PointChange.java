@@ -0,0 +1,33 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.service.point.ledger;
+
+import com.nhnacademy.user.entity.point.Type;
+import com.nhnacademy.user.repository.point.jdbc.PointHistoryRow;
+import java.time.LocalDateTime;
+
+public record PointChange(Long userCreatedId,
+                          Long amount,
+                          Type type,
+                          String description) {
+    // 포인트 엔진(PointLedger)에 전달되는 포인트 변동 한 건
+
+    public long signedAmount() {    // 잔액에 더해질 부호 있는 값 (사용, 만료는 차감)
+        return type == Type.USE || type == Type.EXPIRE ? -amount : amount;
+    }
+
+    public PointHistoryRow toHistoryRow() {    // 포인트 내역 한 행으로 변환
+        return new PointHistoryRow(userCreatedId, null, amount, type, description, LocalDateTime.now());
+    }
+
+}
@@ -0,0 +1,201 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.service.point.ledger;
+
+import com.nhnacademy.user.entity.point.PendingPointEarn;
+import com.nhnacademy.user.entity.point.Type;
+import com.nhnacademy.user.properties.PointEarnQueueProperties;
+import com.nhnacademy.user.repository.point.PendingPointEarnRepository;
+import com.nhnacademy.user.repository.point.PointHistoryRepository;
+import com.nhnacademy.user.repository.point.jdbc.PointHistoryRow;
+import com.nhnacademy.user.repository.user.UserRepository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 비동기 포인트 적립 대기열
+ * <p>
+ * 접수는 대기 테이블(PendingPointEarns)에 한 행 INSERT 만 하고 바로 반환합니다. 회원 행은 잠그지 않습니다.
+ * 반영은 백그라운드에서 배치 단위로, 같은 회원의 적립을 합쳐 회원당 UPDATE 한 번 + 내역 multi-row INSERT 로 처리합니다.
+ * <p>
+ * 멱등 키는 주문 ID 입니다. 대기 중에는 대기 테이블의 유니크 키가, 반영된 뒤에는 PointHistories.order_id 가 중복을 막습니다.
+ * 대기 행은 SKIP LOCKED 로 가져오므로 여러 인스턴스가 동시에 반영해도 같은 요청을 두 번 처리하지 않습니다.
+ * <p>
+ * 접수 INSERT 는 별도 트랜잭션(REQUIRES_NEW)에서 커밋합니다. 동시 접수로 유니크 키 위반이 나도 호출한 쪽 트랜잭션은
+ * rollback-only 가 되지 않습니다.
+ */
+@Slf4j
+@Component
+public class PointEarnQueue {
+
+    private final PendingPointEarnRepository pendingPointEarnRepository;
+
+    private final PointHistoryRepository pointHistoryRepository;
+
+    private final UserRepository userRepository;
+
+    private final PointHistoryWriter pointHistoryWriter;
+
+    private final PointLotManager pointLotManager;
+
+    private final TransactionTemplate transactionTemplate;
+
+    // 접수 전용: 호출한 쪽 트랜잭션과 분리
+    private final TransactionTemplate enqueueTransaction;
+
+    private final PointEarnQueueProperties pointEarnQueueProperties;
+
+    private final AtomicBoolean draining = new AtomicBoolean();
+
+    public PointEarnQueue(PendingPointEarnRepository pendingPointEarnRepository,
+                          PointHistoryRepository pointHistoryRepository, UserRepository userRepository,
+                          PointHistoryWriter pointHistoryWriter, PointLotManager pointLotManager,
+                          TransactionTemplate transactionTemplate, PointEarnQueueProperties pointEarnQueueProperties) {
+        this.pendingPointEarnRepository = pendingPointEarnRepository;
+        this.pointHistoryRepository = pointHistoryRepository;
+        this.userRepository = userRepository;
+        this.pointHistoryWriter = pointHistoryWriter;
+        this.pointLotManager = pointLotManager;
+        this.transactionTemplate = transactionTemplate;
+        this.enqueueTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.enqueueTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.pointEarnQueueProperties = pointEarnQueueProperties;
+    }
+
+    /**
+     * 적립 요청을 대기열에 넣는 메소드 - 별도 트랜잭션(REQUIRES_NEW)에서 바로 커밋
+     *
+     * @param userCreatedId Users 테이블 PK
+     * @param orderId       주문 ID (멱등 키)
+     * @param amount        적립 금액
+     * @param description   포인트 내역에 남길 설명
+     * @return 새로 접수했으면 true, 이미 접수되었거나 반영된 주문이면 false
+     */
+    public boolean enqueue(Long userCreatedId, Long orderId, long amount, String description) {
+        if (pendingPointEarnRepository.existsByOrderId(orderId)
+                || pointHistoryRepository.existsByOrderIdAndType(orderId, Type.EARN)) {
+            log.info("[PointEarnQueue] 이미 접수된 주문의 적립 요청: 주문 {}", orderId);
+            return false;
+        }
+
+        try {
+            enqueueTransaction.executeWithoutResult(status ->
+                    pendingPointEarnRepository.save(new PendingPointEarn(userCreatedId, orderId, amount, description)));
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            // 같은 주문이 동시에 접수된 경우: 유니크 키가 하나만 남김 (롤백은 접수 트랜잭션에서 끝남)
+            log.info("[PointEarnQueue] 동시에 접수된 주문의 적립 요청: 주문 {}", orderId);
+            return false;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${point.earn-queue.flush-interval:200}")
+    public void scheduledDrain() {
+        if (pointEarnQueueProperties.isEnabled()) {
+            drain();
+        }
+    }
+
+    /**
+     * 대기열이 빌 때까지 배치 단위로 반영하는 메소드
+     *
+     * @return 처리한 대기 요청 수 (중복, 탈퇴 회원으로 버린 요청 포함)
+     */
+    public int drain() {
+        if (!draining.compareAndSet(false, true)) {
+            return 0;
+        }
+
+        try {
+            int batchSize = pointEarnQueueProperties.getBatchSize();
+            int processed = 0;
+
+            while (true) {
+                Integer count = transactionTemplate.execute(status -> drainBatch(batchSize));
+                int drained = count != null ? count : 0;
+
+                processed += drained;
+
+                if (drained < batchSize) {
+                    break;
+                }
+            }
+
+            if (processed > 0) {
+                log.debug("[PointEarnQueue] 비동기 적립 반영: {}건", processed);
+            }
+
+            return processed;
+        } finally {
+            draining.set(false);
+        }
+    }
+
+    // 배치 하나 반영, 가져온 대기 요청 수 반환
+    private int drainBatch(int batchSize) {
+        List<PendingPointEarn> batch = pendingPointEarnRepository.findBatchForUpdate(Limit.of(batchSize));
+
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        Set<Long> earnedOrderIds = new HashSet<>(pointHistoryRepository.findOrderIdsByType(
+                batch.stream().map(PendingPointEarn::getOrderId).toList(), Type.EARN));
+        Set<Long> existingUserIds = new HashSet<>(userRepository.findExistingIds(
+                batch.stream().map(PendingPointEarn::getUserCreatedId).distinct().toList()));
+
+        // 회원 ID 오름차순으로 합산: 배치끼리 같은 순서로 회원 행을 잠가 교착을 피함
+        Map<Long, Long> amountByUser = new TreeMap<>();
+        List<PointHistoryRow> rows = new ArrayList<>(batch.size());
+        LocalDateTime now = LocalDateTime.now();
+
+        for (PendingPointEarn earn : batch) {
+            if (earnedOrderIds.contains(earn.getOrderId())) {
+                log.info("[PointEarnQueue] 이미 적립된 주문 건너뜀: 주문 {}", earn.getOrderId());
+                continue;
+            }
+
+            if (!existingUserIds.contains(earn.getUserCreatedId())) {
+                log.warn("[PointEarnQueue] 존재하지 않는 회원의 적립 요청 버림: 회원 {}, 주문 {}",
+                        earn.getUserCreatedId(), earn.getOrderId());
+                continue;
+            }
+
+            amountByUser.merge(earn.getUserCreatedId(), earn.getAmount(), Long::sum);
+            rows.add(new PointHistoryRow(earn.getUserCreatedId(), earn.getOrderId(), earn.getAmount(), Type.EARN,
+                    earn.getDescription(), now));
+        }
+
+        amountByUser.forEach(userRepository::addPoint);
+        pointHistoryWriter.appendAll(rows);
+        pointLotManager.openAll(amountByUser);
+
+        pendingPointEarnRepository.deleteAllInBatch(batch);
+
+        return batch.size();
+    }
+
+}
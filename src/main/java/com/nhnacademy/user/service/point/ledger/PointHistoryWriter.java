@@ -0,0 +1,116 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.service.point.ledger;
+
+import com.nhnacademy.user.repository.point.PointHistoryRepository;
+import com.nhnacademy.user.repository.point.jdbc.PointHistoryRow;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 포인트 내역(PointHistories) 추가 전용 writer
+ * <p>
+ * 트랜잭션 안에서 추가된 내역은 바로 INSERT 하지 않고 모아두었다가 커밋 직전에 multi-row INSERT 한 번으로 저장합니다.
+ * 내역은 잔액 변경과 같은 트랜잭션에서 커밋되므로, 롤백되면 모아둔 내역도 함께 버려집니다.
+ * <p>
+ * 주의: 모아둔 내역은 커밋 직전에 저장되므로, 같은 트랜잭션 안에서 PointHistories 를 다시 조회하면 보이지 않습니다.
+ */
+@RequiredArgsConstructor
+@Slf4j
+@Component
+public class PointHistoryWriter {
+
+    private final PointHistoryRepository pointHistoryRepository;
+
+    /**
+     * 포인트 내역 한 건을 추가하는 메소드 - 트랜잭션이 없으면 즉시 저장
+     *
+     * @param row 포인트 내역 한 행
+     */
+    public void append(PointHistoryRow row) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            pointHistoryRepository.insertAll(List.of(row));
+            return;
+        }
+
+        currentBuffer().add(row);
+    }
+
+    /**
+     * 대량 작업용 포인트 내역 다건 저장 메소드 - 모아두지 않고 바로 multi-row INSERT
+     *
+     * @param rows 포인트 내역 목록
+     * @return 저장된 행 수
+     */
+    public int appendAll(List<PointHistoryRow> rows) {
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        return pointHistoryRepository.insertAll(rows);
+    }
+
+    private List<PointHistoryRow> currentBuffer() {
+        @SuppressWarnings("unchecked")
+        List<PointHistoryRow> buffer = (List<PointHistoryRow>) TransactionSynchronizationManager.getResource(this);
+
+        if (buffer != null) {
+            return buffer;
+        }
+
+        List<PointHistoryRow> newBuffer = new ArrayList<>();
+        TransactionSynchronizationManager.bindResource(this, newBuffer);
+        TransactionSynchronizationManager.registerSynchronization(new FlushOnCommit(newBuffer));
+
+        return newBuffer;
+    }
+
+    private final class FlushOnCommit implements TransactionSynchronization {
+
+        private final List<PointHistoryRow> buffer;
+
+        private FlushOnCommit(List<PointHistoryRow> buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            if (!buffer.isEmpty()) {
+                pointHistoryRepository.insertAll(buffer);
+                log.debug("[PointHistoryWriter] 포인트 내역 {}건 일괄 저장", buffer.size());
+            }
+        }
+
+        @Override
+        public void suspend() {
+            TransactionSynchronizationManager.unbindResource(PointHistoryWriter.this);
+        }
+
+        @Override
+        public void resume() {
+            TransactionSynchronizationManager.bindResource(PointHistoryWriter.this, buffer);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(PointHistoryWriter.this);
+        }
+
+    }
+
+}
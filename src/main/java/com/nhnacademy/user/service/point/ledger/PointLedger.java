@@ -0,0 +1,30 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.service.point.ledger;
+
+/**
+ * 포인트 잔액(Users.current_point) 변경과 포인트 내역(PointHistories) 저장을 함께 처리하는 포인트 엔진
+ * <p>
+ * point.ledger.engine 설정 값으로 구현체를 선택합니다.
+ * <ul>
+ *     <li>locking (기본값): SELECT ... FOR UPDATE 로 회원 행을 잠근 뒤 잔액을 검증하고 변경</li>
+ *     <li>atomic: 조건부 UPDATE 한 번으로 잔액 검증과 변경을 원자적으로 처리</li>
+ * </ul>
+ * point.ledger.coalescing.enabled=true 이면 지정한 회원(hot-user-ids)의 변동을 묶어서 반영하는 엔진이 앞에 붙습니다.
+ */
+public interface PointLedger {
+
+    // 포인트 변동 반영 (잔액 부족 시 PointNotEnoughException, 회원이 없으면 UserNotFoundException)
+    void apply(PointChange change);
+
+}
@@ -0,0 +1,157 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.service.point.ledger;
+
+import com.nhnacademy.user.entity.point.PointLot;
+import com.nhnacademy.user.entity.point.Type;
+import com.nhnacademy.user.properties.PointExpiryProperties;
+import com.nhnacademy.user.repository.point.PointLotRepository;
+import com.nhnacademy.user.repository.point.jdbc.PointLotRow;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+/**
+ * 적립 포인트 묶음(PointLots) 관리
+ * <p>
+ * 적립(EARN)과 취소 환급(CANCEL)은 유효기간이 있는 묶음을 하나 만들고, 사용(USE)은 유효기간이 먼저 끝나는 묶음부터 차감합니다.
+ * 회원 행 잠금(또는 조건부 UPDATE 의 행 잠금)을 잡은 포인트 엔진 트랜잭션 안에서 호출되어야 같은 회원의 묶음 차감이 겹치지 않습니다.
+ * <p>
+ * 묶음 도입 이전에 쌓인 잔액은 묶음이 없으므로, 사용 금액이 묶음 잔여 합계보다 크면 나머지는 묶음 없이 차감되고 만료되지 않습니다.
+ */
+@RequiredArgsConstructor
+@Slf4j
+@Component
+public class PointLotManager {
+
+    // 한 번에 잠그고 읽어올 묶음 수 (대부분의 사용은 첫 페이지에서 끝남)
+    static final int CONSUME_PAGE_SIZE = 20;
+
+    private final PointLotRepository pointLotRepository;
+
+    private final PointExpiryProperties pointExpiryProperties;
+
+    /**
+     * 포인트 변동에 맞춰 묶음을 만들거나 차감하는 메소드
+     *
+     * @param change 잔액에 이미 반영된 포인트 변동
+     */
+    public void record(PointChange change) {
+        switch (change.type()) {
+            case EARN, CANCEL -> open(change.userCreatedId(), change.amount());
+            case USE -> consume(change.userCreatedId(), change.amount());
+            case EXPIRE -> throw new IllegalArgumentException("만료 차감은 포인트 만료 배치에서만 처리합니다.");
+        }
+    }
+
+    /**
+     * 한 회원의 포인트 변동 여러 건을 순서대로 반영하는 메소드 (묶음 처리 엔진용)
+     * <p>
+     * 적립 묶음은 multi-row INSERT 한 번으로 먼저 만들고, 사용은 순서대로 선입선출 차감
+     * 새 묶음은 유효기간이 가장 늦으므로 먼저 만들어 두어도 앞선 묶음보다 먼저 차감되지 않음
+     *
+     * @param changes 잔액에 이미 반영된 같은 회원의 포인트 변동 목록
+     */
+    public void recordAll(List<PointChange> changes) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiresAt = now.plus(pointExpiryProperties.getValidity());
+
+        List<PointLotRow> opened = changes.stream()
+                .filter(change -> change.type() == Type.EARN || change.type() == Type.CANCEL)
+                .map(change -> new PointLotRow(change.userCreatedId(), change.amount(), now, expiresAt))
+                .toList();
+
+        if (!opened.isEmpty()) {
+            pointLotRepository.insertAll(opened);
+        }
+
+        changes.stream()
+                .filter(change -> change.type() == Type.USE)
+                .forEach(change -> consume(change.userCreatedId(), change.amount()));
+    }
+
+    /**
+     * 일괄 지급 대상 회원마다 같은 금액의 묶음을 multi-row INSERT 로 만드는 메소드
+     *
+     * @param userCreatedIds Users 테이블 PK 목록
+     * @param amount         지급 금액
+     */
+    public void openAll(List<Long> userCreatedIds, long amount) {
+        if (userCreatedIds.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiresAt = now.plus(pointExpiryProperties.getValidity());
+
+        pointLotRepository.insertAll(userCreatedIds.stream()
+                .map(id -> new PointLotRow(id, amount, now, expiresAt))
+                .toList());
+    }
+
+    /**
+     * 회원마다 다른 금액의 묶음을 multi-row INSERT 로 만드는 메소드 (같은 시각에 적립된 금액은 묶음 하나로 합침)
+     *
+     * @param amountByUser 회원별 적립 금액
+     */
+    public void openAll(Map<Long, Long> amountByUser) {
+        if (amountByUser.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiresAt = now.plus(pointExpiryProperties.getValidity());
+
+        pointLotRepository.insertAll(amountByUser.entrySet().stream()
+                .map(entry -> new PointLotRow(entry.getKey(), entry.getValue(), now, expiresAt))
+                .toList());
+    }
+
+    private void open(Long userCreatedId, long amount) {
+        LocalDateTime now = LocalDateTime.now();
+
+        pointLotRepository.insertAll(List.of(
+                new PointLotRow(userCreatedId, amount, now, now.plus(pointExpiryProperties.getValidity()))));
+    }
+
+    // 선입선출 차감: 아직 만료 배치가 처리하지 않은 지난 묶음도 먼저 차감 (잔액에는 아직 포함되어 있으므로)
+    private void consume(Long userCreatedId, long amount) {
+        long remaining = amount;
+
+        while (remaining > 0) {
+            List<PointLot> lots = pointLotRepository.findOpenLotsForUpdate(userCreatedId, Limit.of(CONSUME_PAGE_SIZE));
+
+            for (PointLot lot : lots) {
+                remaining -= lot.consume(remaining);
+
+                if (remaining == 0) {
+                    break;
+                }
+            }
+
+            // 다 쓴 묶음은 다음 조회 전 자동 flush 로 USED 가 되어 다시 읽히지 않음
+            if (lots.size() < CONSUME_PAGE_SIZE) {
+                break;
+            }
+        }
+
+        if (remaining > 0) {
+            log.debug("[PointLotManager] 묶음 없는 잔액에서 차감: 회원 {}, 금액 {}", userCreatedId, remaining);
+        }
+    }
+
+}
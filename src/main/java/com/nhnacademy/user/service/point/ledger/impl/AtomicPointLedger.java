@@ -0,0 +1,71 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.service.point.ledger.impl;
+
+import com.nhnacademy.user.exception.point.PointNotEnoughException;
+import com.nhnacademy.user.exception.user.UserNotFoundException;
+import com.nhnacademy.user.repository.user.UserRepository;
+import com.nhnacademy.user.service.point.ledger.PointChange;
+import com.nhnacademy.user.service.point.ledger.PointHistoryWriter;
+import com.nhnacademy.user.service.point.ledger.PointLedger;
+import com.nhnacademy.user.service.point.ledger.PointLotManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 조건부 UPDATE 기반 포인트 엔진
+ * <p>
+ * SELECT ... FOR UPDATE 로 행을 먼저 잠그지 않고, 잔액 검증과 증감을 UPDATE 문 하나로 처리합니다.
+ * UPDATE 가 잡는 행 잠금은 트랜잭션 끝까지 유지되므로 같은 회원의 동시 요청도 잔액이 음수가 되지 않습니다.
+ */
+@RequiredArgsConstructor
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "point.ledger", name = "engine", havingValue = "atomic")
+public class AtomicPointLedger implements PointLedger {
+
+    private final UserRepository userRepository;
+    private final PointHistoryWriter pointHistoryWriter;
+    private final PointLotManager pointLotManager;
+
+    /**
+     * 조건부 UPDATE 로 잔액을 변경하고 포인트 내역을 저장하는 메소드
+     *
+     * @param change Users 테이블 PK, 변동 금액, 포인트 타입(적립/사용/취소), 설명
+     */
+    @Override
+    @Transactional
+    public void apply(PointChange change) {
+        int updated = userRepository.addPointIfSufficient(change.userCreatedId(), change.signedAmount());
+
+        if (updated == 0) {
+            // 변경된 행이 없으면 회원이 없거나 잔액이 부족한 경우
+            if (!userRepository.existsById(change.userCreatedId())) {
+                throw new UserNotFoundException("찾을 수 없는 회원입니다.");
+            }
+
+            log.warn("[PointLedger] 포인트 변동 실패: 잔액 부족 (회원: {})", change.userCreatedId());
+            throw new PointNotEnoughException("포인트 잔액이 부족합니다.");
+        }
+
+        // 회원 엔티티 없이 FK 값만으로 포인트 내역 저장 (커밋 직전에 일괄 INSERT)
+        pointHistoryWriter.append(change.toHistoryRow());
+
+        // 적립은 유효기간 묶음 생성, 사용은 만료가 가까운 묶음부터 차감 (회원 행 잠금을 잡은 상태)
+        pointLotManager.record(change);
+    }
+
+}
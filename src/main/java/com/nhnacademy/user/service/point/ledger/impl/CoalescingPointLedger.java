@@ -0,0 +1,224 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.service.point.ledger.impl;
+
+import com.nhnacademy.user.entity.point.Type;
+import com.nhnacademy.user.entity.user.User;
+import com.nhnacademy.user.exception.point.PointNotEnoughException;
+import com.nhnacademy.user.exception.user.UserNotFoundException;
+import com.nhnacademy.user.properties.PointCoalescingProperties;
+import com.nhnacademy.user.repository.user.UserRepository;
+import com.nhnacademy.user.service.point.ledger.PointChange;
+import com.nhnacademy.user.service.point.ledger.PointHistoryWriter;
+import com.nhnacademy.user.service.point.ledger.PointLedger;
+import com.nhnacademy.user.service.point.ledger.PointLotManager;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 포인트 변동이 몰리는 회원(법인 구매자, 테스트 계정 등)의 요청을 묶어서 반영하는 포인트 엔진 (선택)
+ * <p>
+ * 회원 ID 해시로 나눈 stripe 마다 회원별 대기열을 두고, 대기열이 비어 있을 때 들어온 요청이 리더가 되어
+ * 그때까지 쌓인 변동을 트랜잭션 하나로 반영합니다. 회원 행 잠금 한 번, 잔액 변경 한 번, 내역 multi-row INSERT 한 번.
+ * 리더가 반영하는 동안 들어온 요청은 다음 묶음으로 모이고, 반영이 끝나면 다음 묶음의 첫 요청이 리더를 넘겨받습니다.
+ * <p>
+ * 사용(USE)은 같은 묶음의 앞선 변동까지 더한 잔액으로 검증하고, 잔액이 부족한 요청만 실패시킵니다.
+ * 각 요청은 자기 변동이 커밋된 뒤에 반환하므로 호출한 쪽에서 보는 결과는 기본 엔진과 같습니다.
+ * <p>
+ * 묶음은 이 엔진이 연 트랜잭션에서 커밋되므로, 호출한 쪽 트랜잭션 안에서 들어온 요청과 지정하지 않은 회원의 요청은
+ * 묶지 않고 기본 엔진에 넘깁니다. (트랜잭션을 잡은 채 대기하면 커넥션 풀이 마르고 롤백도 함께할 수 없음)
+ */
+@Slf4j
+public class CoalescingPointLedger implements PointLedger {
+
+    private final PointLedger delegate;
+    private final UserRepository userRepository;
+    private final PointHistoryWriter pointHistoryWriter;
+    private final PointLotManager pointLotManager;
+    private final TransactionTemplate transactionTemplate;
+    private final Set<Long> hotUserIds;
+    private final int maxBatchSize;
+    private final Stripe[] stripes;
+
+    public CoalescingPointLedger(PointLedger delegate, UserRepository userRepository,
+                                 PointHistoryWriter pointHistoryWriter, PointLotManager pointLotManager,
+                                 TransactionTemplate transactionTemplate, PointCoalescingProperties properties) {
+        this.delegate = delegate;
+        this.userRepository = userRepository;
+        this.pointHistoryWriter = pointHistoryWriter;
+        this.pointLotManager = pointLotManager;
+        this.transactionTemplate = transactionTemplate;
+        this.hotUserIds = Set.copyOf(properties.getHotUserIds());
+        this.maxBatchSize = Math.max(1, properties.getMaxBatchSize());
+        this.stripes = new Stripe[Math.max(1, properties.getStripes())];
+
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    /**
+     * 지정한 회원의 포인트 변동은 묶어서 반영하고, 나머지는 기본 엔진에 넘기는 메소드
+     *
+     * @param change Users 테이블 PK, 변동 금액, 포인트 타입(적립/사용/취소), 설명
+     */
+    @Override
+    public void apply(PointChange change) {
+        Long userCreatedId = change.userCreatedId();
+
+        if (!hotUserIds.contains(userCreatedId) || TransactionSynchronizationManager.isActualTransactionActive()) {
+            delegate.apply(change);
+            return;
+        }
+
+        Stripe stripe = stripes[Math.floorMod(Long.hashCode(userCreatedId), stripes.length)];
+        Pending pending = new Pending(change);
+        boolean leader;
+
+        synchronized (stripe) {
+            UserQueue queue = stripe.queues.computeIfAbsent(userCreatedId, id -> new UserQueue());
+            queue.pending.add(pending);
+            leader = !queue.flushing;
+            queue.flushing = true;
+        }
+
+        // 리더가 아니면 앞선 리더가 내 변동을 반영하거나(false) 리더를 넘겨줄 때까지(true) 대기
+        if (leader || pending.turn.join()) {
+            lead(stripe, userCreatedId);
+        }
+
+        rethrow(pending.failure);
+    }
+
+    // 대기열에서 묶음 하나를 꺼내 반영하고, 남은 요청이 있으면 첫 요청에게 리더를 넘김
+    private void lead(Stripe stripe, Long userCreatedId) {
+        List<Pending> batch = new ArrayList<>();
+
+        synchronized (stripe) {
+            UserQueue queue = stripe.queues.get(userCreatedId);
+
+            while (!queue.pending.isEmpty() && batch.size() < maxBatchSize) {
+                batch.add(queue.pending.poll());
+            }
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> flush(userCreatedId, batch));
+        } catch (Throwable e) {
+            // 트랜잭션이 롤백되었으므로 묶음 전체 실패 (Error 도 잡아야 대기 중인 요청이 영원히 멈추지 않음)
+            log.warn("[PointLedger] 포인트 묶음 반영 실패 (회원: {}, 건수: {})", userCreatedId, batch.size(), e);
+            batch.forEach(p -> p.failure = e);
+        } finally {
+            handOff(stripe, userCreatedId, batch);
+        }
+    }
+
+    // 남은 요청이 있으면 첫 요청에게 리더를 넘기고, 없으면 대기열을 정리한 뒤 묶음 요청을 모두 깨움
+    private void handOff(Stripe stripe, Long userCreatedId, List<Pending> batch) {
+        synchronized (stripe) {
+            UserQueue queue = stripe.queues.get(userCreatedId);
+
+            if (queue.pending.isEmpty()) {
+                queue.flushing = false;
+                stripe.queues.remove(userCreatedId);
+            } else {
+                queue.pending.peek().turn.complete(true);
+            }
+        }
+
+        batch.forEach(p -> p.turn.complete(false));
+    }
+
+    // 리더 스레드에서 난 실패를 요청 스레드에서 다시 던짐
+    private static void rethrow(Throwable failure) {
+        if (failure == null) {
+            return;
+        }
+
+        if (failure instanceof RuntimeException e) {
+            throw e;
+        }
+
+        if (failure instanceof Error e) {
+            throw e;
+        }
+
+        throw new IllegalStateException("포인트 묶음 반영 실패", failure);
+    }
+
+    // 회원 행을 한 번 잠그고 묶음 전체를 순서대로 검증한 뒤 잔액 변경, 내역 저장, 포인트 묶음 반영을 한 번씩 처리
+    private void flush(Long userCreatedId, List<Pending> batch) {
+        User user = userRepository.findByIdForUpdate(userCreatedId)
+                .orElseThrow(() -> new UserNotFoundException("찾을 수 없는 회원입니다."));
+
+        long startPoint = user.getCurrentPoint() == null ? 0L : user.getCurrentPoint();
+        long reservedPoint = user.getReservedPoint();
+        long balance = startPoint;
+        List<PointChange> applied = new ArrayList<>(batch.size());
+
+        for (Pending pending : batch) {
+            PointChange change = pending.change;
+
+            // 주문 사가가 잡아 둔 포인트는 사용할 수 없음
+            if (change.type() == Type.USE && balance - reservedPoint < change.amount()) {
+                log.warn("[PointLedger] 포인트 변동 실패: 잔액 부족 (사용 가능: {})", balance - reservedPoint);
+                pending.failure = new PointNotEnoughException("포인트 잔액이 부족합니다.");
+                continue;
+            }
+
+            balance += change.signedAmount();
+            applied.add(change);
+        }
+
+        if (applied.isEmpty()) {
+            return;
+        }
+
+        user.modifyPoint(balance - startPoint);
+        pointHistoryWriter.appendAll(applied.stream().map(PointChange::toHistoryRow).toList());
+        pointLotManager.recordAll(applied);
+
+        log.debug("[PointLedger] 포인트 묶음 반영 (회원: {}, 건수: {})", userCreatedId, applied.size());
+    }
+
+    // stripe 하나가 여러 회원의 대기열을 관리 (stripe 단위로만 동기화)
+    private static final class Stripe {
+        private final Map<Long, UserQueue> queues = new HashMap<>();
+    }
+
+    private static final class UserQueue {
+        private final ArrayDeque<Pending> pending = new ArrayDeque<>();
+        private boolean flushing;
+    }
+
+    private static final class Pending {
+        private final PointChange change;
+        // true: 리더를 넘겨받음 / false: 다른 리더가 반영을 끝냄
+        private final CompletableFuture<Boolean> turn = new CompletableFuture<>();
+        // 리더 스레드가 쓰고 turn 완료 후 요청 스레드가 읽음
+        private Throwable failure;
+
+        private Pending(PointChange change) {
+            this.change = change;
+        }
+    }
+
+}
@@ -0,0 +1,74 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.service.point.ledger.impl;
+
+import com.nhnacademy.user.entity.point.Type;
+import com.nhnacademy.user.entity.user.User;
+import com.nhnacademy.user.exception.point.PointNotEnoughException;
+import com.nhnacademy.user.exception.user.UserNotFoundException;
+import com.nhnacademy.user.repository.user.UserRepository;
+import com.nhnacademy.user.service.point.ledger.PointChange;
+import com.nhnacademy.user.service.point.ledger.PointHistoryWriter;
+import com.nhnacademy.user.service.point.ledger.PointLedger;
+import com.nhnacademy.user.service.point.ledger.PointLotManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 비관적 락(PESSIMISTIC_WRITE) 기반 포인트 엔진 - 기본값
+ */
+@RequiredArgsConstructor
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "point.ledger", name = "engine", havingValue = "locking", matchIfMissing = true)
+public class LockingPointLedger implements PointLedger {
+
+    private final UserRepository userRepository;
+    private final PointHistoryWriter pointHistoryWriter;
+    private final PointLotManager pointLotManager;
+
+    /**
+     * 회원 행을 잠근 뒤 잔액을 검증하고 포인트 변동을 반영하는 메소드
+     *
+     * @param change Users 테이블 PK, 변동 금액, 포인트 타입(적립/사용/취소), 설명
+     */
+    @Override
+    @Transactional
+    public void apply(PointChange change) {
+        User user = userRepository.findByIdForUpdate(change.userCreatedId())
+                .orElseThrow(() -> new UserNotFoundException("찾을 수 없는 회원입니다."));
+
+        if (change.type() == Type.USE) {
+            // 주문 사가가 잡아 둔 포인트는 사용할 수 없음
+            long availablePoint = user.getAvailablePoint();
+
+            if (availablePoint < change.amount()) {
+                log.warn("[PointLedger] 포인트 변동 실패: 잔액 부족 (사용 가능: {})", availablePoint);
+                throw new PointNotEnoughException("포인트 잔액이 부족합니다.");
+            }
+        }
+
+        // 포인트 내역 저장 (커밋 직전에 일괄 INSERT)
+        pointHistoryWriter.append(change.toHistoryRow());
+
+        // Users 테이블 현재 포인트 필드도 같이 동기화
+        user.modifyPoint(change.signedAmount());
+
+        // 적립은 유효기간 묶음 생성, 사용은 만료가 가까운 묶음부터 차감 (회원 행 잠금을 잡은 상태)
+        pointLotManager.record(change);
+    }
+
+}
@@ -12,7 +12,9 @@
 
 package com.nhnacademy.user.service.user;
 
+import com.nhnacademy.user.dto.response.InternalUserBatchResponse;
 import com.nhnacademy.user.dto.response.InternalUserResponse;
+import java.util.List;
 
 public interface InternalUserService {
 
@@ -22,4 +24,7 @@ public interface InternalUserService {
     // 주문/결제용 회원 정보 조회
     InternalUserResponse getInternalUserInfo(Long userCreatedId);
 
+    // 주문 목록/관리자 리포트용 회원 정보 일괄 조회 (없는 회원, 탈퇴한 계정은 항목별 오류로 응답)
+    List<InternalUserBatchResponse> getInternalUserInfos(List<Long> userCreatedIds);
+
 }
@@ -0,0 +1,146 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.service.user.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.nhnacademy.user.dto.response.InternalUserResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * 내부 통신용 회원 정보 캐시 (L1: 인스턴스 로컬 Caffeine, L2: RedisCacheManager)
+ * <p>
+ * 주문/결제마다 들어오는 회원 정보 조회를 회원 + 계정 + 등급 + 상태 + 배송지 조회 없이 응답한다.
+ * L1 에 없으면 L2 를, L2 에도 없으면 DB 에서 읽어 두 곳에 모두 넣는다. 회원 정보가 바뀌면 커밋 후 L2 와 자기 L1 을 비우고
+ * Redis pub/sub 으로 다른 인스턴스의 L1 도 비운다. 메시지를 놓친 인스턴스도 L1 TTL 이 지나면 다시 읽는다.
+ * <p>
+ * 지표: L1 적중/미스 cache.gets?tag=cache:internalUserInfo, L2 적중/미스 internal.user.cache.remote,
+ * DB 로딩 시간 internal.user.cache.load, 응답한 값이 DB 에서 읽힌 뒤 지난 시간 internal.user.cache.age
+ */
+@Slf4j
+@Component
+public class InternalUserInfoCache {
+
+    public static final String CACHE_NAME = "internalUserInfo";
+
+    private static final Duration LOCAL_EXPIRE_AFTER_WRITE = Duration.ofMinutes(1);
+
+    private final CacheManager cacheManager;
+
+    private final Cache<Long, CachedInternalUser> local = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(LOCAL_EXPIRE_AFTER_WRITE)
+            .recordStats()
+            .build();
+
+    private final Counter remoteHits;
+
+    private final Counter remoteMisses;
+
+    private final Timer loadTimer;
+
+    private final Timer ageTimer;
+
+    public InternalUserInfoCache(CacheManager cacheManager, MeterRegistry meterRegistry) {
+        this.cacheManager = cacheManager;
+        this.remoteHits = meterRegistry.counter("internal.user.cache.remote", "result", "hit");
+        this.remoteMisses = meterRegistry.counter("internal.user.cache.remote", "result", "miss");
+        this.loadTimer = meterRegistry.timer("internal.user.cache.load");
+        this.ageTimer = meterRegistry.timer("internal.user.cache.age");
+        CaffeineCacheMetrics.monitor(meterRegistry, local, CACHE_NAME);
+    }
+
+    // 로더가 던진 예외(없는 회원, 탈퇴한 계정)는 캐시하지 않고 그대로 전달
+    public InternalUserResponse get(Long userCreatedId, Function<Long, InternalUserResponse> loader) {
+        CachedInternalUser cached = local.get(userCreatedId, id -> getRemote(id, loader));
+        ageTimer.record(Math.max(0L, System.currentTimeMillis() - cached.loadedAt()), TimeUnit.MILLISECONDS);
+
+        return cached.response();
+    }
+
+    // 변경한 인스턴스: L2 와 자기 L1 을 비움
+    public void evict(Long userCreatedId) {
+        local.invalidate(userCreatedId);
+
+        try {
+            remoteCache().evict(userCreatedId);
+        } catch (RuntimeException e) {
+            // L2 를 못 비우면 다른 인스턴스가 L2 TTL 까지 이전 정보를 다시 가져갈 수 있음
+            log.warn("[InternalUserInfoCache] L2 캐시 무효화 실패: {}", userCreatedId, e);
+        }
+
+        log.debug("[InternalUserInfoCache] 회원 정보 캐시 비움: {}", userCreatedId);
+    }
+
+    // 다른 인스턴스에서 변경: 자기 L1 만 비움
+    public void evictLocal(Long userCreatedId) {
+        local.invalidate(userCreatedId);
+    }
+
+    private CachedInternalUser getRemote(Long userCreatedId, Function<Long, InternalUserResponse> loader) {
+        org.springframework.cache.Cache remote = remoteCache();
+
+        try {
+            CachedInternalUser cached = remote.get(userCreatedId, CachedInternalUser.class);
+
+            if (cached != null) {
+                remoteHits.increment();
+                return cached;
+            }
+        } catch (RuntimeException e) {
+            // Redis 장애 시 DB 에서 읽음
+            log.warn("[InternalUserInfoCache] L2 캐시 조회 실패: {}", userCreatedId, e);
+        }
+
+        remoteMisses.increment();
+
+        long begin = System.nanoTime();
+        InternalUserResponse response = loader.apply(userCreatedId);
+        loadTimer.record(System.nanoTime() - begin, TimeUnit.NANOSECONDS);
+
+        CachedInternalUser loaded = new CachedInternalUser(response, System.currentTimeMillis());
+
+        try {
+            remote.put(userCreatedId, loaded);
+        } catch (RuntimeException e) {
+            log.warn("[InternalUserInfoCache] L2 캐시 저장 실패: {}", userCreatedId, e);
+        }
+
+        return loaded;
+    }
+
+    private org.springframework.cache.Cache remoteCache() {
+        org.springframework.cache.Cache remote = cacheManager.getCache(CACHE_NAME);
+
+        if (remote == null) {
+            throw new IllegalStateException("캐시를 찾을 수 없습니다: " + CACHE_NAME);
+        }
+
+        return remote;
+    }
+
+    // DB 에서 읽은 시각을 함께 저장 (응답 시 경과 시간 측정)
+    public record CachedInternalUser(InternalUserResponse response,
+                                     long loadedAt) {
+    }
+
+}
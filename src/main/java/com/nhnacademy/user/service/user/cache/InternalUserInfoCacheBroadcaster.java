@@ -0,0 +1,38 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.service.user.cache;
+
+import com.nhnacademy.user.config.RedisPubSubConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+// 다른 인스턴스에 회원 정보 L1 캐시 무효화 전파 (Redis pub/sub)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InternalUserInfoCacheBroadcaster {
+
+    private final StringRedisTemplate redisTemplate;
+
+    public void broadcast(Long userCreatedId) {
+        try {
+            redisTemplate.convertAndSend(RedisPubSubConfig.INTERNAL_USER_INFO_CHANNEL, String.valueOf(userCreatedId));
+        } catch (RuntimeException e) {
+            // 전파 실패 시 다른 인스턴스는 L1 TTL 까지 이전 회원 정보를 볼 수 있음
+            log.warn("[InternalUserInfoCache] 캐시 무효화 전파 실패: {}", userCreatedId, e);
+        }
+    }
+
+}
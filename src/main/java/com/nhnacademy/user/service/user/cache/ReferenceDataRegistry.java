@@ -0,0 +1,120 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.service.user.cache;
+
+import com.nhnacademy.user.dto.response.ReferenceDataRefreshResponse;
+import com.nhnacademy.user.entity.account.Status;
+import com.nhnacademy.user.entity.user.Grade;
+import com.nhnacademy.user.repository.account.StatusRepository;
+import com.nhnacademy.user.repository.user.GradeRepository;
+import jakarta.persistence.EntityManager;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 등급(Grades) / 상태(Statuses) 기준 데이터 레지스트리
+ * <p>
+ * 두 테이블은 몇 행뿐이고 운영 중에 거의 바뀌지 않으므로, 이름 -> PK 를 불변 스냅샷으로 들고 있다가
+ * EntityManager.getReference 로 조회 없이 연관관계에 넣을 참조를 돌려준다. (가입, 탈퇴, 상태/등급 변경마다 조회 1~2번 절약)
+ * 참조의 다른 필드(적립률 등)를 읽으면 그때 한 번 조회되므로, 호출하는 쪽 트랜잭션 안에서만 사용한다.
+ * <p>
+ * 시작할 때 적재하고, 관리자가 기준 데이터를 바꾸면 갱신 API 로 Redis pub/sub 을 통해 모든 인스턴스가 다시 읽는다.
+ * 스냅샷에 없는 이름은 (적재 전이거나 DB 에 새로 넣은 행일 수 있으므로) 최소 간격을 두고 한 번 다시 읽어 확인한다.
+ */
+@Slf4j
+@Component
+public class ReferenceDataRegistry {
+
+    // 없는 이름으로 들어온 요청이 매번 다시 읽게 만들지 않도록 최소 간격 유지
+    private static final long MISS_RELOAD_INTERVAL_MILLIS = 1_000L;
+
+    private final GradeRepository gradeRepository;
+
+    private final StatusRepository statusRepository;
+
+    private final EntityManager entityManager;
+
+    private volatile Snapshot snapshot = new Snapshot(Map.of(), Map.of(), 0L);
+
+    public ReferenceDataRegistry(GradeRepository gradeRepository, StatusRepository statusRepository,
+                                 EntityManager entityManager) {
+        this.gradeRepository = gradeRepository;
+        this.statusRepository = statusRepository;
+        this.entityManager = entityManager;
+    }
+
+    public Optional<Grade> findGrade(String gradeName) {
+        return Optional.ofNullable(lookup(current -> current.gradeIds().get(gradeName)))
+                .map(gradeId -> entityManager.getReference(Grade.class, gradeId));
+    }
+
+    public Optional<Status> findStatus(String statusName) {
+        return Optional.ofNullable(lookup(current -> current.statusIds().get(statusName)))
+                .map(statusId -> entityManager.getReference(Status.class, statusId));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        refresh();
+    }
+
+    /**
+     * 두 테이블을 다시 읽어 스냅샷을 교체하는 메소드 (pub/sub 으로 모든 인스턴스에서 호출)
+     *
+     * @return 적재한 등급, 상태 수
+     */
+    public synchronized ReferenceDataRefreshResponse refresh() {
+        Map<String, Long> gradeIds = gradeRepository.findAll().stream()
+                .collect(Collectors.toUnmodifiableMap(Grade::getGradeName, Grade::getGradeId, (first, second) -> first));
+        Map<String, Long> statusIds = statusRepository.findAll().stream()
+                .collect(Collectors.toUnmodifiableMap(Status::getStatusName, Status::getStatusId,
+                        (first, second) -> first));
+
+        snapshot = new Snapshot(gradeIds, statusIds, System.currentTimeMillis());
+        log.info("[ReferenceDataRegistry] 기준 데이터 적재: 등급 {}, 상태 {}", gradeIds.keySet(), statusIds.keySet());
+
+        return new ReferenceDataRefreshResponse(gradeIds.size(), statusIds.size());
+    }
+
+    private Long lookup(Function<Snapshot, Long> getter) {
+        Long id = getter.apply(snapshot);
+
+        if (id == null && reloadIfStale()) {
+            id = getter.apply(snapshot);
+        }
+
+        return id;
+    }
+
+    private synchronized boolean reloadIfStale() {
+        if (System.currentTimeMillis() - snapshot.loadedAt() < MISS_RELOAD_INTERVAL_MILLIS) {
+            return false;
+        }
+
+        refresh();
+        return true;
+    }
+
+    // 이름 -> PK (불변)
+    private record Snapshot(Map<String, Long> gradeIds,
+                            Map<String, Long> statusIds,
+                            long loadedAt) {
+    }
+
+}
@@ -0,0 +1,38 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.service.user.cache;
+
+import com.nhnacademy.user.config.RedisPubSubConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+// 다른 인스턴스에 등급/상태 기준 데이터 갱신 전파 (Redis pub/sub)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReferenceDataRegistryBroadcaster {
+
+    private final StringRedisTemplate redisTemplate;
+
+    public void broadcast() {
+        try {
+            redisTemplate.convertAndSend(RedisPubSubConfig.REFERENCE_DATA_CHANNEL, "refresh");
+        } catch (RuntimeException e) {
+            // 전파 실패 시 다른 인스턴스는 없는 이름이 들어올 때까지 (새로 추가된 행은 그때 다시 읽음) 이전 스냅샷을 씀
+            log.warn("[ReferenceDataRegistry] 기준 데이터 갱신 전파 실패", e);
+        }
+    }
+
+}
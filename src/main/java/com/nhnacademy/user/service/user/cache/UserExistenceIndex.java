@@ -0,0 +1,326 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.service.user.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.nhnacademy.user.common.BloomFilter;
+import com.nhnacademy.user.config.SchedulingConfig;
+import com.nhnacademy.user.dto.response.ExistenceIndexRebuildResponse;
+import com.nhnacademy.user.properties.UserExistenceIndexProperties;
+import com.nhnacademy.user.repository.account.AccountRepository;
+import com.nhnacademy.user.repository.user.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 회원 ID / 로그인 아이디 존재 여부 인덱스 (Bloom filter: 없음 확정, Caffeine: 있음 캐시)
+ * <p>
+ * 가입 화면에서 글자마다 호출되는 /check-id 와 주문 서비스의 회원 유효성 검증을 DB 조회 없이 응답한다.
+ * Bloom filter 가 없다고 하면 바로 false, 있음 캐시에 있으면 바로 true, 둘 다 아니면 (거짓 양성이거나 캐시 밖의 회원) DB 를 조회한다.
+ * 시작할 때 두 테이블의 키를 흘려 읽어 채우고, 가입은 커밋 후 자기 인스턴스에 넣고 Redis pub/sub 으로 다른 인스턴스에도 넣는다.
+ * <p>
+ * 회원 ID 는 기준점 이하만 Bloom filter 로 거른다. 기준점은 적재 시작보다 watermark-lag 만큼 앞서 가입한 회원 중 최대 ID 이다.
+ * ID 는 할당 순서와 커밋 순서가 달라 적재 중 아직 커밋되지 않은 낮은 ID 가 빠질 수 있으므로, 가입 트랜잭션이 그보다 짧다는 전제로
+ * 여유를 둔다. 기준점 이후 다른 인스턴스에서 가입한 회원은 메시지를 놓쳐도 DB 로 확인된다.
+ * <p>
+ * 로그인 아이디는 MySQL 대소문자 무시 비교에 맞춰 소문자로 바꿔 넣고 조회한다. (악센트 무시 비교까지는 맞추지 않음)
+ * 로그인 아이디는 기준점이 없어 메시지를 놓치면 재적재 전까지 /check-id 가 "사용 가능" 으로 답할 수 있지만,
+ * 가입 자체는 DB 로 중복을 다시 확인하므로 중복 가입으로 이어지지 않는다.
+ * <p>
+ * 지표: user.existence.lookup{index, result=absent|cached|hit|false_positive|miss},
+ * 실측 거짓 양성 비율 user.existence.bloom.false_positive_rate{index} (Bloom filter 를 통과했지만 DB 에 없던 비율)
+ */
+@Slf4j
+@Component
+public class UserExistenceIndex {
+
+    private final UserRepository userRepository;
+
+    private final AccountRepository accountRepository;
+
+    private final UserExistenceIndexProperties properties;
+
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final Index users;
+
+    private final Index loginIds;
+
+    private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+
+    // 마지막 적재의 회원 ID 기준점 (적재 전에는 0 이라 모든 ID 를 DB 로 확인)
+    private volatile long indexedMaxUserId = 0L;
+
+    public UserExistenceIndex(UserRepository userRepository, AccountRepository accountRepository,
+                              UserExistenceIndexProperties properties, PlatformTransactionManager transactionManager,
+                              MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.accountRepository = accountRepository;
+        this.properties = properties;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.users = new Index("user", properties, meterRegistry);
+        this.loginIds = new Index("login_id", properties, meterRegistry);
+    }
+
+    public boolean existsUser(Long userCreatedId, BooleanSupplier loader) {
+        if (!properties.isEnabled()) {
+            return loader.getAsBoolean();
+        }
+
+        return users.exists(String.valueOf(userCreatedId), userCreatedId <= indexedMaxUserId, loader);
+    }
+
+    public boolean existsLoginId(String loginId, BooleanSupplier loader) {
+        if (!properties.isEnabled()) {
+            return loader.getAsBoolean();
+        }
+
+        return loginIds.exists(loginIdKey(loginId), true, loader);
+    }
+
+    // 가입 커밋 후 (자기 인스턴스, pub/sub 으로 받은 다른 인스턴스 모두)
+    public void add(Long userCreatedId, String loginId) {
+        users.add(String.valueOf(userCreatedId));
+        loginIds.add(loginIdKey(loginId));
+    }
+
+    // 탈퇴 커밋 후: 탈퇴해도 회원/계정 행은 남으므로 존재 여부는 그대로이고, 있음 캐시만 비워 다음 조회 때 DB 로 다시 확인
+    public void evict(Long userCreatedId, String loginId) {
+        users.evict(String.valueOf(userCreatedId));
+        loginIds.evict(loginIdKey(loginId));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (properties.isEnabled()) {
+            rebuild();
+        }
+    }
+
+    // 정해진 크기를 넘겨 늘어난 거짓 양성 정리, 회원 ID 기준점 갱신
+    @Scheduled(cron = "${user.existence-index.rebuild-cron:0 30 4 * * *}", scheduler = SchedulingConfig.BATCH_SCHEDULER)
+    public void scheduledRebuild() {
+        if (properties.isEnabled()) {
+            rebuild();
+        }
+    }
+
+    /**
+     * 두 테이블의 키를 흘려 읽어 Bloom filter 를 새로 만들어 교체하는 메소드
+     * <p>
+     * 적재하는 동안 들어온 가입은 기존 filter 와 새 filter 에 함께 넣으므로 교체 후에도 빠지지 않는다.
+     *
+     * @return 적재한 회원 ID, 로그인 아이디 수 (이미 적재 중이면 -1)
+     */
+    public ExistenceIndexRebuildResponse rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            log.info("[UserExistenceIndex] 이미 적재 중이라 건너뜀");
+            return new ExistenceIndexRebuildResponse(-1L, -1L);
+        }
+
+        try {
+            long begin = System.currentTimeMillis();
+            LocalDateTime cutoff = LocalDateTime.now().minus(properties.getWatermarkLag());
+            users.beginRebuild();
+            loginIds.beginRebuild();
+
+            AtomicLong userCount = new AtomicLong();
+            AtomicLong maxUserId = new AtomicLong();
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<Long> ids = userRepository.streamAllIds()) {
+                    ids.forEach(id -> {
+                        users.putRebuilding(String.valueOf(id));
+                        maxUserId.accumulateAndGet(id, Math::max);
+                        userCount.incrementAndGet();
+                    });
+                }
+            });
+
+            // cutoff 이전에 할당된 ID 는 적재 시작 전에 커밋되었으므로 모두 읽었음
+            Long joinedBeforeCutoff = readOnlyTransaction.execute(
+                    status -> accountRepository.findMaxUserIdJoinedBefore(cutoff));
+            long watermark = Math.min(maxUserId.get(), joinedBeforeCutoff != null ? joinedBeforeCutoff : 0L);
+
+            AtomicLong loginIdCount = new AtomicLong();
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<String> ids = accountRepository.streamAllLoginIds()) {
+                    ids.forEach(loginId -> {
+                        loginIds.putRebuilding(loginIdKey(loginId));
+                        loginIdCount.incrementAndGet();
+                    });
+                }
+            });
+
+            users.finishRebuild(userCount.get());
+            loginIds.finishRebuild(loginIdCount.get());
+            indexedMaxUserId = watermark;
+
+            log.info("[UserExistenceIndex] 존재 여부 인덱스 적재: 회원 {}건, 로그인 아이디 {}건 ({}ms)",
+                    userCount.get(), loginIdCount.get(), System.currentTimeMillis() - begin);
+
+            return new ExistenceIndexRebuildResponse(userCount.get(), loginIdCount.get());
+        } catch (RuntimeException e) {
+            users.abortRebuild();
+            loginIds.abortRebuild();
+            log.error("[UserExistenceIndex] 존재 여부 인덱스 적재 실패 (기존 인덱스 유지)", e);
+            throw e;
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    // DB 비교가 대소문자를 무시하므로 인덱스 키는 소문자로 통일
+    private static String loginIdKey(String loginId) {
+        return loginId.toLowerCase(Locale.ROOT);
+    }
+
+    // 키 한 종류의 Bloom filter + 있음 캐시 + 지표
+    private static final class Index {
+
+        private final UserExistenceIndexProperties properties;
+
+        private final Cache<String, Boolean> present;
+
+        // 적재 전에는 null (모든 키를 DB 로 확인)
+        private volatile BloomFilter filter;
+
+        // 적재 중에만 있음
+        private volatile BloomFilter building;
+
+        private final AtomicLong insertions = new AtomicLong();
+
+        private final Counter absent;
+        private final Counter cached;
+        private final Counter hit;
+        private final Counter falsePositive;
+        private final Counter miss;
+
+        private Index(String name, UserExistenceIndexProperties properties, MeterRegistry meterRegistry) {
+            this.properties = properties;
+            this.present = Caffeine.newBuilder()
+                    .maximumSize(properties.getPositiveCacheSize())
+                    .expireAfterWrite(properties.getPositiveCacheTtl())
+                    .recordStats()
+                    .build();
+            this.absent = meterRegistry.counter("user.existence.lookup", "index", name, "result", "absent");
+            this.cached = meterRegistry.counter("user.existence.lookup", "index", name, "result", "cached");
+            this.hit = meterRegistry.counter("user.existence.lookup", "index", name, "result", "hit");
+            this.falsePositive = meterRegistry.counter("user.existence.lookup", "index", name, "result",
+                    "false_positive");
+            this.miss = meterRegistry.counter("user.existence.lookup", "index", name, "result", "miss");
+
+            Gauge.builder("user.existence.bloom.false_positive_rate", this, Index::falsePositiveRate)
+                    .tag("index", name)
+                    .register(meterRegistry);
+            Gauge.builder("user.existence.bloom.insertions", insertions, AtomicLong::get)
+                    .tag("index", name)
+                    .register(meterRegistry);
+            CaffeineCacheMetrics.monitor(meterRegistry, present, "userExistence." + name);
+        }
+
+        // filterable 이 false 면 (적재 이후 생긴 키일 수 있음) Bloom filter 가 없다고 해도 DB 로 확인
+        private boolean exists(String key, boolean filterable, BooleanSupplier loader) {
+            BloomFilter current = filter;
+            boolean indexed = current != null && filterable;
+
+            if (indexed && !current.mightContain(key)) {
+                absent.increment();
+                return false;
+            }
+
+            if (present.getIfPresent(key) != null) {
+                cached.increment();
+                return true;
+            }
+
+            if (loader.getAsBoolean()) {
+                hit.increment();
+                present.put(key, Boolean.TRUE);
+                return true;
+            }
+
+            if (indexed) {
+                falsePositive.increment();
+            } else {
+                miss.increment();
+            }
+
+            return false;
+        }
+
+        // 적재 중인 filter 를 먼저 읽음: 교체(filter -> building 순서)와 겹쳐도 둘 중 하나에는 들어감
+        private void add(String key) {
+            BloomFilter next = building;
+            BloomFilter current = filter;
+
+            if (current != null) {
+                current.put(key);
+                insertions.incrementAndGet();
+            }
+
+            if (next != null) {
+                next.put(key);
+            }
+
+            present.put(key, Boolean.TRUE);
+        }
+
+        private void evict(String key) {
+            present.invalidate(key);
+        }
+
+        private void beginRebuild() {
+            building = new BloomFilter(properties.getExpectedInsertions(), properties.getFpp());
+        }
+
+        private void putRebuilding(String key) {
+            building.put(key);
+        }
+
+        private void finishRebuild(long loaded) {
+            filter = building;
+            building = null;
+            insertions.set(loaded);
+        }
+
+        private void abortRebuild() {
+            building = null;
+        }
+
+        // Bloom filter 가 없다고 확정하지 못한 "없는 키" 비율: false_positive / (absent + false_positive)
+        private double falsePositiveRate() {
+            double negatives = absent.count() + falsePositive.count();
+
+            return negatives == 0 ? 0.0 : falsePositive.count() / negatives;
+        }
+
+    }
+
+}
@@ -0,0 +1,38 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.service.user.cache;
+
+import com.nhnacademy.user.config.RedisPubSubConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+// 다른 인스턴스의 존재 여부 인덱스에 가입 전파 (Redis pub/sub, 본문: "회원ID:로그인아이디")
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserExistenceIndexBroadcaster {
+
+    private final StringRedisTemplate redisTemplate;
+
+    public void broadcast(Long userCreatedId, String loginId) {
+        try {
+            redisTemplate.convertAndSend(RedisPubSubConfig.USER_EXISTENCE_CHANNEL, userCreatedId + ":" + loginId);
+        } catch (RuntimeException e) {
+            // 전파 실패 시 다른 인스턴스는 재적재 전까지 이 로그인 아이디를 "없음" 으로 답할 수 있음 (회원 ID 는 DB 로 확인)
+            log.warn("[UserExistenceIndex] 가입 전파 실패: {}", userCreatedId, e);
+        }
+    }
+
+}
@@ -23,17 +23,18 @@ import com.nhnacademy.user.entity.account.Status;
 import com.nhnacademy.user.entity.user.Grade;
 import com.nhnacademy.user.entity.user.User;
 import com.nhnacademy.user.entity.user.UserGradeHistory;
+import com.nhnacademy.user.event.UserInfoChangedEvent;
 import com.nhnacademy.user.exception.account.StateNotFoundException;
 import com.nhnacademy.user.exception.user.GradeNotFoundException;
 import com.nhnacademy.user.exception.user.UserNotFoundException;
 import com.nhnacademy.user.repository.account.AccountStatusHistoryRepository;
-import com.nhnacademy.user.repository.account.StatusRepository;
-import com.nhnacademy.user.repository.user.GradeRepository;
 import com.nhnacademy.user.repository.user.UserGradeHistoryRepository;
 import com.nhnacademy.user.repository.user.UserRepository;
 import com.nhnacademy.user.service.user.AdminService;
+import com.nhnacademy.user.service.user.cache.ReferenceDataRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -45,10 +46,10 @@ import org.springframework.transaction.annotation.Transactional;
 public class AdminServiceImpl implements AdminService {
 
     private final UserRepository userRepository;
-    private final GradeRepository gradeRepository;
     private final UserGradeHistoryRepository userGradeHistoryRepository;
-    private final StatusRepository statusRepository;
     private final AccountStatusHistoryRepository accountStatusHistoryRepository;
+    private final ReferenceDataRegistry referenceDataRegistry;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * (관리자용) 전체 회원 목록을 조회하는 메소드
@@ -102,7 +103,7 @@ public class AdminServiceImpl implements AdminService {
 
         Account account = user.getAccount();
 
-        Status newStatus = statusRepository.findByStatusName(request.statusName())
+        Status newStatus = referenceDataRegistry.findStatus(request.statusName())
                 .orElseThrow(() -> {
                     log.error("[AdminService] 계정 상태 변경 실패: 존재하지 않는 상태 ({})", request.statusName());
                     return new StateNotFoundException("존재하지 않는 상태입니다.");
@@ -112,7 +113,10 @@ public class AdminServiceImpl implements AdminService {
 
         account.modifyStatus(newStatus);
 
-        log.debug("[AdminService] 관리자 - {}: 계정 ({})의 상태를 {}(으)로 변경 성공", adminId, account.getLoginId(), newStatus);
+        // 커밋 후 내부 통신용 회원 정보 캐시 무효화
+        eventPublisher.publishEvent(new UserInfoChangedEvent(userId));
+
+        log.debug("[AdminService] 관리자 - {}: 계정 ({})의 상태를 {}(으)로 변경 성공", adminId, account.getLoginId(), request.statusName());
     }
 
     /**
@@ -127,7 +131,7 @@ public class AdminServiceImpl implements AdminService {
     public void modifyUserGrade(Long adminId, Long userId, UserGradeRequest request) {
         User user = getUser(userId);
 
-        Grade newGrade = gradeRepository.findByGradeName(request.gradeName())
+        Grade newGrade = referenceDataRegistry.findGrade(request.gradeName())
                 .orElseThrow(() -> {
                     log.error("[AdminService] 회원 등급 변경 실패: 존재하지 않는 등급 ({})", request.gradeName());
                     return new GradeNotFoundException("존재하지 않는 등급입니다.");
@@ -139,7 +143,9 @@ public class AdminServiceImpl implements AdminService {
 
         user.modifyGrade(newGrade);
 
-        log.debug("[AdminService] 관리자 - {}: 회원 ({})의 등급을 {}(으)로 변경 성공", adminId, userId, newGrade);
+        eventPublisher.publishEvent(new UserInfoChangedEvent(userId));
+
+        log.debug("[AdminService] 관리자 - {}: 회원 ({})의 등급을 {}(으)로 변경 성공", adminId, userId, request.gradeName());
     }
 
     private User getUser(Long userCreatedId) {
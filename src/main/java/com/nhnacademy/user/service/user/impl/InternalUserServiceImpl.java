@@ -13,15 +13,23 @@
 package com.nhnacademy.user.service.user.impl;
 
 import com.nhnacademy.user.dto.response.InternalAddressResponse;
+import com.nhnacademy.user.dto.response.InternalUserBatchResponse;
 import com.nhnacademy.user.dto.response.InternalUserResponse;
 import com.nhnacademy.user.entity.account.Account;
+import com.nhnacademy.user.entity.address.Address;
 import com.nhnacademy.user.entity.user.User;
 import com.nhnacademy.user.exception.account.AccountWithdrawnException;
 import com.nhnacademy.user.exception.user.UserNotFoundException;
 import com.nhnacademy.user.repository.address.AddressRepository;
 import com.nhnacademy.user.repository.user.UserRepository;
+import com.nhnacademy.user.repository.user.projection.InternalUserRow;
 import com.nhnacademy.user.service.user.InternalUserService;
+import com.nhnacademy.user.service.user.cache.InternalUserInfoCache;
+import com.nhnacademy.user.service.user.cache.UserExistenceIndex;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -37,23 +45,28 @@ public class InternalUserServiceImpl implements InternalUserService {
 
     private final UserRepository userRepository;
     private final AddressRepository addressRepository;
+    private final InternalUserInfoCache internalUserInfoCache;
+    private final UserExistenceIndex userExistenceIndex;
 
     private static final String WITHDRAWN_STATUS = "WITHDRAWN";
 
     /**
      * 회원 유효성을 검증하는 메소드
+     * <p>
+     * 존재 여부 인덱스로 먼저 답하고, 확실하지 않을 때만 DB 를 조회한다. (인덱스로 답하면 트랜잭션/커넥션 없이 끝남)
      *
      * @param userCreatedId Users 테이블 PK
      * @return 회원 존재 여부
      */
     @Override
-    @Transactional(readOnly = true)
     public boolean existsUser(Long userCreatedId) {
-        return userRepository.existsById(userCreatedId);
+        return userExistenceIndex.existsUser(userCreatedId, () -> userRepository.existsById(userCreatedId));
     }
 
     /**
      * (주문/결제용) 회원 정보를 조회하는 메소드
+     * <p>
+     * 회원 정보, 등급, 배송지는 캐시(L1 Caffeine / L2 Redis)에서 읽고, 자주 바뀌는 포인트만 PK 조회 한 번으로 최신 값을 덧씌운다.
      *
      * @param userCreatedId Users 테이블 PK
      * @return Users 테이블 PK, 회원 정보 (이름, 연락처, 이메일, 등급 이름, 적립률, 보유 포인트, 배송지 목록)
@@ -61,29 +74,114 @@ public class InternalUserServiceImpl implements InternalUserService {
     @Override
     @Transactional(readOnly = true)
     public InternalUserResponse getInternalUserInfo(Long userCreatedId) {
-        User user = userRepository.findByIdWithAccount(userCreatedId)
+        InternalUserResponse cached = internalUserInfoCache.get(userCreatedId, this::loadInternalUserInfo);
+
+        Long point = userRepository.findAvailablePoint(userCreatedId)
                 .orElseThrow(() -> {
+                    // 캐시에 남아 있던 삭제된 회원
+                    internalUserInfoCache.evict(userCreatedId);
                     log.warn("[InternalUserService] 회원 정보 조회 실페: 찾을 수 없는 회원 ({})", userCreatedId);
                     return new UserNotFoundException("찾을 수 없는 회원입니다.");
                 });
 
-        Account account = user.getAccount();
+        return new InternalUserResponse(
+                cached.userCreatedId(),
+                cached.userName(),
+                cached.phoneNumber(),
+                cached.email(),
+                cached.gradeName(),
+                cached.pointRate(),
+                point,  // 결제 화면에는 다른 주문이 잡아 둔 포인트를 뺀 사용 가능 포인트
+                cached.addresses());
+    }
+
+    /**
+     * (주문 목록/관리자 리포트용) 회원 정보를 한 번에 조회하는 메소드
+     * <p>
+     * 회원 + 계정 + 상태 + 등급 IN 조회 한 번, 배송지 IN 조회 한 번. 없는 회원과 탈퇴한 계정은 예외 대신 항목별 오류로 응답한다.
+     *
+     * @param userCreatedIds Users 테이블 PK 목록 (중복 제거, 요청 순서 유지)
+     * @return 요청 순서대로 회원 정보 또는 오류
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<InternalUserBatchResponse> getInternalUserInfos(List<Long> userCreatedIds) {
+        List<Long> ids = userCreatedIds.stream().distinct().toList();
+
+        Map<Long, User> users = userRepository.findAllWithAccountByIdIn(ids).stream()
+                .collect(Collectors.toMap(User::getUserCreatedId, Function.identity()));
+
+        // 탈퇴한 계정의 배송지는 읽지 않음
+        List<Long> activeIds = users.values().stream()
+                .filter(user -> !isWithdrawn(user))
+                .map(User::getUserCreatedId)
+                .toList();
+
+        Map<Long, List<InternalAddressResponse>> addresses = activeIds.isEmpty() ? Map.of()
+                : addressRepository.findAllByUserIds(activeIds).stream()
+                        .collect(Collectors.groupingBy(address -> address.getUser().getUserCreatedId(),
+                                Collectors.mapping(this::toInternalAddress, Collectors.toList())));
+
+        return ids.stream()
+                .map(id -> {
+                    User user = users.get(id);
+
+                    if (user == null) {
+                        return InternalUserBatchResponse.failed(id, InternalUserBatchResponse.NOT_FOUND);
+                    }
+
+                    if (isWithdrawn(user)) {
+                        return InternalUserBatchResponse.failed(id, InternalUserBatchResponse.WITHDRAWN);
+                    }
 
-        if (WITHDRAWN_STATUS.equals(account.getStatus().getStatusName())) {
+                    return InternalUserBatchResponse.found(
+                            toInternalUser(id, user, addresses.getOrDefault(id, List.of())));
+                })
+                .toList();
+    }
+
+    // 캐시 미스: 회원 + 계정 상태 + 등급 조회 한 번, 배송지 조회 한 번 (엔티티 대신 DTO 프로젝션, 포인트는 조회 시점에 덧씌우므로 캐시 값은 로딩 시점 값)
+    private InternalUserResponse loadInternalUserInfo(Long userCreatedId) {
+        InternalUserRow row = userRepository.findInternalUser(userCreatedId)
+                .orElseThrow(() -> {
+                    log.warn("[InternalUserService] 회원 정보 조회 실페: 찾을 수 없는 회원 ({})", userCreatedId);
+                    return new UserNotFoundException("찾을 수 없는 회원입니다.");
+                });
+
+        if (WITHDRAWN_STATUS.equals(row.statusName())) {
             log.warn("[InternalUserService] 회원 정보 조회 실패: 탈퇴한 계정");
             throw new AccountWithdrawnException("이미 탈퇴한 계정입니다.");
         }
 
-        List<InternalAddressResponse> addresses = addressRepository.findAllByUser(user).stream()
-                .map(address -> new InternalAddressResponse(
-                        address.getAddressId(),
-                        address.getAddressName(),
-                        address.getZipCode(),
-                        address.getRoadAddress(),
-                        address.getAddressDetail(),
-                        address.isDefault()))
-                .toList();
+        return new InternalUserResponse(
+                row.userCreatedId(),
+                row.userName(),
+                row.phoneNumber(),
+                row.email(),
+                row.gradeName(),
+                row.pointRate(),
+                row.availablePoint(),
+                userRepository.findInternalAddresses(userCreatedId));
+    }
+
+    private boolean isWithdrawn(User user) {
+        Account account = user.getAccount();
+
+        return WITHDRAWN_STATUS.equals(account.getStatus().getStatusName());
+    }
+
+    private InternalAddressResponse toInternalAddress(Address address) {
+        return new InternalAddressResponse(
+                address.getAddressId(),
+                address.getAddressName(),
+                address.getZipCode(),
+                address.getRoadAddress(),
+                address.getAddressDetail(),
+                address.isDefault());
+    }
 
+    private InternalUserResponse toInternalUser(Long userCreatedId, User user,
+                                                List<InternalAddressResponse> addresses) {
         return new InternalUserResponse(
                 userCreatedId,
                 user.getUserName(),
@@ -91,7 +189,7 @@ public class InternalUserServiceImpl implements InternalUserService {
                 user.getEmail(),
                 user.getGrade().getGradeName(),
                 user.getGrade().getPointRate(),
-                user.getCurrentPoint(),
+                user.getAvailablePoint(),
                 addresses);
     }
 
@@ -26,6 +26,9 @@ import com.nhnacademy.user.entity.account.Status;
 import com.nhnacademy.user.entity.user.Grade;
 import com.nhnacademy.user.entity.user.User;
 import com.nhnacademy.user.entity.user.UserGradeHistory;
+import com.nhnacademy.user.event.UserInfoChangedEvent;
+import com.nhnacademy.user.event.UserSignedUpEvent;
+import com.nhnacademy.user.event.UserWithdrawnEvent;
 import com.nhnacademy.user.event.WelcomeCouponEvent;
 import com.nhnacademy.user.exception.account.AccountWithdrawnException;
 import com.nhnacademy.user.exception.account.StateNotFoundException;
@@ -36,12 +39,11 @@ import com.nhnacademy.user.exception.user.UserNotFoundException;
 import com.nhnacademy.user.producer.CouponMessageProducer;
 import com.nhnacademy.user.repository.account.AccountRepository;
 import com.nhnacademy.user.repository.account.AccountStatusHistoryRepository;
-import com.nhnacademy.user.repository.account.StatusRepository;
-import com.nhnacademy.user.repository.user.GradeRepository;
 import com.nhnacademy.user.repository.user.UserGradeHistoryRepository;
 import com.nhnacademy.user.repository.user.UserRepository;
 import com.nhnacademy.user.service.point.PointService;
 import com.nhnacademy.user.service.user.UserService;
+import com.nhnacademy.user.service.user.cache.ReferenceDataRegistry;
 
 import java.util.List;
 import java.util.Optional;
@@ -60,11 +62,10 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
-    private final GradeRepository gradeRepository;
     private final UserGradeHistoryRepository userGradeHistoryRepository;
     private final AccountRepository accountRepository;
-    private final StatusRepository statusRepository;
     private final AccountStatusHistoryRepository accountStatusHistoryRepository;
+    private final ReferenceDataRegistry referenceDataRegistry;
 
     private final PointService pointService;
 
@@ -109,7 +110,7 @@ public class UserServiceImpl implements UserService {
         }
 
         // 초기 등급(GENERAL) 조회
-        Grade grade = gradeRepository.findByGradeName(GENERAL_GRADE)
+        Grade grade = referenceDataRegistry.findGrade(GENERAL_GRADE)
                 .orElseThrow(() -> {
                     log.error("[UserService] 회원가입 실패: 존재하지 않는 등급 ({})", GENERAL_GRADE);
                     return new GradeNotFoundException(INITIAL_GRADE_NOT_FOUND_MESSAGE);
@@ -123,7 +124,7 @@ public class UserServiceImpl implements UserService {
         userGradeHistoryRepository.save(new UserGradeHistory(user, grade, "회원가입"));
 
         // 초기 상태(ACTIVE) 조회
-        Status status = statusRepository.findByStatusName(ACTIVE_STATUS)
+        Status status = referenceDataRegistry.findStatus(ACTIVE_STATUS)
                 .orElseThrow(() -> {
                     log.error("[UserService] 회원가입 실패: 존재하지 않는 상태 ({})", ACTIVE_STATUS);
                     return new StateNotFoundException(INITIAL_STATUS_NOT_FOUND_MESSAGE);
@@ -143,6 +144,9 @@ public class UserServiceImpl implements UserService {
 
         // 웰컴 쿠폰 발급 요청
         eventPublisher.publishEvent(new WelcomeCouponEvent(saved.getUserCreatedId()));
+
+        // 커밋 후 존재 여부 인덱스에 추가
+        eventPublisher.publishEvent(new UserSignedUpEvent(saved.getUserCreatedId(), request.loginId()));
     }
 
     /**
@@ -200,6 +204,9 @@ public class UserServiceImpl implements UserService {
         }
 
         user.modifyInfo(request.userName(), request.phoneNumber(), request.email(), request.birth());
+
+        // 커밋 후 내부 통신용 회원 정보 캐시 무효화
+        eventPublisher.publishEvent(new UserInfoChangedEvent(userCreatedId));
     }
 
     /**
@@ -235,7 +242,7 @@ public class UserServiceImpl implements UserService {
 
         Account account = user.getAccount();
 
-        Status status = statusRepository.findByStatusName(WITHDRAWN_STATUS)
+        Status status = referenceDataRegistry.findStatus(WITHDRAWN_STATUS)
                 .orElseThrow(() -> {
                     log.error("[UserService] 마이페이지 탈퇴 실패: 존재하지 않는 상태 ({})", WITHDRAWN_STATUS);
                     return new StateNotFoundException(INITIAL_STATUS_NOT_FOUND_MESSAGE);
@@ -243,6 +250,9 @@ public class UserServiceImpl implements UserService {
         accountStatusHistoryRepository.save(new AccountStatusHistory(account, status));
         account.modifyStatus(status);
 
+        eventPublisher.publishEvent(new UserInfoChangedEvent(userCreatedId));
+        eventPublisher.publishEvent(new UserWithdrawnEvent(userCreatedId, account.getLoginId()));
+
         // 프론트에서 탈퇴 성공하면 브라우저가 가지고 있던 토큰을 스스로 삭제
     }
 
@@ -292,7 +302,7 @@ public class UserServiceImpl implements UserService {
         // 고유한 더미 전화번호 생성 (UNIQUE 제약 회피)
         String dummyPhone = PAYCO_PHONE_NUMBER_PREFIX + uniqueId.substring(0, Math.min(uniqueId.length(), 4));
 
-        Grade grade = gradeRepository.findByGradeName(GENERAL_GRADE)
+        Grade grade = referenceDataRegistry.findGrade(GENERAL_GRADE)
                 .orElseThrow(() -> new GradeNotFoundException(INITIAL_GRADE_NOT_FOUND_MESSAGE));
 
         User newUser = new User(userName, dummyPhone, dummyEmail, null, grade);
@@ -303,7 +313,7 @@ public class UserServiceImpl implements UserService {
         // Payco (OAuth) 사용자용 더미 비밀번호 생성 (로그인 불가능한 랜덤 값)
         String dummyPassword = passwordEncoder.encode("PAYCO_" + java.util.UUID.randomUUID());
 
-        Status status = statusRepository.findByStatusName(ACTIVE_STATUS)
+        Status status = referenceDataRegistry.findStatus(ACTIVE_STATUS)
                 .orElseThrow(() -> new StateNotFoundException(INITIAL_STATUS_NOT_FOUND_MESSAGE));
 
         Account newAccount = new Account(loginId, dummyPassword, Role.USER, newUser, status);
@@ -313,6 +323,8 @@ public class UserServiceImpl implements UserService {
 
         pointService.earnPointByPolicy(newUser.getUserCreatedId(), SIGNUP_POINT_POLICY_TYPE);
 
+        eventPublisher.publishEvent(new UserSignedUpEvent(newUser.getUserCreatedId(), loginId));
+
         log.info("[Payco] 신규 회원 가입 - userCreatedId: {}, loginId: {}", newUser.getUserCreatedId(), loginId);
 
         try {
@@ -0,0 +1,12 @@
+-- 비동기 적립 대기열 (point.earn-queue, 반영되면 삭제)
+
+CREATE TABLE PendingPointEarns (
+    pending_point_earn_id BIGINT      NOT NULL AUTO_INCREMENT,
+    user_created_id       BIGINT      NOT NULL,
+    order_id              BIGINT      NOT NULL,
+    amount                BIGINT      NOT NULL,
+    description           VARCHAR(30) NULL,
+    created_at            DATETIME(6) NOT NULL,
+    PRIMARY KEY (pending_point_earn_id),
+    CONSTRAINT uk_pending_point_earns_order_id UNIQUE (order_id)
+);
@@ -0,0 +1,10 @@
+-- 회원별 포인트 잔액 스냅샷 (잔액 검증)
+-- 행이 없으면 처음 검증할 때 전체 내역을 합산해 만든다.
+
+CREATE TABLE PointBalanceSnapshots (
+    user_created_id       BIGINT      NOT NULL,
+    balance               BIGINT      NOT NULL,
+    last_point_history_id BIGINT      NOT NULL,
+    snapshot_at           DATETIME(6) NOT NULL,
+    PRIMARY KEY (user_created_id)
+);
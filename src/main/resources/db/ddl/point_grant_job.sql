@@ -0,0 +1,18 @@
+-- 포인트 일괄 지급 작업 (청크 단위 체크포인트)
+-- ID 목록 대상은 PointGrantJobTargets (db/ddl/point_grant_job_target.sql)
+
+CREATE TABLE PointGrantJobs (
+    point_grant_job_id   BIGINT       NOT NULL AUTO_INCREMENT,
+    target_type          VARCHAR(10)  NOT NULL,
+    target_value         VARCHAR(30)  NULL,
+    amount               BIGINT       NOT NULL,
+    description          VARCHAR(30)  NOT NULL,
+    status               VARCHAR(10)  NOT NULL,
+    last_user_created_id BIGINT       NOT NULL DEFAULT 0,
+    processed_count      BIGINT       NOT NULL DEFAULT 0,
+    active_millis        BIGINT       NOT NULL DEFAULT 0,
+    failure_reason       VARCHAR(255) NULL,
+    created_at           DATETIME(6)  NOT NULL,
+    finished_at          DATETIME(6)  NULL,
+    PRIMARY KEY (point_grant_job_id)
+);
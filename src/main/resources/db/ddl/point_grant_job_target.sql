@@ -0,0 +1,12 @@
+-- 포인트 일괄 지급 ID 목록 대상 (PointGrantJobs.target_user_ids TEXT 컬럼 대체)
+-- 진행 중인 ID 목록 작업이 없을 때 반영한다.
+-- 아래 ALTER 는 PointGrantJobs 를 target_user_ids 컬럼과 함께 먼저 만든 경우에만 (point_grant_job.sql 로 만들었으면 생략)
+
+CREATE TABLE PointGrantJobTargets (
+    point_grant_job_id BIGINT NOT NULL,
+    user_created_id    BIGINT NOT NULL,
+    PRIMARY KEY (point_grant_job_id, user_created_id)
+);
+
+ALTER TABLE PointGrantJobs
+    DROP COLUMN target_user_ids;
@@ -0,0 +1,12 @@
+-- 포인트 내역 조회/검증 인덱스
+-- Type 에 EXPIRE (유효기간 만료) 가 추가되었다. type 을 ENUM 컬럼으로 만들었다면 EXPIRE 값을 함께 추가해야 한다.
+
+-- 회원별 스냅샷 이후 구간 합산 (잔액 검증)
+CREATE INDEX idx_point_histories_user_id ON PointHistories (user_created_id, point_history_id);
+
+-- 회원별 최신순 커서 조회
+CREATE INDEX idx_point_histories_user_created_at
+    ON PointHistories (user_created_id, created_at DESC, point_history_id DESC);
+
+-- 주문 ID 멱등 검사 (비동기 적립, 보상)
+CREATE INDEX idx_point_histories_order_id ON PointHistories (order_id, type);
@@ -0,0 +1,15 @@
+-- 보관 기간이 지난 포인트 내역 (point.archive, 읽기 전용)
+-- 컬럼은 PointHistories 와 같은 형식이어야 한다 (INSERT ... SELECT 로 옮김). type 이 ENUM 컬럼이면 같은 정의로 바꾼다.
+
+CREATE TABLE PointHistoryArchives (
+    point_history_id BIGINT       NOT NULL,
+    user_created_id  BIGINT       NOT NULL,
+    order_id         BIGINT       NULL,
+    amount           BIGINT       NOT NULL,
+    type             VARCHAR(255) NOT NULL,
+    description      VARCHAR(30)  NULL,
+    created_at       DATETIME(6)  NOT NULL,
+    archived_at      DATETIME(6)  NOT NULL,
+    PRIMARY KEY (point_history_id),
+    INDEX idx_point_history_archives_user_created_at (user_created_id, created_at DESC, point_history_id DESC)
+);
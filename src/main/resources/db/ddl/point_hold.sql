@@ -0,0 +1,19 @@
+-- 주문 사가 포인트 홀드 (saga.point-hold)
+-- Users.reserved_point 는 User 엔티티가 항상 읽고 쓰므로 saga.point-hold.enabled 와 상관없이 배포 전에 반영해야 한다.
+
+ALTER TABLE Users
+    ADD COLUMN reserved_point BIGINT NOT NULL DEFAULT 0;
+
+CREATE TABLE PointHolds (
+    point_hold_id   BIGINT      NOT NULL AUTO_INCREMENT,
+    user_created_id BIGINT      NOT NULL,
+    order_id        BIGINT      NOT NULL,
+    used_amount     BIGINT      NOT NULL,
+    saved_amount    BIGINT      NOT NULL,
+    status          VARCHAR(10) NOT NULL,
+    created_at      DATETIME(6) NOT NULL,
+    expires_at      DATETIME(6) NOT NULL,
+    PRIMARY KEY (point_hold_id),
+    CONSTRAINT uk_point_holds_order_id UNIQUE (order_id),
+    INDEX idx_point_holds_status_expires_at (status, expires_at, point_hold_id)
+);
@@ -0,0 +1,18 @@
+-- 적립 포인트 묶음 (유효기간 관리 단위)
+-- 적립 경로가 항상 묶음을 만들므로 point.expiry.enabled 와 상관없이 배포 전에 반영해야 한다.
+
+CREATE TABLE PointLots (
+    point_lot_id     BIGINT      NOT NULL AUTO_INCREMENT,
+    user_created_id  BIGINT      NOT NULL,
+    earned_amount    BIGINT      NOT NULL,
+    remaining_amount BIGINT      NOT NULL,
+    status           VARCHAR(10) NOT NULL,
+    earned_at        DATETIME(6) NOT NULL,
+    expires_at       DATETIME(6) NOT NULL,
+    PRIMARY KEY (point_lot_id),
+    CONSTRAINT fk_point_lots_user FOREIGN KEY (user_created_id) REFERENCES Users (user_created_id),
+    -- 만료 배치: 만료 시각이 지난 OPEN 묶음
+    INDEX idx_point_lots_status_expires_at (status, expires_at, point_lot_id),
+    -- 사용 차감: 회원별 만료 임박 순
+    INDEX idx_point_lots_user_status_expires_at (user_created_id, status, expires_at, point_lot_id)
+);
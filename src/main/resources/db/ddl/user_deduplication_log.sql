@@ -0,0 +1,4 @@
+-- 사가 메시지 중복 처리 기록 정리 인덱스 (saga.idempotency)
+
+-- 보관 기간(TTL)이 지난 기록 정리
+CREATE INDEX idx_user_deduplication_log_received_at ON user_deduplication_log (received_at);
@@ -0,0 +1,29 @@
+-- Outbox 코덱/재시도/릴레이 컬럼과 인덱스 (user_outbox 는 PhysicalNamingStrategyStandardImpl 이라 컬럼명이 필드명 그대로)
+-- UserOutbox 엔티티와 UserOutboxJdbcRepositoryImpl 의 multi-row INSERT 가 항상 쓰므로 배포 전에 반영해야 한다.
+
+ALTER TABLE user_outbox
+    ADD COLUMN contentType       VARCHAR(100) NULL,
+    ADD COLUMN payloadBinary     BLOB         NULL,
+    ADD COLUMN deadLetterReplays INT          NOT NULL DEFAULT 0,
+    ADD COLUMN nextAttemptAt     DATETIME(6)  NULL;
+
+-- 폴링 릴레이, 보관 기간 정리: 상태별 생성 순서
+CREATE INDEX idx_user_outbox_status_created_at ON user_outbox (status, createdAt);
+
+-- 재시도 릴레이: 다음 시도 시각이 지난 FAILED 행
+CREATE INDEX idx_user_outbox_status_next_attempt_at ON user_outbox (status, nextAttemptAt);
+
+-- (선택) outbox.retention.partitioned=true 로 쓸 때만: 일 단위 RANGE 파티션 전환
+-- 파티션 키가 모든 유니크 키에 들어가야 하므로 PK 를 (id, createdAt) 로 바꾼다. 파티션 경계는 적용 날짜에 맞춰 고친다.
+-- 이후 파티션 추가/삭제는 UserOutboxRetention 이 한다.
+--
+-- ALTER TABLE user_outbox
+--     MODIFY COLUMN createdAt DATETIME(6) NOT NULL,
+--     DROP PRIMARY KEY,
+--     ADD PRIMARY KEY (id, createdAt);
+--
+-- ALTER TABLE user_outbox
+--     PARTITION BY RANGE (TO_DAYS(createdAt)) (
+--         PARTITION p20260101 VALUES LESS THAN (TO_DAYS('2026-01-02')),
+--         PARTITION pmax VALUES LESS THAN MAXVALUE
+--     );
@@ -0,0 +1,195 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.benchmark;
+
+import com.nhnacademy.user.saga.SagaListener;
+import com.nhnacademy.user.saga.event.SagaEvent;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+/**
+ * 벤치마크용 RabbitMQ 대역 (JVM 안에서 동작)
+ * <p>
+ * 명령/보상 큐는 메모리 큐로 두고, 리스너 컨테이너처럼 소비자 스레드가 꺼내서 SagaListener 를 호출합니다.
+ * 리스너 예외는 컨테이너 설정(retry max-attempts)처럼 바로 재시도하고, 다 쓰면 DLQ 로 보낸 것으로 셉니다.
+ * 응답 발행 쪽은 보낸 메시지를 라우팅 키별로 세고 confirm 은 바로 ACK 로 돌려주는 RabbitTemplate 으로 대신합니다.
+ */
+public class InJvmSagaBroker {
+
+    private final int consumers;
+
+    private final int maxAttempts;
+
+    private final LatencyRecorder handled;
+
+    private final BlockingQueue<Delivery> queue = new LinkedBlockingQueue<>();
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private final AtomicInteger deadLettered = new AtomicInteger();
+
+    private final AtomicInteger redelivered = new AtomicInteger();
+
+    private final Map<String, AtomicLong> replies = new ConcurrentHashMap<>();
+
+    private SagaListener sagaListener;
+
+    private ExecutorService executor;
+
+    private volatile boolean running;
+
+    public InJvmSagaBroker(int consumers, int maxAttempts, LatencyRecorder handled) {
+        this.consumers = consumers;
+        this.maxAttempts = maxAttempts;
+        this.handled = handled;
+    }
+
+    public void publish(SagaEvent event) {
+        inFlight.incrementAndGet();
+        queue.add(new Delivery(event, false));
+    }
+
+    public void publishCompensation(SagaEvent event) {
+        inFlight.incrementAndGet();
+        queue.add(new Delivery(event, true));
+    }
+
+    // 소비자 스레드를 띄워 쌓인 메시지를 리스너로 넘기기 시작
+    public void start(SagaListener sagaListener) {
+        this.sagaListener = sagaListener;
+        running = true;
+        executor = Executors.newFixedThreadPool(consumers);
+
+        for (int i = 0; i < consumers; i++) {
+            executor.execute(this::consume);
+        }
+    }
+
+    // 넣은 메시지를 모두 처리(ACK 또는 DLQ)할 때까지 기다림
+    public boolean awaitDrained(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+
+        while (inFlight.get() > 0) {
+            if (System.nanoTime() > deadline) {
+                return false;
+            }
+            Thread.sleep(1);
+        }
+
+        return true;
+    }
+
+    public void stop() throws InterruptedException {
+        running = false;
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    public int deadLettered() {
+        return deadLettered.get();
+    }
+
+    public int redelivered() {
+        return redelivered.get();
+    }
+
+    public long replies(String routingKey) {
+        AtomicLong count = replies.get(routingKey);
+        return count != null ? count.get() : 0L;
+    }
+
+    public long replies() {
+        return replies.values().stream().mapToLong(AtomicLong::get).sum();
+    }
+
+    public RabbitTemplate replyTemplate() {
+        return new CountingRabbitTemplate();
+    }
+
+    private void consume() {
+        while (running) {
+            Delivery delivery;
+            try {
+                delivery = queue.poll(10, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            if (delivery == null) {
+                continue;
+            }
+
+            long begin = System.nanoTime();
+            try {
+                if (deliver(delivery)) {
+                    handled.record(System.nanoTime() - begin);
+                } else {
+                    handled.fail();
+                    deadLettered.incrementAndGet();
+                }
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        }
+    }
+
+    private boolean deliver(Delivery delivery) {
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            try {
+                if (delivery.compensation()) {
+                    sagaListener.onCompensateEvent(delivery.event());
+                } else {
+                    sagaListener.onEvent(delivery.event());
+                }
+                return true;
+            } catch (RuntimeException e) {
+                if (attempt < maxAttempts) {
+                    redelivered.incrementAndGet();
+                }
+            }
+        }
+
+        return false;
+    }
+
+    private record Delivery(SagaEvent event, boolean compensation) {
+    }
+
+    // 보낸 응답을 라우팅 키별로 세고, confirm 은 바로 ACK
+    private class CountingRabbitTemplate extends RabbitTemplate {
+
+        @Override
+        public void send(String exchange, String routingKey, Message message) {
+            replies.computeIfAbsent(routingKey, key -> new AtomicLong()).incrementAndGet();
+        }
+
+        @Override
+        public void send(String exchange, String routingKey, Message message, CorrelationData correlationData) {
+            send(exchange, routingKey, message);
+            correlationData.getFuture().complete(new CorrelationData.Confirm(true, null));
+        }
+
+    }
+
+}
@@ -0,0 +1,173 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.nhnacademy.user.dto.response.InternalAddressResponse;
+import com.nhnacademy.user.dto.response.InternalUserResponse;
+import com.nhnacademy.user.entity.account.Account;
+import com.nhnacademy.user.entity.account.Role;
+import com.nhnacademy.user.entity.account.Status;
+import com.nhnacademy.user.entity.address.Address;
+import com.nhnacademy.user.entity.user.Grade;
+import com.nhnacademy.user.entity.user.User;
+import com.nhnacademy.user.repository.account.AccountRepository;
+import com.nhnacademy.user.repository.account.StatusRepository;
+import com.nhnacademy.user.repository.address.AddressRepository;
+import com.nhnacademy.user.repository.user.GradeRepository;
+import com.nhnacademy.user.repository.user.UserRepository;
+import com.nhnacademy.user.repository.user.projection.InternalUserRow;
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 주문/결제용 회원 정보 조회: 엔티티 조회 후 변환 vs QueryDSL DTO 프로젝션의 요청당 할당량/지연 시간 비교 (캐시 미스 경로)
+ */
+@BenchmarkTest
+class InternalUserInfoAllocationBenchmark {
+
+    private static final int ADDRESSES = 10;
+    private static final int WARMUP = 2_000;
+    private static final int ITERATIONS = 10_000;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    AddressRepository addressRepository;
+
+    @Autowired
+    AccountRepository accountRepository;
+
+    @Autowired
+    GradeRepository gradeRepository;
+
+    @Autowired
+    StatusRepository statusRepository;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("엔티티 조회 vs DTO 프로젝션 요청당 할당량")
+    void compareEntityAndProjection() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setReadOnly(true);
+
+        Long userId = createUserWithAddresses();
+
+        InternalUserResponse entity = measure("entity     ", tx, () -> loadWithEntities(userId));
+        InternalUserResponse projection = measure("projection ", tx, () -> loadWithProjection(userId));
+
+        assertThat(projection).isEqualTo(entity);
+        assertThat(projection.addresses()).hasSize(ADDRESSES);
+    }
+
+    // 변경 전: 회원 + 계정 fetch join, 등급/상태 지연 로딩, 배송지 엔티티를 하나씩 변환
+    private InternalUserResponse loadWithEntities(Long userId) {
+        User user = userRepository.findByIdWithAccount(userId).orElseThrow();
+
+        List<InternalAddressResponse> addresses = addressRepository.findAllByUser(user).stream()
+                .map(address -> new InternalAddressResponse(
+                        address.getAddressId(),
+                        address.getAddressName(),
+                        address.getZipCode(),
+                        address.getRoadAddress(),
+                        address.getAddressDetail(),
+                        address.isDefault()))
+                .toList();
+
+        user.getAccount().getStatus().getStatusName();
+
+        return new InternalUserResponse(
+                userId,
+                user.getUserName(),
+                user.getPhoneNumber(),
+                user.getEmail(),
+                user.getGrade().getGradeName(),
+                user.getGrade().getPointRate(),
+                user.getAvailablePoint(),
+                addresses);
+    }
+
+    // 변경 후: 회원 컬럼 조회 한 번 + 배송지 컬럼 조회 한 번
+    private InternalUserResponse loadWithProjection(Long userId) {
+        InternalUserRow row = userRepository.findInternalUser(userId).orElseThrow();
+
+        return new InternalUserResponse(
+                row.userCreatedId(),
+                row.userName(),
+                row.phoneNumber(),
+                row.email(),
+                row.gradeName(),
+                row.pointRate(),
+                row.availablePoint(),
+                userRepository.findInternalAddresses(userId));
+    }
+
+    private InternalUserResponse measure(String label, TransactionTemplate tx, Supplier<InternalUserResponse> query) {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+
+        LatencyRecorder recorder = new LatencyRecorder(ITERATIONS);
+        InternalUserResponse result = null;
+
+        // 워밍업
+        for (int i = 0; i < WARMUP; i++) {
+            tx.execute(status -> query.get());
+        }
+
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        recorder.start();
+        for (int i = 0; i < ITERATIONS; i++) {
+            long begin = System.nanoTime();
+            result = tx.execute(status -> query.get());
+            recorder.record(System.nanoTime() - begin);
+        }
+        recorder.stop();
+        long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        System.out.println(recorder.summary(label)
+                + String.format("  alloc=%8.1fKB/req", allocated / 1024.0 / ITERATIONS));
+        return result;
+    }
+
+    private Long createUserWithAddresses() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+
+        return tx.execute(status -> {
+            Grade grade = gradeRepository.save(new Grade("GENERAL", BigDecimal.ONE));
+            Status active = statusRepository.save(new Status("ACTIVE"));
+            User user = userRepository.save(
+                    new User("bench", "010-0000-0000", "bench@bench.local", LocalDate.now(), grade));
+            accountRepository.save(new Account("bench", "pw", Role.USER, user, active));
+
+            for (int i = 0; i < ADDRESSES; i++) {
+                addressRepository.save(new Address(user, "addr" + i, "12345", "road " + i, "detail " + i, i == 0));
+            }
+
+            return user.getUserCreatedId();
+        });
+    }
+
+}
@@ -0,0 +1,90 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.benchmark;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 벤치마크 요청별 지연 시간을 모아서 처리량과 백분위 값을 계산하는 도구
+ */
+public class LatencyRecorder {
+
+    private final AtomicLongArray samples;
+    private final AtomicInteger count = new AtomicInteger();
+    private final AtomicInteger failures = new AtomicInteger();
+
+    private long startedAt;
+    private long finishedAt;
+
+    public LatencyRecorder(int capacity) {
+        this.samples = new AtomicLongArray(capacity);
+    }
+
+    public void start() {
+        startedAt = System.nanoTime();
+    }
+
+    public void stop() {
+        finishedAt = System.nanoTime();
+    }
+
+    public void record(long elapsedNanos) {
+        int index = count.getAndIncrement();
+
+        if (index < samples.length()) {
+            samples.set(index, elapsedNanos);
+        }
+    }
+
+    public void fail() {
+        failures.incrementAndGet();
+    }
+
+    public int count() {
+        return Math.min(count.get(), samples.length());
+    }
+
+    public int failures() {
+        return failures.get();
+    }
+
+    public double throughput() {    // 초당 처리 건수
+        return count() / ((finishedAt - startedAt) / 1_000_000_000.0);
+    }
+
+    public double percentileMillis(double percentile) {
+        long[] sorted = new long[count()];
+
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = samples.get(i);
+        }
+
+        if (sorted.length == 0) {
+            return 0;
+        }
+
+        Arrays.sort(sorted);
+
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+
+        return sorted[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+    public String summary(String label) {
+        return String.format("%-28s ok=%7d fail=%5d  %10.1f ops/s  p50=%8.2fms  p99=%8.2fms",
+                label, count(), failures(), throughput(), percentileMillis(50), percentileMillis(99));
+    }
+
+}
@@ -0,0 +1,190 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.nhnacademy.user.entity.saga.OutboxStatus;
+import com.nhnacademy.user.entity.saga.UserOutbox;
+import com.nhnacademy.user.properties.OutboxRelayProperties;
+import com.nhnacademy.user.properties.OutboxRetryProperties;
+import com.nhnacademy.user.repository.saga.UserOutboxRepository;
+import com.nhnacademy.user.saga.UserEventPublisher;
+import com.nhnacademy.user.saga.UserOutboxAsyncRelay;
+import com.nhnacademy.user.saga.UserOutboxCommittedEvent;
+import com.nhnacademy.user.saga.UserOutboxRelayProcessor;
+import com.nhnacademy.user.saga.UserOutboxRetryBackoff;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 커밋 직후 Outbox 릴레이 방식별 처리량 비교 (동시 요청 스레드 8개)
+ * <p>
+ * sync: 행마다 REQUIRES_NEW 트랜잭션에서 잠금 조회 + 발행 + 상태 변경 (기존 방식)
+ * async-confirm: 보내고 바로 반환, ACK 는 모아서 UPDATE 한 번씩 반영
+ * <p>
+ * 브로커는 confirm 을 1ms 뒤에 돌려주는 가짜 RabbitTemplate 으로 대신합니다. 모든 행이 PUBLISHED 가 될 때까지를 측정합니다.
+ */
+@BenchmarkTest
+class OutboxRelayBenchmark {
+
+    private static final int MESSAGES = 4_000;
+    private static final int WRITERS = 8;
+    private static final long CONFIRM_DELAY_MICROS = 1_000L;
+
+    @Autowired
+    UserOutboxRepository userOutboxRepository;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    private final ScheduledExecutorService broker = Executors.newScheduledThreadPool(2);
+
+    @AfterEach
+    void tearDown() {
+        broker.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("sync vs async-confirm 커밋 직후 릴레이 처리량 비교")
+    void compareRelays() throws InterruptedException {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        TransactionTemplate requiresNew = new TransactionTemplate(transactionManager);
+        requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        UserEventPublisher publisher = new UserEventPublisher(new ConfirmingRabbitTemplate());
+        OutboxRelayProperties properties = new OutboxRelayProperties();
+        properties.setAsyncConfirm(true);
+        UserOutboxRetryBackoff backoff = new UserOutboxRetryBackoff(userOutboxRepository, properties,
+                new OutboxRetryProperties());
+
+        UserOutboxRelayProcessor processor = new UserOutboxRelayProcessor(publisher, userOutboxRepository, backoff,
+                properties);
+        UserOutboxAsyncRelay asyncRelay = new UserOutboxAsyncRelay(publisher, userOutboxRepository, tx, properties,
+                backoff);
+
+        run("sync          ", tx, event -> requiresNew.executeWithoutResult(
+                status -> processor.processRelay(event.getOutboxId())), null);
+        run("async-confirm ", tx, event -> {
+            if (!asyncRelay.publish(event)) {
+                requiresNew.executeWithoutResult(status -> processor.processRelay(event.getOutboxId()));
+            }
+        }, asyncRelay);
+    }
+
+    private void run(String label, TransactionTemplate tx, Consumer<UserOutboxCommittedEvent> relay,
+                     UserOutboxAsyncRelay asyncRelay) throws InterruptedException {
+        List<UserOutboxCommittedEvent> events = seed(tx);
+        List<Long> ids = events.stream().map(UserOutboxCommittedEvent::getOutboxId).toList();
+
+        LatencyRecorder recorder = new LatencyRecorder(MESSAGES);
+        ExecutorService executor = Executors.newFixedThreadPool(WRITERS);
+        CountDownLatch ready = new CountDownLatch(1);
+
+        for (int w = 0; w < WRITERS; w++) {
+            List<UserOutboxCommittedEvent> share = events.subList(w * MESSAGES / WRITERS, (w + 1) * MESSAGES / WRITERS);
+
+            executor.submit(() -> {
+                ready.await();
+
+                for (UserOutboxCommittedEvent event : share) {
+                    long begin = System.nanoTime();
+
+                    try {
+                        relay.accept(event);
+                        recorder.record(System.nanoTime() - begin);
+                    } catch (RuntimeException e) {
+                        recorder.fail();
+                    }
+                }
+
+                return null;
+            });
+        }
+
+        // @Scheduled(confirm-flush-interval=100ms) 대신 측정 스레드가 주기적으로 반영
+        ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor();
+
+        if (asyncRelay != null) {
+            flusher.scheduleWithFixedDelay(asyncRelay::flush, 100, 100, TimeUnit.MILLISECONDS);
+        }
+
+        recorder.start();
+        ready.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(5, TimeUnit.MINUTES)).isTrue();
+
+        while (published(tx, ids) < MESSAGES) {
+            Thread.sleep(10);
+        }
+
+        recorder.stop();
+        flusher.shutdownNow();
+
+        System.out.println(recorder.summary(label));
+        assertThat(recorder.failures()).isZero();
+    }
+
+    private List<UserOutboxCommittedEvent> seed(TransactionTemplate tx) {
+        return tx.execute(status -> {
+            List<UserOutboxCommittedEvent> events = new ArrayList<>(MESSAGES);
+
+            for (int i = 0; i < MESSAGES; i++) {
+                UserOutbox outbox = userOutboxRepository.save(
+                        new UserOutbox((long) i, "USER", "bench.exchange", "bench.reply", "{\"orderId\":" + i + "}"));
+                events.add(new UserOutboxCommittedEvent(this, outbox));
+            }
+
+            return events;
+        });
+    }
+
+    private long published(TransactionTemplate tx, List<Long> ids) {
+        return tx.execute(status -> userOutboxRepository.findAllById(ids).stream()
+                .filter(outbox -> outbox.getStatus() == OutboxStatus.PUBLISHED)
+                .count());
+    }
+
+    // 보내는 즉시 반환하고 confirm 은 일정 시간 뒤에 ACK 로 돌려주는 가짜 브로커
+    private class ConfirmingRabbitTemplate extends RabbitTemplate {
+
+        @Override
+        public void send(String exchange, String routingKey, Message message) {
+            // 기존 방식은 confirm 없이 보내기만 함
+        }
+
+        @Override
+        public void send(String exchange, String routingKey, Message message, CorrelationData correlationData) {
+            broker.schedule(() -> correlationData.getFuture().complete(new CorrelationData.Confirm(true, null)),
+                    CONFIRM_DELAY_MICROS, TimeUnit.MICROSECONDS);
+        }
+
+    }
+
+}
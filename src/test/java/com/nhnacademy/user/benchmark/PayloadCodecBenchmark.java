@@ -0,0 +1,151 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nhnacademy.user.entity.saga.UserOutbox;
+import com.nhnacademy.user.repository.saga.UserOutboxRepository;
+import com.nhnacademy.user.saga.SagaTopic;
+import com.nhnacademy.user.saga.codec.BinaryPayloadCodec;
+import com.nhnacademy.user.saga.codec.EncodedPayload;
+import com.nhnacademy.user.saga.codec.JsonPayloadCodec;
+import com.nhnacademy.user.saga.codec.PayloadCodec;
+import com.nhnacademy.user.saga.event.SagaReply;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Saga 응답 본문 코덱별 크기, 인코딩/디코딩 비용, Outbox 저장 처리량 비교
+ * <p>
+ * 실제 응답과 같은 모양(UUID 이벤트 ID, 주문 ID, 실패 사유 일부)의 응답 10,000건을 미리 만들어 두고,
+ * 워밍업 라운드를 돌린 뒤 같은 입력으로 측정합니다. JIT 영향을 줄이려고 코덱마다 측정을 여러 라운드 반복합니다.
+ */
+@BenchmarkTest
+class PayloadCodecBenchmark {
+
+    private static final int MESSAGES = 10_000;
+    private static final int WARMUP_ROUNDS = 20;
+    private static final int ROUNDS = 20;
+    private static final int PERSISTED = 2_000;
+
+    @Autowired
+    UserOutboxRepository userOutboxRepository;
+
+    private final List<PayloadCodec> codecs = List.of(
+            new JsonPayloadCodec(new ObjectMapper()),
+            new BinaryPayloadCodec()
+    );
+
+    @Test
+    @DisplayName("코덱별 메시지 크기와 인코딩/디코딩 ns/op")
+    void codecCost() {
+        List<SagaReply> replies = replies();
+
+        for (PayloadCodec codec : codecs) {
+            long bytes = 0;
+            for (SagaReply reply : replies) {
+                bytes += codec.encode(reply).body().length;
+            }
+
+            for (int i = 0; i < WARMUP_ROUNDS; i++) {
+                roundTrip(codec, replies);
+            }
+
+            long encodeNanos = 0;
+            long decodeNanos = 0;
+            for (int i = 0; i < ROUNDS; i++) {
+                long[] elapsed = roundTrip(codec, replies);
+                encodeNanos += elapsed[0];
+                decodeNanos += elapsed[1];
+            }
+
+            long ops = (long) MESSAGES * ROUNDS;
+            System.out.printf("[%s] avgBytes=%.1f, encode=%d ns/op, decode=%d ns/op%n",
+                    codec.name(), (double) bytes / MESSAGES, encodeNanos / ops, decodeNanos / ops);
+        }
+    }
+
+    @Test
+    @DisplayName("코덱별 Outbox 저장 처리량")
+    void outboxInsert() {
+        List<SagaReply> replies = replies().subList(0, PERSISTED);
+
+        for (PayloadCodec codec : codecs) {
+            persist(codec, replies);    // 워밍업
+            userOutboxRepository.deleteAllInBatch();
+
+            LatencyRecorder recorder = new LatencyRecorder(PERSISTED);
+            recorder.start();
+            persist(codec, replies, recorder);
+            recorder.stop();
+
+            System.out.println(recorder.summary("[" + codec.name() + "] outbox insert"));
+            assertThat(userOutboxRepository.count()).isEqualTo(PERSISTED);
+            userOutboxRepository.deleteAllInBatch();
+        }
+    }
+
+    private long[] roundTrip(PayloadCodec codec, List<SagaReply> replies) {
+        List<byte[]> bodies = new ArrayList<>(replies.size());
+
+        long start = System.nanoTime();
+        for (SagaReply reply : replies) {
+            bodies.add(codec.encode(reply).body());
+        }
+        long encoded = System.nanoTime();
+
+        long checksum = 0;
+        for (byte[] body : bodies) {
+            checksum += codec.decode(body).getOrderId();
+        }
+        long decoded = System.nanoTime();
+
+        assertThat(checksum).isNotZero();   // 디코딩 결과를 사용해 루프가 제거되지 않게 함
+        return new long[]{encoded - start, decoded - encoded};
+    }
+
+    private void persist(PayloadCodec codec, List<SagaReply> replies) {
+        persist(codec, replies, null);
+    }
+
+    private void persist(PayloadCodec codec, List<SagaReply> replies, LatencyRecorder recorder) {
+        for (SagaReply reply : replies) {
+            long start = System.nanoTime();
+            EncodedPayload payload = codec.encode(reply);
+            userOutboxRepository.save(new UserOutbox(reply.getOrderId(), "USER",
+                    SagaTopic.ORDER_EXCHANGE, SagaTopic.REPLY_RK, payload));
+            if (recorder != null) {
+                recorder.record(System.nanoTime() - start);
+            }
+        }
+    }
+
+    private List<SagaReply> replies() {
+        Random random = new Random(42);
+        List<SagaReply> replies = new ArrayList<>(MESSAGES);
+        for (int i = 0; i < MESSAGES; i++) {
+            boolean success = random.nextInt(10) > 0;
+            replies.add(new SagaReply(UUID.randomUUID().toString(), 1_000_000L + random.nextInt(9_000_000),
+                    "USER", success, success ? null : "INSUFFICIENT_POINTS"));
+        }
+        return replies;
+    }
+
+}
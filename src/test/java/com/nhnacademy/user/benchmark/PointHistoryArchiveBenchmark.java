@@ -0,0 +1,168 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.nhnacademy.user.dto.response.PointHistorySliceResponse;
+import com.nhnacademy.user.entity.point.Type;
+import com.nhnacademy.user.entity.user.Grade;
+import com.nhnacademy.user.entity.user.User;
+import com.nhnacademy.user.properties.PointArchiveProperties;
+import com.nhnacademy.user.properties.PointReconciliationProperties;
+import com.nhnacademy.user.repository.point.PointBalanceSnapshotRepository;
+import com.nhnacademy.user.repository.point.PointHistoryArchiveRepository;
+import com.nhnacademy.user.repository.point.PointHistoryRepository;
+import com.nhnacademy.user.repository.point.PointPolicyRepository;
+import com.nhnacademy.user.repository.point.jdbc.PointHistoryRow;
+import com.nhnacademy.user.repository.user.GradeRepository;
+import com.nhnacademy.user.repository.user.UserRepository;
+import com.nhnacademy.user.service.point.cache.PointPolicyCache;
+import com.nhnacademy.user.service.point.impl.PointArchiveServiceImpl;
+import com.nhnacademy.user.service.point.impl.PointReconciliationServiceImpl;
+import com.nhnacademy.user.service.point.impl.PointServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 내역 보관: 오래된 내역 이동 처리량, 보관 이후 커서 조회 연속성, 잔액 검증 불일치 없음 확인
+ */
+@BenchmarkTest
+class PointHistoryArchiveBenchmark {
+
+    private static final int USERS = 500;
+    private static final int OLD_PER_USER = 400;
+    private static final int RECENT_PER_USER = 20;
+    private static final long AMOUNT = 10L;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    GradeRepository gradeRepository;
+
+    @Autowired
+    PointHistoryRepository pointHistoryRepository;
+
+    @Autowired
+    PointHistoryArchiveRepository pointHistoryArchiveRepository;
+
+    @Autowired
+    PointBalanceSnapshotRepository pointBalanceSnapshotRepository;
+
+    @Autowired
+    PointPolicyRepository pointPolicyRepository;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("오래된 내역 보관 후 커서 조회와 잔액 검증")
+    void archiveAndScroll() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+
+        PointArchiveProperties properties = new PointArchiveProperties();
+        properties.setHotRetention(Duration.ofDays(180));
+
+        PointArchiveServiceImpl archiveService = new PointArchiveServiceImpl(pointHistoryRepository,
+                pointHistoryArchiveRepository, tx, properties);
+        PointReconciliationServiceImpl pointReconciliationService = new PointReconciliationServiceImpl(
+                userRepository, pointHistoryRepository, pointBalanceSnapshotRepository, tx,
+                new PointReconciliationProperties());
+
+        // 조회만 사용하므로 포인트 엔진과 적립 대기열은 없음
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        PointServiceImpl pointService = new PointServiceImpl(userRepository, pointHistoryRepository,
+                pointHistoryArchiveRepository, new PointPolicyCache(pointPolicyRepository, new SimpleMeterRegistry()),
+                null, null);
+
+        List<Long> userIds = createUsers(tx);
+        LocalDateTime old = LocalDateTime.now().minusDays(365);
+        LocalDateTime recent = LocalDateTime.now().minusHours(1);
+
+        for (int i = 0; i < OLD_PER_USER; i++) {
+            pointHistoryRepository.insertAll(rows(userIds, old.plusMinutes(i)));
+        }
+        for (int i = 0; i < RECENT_PER_USER; i++) {
+            pointHistoryRepository.insertAll(rows(userIds, recent.plusSeconds(i)));
+        }
+        tx.executeWithoutResult(status ->
+                userRepository.addPointToAll(userIds, AMOUNT * (OLD_PER_USER + RECENT_PER_USER)));
+
+        // 스냅샷이 없으면 아무것도 옮기지 않음
+        assertThat(archiveService.archive()).isZero();
+
+        pointReconciliationService.reconcile();
+
+        long begin = System.nanoTime();
+        int archived = archiveService.archive();
+        long elapsedMillis = Math.max(1, (System.nanoTime() - begin) / 1_000_000);
+
+        System.out.printf("archive rows=%d: %d ms (%.0f rows/s), hot rows left=%d%n", archived, elapsedMillis,
+                archived * 1000.0 / elapsedMillis, pointHistoryRepository.count());
+
+        assertThat(archived).isEqualTo(USERS * OLD_PER_USER);
+        assertThat(pointHistoryRepository.count()).isEqualTo((long) USERS * RECENT_PER_USER);
+
+        // hot 구간을 지나 보관 구간까지 끊김 없이 이어지는지
+        Long userId = userIds.getFirst();
+        int scrolled = 0;
+        PointHistorySliceResponse slice = readOnly.execute(status ->
+                pointService.scrollMyPointHistory(userId, null, null, 50));
+        scrolled += slice.content().size();
+
+        while (slice.hasNext()) {
+            PointHistorySliceResponse previous = slice;
+            slice = readOnly.execute(status -> pointService.scrollMyPointHistory(userId,
+                    previous.nextCursorCreatedAt(), previous.nextCursorId(), 50));
+            scrolled += slice.content().size();
+        }
+
+        assertThat(scrolled).isEqualTo(OLD_PER_USER + RECENT_PER_USER);
+
+        // 보관된 내역은 이미 스냅샷에 반영되어 있으므로 잔액 검증 결과가 그대로
+        assertThat(pointReconciliationService.reconcile().driftedUsers()).isZero();
+    }
+
+    private List<PointHistoryRow> rows(List<Long> userIds, LocalDateTime createdAt) {
+        return userIds.stream()
+                .map(id -> new PointHistoryRow(id, null, AMOUNT, Type.EARN, "bench", createdAt))
+                .toList();
+    }
+
+    private List<Long> createUsers(TransactionTemplate tx) {
+        return tx.execute(status -> {
+            Grade grade = gradeRepository.save(new Grade("GENERAL", BigDecimal.ONE));
+            List<Long> ids = new ArrayList<>();
+
+            for (int i = 0; i < USERS; i++) {
+                User user = new User("bench", "010-" + i, i + "@bench.local", LocalDate.now(), grade);
+                ids.add(userRepository.save(user).getUserCreatedId());
+            }
+
+            return ids;
+        });
+    }
+
+}
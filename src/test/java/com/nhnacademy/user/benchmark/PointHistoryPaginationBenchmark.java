@@ -0,0 +1,129 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.nhnacademy.user.entity.point.PointHistory;
+import com.nhnacademy.user.entity.point.Type;
+import com.nhnacademy.user.entity.user.Grade;
+import com.nhnacademy.user.entity.user.User;
+import com.nhnacademy.user.repository.point.PointHistoryRepository;
+import com.nhnacademy.user.repository.point.jdbc.PointHistoryRow;
+import com.nhnacademy.user.repository.user.GradeRepository;
+import com.nhnacademy.user.repository.user.UserRepository;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 내역 10만 건 회원 기준 OFFSET 페이징 vs 커서 페이징 지연 시간 비교 (1페이지 / 500페이지)
+ */
+@BenchmarkTest
+class PointHistoryPaginationBenchmark {
+
+    private static final int HISTORIES = 100_000;
+    private static final int PAGE_SIZE = 20;
+    private static final int DEEP_PAGE = 500;
+    private static final int ITERATIONS = 200;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    GradeRepository gradeRepository;
+
+    @Autowired
+    PointHistoryRepository pointHistoryRepository;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("OFFSET vs 커서 페이징 p99")
+    void compareOffsetAndKeyset() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setReadOnly(true);
+
+        User user = createUserWithHistories();
+        Long userId = user.getUserCreatedId();
+
+        // 500페이지 직전 행을 커서로 사용
+        PointHistory cursor = tx.execute(status -> pointHistoryRepository
+                .findBefore(userId, LocalDateTime.now(), Long.MAX_VALUE, Limit.of((DEEP_PAGE - 1) * PAGE_SIZE))
+                .getLast());
+
+        measure("offset  page=1  ", tx, () -> pointHistoryRepository
+                .findAllByUserOrderByCreatedAtDesc(user, PageRequest.of(0, PAGE_SIZE)).getContent());
+        measure("offset  page=" + DEEP_PAGE, tx, () -> pointHistoryRepository
+                .findAllByUserOrderByCreatedAtDesc(user, PageRequest.of(DEEP_PAGE - 1, PAGE_SIZE)).getContent());
+        measure("keyset  page=1  ", tx, () -> pointHistoryRepository
+                .findBefore(userId, LocalDateTime.now(), Long.MAX_VALUE, Limit.of(PAGE_SIZE + 1)));
+        List<PointHistory> deep = measure("keyset  page=" + DEEP_PAGE, tx, () -> pointHistoryRepository
+                .findBefore(userId, cursor.getCreatedAt(), cursor.getPointHistoryId(), Limit.of(PAGE_SIZE + 1)));
+
+        assertThat(deep).hasSize(PAGE_SIZE + 1);
+    }
+
+    private List<PointHistory> measure(String label, TransactionTemplate tx, Supplier<List<PointHistory>> query) {
+        LatencyRecorder recorder = new LatencyRecorder(ITERATIONS);
+        List<PointHistory> result = null;
+
+        // 워밍업
+        for (int i = 0; i < 20; i++) {
+            tx.execute(status -> query.get());
+        }
+
+        recorder.start();
+        for (int i = 0; i < ITERATIONS; i++) {
+            long begin = System.nanoTime();
+            result = tx.execute(status -> query.get());
+            recorder.record(System.nanoTime() - begin);
+        }
+        recorder.stop();
+
+        System.out.println(recorder.summary(label));
+        return result;
+    }
+
+    private User createUserWithHistories() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+
+        User user = tx.execute(status -> {
+            Grade grade = gradeRepository.save(new Grade("GENERAL", BigDecimal.ONE));
+            return userRepository.save(new User("bench", "010-0000-0000", "bench@bench.local", LocalDate.now(), grade));
+        });
+
+        // 같은 시각 내역이 섞이도록 2건씩 같은 created_at 사용 (ID 로 순서 결정)
+        LocalDateTime base = LocalDateTime.now().minusDays(1);
+        List<PointHistoryRow> rows = new ArrayList<>(HISTORIES);
+        for (int i = 0; i < HISTORIES; i++) {
+            rows.add(new PointHistoryRow(user.getUserCreatedId(), null, 10L, Type.EARN, "bench",
+                    base.plusSeconds(i / 2)));
+        }
+        pointHistoryRepository.insertAll(rows);
+
+        return user;
+    }
+
+}
@@ -0,0 +1,159 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.nhnacademy.user.entity.point.Type;
+import com.nhnacademy.user.entity.user.Grade;
+import com.nhnacademy.user.entity.user.User;
+import com.nhnacademy.user.properties.PointCoalescingProperties;
+import com.nhnacademy.user.properties.PointExpiryProperties;
+import com.nhnacademy.user.repository.point.PointHistoryRepository;
+import com.nhnacademy.user.repository.point.PointLotRepository;
+import com.nhnacademy.user.repository.user.GradeRepository;
+import com.nhnacademy.user.repository.user.UserRepository;
+import com.nhnacademy.user.service.point.ledger.PointChange;
+import com.nhnacademy.user.service.point.ledger.PointHistoryWriter;
+import com.nhnacademy.user.service.point.ledger.PointLedger;
+import com.nhnacademy.user.service.point.ledger.PointLotManager;
+import com.nhnacademy.user.service.point.ledger.impl.AtomicPointLedger;
+import com.nhnacademy.user.service.point.ledger.impl.CoalescingPointLedger;
+import com.nhnacademy.user.service.point.ledger.impl.LockingPointLedger;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 한 회원에게 동시 쓰기가 몰릴 때 포인트 엔진별 처리량 비교 (동시 요청 수: 1, 16, 64)
+ * <p>
+ * locking/atomic 은 서비스 트랜잭션을 흉내 내 요청마다 트랜잭션을 열고, 묶음 처리 엔진은 직접 트랜잭션을 열므로 그대로 호출
+ */
+@BenchmarkTest
+class PointLedgerContentionBenchmark {
+
+    private static final int[] WRITERS = {1, 16, 64};
+    private static final int OPERATIONS_PER_WRITER = 200;
+    private static final long INITIAL_POINT = 1_000_000L;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    GradeRepository gradeRepository;
+
+    @Autowired
+    PointHistoryRepository pointHistoryRepository;
+
+    @Autowired
+    PointLotRepository pointLotRepository;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("locking vs atomic vs coalescing 포인트 엔진 경합 비교")
+    void compareEngines() throws InterruptedException {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+
+        PointHistoryWriter writer = new PointHistoryWriter(pointHistoryRepository);
+        PointLotManager lotManager = new PointLotManager(pointLotRepository, new PointExpiryProperties());
+        PointLedger locking = new LockingPointLedger(userRepository, writer, lotManager);
+        PointLedger atomic = new AtomicPointLedger(userRepository, writer, lotManager);
+
+        for (int writers : WRITERS) {
+            run("locking    writers=" + writers, locking, createUser(tx), writers, tx, true);
+            run("atomic     writers=" + writers, atomic, createUser(tx), writers, tx, true);
+
+            Long hotUserId = createUser(tx);
+            PointCoalescingProperties properties = new PointCoalescingProperties();
+            properties.setHotUserIds(Set.of(hotUserId));
+            PointLedger coalescing = new CoalescingPointLedger(locking, userRepository, writer, lotManager, tx,
+                    properties);
+
+            run("coalescing writers=" + writers, coalescing, hotUserId, writers, tx, false);
+        }
+    }
+
+    private void run(String label, PointLedger ledger, Long userId, int writers, TransactionTemplate tx,
+                     boolean outerTransaction) throws InterruptedException {
+        long historiesBefore = pointHistoryRepository.count();
+
+        LatencyRecorder recorder = new LatencyRecorder(writers * OPERATIONS_PER_WRITER);
+        ExecutorService executor = Executors.newFixedThreadPool(writers);
+        CountDownLatch ready = new CountDownLatch(1);
+
+        for (int w = 0; w < writers; w++) {
+            executor.submit(() -> {
+                ready.await();
+
+                for (int i = 0; i < OPERATIONS_PER_WRITER; i++) {
+                    // 적립/사용을 번갈아 보내서 잔액 검증 경로까지 함께 측정
+                    Type type = i % 2 == 0 ? Type.EARN : Type.USE;
+                    long begin = System.nanoTime();
+
+                    try {
+                        PointChange change = new PointChange(userId, 10L, type, "bench");
+
+                        if (outerTransaction) {
+                            tx.executeWithoutResult(status -> ledger.apply(change));
+                        } else {
+                            ledger.apply(change);
+                        }
+                        recorder.record(System.nanoTime() - begin);
+
+                    } catch (RuntimeException e) {
+                        recorder.fail();
+                    }
+                }
+
+                return null;
+            });
+        }
+
+        recorder.start();
+        ready.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(5, TimeUnit.MINUTES)).isTrue();
+        recorder.stop();
+
+        System.out.println(recorder.summary(label));
+
+        // 성공한 요청 수만큼 내역이 쌓여야 하고, 잔액은 내역 합계와 일치해야 함
+        long histories = pointHistoryRepository.count() - historiesBefore;
+        assertThat(histories).isEqualTo(recorder.count());
+        assertThat(userRepository.findById(userId).orElseThrow().getCurrentPoint())
+                .isBetween(INITIAL_POINT - histories * 10, INITIAL_POINT + histories * 10);
+    }
+
+    private Long createUser(TransactionTemplate tx) {
+        return tx.execute(status -> {
+            Grade grade = gradeRepository.save(new Grade("GENERAL", BigDecimal.ONE));
+            long seq = System.nanoTime();
+            User user = new User("bench", "010-" + seq, seq + "@bench.local", LocalDate.now(), grade);
+            user.modifyPoint(INITIAL_POINT);
+
+            return userRepository.save(user).getUserCreatedId();
+        });
+    }
+
+}
@@ -0,0 +1,135 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.nhnacademy.user.dto.response.PointReconciliationReport;
+import com.nhnacademy.user.entity.point.Type;
+import com.nhnacademy.user.entity.user.Grade;
+import com.nhnacademy.user.entity.user.User;
+import com.nhnacademy.user.properties.PointReconciliationProperties;
+import com.nhnacademy.user.repository.point.PointBalanceSnapshotRepository;
+import com.nhnacademy.user.repository.point.PointHistoryRepository;
+import com.nhnacademy.user.repository.point.jdbc.PointHistoryRow;
+import com.nhnacademy.user.repository.user.GradeRepository;
+import com.nhnacademy.user.repository.user.UserRepository;
+import com.nhnacademy.user.service.point.impl.PointReconciliationServiceImpl;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 잔액 검증: 스냅샷이 없을 때(전체 합산)와 스냅샷 이후 내역만 합산할 때 소요 시간 비교
+ */
+@BenchmarkTest
+class PointReconciliationBenchmark {
+
+    private static final int USERS = 2_000;
+    private static final int HISTORIES_PER_USER = 100;
+    private static final long AMOUNT = 10L;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    GradeRepository gradeRepository;
+
+    @Autowired
+    PointHistoryRepository pointHistoryRepository;
+
+    @Autowired
+    PointBalanceSnapshotRepository pointBalanceSnapshotRepository;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("전체 합산 vs 스냅샷 이후 합산")
+    void compareFullAndIncremental() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+
+        PointReconciliationProperties properties = new PointReconciliationProperties();
+        properties.setSafetyLag(Duration.ofMinutes(5));
+
+        PointReconciliationServiceImpl service = new PointReconciliationServiceImpl(userRepository,
+                pointHistoryRepository, pointBalanceSnapshotRepository, tx, properties);
+
+        List<Long> userIds = createUsers(tx);
+        LocalDateTime old = LocalDateTime.now().minusHours(1);
+
+        // 회원마다 오래된 적립 내역을 쌓고 잔액도 같이 맞춤
+        for (int i = 0; i < HISTORIES_PER_USER; i++) {
+            pointHistoryRepository.insertAll(rows(userIds, old));
+        }
+        tx.executeWithoutResult(status -> userRepository.addPointToAll(userIds, AMOUNT * HISTORIES_PER_USER));
+
+        PointReconciliationReport full = time("full        rows=" + USERS * HISTORIES_PER_USER, service);
+        assertThat(full.driftedUsers()).isZero();
+        assertThat(full.advancedSnapshots()).isEqualTo(USERS);
+
+        // 스냅샷 이후 한 건씩 추가
+        pointHistoryRepository.insertAll(rows(userIds, old));
+        tx.executeWithoutResult(status -> userRepository.addPointToAll(userIds, AMOUNT));
+
+        PointReconciliationReport incremental = time("incremental rows=" + USERS, service);
+        assertThat(incremental.driftedUsers()).isZero();
+
+        // 잔액만 바뀐 회원은 불일치로 잡히고, rebuild 로 다시 맞춰짐
+        Long drifted = userIds.getFirst();
+        tx.executeWithoutResult(status -> userRepository.addPointToAll(List.of(drifted), 7L));
+
+        PointReconciliationReport detected = service.reconcile();
+        assertThat(detected.driftedUsers()).isEqualTo(1);
+        assertThat(detected.drifts().getFirst().drift()).isEqualTo(7L);
+
+        assertThat(tx.execute(status -> service.rebuild(drifted)).drift()).isEqualTo(7L);
+        assertThat(service.reconcile().driftedUsers()).isZero();
+    }
+
+    private PointReconciliationReport time(String label, PointReconciliationServiceImpl service) {
+        long begin = System.nanoTime();
+        PointReconciliationReport report = service.reconcile();
+        System.out.printf("%s: %d ms%n", label, (System.nanoTime() - begin) / 1_000_000);
+        return report;
+    }
+
+    private List<PointHistoryRow> rows(List<Long> userIds, LocalDateTime createdAt) {
+        return userIds.stream()
+                .map(id -> new PointHistoryRow(id, null, AMOUNT, Type.EARN, "bench", createdAt))
+                .toList();
+    }
+
+    private List<Long> createUsers(TransactionTemplate tx) {
+        return tx.execute(status -> {
+            Grade grade = gradeRepository.save(new Grade("GENERAL", BigDecimal.ONE));
+            List<Long> ids = new ArrayList<>();
+
+            for (int i = 0; i < USERS; i++) {
+                User user = new User("bench", "010-" + i, i + "@bench.local", LocalDate.now(), grade);
+                ids.add(userRepository.save(user).getUserCreatedId());
+            }
+
+            return ids;
+        });
+    }
+
+}
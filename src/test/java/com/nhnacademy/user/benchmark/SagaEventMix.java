@@ -0,0 +1,84 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.benchmark;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Saga 부하 하네스에서 보낼 이벤트 종류별 비율
+ * <p>
+ * "confirm=70,refund=10,compensate=10,duplicate=10" 형식 (비율 합이 100 이 아니어도 가중치로 사용)
+ */
+public class SagaEventMix {
+
+    public enum Kind {
+        CONFIRM, REFUND, COMPENSATE, DUPLICATE
+    }
+
+    private final Map<Kind, Integer> weights;
+
+    private final int total;
+
+    private final String spec;
+
+    private SagaEventMix(Map<Kind, Integer> weights, String spec) {
+        this.weights = weights;
+        this.total = weights.values().stream().mapToInt(Integer::intValue).sum();
+        this.spec = spec;
+    }
+
+    public static SagaEventMix parse(String spec) {
+        Map<Kind, Integer> weights = new EnumMap<>(Kind.class);
+
+        for (String part : spec.split(",")) {
+            String[] pair = part.trim().split("=");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("이벤트 비율 형식이 잘못되었습니다: " + part);
+            }
+
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("이벤트 비율은 0 이상이어야 합니다: " + part);
+            }
+
+            weights.merge(Kind.valueOf(pair[0].trim().toUpperCase()), weight, Integer::sum);
+        }
+
+        if (weights.values().stream().mapToInt(Integer::intValue).sum() == 0) {
+            throw new IllegalArgumentException("이벤트 비율 합이 0 입니다: " + spec);
+        }
+
+        return new SagaEventMix(weights, spec);
+    }
+
+    public Kind next(Random random) {
+        int pick = random.nextInt(total);
+
+        for (Map.Entry<Kind, Integer> entry : weights.entrySet()) {
+            pick -= entry.getValue();
+            if (pick < 0) {
+                return entry.getKey();
+            }
+        }
+
+        throw new IllegalStateException("도달할 수 없는 분기");
+    }
+
+    @Override
+    public String toString() {
+        return spec;
+    }
+
+}
@@ -0,0 +1,370 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nhnacademy.user.entity.user.Grade;
+import com.nhnacademy.user.entity.user.User;
+import com.nhnacademy.user.properties.OutboxRelayProperties;
+import com.nhnacademy.user.properties.OutboxRetryProperties;
+import com.nhnacademy.user.properties.PointExpiryProperties;
+import com.nhnacademy.user.properties.SagaIdempotencyProperties;
+import com.nhnacademy.user.properties.SagaPointHoldProperties;
+import com.nhnacademy.user.properties.SagaReplyProperties;
+import com.nhnacademy.user.repository.point.PointHistoryRepository;
+import com.nhnacademy.user.repository.point.PointHoldRepository;
+import com.nhnacademy.user.repository.point.PointLotRepository;
+import com.nhnacademy.user.repository.saga.UserDeduplicationRepository;
+import com.nhnacademy.user.repository.saga.UserOutboxRepository;
+import com.nhnacademy.user.repository.user.GradeRepository;
+import com.nhnacademy.user.repository.user.UserRepository;
+import com.nhnacademy.user.saga.SagaHandler;
+import com.nhnacademy.user.saga.SagaListener;
+import com.nhnacademy.user.saga.SagaReplyAggregator;
+import com.nhnacademy.user.saga.SagaReplyService;
+import com.nhnacademy.user.saga.SagaTestService;
+import com.nhnacademy.user.saga.SagaTopic;
+import com.nhnacademy.user.saga.UserEventPublisher;
+import com.nhnacademy.user.saga.UserOutboxAsyncRelay;
+import com.nhnacademy.user.saga.UserOutboxCommittedEvent;
+import com.nhnacademy.user.saga.UserOutboxPollingRelay;
+import com.nhnacademy.user.saga.UserOutboxRelayProcessor;
+import com.nhnacademy.user.saga.UserOutboxRetryBackoff;
+import com.nhnacademy.user.saga.codec.JsonPayloadCodec;
+import com.nhnacademy.user.saga.codec.PayloadCodecs;
+import com.nhnacademy.user.saga.event.OrderCompensateEvent;
+import com.nhnacademy.user.saga.event.OrderConfirmedEvent;
+import com.nhnacademy.user.saga.event.OrderRefundEvent;
+import com.nhnacademy.user.saga.idempotency.JpaIdempotencyStore;
+import com.nhnacademy.user.service.point.impl.PointHoldServiceImpl;
+import com.nhnacademy.user.service.point.impl.PointServiceImpl;
+import com.nhnacademy.user.service.point.ledger.PointHistoryWriter;
+import com.nhnacademy.user.service.point.ledger.PointLedger;
+import com.nhnacademy.user.service.point.ledger.PointLotManager;
+import com.nhnacademy.user.service.point.ledger.impl.LockingPointLedger;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.AnnotationTransactionAttributeSource;
+import org.springframework.transaction.interceptor.TransactionInterceptor;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Saga 명령 처리 경로(SagaListener > SagaHandler > PointServiceImpl > SagaReplyService) 부하 하네스
+ * <p>
+ * 브로커는 JVM 안의 대역(InJvmSagaBroker), DB 는 임베디드 H2 를 씁니다. 서비스는 직접 만들되 @Transactional 은
+ * 트랜잭션 프록시로 그대로 적용하므로, 리스너 트랜잭션 / 응답 저장 REQUIRES_NEW / 커밋 직후 릴레이 REQUIRES_NEW 가
+ * 운영과 같은 순서로 열립니다.
+ * <p>
+ * 시스템 프로퍼티로 조절 (기본값):
+ * <ul>
+ *     <li>saga.bench.mixes: 이벤트 비율, 여러 개는 ';' 로 구분 ("confirm=100;confirm=70,refund=10,compensate=10,duplicate=10")</li>
+ *     <li>saga.bench.events: 실행당 보낼 이벤트 수 (4000)</li>
+ *     <li>saga.bench.consumers: 소비자 스레드 수 (8)</li>
+ *     <li>saga.bench.users: 이벤트를 나눠 받을 회원 수, 적을수록 같은 회원 행 잠금 경합이 커짐 (32)</li>
+ *     <li>saga.bench.reply-batching: 응답 묶음 저장 사용 여부 (false)</li>
+ *     <li>saga.bench.point-hold: 포인트 홀드 사용 여부, 켜면 처리가 끝난 뒤 남은 홀드를 한 번에 확정 (false)</li>
+ *     <li>saga.bench.seed: 이벤트 순서 난수 시드 (42)</li>
+ * </ul>
+ * ex: ./mvnw test -Dbenchmark=true -Dtest=SagaHandlerThroughputBenchmark -Dsaga.bench.users=4
+ * <p>
+ * 출력: 처리량, 메시지 처리 시간 p50/p99, 회원 행 잠금 조회(...ForUpdate)에 걸린 시간 합계와 p99, 새로 쌓인 포인트 내역 수
+ */
+@BenchmarkTest
+class SagaHandlerThroughputBenchmark {
+
+    private static final long INITIAL_POINT = 100_000_000L;
+    private static final long USED_POINT = 100L;
+    private static final long SAVED_POINT = 10L;
+    private static final long REFUND_AMOUNT = 500L;
+    private static final int MAX_ATTEMPTS = 3;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    GradeRepository gradeRepository;
+
+    @Autowired
+    PointHistoryRepository pointHistoryRepository;
+
+    @Autowired
+    PointLotRepository pointLotRepository;
+
+    @Autowired
+    PointHoldRepository pointHoldRepository;
+
+    @Autowired
+    UserOutboxRepository userOutboxRepository;
+
+    @Autowired
+    UserDeduplicationRepository deduplicationRepository;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final PayloadCodecs payloadCodecs = new PayloadCodecs(
+            List.of(new JsonPayloadCodec(objectMapper)), JsonPayloadCodec.NAME);
+
+    @Test
+    @DisplayName("Saga 명령 처리 경로 처리량 / 지연 / 잠금 대기 측정")
+    void replayEventMixes() throws InterruptedException {
+        String mixes = System.getProperty("saga.bench.mixes", "confirm=100;confirm=70,refund=10,compensate=10,duplicate=10");
+        int events = Integer.getInteger("saga.bench.events", 4_000);
+        int consumers = Integer.getInteger("saga.bench.consumers", 8);
+        int users = Integer.getInteger("saga.bench.users", 32);
+        boolean replyBatching = Boolean.parseBoolean(System.getProperty("saga.bench.reply-batching", "false"));
+        boolean pointHold = Boolean.parseBoolean(System.getProperty("saga.bench.point-hold", "false"));
+        long seed = Long.getLong("saga.bench.seed", 42L);
+
+        for (String mix : mixes.split(";")) {
+            run(SagaEventMix.parse(mix), events, consumers, users, replyBatching, pointHold, new Random(seed));
+        }
+    }
+
+    private void run(SagaEventMix mix, int events, int consumers, int users, boolean replyBatching,
+                     boolean pointHold, Random random) throws InterruptedException {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        List<Long> userIds = createUsers(tx, users);
+
+        LatencyRecorder handled = new LatencyRecorder(events);
+        LatencyRecorder lockWait = new LatencyRecorder(events * 4);
+        AtomicLong lockWaitNanos = new AtomicLong();
+
+        InJvmSagaBroker broker = new InJvmSagaBroker(consumers, MAX_ATTEMPTS, handled);
+        Stack stack = buildStack(broker, lockWait, lockWaitNanos, replyBatching, pointHold);
+
+        int unique = script(mix, events, userIds, broker, random);
+        long historiesBefore = pointHistoryRepository.count();
+
+        handled.start();
+        broker.start(stack.listener());
+        boolean drained = broker.awaitDrained(5, TimeUnit.MINUTES);
+        handled.stop();
+        broker.stop();
+
+        if (stack.replyAggregator() != null) {
+            stack.replyAggregator().stop();
+        }
+
+        // 보상 대기 기간을 0 으로 두었으므로 남은 홀드는 모두 확정 대상 (정리 배치 한 번)
+        int holdsCommitted = pointHold ? stack.pointHoldService().commitExpired() : 0;
+        long histories = pointHistoryRepository.count() - historiesBefore;
+
+        String label = String.format("mix=%s users=%d consumers=%d%s%s", mix, users, consumers,
+                replyBatching ? " reply-batching" : "", pointHold ? " point-hold" : "");
+        System.out.println(label);
+        System.out.println(handled.summary("  handled") + String.format(
+                "  lockWait total=%8.1fms p99=%7.2fms  replies=%d dlq=%d redelivered=%d histories=%d holds=%d",
+                lockWaitNanos.get() / 1_000_000.0, lockWait.percentileMillis(99),
+                broker.replies(), broker.deadLettered(), broker.redelivered(), histories, holdsCommitted));
+
+        assertThat(drained).isTrue();
+        assertThat(broker.deadLettered()).isZero();
+        // 중복 메시지는 응답 없이 건너뛰고, 처음 받은 이벤트마다 응답이 하나씩 나가야 함
+        assertThat(broker.replies()).isEqualTo(unique);
+        assertThat(histories).isPositive();
+    }
+
+    /**
+     * 비율대로 이벤트를 만들어 브로커 대역에 넣는 메소드
+     *
+     * @return 중복을 뺀 이벤트 수
+     */
+    private int script(SagaEventMix mix, int events, List<Long> userIds, InJvmSagaBroker broker, Random random) {
+        String prefix = Long.toHexString(System.nanoTime()) + "-";
+        List<OrderConfirmedEvent> confirmed = new ArrayList<>();
+        List<Runnable> sent = new ArrayList<>();
+        int unique = 0;
+
+        for (int i = 0; i < events; i++) {
+            long orderId = i + 1L;
+            Long userId = userIds.get(random.nextInt(userIds.size()));
+            SagaEventMix.Kind kind = mix.next(random);
+
+            // 보상할 주문이나 다시 보낼 메시지가 아직 없으면 주문 확정으로 대신
+            if ((kind == SagaEventMix.Kind.COMPENSATE && confirmed.isEmpty())
+                    || (kind == SagaEventMix.Kind.DUPLICATE && sent.isEmpty())) {
+                kind = SagaEventMix.Kind.CONFIRM;
+            }
+
+            Runnable delivery = switch (kind) {
+                case CONFIRM -> {
+                    OrderConfirmedEvent event = new OrderConfirmedEvent(prefix + "c" + orderId, orderId, userId, null,
+                            Map.of(1L, 1), 10_000L, USED_POINT, SAVED_POINT, List.of());
+                    confirmed.add(event);
+                    yield () -> broker.publish(event);
+                }
+                case REFUND -> {
+                    OrderRefundEvent event = new OrderRefundEvent(prefix + "r" + orderId, orderId, userId, null,
+                            1L, 1L, REFUND_AMOUNT);
+                    yield () -> broker.publish(event);
+                }
+                case COMPENSATE -> {
+                    // 같은 주문은 한 번만 보상
+                    OrderConfirmedEvent original = confirmed.remove(random.nextInt(confirmed.size()));
+                    OrderCompensateEvent event = new OrderCompensateEvent(original.getEventId(), original,
+                            "BOOK_OUT_OF_STOCK");
+                    yield () -> broker.publishCompensation(event);
+                }
+                case DUPLICATE -> sent.get(random.nextInt(sent.size()));
+            };
+
+            if (kind != SagaEventMix.Kind.DUPLICATE) {
+                sent.add(delivery);
+                unique++;
+            }
+
+            delivery.run();
+        }
+
+        return unique;
+    }
+
+    // 운영 빈 구성을 직접 조립, @Transactional 이 붙은 빈은 트랜잭션 프록시로 감쌈
+    private Stack buildStack(InJvmSagaBroker broker, LatencyRecorder lockWait, AtomicLong lockWaitNanos,
+                             boolean replyBatching, boolean pointHold) {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        UserRepository timedUserRepository = timeLocks(userRepository, lockWait, lockWaitNanos);
+
+        PointHistoryWriter historyWriter = new PointHistoryWriter(pointHistoryRepository);
+        PointLotManager lotManager = new PointLotManager(pointLotRepository, new PointExpiryProperties());
+        PointLedger ledger = transactional(new LockingPointLedger(timedUserRepository, historyWriter, lotManager));
+
+        // 보관 내역 / 정책 캐시 / 적립 대기열은 포인트 수동 처리 경로에서 쓰지 않음
+        PointServiceImpl pointService = new PointServiceImpl(timedUserRepository, pointHistoryRepository, null, null,
+                ledger, null);
+
+        SagaPointHoldProperties pointHoldProperties = new SagaPointHoldProperties();
+        pointHoldProperties.setEnabled(pointHold);
+        pointHoldProperties.setTtl(Duration.ZERO);
+
+        PointHoldServiceImpl pointHoldService = transactional(new PointHoldServiceImpl(pointHoldRepository,
+                timedUserRepository, historyWriter, lotManager, tx, pointHoldProperties));
+
+        JpaIdempotencyStore idempotencyStore = new JpaIdempotencyStore(deduplicationRepository,
+                new SagaIdempotencyProperties());
+        idempotencyStore.rebuild();
+
+        OutboxRelayProperties relayProperties = new OutboxRelayProperties();
+        UserOutboxRetryBackoff backoff = new UserOutboxRetryBackoff(userOutboxRepository, relayProperties,
+                new OutboxRetryProperties());
+
+        UserEventPublisher publisher = new UserEventPublisher(broker.replyTemplate());
+        UserOutboxRelayProcessor relayProcessor = transactional(
+                new UserOutboxRelayProcessor(publisher, userOutboxRepository, backoff, relayProperties));
+
+        // @TransactionalEventListener(AFTER_COMMIT) 대신 커밋 직후 동기화 콜백에서 릴레이 호출
+        ApplicationEventPublisher afterCommitRelay = event -> {
+            if (event instanceof UserOutboxCommittedEvent committed) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        relayProcessor.processRelay(committed.getOutboxId());
+                    }
+                });
+            }
+        };
+
+        SagaReplyService replyService = transactional(
+                new SagaReplyService(payloadCodecs, userOutboxRepository, afterCommitRelay));
+
+        SagaReplyProperties replyProperties = new SagaReplyProperties();
+        replyProperties.setBatching(replyBatching);
+
+        SagaReplyAggregator replyAggregator = new SagaReplyAggregator(payloadCodecs, userOutboxRepository,
+                new UserOutboxPollingRelay(userOutboxRepository, publisher, tx, relayProperties, backoff),
+                new UserOutboxAsyncRelay(publisher, userOutboxRepository, tx, relayProperties, backoff),
+                tx, replyProperties, relayProperties);
+        replyAggregator.start();
+
+        SagaHandler handler = transactional(new SagaHandler(objectMapper, userOutboxRepository, afterCommitRelay,
+                new SagaTestService(), replyService, replyAggregator, replyProperties, pointService,
+                pointHoldService, pointHoldProperties));
+
+        return new Stack(transactional(new SagaListener(idempotencyStore, handler)),
+                replyBatching ? replyAggregator : null, pointHoldService);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T transactional(T target) {
+        ProxyFactory factory = new ProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAdvice(new TransactionInterceptor(transactionManager, new AnnotationTransactionAttributeSource()));
+
+        return (T) factory.getProxy();
+    }
+
+    // 회원 행 잠금 조회(...ForUpdate)에 걸린 시간을 기록하는 프록시
+    private UserRepository timeLocks(UserRepository target, LatencyRecorder lockWait, AtomicLong lockWaitNanos) {
+        ProxyFactory factory = new ProxyFactory();
+        factory.setTarget(target);
+        factory.addInterface(UserRepository.class);
+        factory.addAdvice((MethodInterceptor) invocation -> {
+            if (!invocation.getMethod().getName().endsWith("ForUpdate")) {
+                return invocation.proceed();
+            }
+
+            long begin = System.nanoTime();
+            try {
+                return invocation.proceed();
+            } finally {
+                long elapsed = System.nanoTime() - begin;
+                lockWait.record(elapsed);
+                lockWaitNanos.addAndGet(elapsed);
+            }
+        });
+
+        return (UserRepository) factory.getProxy();
+    }
+
+    private List<Long> createUsers(TransactionTemplate tx, int count) {
+        return tx.execute(status -> {
+            Grade grade = gradeRepository.save(new Grade("GENERAL", BigDecimal.ONE));
+            List<Long> ids = new ArrayList<>(count);
+
+            for (int i = 0; i < count; i++) {
+                long seq = System.nanoTime();
+                User user = new User("bench", "010-" + seq, seq + "@bench.local", LocalDate.now(), grade);
+                user.modifyPoint(INITIAL_POINT);
+                ids.add(userRepository.save(user).getUserCreatedId());
+            }
+
+            return ids;
+        });
+    }
+
+    private record Stack(SagaListener listener, SagaReplyAggregator replyAggregator,
+                         PointHoldServiceImpl pointHoldService) {
+    }
+
+}
@@ -0,0 +1,154 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.nhnacademy.user.entity.saga.UserDeduplicationLog;
+import com.nhnacademy.user.properties.SagaIdempotencyProperties;
+import com.nhnacademy.user.repository.saga.UserDeduplicationRepository;
+import com.nhnacademy.user.saga.idempotency.IdempotencyStore;
+import com.nhnacademy.user.saga.idempotency.JpaIdempotencyStore;
+import com.nhnacademy.user.saga.idempotency.RedisIdempotencyStore;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 사가 메시지 중복 검사 저장소별 처리량 비교 (동시 소비자 8개, 메시지 10% 는 재전송된 중복)
+ * <p>
+ * legacy: 메시지마다 existsByMessageId + save (기존 방식)
+ * jpa-bloom: Bloom filter 로 처음 보는 메시지는 INSERT 한 번
+ * redis: SET NX EX 한 번 (localhost:6379 에 Redis 가 떠 있을 때만)
+ * <p>
+ * 메시지 하나 = 리스너 트랜잭션 하나 (핸들러 작업은 제외하고 중복 검사 비용만 측정)
+ */
+@BenchmarkTest
+class SagaIdempotencyBenchmark {
+
+    private static final int CONSUMERS = 8;
+    private static final int MESSAGES_PER_CONSUMER = 1_000;
+    private static final int DUPLICATE_EVERY = 10;
+
+    @Autowired
+    UserDeduplicationRepository deduplicationRepository;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("legacy vs jpa-bloom vs redis 중복 검사 처리량 비교")
+    void compareStores() throws InterruptedException {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        SagaIdempotencyProperties properties = new SagaIdempotencyProperties();
+
+        IdempotencyStore legacy = key -> {
+            if (deduplicationRepository.existsByMessageId(key)) {
+                return false;
+            }
+            deduplicationRepository.save(new UserDeduplicationLog(key));
+            return true;
+        };
+
+        JpaIdempotencyStore jpa = new JpaIdempotencyStore(deduplicationRepository, properties);
+        jpa.rebuild();
+
+        run("legacy     ", legacy, tx);
+        run("jpa-bloom  ", jpa, tx);
+
+        if (!redisReachable()) {
+            System.out.println("redis       skipped (localhost:6379 에 연결할 수 없음)");
+            return;
+        }
+
+        LettuceConnectionFactory connectionFactory = new LettuceConnectionFactory("localhost", 6379);
+        connectionFactory.afterPropertiesSet();
+
+        try {
+            StringRedisTemplate redisTemplate = new StringRedisTemplate(connectionFactory);
+            run("redis      ", new RedisIdempotencyStore(redisTemplate, jpa, properties), tx);
+        } finally {
+            connectionFactory.destroy();
+        }
+    }
+
+    private void run(String label, IdempotencyStore store, TransactionTemplate tx) throws InterruptedException {
+        String prefix = UUID.randomUUID() + "-";
+        LatencyRecorder recorder = new LatencyRecorder(CONSUMERS * MESSAGES_PER_CONSUMER);
+        AtomicInteger duplicates = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(CONSUMERS);
+        CountDownLatch ready = new CountDownLatch(1);
+
+        for (int c = 0; c < CONSUMERS; c++) {
+            int consumer = c;
+
+            executor.submit(() -> {
+                ready.await();
+
+                for (int i = 0; i < MESSAGES_PER_CONSUMER; i++) {
+                    // 10건마다 한 번은 직전 메시지를 다시 받음 (브로커 재전송)
+                    int sequence = i % DUPLICATE_EVERY == DUPLICATE_EVERY - 1 ? i - 1 : i;
+                    String key = prefix + consumer + "-" + sequence;
+                    long begin = System.nanoTime();
+
+                    try {
+                        Boolean acquired = tx.execute(status -> store.tryAcquire(key));
+
+                        if (!Boolean.TRUE.equals(acquired)) {
+                            duplicates.incrementAndGet();
+                        }
+
+                        recorder.record(System.nanoTime() - begin);
+                    } catch (RuntimeException e) {
+                        recorder.fail();
+                    }
+                }
+
+                return null;
+            });
+        }
+
+        recorder.start();
+        ready.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(5, TimeUnit.MINUTES)).isTrue();
+        recorder.stop();
+
+        System.out.println(recorder.summary(label) + "  duplicates=" + duplicates.get());
+
+        assertThat(recorder.failures()).isZero();
+        assertThat(duplicates.get()).isEqualTo(CONSUMERS * (MESSAGES_PER_CONSUMER / DUPLICATE_EVERY));
+    }
+
+    private boolean redisReachable() {
+        try (Socket socket = new Socket()) {
+            socket.connect(new InetSocketAddress("localhost", 6379), 200);
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+}
@@ -0,0 +1,250 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nhnacademy.user.entity.saga.OutboxStatus;
+import com.nhnacademy.user.entity.saga.UserOutbox;
+import com.nhnacademy.user.properties.OutboxRelayProperties;
+import com.nhnacademy.user.properties.OutboxRetryProperties;
+import com.nhnacademy.user.properties.SagaReplyProperties;
+import com.nhnacademy.user.repository.saga.UserOutboxRepository;
+import com.nhnacademy.user.saga.SagaReplyAggregator;
+import com.nhnacademy.user.saga.SagaTopic;
+import com.nhnacademy.user.saga.UserEventPublisher;
+import com.nhnacademy.user.saga.UserOutboxAsyncRelay;
+import com.nhnacademy.user.saga.UserOutboxPollingRelay;
+import com.nhnacademy.user.saga.UserOutboxRelayProcessor;
+import com.nhnacademy.user.saga.UserOutboxRetryBackoff;
+import com.nhnacademy.user.saga.codec.JsonPayloadCodec;
+import com.nhnacademy.user.saga.codec.PayloadCodecs;
+import com.nhnacademy.user.saga.event.OrderConfirmedEvent;
+import com.nhnacademy.user.saga.event.SagaReply;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongConsumer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Saga 응답 저장/발행 방식별 처리량과 트랜잭션 수 비교 (동시 응답 스레드 32개)
+ * <p>
+ * per-reply: 응답마다 REQUIRES_NEW 트랜잭션에서 Outbox 저장, 커밋 후 다시 REQUIRES_NEW 트랜잭션에서 발행 (기존 방식)
+ * batched: 응답을 모아 multi-row INSERT 한 번, 묶음을 SKIP LOCKED 로 잡아 confirm 을 한꺼번에 기다린 뒤 UPDATE 한 번
+ * <p>
+ * 브로커는 confirm 을 1ms 뒤에 돌려주는 가짜 RabbitTemplate 으로 대신합니다. 모든 응답이 PUBLISHED 가 될 때까지를 측정합니다.
+ */
+@BenchmarkTest
+class SagaReplyBatchBenchmark {
+
+    private static final int REPLIES = 4_000;
+    private static final int WRITERS = 32;
+    private static final long CONFIRM_DELAY_MICROS = 1_000L;
+
+    @Autowired
+    UserOutboxRepository userOutboxRepository;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    private final ScheduledExecutorService broker = Executors.newScheduledThreadPool(2);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final PayloadCodecs payloadCodecs = new PayloadCodecs(
+            List.of(new JsonPayloadCodec(objectMapper)), JsonPayloadCodec.NAME);
+
+    @AfterEach
+    void tearDown() {
+        broker.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("응답마다 저장 vs 묶음 저장 처리량/트랜잭션 수 비교")
+    void compareReplyEmission() throws Exception {
+        CountingTransactionManager counting = new CountingTransactionManager(transactionManager);
+        TransactionTemplate tx = new TransactionTemplate(counting);
+        TransactionTemplate requiresNew = new TransactionTemplate(counting);
+        requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        UserEventPublisher publisher = new UserEventPublisher(new ConfirmingRabbitTemplate());
+        OutboxRelayProperties relayProperties = new OutboxRelayProperties();
+        UserOutboxRetryBackoff backoff = new UserOutboxRetryBackoff(userOutboxRepository, relayProperties,
+                new OutboxRetryProperties());
+        UserOutboxRelayProcessor processor = new UserOutboxRelayProcessor(publisher, userOutboxRepository, backoff,
+                relayProperties);
+
+        run("per-reply ", counting, orderId -> {
+            UserOutbox outbox = requiresNew.execute(status -> userOutboxRepository.save(new UserOutbox(
+                    orderId, "USER", SagaTopic.ORDER_EXCHANGE, SagaTopic.REPLY_RK, payload(orderId))));
+            requiresNew.executeWithoutResult(status -> processor.processRelay(outbox.getId()));
+        });
+
+        SagaReplyProperties replyProperties = new SagaReplyProperties();
+        replyProperties.setBatching(true);
+        SagaReplyAggregator aggregator = new SagaReplyAggregator(payloadCodecs, userOutboxRepository,
+                new UserOutboxPollingRelay(userOutboxRepository, publisher, tx, relayProperties, backoff),
+                new UserOutboxAsyncRelay(publisher, userOutboxRepository, tx, relayProperties, backoff),
+                tx, replyProperties, relayProperties);
+        aggregator.start();
+
+        try {
+            run("batched   ", counting, orderId -> aggregator.send(event(orderId), reply(orderId), SagaTopic.REPLY_RK));
+        } finally {
+            aggregator.stop();
+        }
+    }
+
+    private void run(String label, CountingTransactionManager counting, LongConsumer send) throws Exception {
+        RunMarker marker = new RunMarker(maxId());
+        LatencyRecorder recorder = new LatencyRecorder(REPLIES);
+        ExecutorService executor = Executors.newFixedThreadPool(WRITERS);
+        CountDownLatch ready = new CountDownLatch(1);
+        long txBefore = counting.count.get();
+
+        for (int w = 0; w < WRITERS; w++) {
+            long from = (long) w * REPLIES / WRITERS;
+            long to = (long) (w + 1) * REPLIES / WRITERS;
+
+            executor.submit(() -> {
+                ready.await();
+
+                for (long orderId = from; orderId < to; orderId++) {
+                    long begin = System.nanoTime();
+
+                    try {
+                        send.accept(orderId);
+                        recorder.record(System.nanoTime() - begin);
+                    } catch (RuntimeException e) {
+                        recorder.fail();
+                    }
+                }
+
+                return null;
+            });
+        }
+
+        recorder.start();
+        ready.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(5, TimeUnit.MINUTES)).isTrue();
+
+        while (published(marker.afterId) < REPLIES) {
+            Thread.sleep(10);
+        }
+
+        recorder.stop();
+
+        System.out.println(recorder.summary(label) + ", transactions=" + (counting.count.get() - txBefore));
+        assertThat(recorder.failures()).isZero();
+    }
+
+    private long maxId() {
+        return userOutboxRepository.findAll().stream().mapToLong(UserOutbox::getId).max().orElse(0L);
+    }
+
+    private long published(long afterId) {
+        return userOutboxRepository.findAll().stream()
+                .filter(outbox -> outbox.getId() > afterId && outbox.getStatus() == OutboxStatus.PUBLISHED)
+                .count();
+    }
+
+    private String payload(long orderId) {
+        try {
+            return objectMapper.writeValueAsString(reply(orderId));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private OrderConfirmedEvent event(long orderId) {
+        OrderConfirmedEvent event = new OrderConfirmedEvent();
+        ReflectionTestUtils.setField(event, "eventId", "e-" + orderId);
+        ReflectionTestUtils.setField(event, "orderId", orderId);
+        return event;
+    }
+
+    private SagaReply reply(long orderId) {
+        return new SagaReply("e-" + orderId, orderId, "USER", true, null);
+    }
+
+    private record RunMarker(long afterId) {
+    }
+
+    // 새로 시작한 물리 트랜잭션 수를 세는 트랜잭션 매니저
+    private static class CountingTransactionManager implements PlatformTransactionManager {
+
+        private final PlatformTransactionManager delegate;
+
+        private final AtomicLong count = new AtomicLong();
+
+        CountingTransactionManager(PlatformTransactionManager delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            TransactionStatus status = delegate.getTransaction(definition);
+            if (status.isNewTransaction()) {
+                count.incrementAndGet();
+            }
+            return status;
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+            delegate.commit(status);
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+            delegate.rollback(status);
+        }
+
+    }
+
+    // 보내는 즉시 반환하고 confirm 은 일정 시간 뒤에 ACK 로 돌려주는 가짜 브로커
+    private class ConfirmingRabbitTemplate extends RabbitTemplate {
+
+        @Override
+        public void send(String exchange, String routingKey, Message message) {
+            // 기존 방식은 confirm 없이 보내기만 함
+        }
+
+        @Override
+        public void send(String exchange, String routingKey, Message message, CorrelationData correlationData) {
+            broker.schedule(() -> correlationData.getFuture().complete(new CorrelationData.Confirm(true, null)),
+                    CONFIRM_DELAY_MICROS, TimeUnit.MICROSECONDS);
+        }
+
+    }
+
+}
@@ -15,17 +15,20 @@ package com.nhnacademy.user.controller.point;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nhnacademy.user.dto.request.PointEarnQueueRequest;
 import com.nhnacademy.user.dto.request.PointRequest;
 import com.nhnacademy.user.entity.point.Type;
 import com.nhnacademy.user.exception.point.PointNotEnoughException;
 import com.nhnacademy.user.exception.point.PointPolicyNotFoundException;
 import com.nhnacademy.user.service.point.PointService;
+import java.math.BigDecimal;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -113,4 +116,28 @@ class InternalPointControllerTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    @DisplayName("[내부] 정책 기반 포인트 적립 비동기 접수 (202)")
+    void test6() throws Exception {
+        PointEarnQueueRequest request = new PointEarnQueueRequest(1L, "ORDER_BASIC", BigDecimal.valueOf(30000), 77L);
+
+        given(pointService.enqueueEarnByPolicy(1L, "ORDER_BASIC", BigDecimal.valueOf(30000), 77L)).willReturn(true);
+
+        mockMvc.perform(post("/api/internal/points/policy/queue")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isAccepted());
+    }
+
+    @Test
+    @DisplayName("[내부] 정책 기반 포인트 적립 비동기 접수 실패 - 주문 ID 누락 (400)")
+    void test7() throws Exception {
+        PointEarnQueueRequest request = new PointEarnQueueRequest(1L, "ORDER_BASIC", BigDecimal.valueOf(30000), null);
+
+        mockMvc.perform(post("/api/internal/points/policy/queue")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+    }
+
 }
@@ -16,10 +16,13 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.nhnacademy.user.dto.response.PointHistoryResponse;
+import com.nhnacademy.user.dto.response.PointHistorySliceResponse;
 import com.nhnacademy.user.entity.point.Type;
+import com.nhnacademy.user.exception.point.InvalidPointInputException;
 import com.nhnacademy.user.exception.user.UserNotFoundException;
 import com.nhnacademy.user.service.point.PointService;
 import java.time.LocalDateTime;
@@ -74,4 +77,36 @@ class PointControllerTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    @DisplayName("내 포인트 내역 커서 조회 - 커서 전달")
+    void test3() throws Exception {
+        Long userId = 1L;
+        LocalDateTime cursor = LocalDateTime.of(2025, 12, 1, 10, 30, 0);
+        PointHistorySliceResponse slice = new PointHistorySliceResponse(
+                List.of(new PointHistoryResponse(10L, Type.EARN, "적립", cursor.minusDays(1))),
+                true, cursor.minusDays(1), 41L);
+
+        given(pointService.scrollMyPointHistory(userId, cursor, 42L, 20)).willReturn(slice);
+
+        mockMvc.perform(get("/api/users/me/points/scroll")
+                        .header("X-User-Id", userId)
+                        .param("cursorCreatedAt", "2025-12-01T10:30:00")
+                        .param("cursorId", "42"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.nextCursorId").value(41));
+    }
+
+    @Test
+    @DisplayName("내 포인트 내역 커서 조회 실패 - 커서 값 하나만 전달 (400)")
+    void test4() throws Exception {
+        given(pointService.scrollMyPointHistory(eq(1L), any(), eq(null), eq(20)))
+                .willThrow(new InvalidPointInputException("커서 오류"));
+
+        mockMvc.perform(get("/api/users/me/points/scroll")
+                        .header("X-User-Id", 1L)
+                        .param("cursorCreatedAt", "2025-12-01T10:30:00"))
+                .andExpect(status().isBadRequest());
+    }
+
 }
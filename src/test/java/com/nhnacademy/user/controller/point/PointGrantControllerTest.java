@@ -0,0 +1,106 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.controller.point;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doThrow;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nhnacademy.user.dto.request.PointGrantRequest;
+import com.nhnacademy.user.dto.response.PointGrantJobResponse;
+import com.nhnacademy.user.entity.point.PointGrantJobStatus;
+import com.nhnacademy.user.entity.point.PointGrantTarget;
+import com.nhnacademy.user.exception.point.PointGrantJobNotFoundException;
+import com.nhnacademy.user.service.point.PointGrantService;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+@WebMvcTest(PointGrantController.class)
+class PointGrantControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockitoBean
+    private PointGrantService pointGrantService;
+
+    @Test
+    @DisplayName("포인트 일괄 지급 작업 등록 - 202")
+    void test1() throws Exception {
+        PointGrantRequest request =
+                new PointGrantRequest(PointGrantTarget.STATUS, null, null, "ACTIVE", 1000L, "가입 감사 이벤트");
+
+        given(pointGrantService.startGrant(any())).willReturn(7L);
+
+        mockMvc.perform(post("/api/admin/points/grants")
+                        .header("X-User-Id", 1L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "http://localhost/api/admin/points/grants/7"));
+    }
+
+    @Test
+    @DisplayName("포인트 일괄 지급 작업 등록 실패 - 지급 포인트 0 (400)")
+    void test2() throws Exception {
+        PointGrantRequest request =
+                new PointGrantRequest(PointGrantTarget.STATUS, null, null, "ACTIVE", 0L, null);
+
+        mockMvc.perform(post("/api/admin/points/grants")
+                        .header("X-User-Id", 1L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("포인트 일괄 지급 진행 상황 조회")
+    void test3() throws Exception {
+        PointGrantJobResponse response = new PointGrantJobResponse(7L, PointGrantTarget.STATUS,
+                PointGrantJobStatus.RUNNING, 1000L, 5000L, 5123L, 2500.0, null, LocalDateTime.now(), null);
+
+        given(pointGrantService.getGrantJob(7L)).willReturn(response);
+
+        mockMvc.perform(get("/api/admin/points/grants/{pointGrantJobId}", 7L)
+                        .header("X-User-Id", 1L))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.processedCount").value(5000))
+                .andExpect(jsonPath("$.rowsPerSecond").value(2500.0));
+    }
+
+    @Test
+    @DisplayName("포인트 일괄 지급 재개 실패 - 존재하지 않는 작업 (404)")
+    void test4() throws Exception {
+        doThrow(new PointGrantJobNotFoundException("없음")).when(pointGrantService).resumeGrant(99L);
+
+        mockMvc.perform(post("/api/admin/points/grants/{pointGrantJobId}/resume", 99L)
+                        .header("X-User-Id", 1L))
+                .andExpect(status().isNotFound());
+    }
+
+}
@@ -0,0 +1,61 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.controller.point;
+
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.nhnacademy.user.dto.response.PointDriftResponse;
+import com.nhnacademy.user.exception.user.UserNotFoundException;
+import com.nhnacademy.user.service.point.PointReconciliationService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+@WebMvcTest(PointReconciliationController.class)
+class PointReconciliationControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private PointReconciliationService pointReconciliationService;
+
+    @Test
+    @DisplayName("회원 잔액 재계산 후 보정")
+    void test1() throws Exception {
+        given(pointReconciliationService.rebuild(7L)).willReturn(new PointDriftResponse(7L, 900L, 1000L, -100L));
+
+        mockMvc.perform(post("/api/admin/points/reconciliation/users/{userCreatedId}", 7L)
+                        .header("X-User-Id", 1L))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.expectedPoint").value(1000L))
+                .andExpect(jsonPath("$.drift").value(-100L));
+    }
+
+    @Test
+    @DisplayName("회원 잔액 재계산 실패 - 존재하지 않는 회원 (404)")
+    void test2() throws Exception {
+        given(pointReconciliationService.rebuild(7L)).willThrow(new UserNotFoundException("찾을 수 없는 회원입니다."));
+
+        mockMvc.perform(post("/api/admin/points/reconciliation/users/{userCreatedId}", 7L)
+                        .header("X-User-Id", 1L))
+                .andExpect(status().isNotFound());
+    }
+
+}
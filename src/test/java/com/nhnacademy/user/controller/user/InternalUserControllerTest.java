@@ -13,21 +13,32 @@
 package com.nhnacademy.user.controller.user;
 
 import static org.mockito.BDDMockito.given;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.nhnacademy.user.dto.response.InternalUserBatchResponse;
 import com.nhnacademy.user.dto.response.InternalUserResponse;
 import com.nhnacademy.user.exception.account.AccountWithdrawnException;
 import com.nhnacademy.user.exception.user.UserNotFoundException;
 import com.nhnacademy.user.service.user.InternalUserService;
 import java.math.BigDecimal;
+import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 @WebMvcTest(InternalUserController.class)
 class InternalUserControllerTest {
@@ -85,4 +96,39 @@ class InternalUserControllerTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    @DisplayName("[내부] 회원 정보 일괄 조회 - 중복 ID 제거, 항목별 에러는 응답에 그대로")
+    void test5() throws Exception {
+        InternalUserResponse user = new InternalUserResponse(
+                1L, "name", "phone", "email", "GOLD", BigDecimal.valueOf(2.50), 1000L, null);
+        given(internalUserService.getInternalUserInfos(List.of(1L, 999L))).willReturn(List.of(
+                InternalUserBatchResponse.found(user),
+                InternalUserBatchResponse.failed(999L, InternalUserBatchResponse.NOT_FOUND)));
+
+        MvcResult result = mockMvc.perform(post("/api/internal/users/info/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"userCreatedIds\":[1,999,1]}"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].userCreatedId").value(1))
+                .andExpect(jsonPath("$[0].user.userName").value("name"))
+                .andExpect(jsonPath("$[1].userCreatedId").value(999))
+                .andExpect(jsonPath("$[1].error").value(InternalUserBatchResponse.NOT_FOUND));
+    }
+
+    @Test
+    @DisplayName("[내부] 회원 정보 일괄 조회 실패 - 빈 ID 목록 (400)")
+    void test6() throws Exception {
+        mockMvc.perform(post("/api/internal/users/info/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"userCreatedIds\":[]}"))
+                .andExpect(status().isBadRequest());
+
+        verify(internalUserService, never()).getInternalUserInfos(anyList());
+    }
+
 }
@@ -0,0 +1,121 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.repository.saga;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.nhnacademy.user.config.QueryDslConfig;
+import com.nhnacademy.user.entity.saga.OutboxStatus;
+import com.nhnacademy.user.entity.saga.UserOutbox;
+import com.nhnacademy.user.repository.saga.jdbc.OutboxRow;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@Import(QueryDslConfig.class)
+class UserOutboxRepositoryTest {
+
+    @Autowired
+    UserOutboxRepository userOutboxRepository;
+
+    @Test
+    @DisplayName("Outbox 다건 저장 - 생성된 ID 를 행 순서대로 반환하고 PENDING 으로 저장")
+    void test1() {
+        List<Long> ids = userOutboxRepository.insertAll(List.of(
+                new OutboxRow(1L, "USER", "exchange", "reply.order", "{\"orderId\":1}"),
+                new OutboxRow(2L, "USER", "exchange", "reply.order", "{\"orderId\":2}"),
+                new OutboxRow(3L, "USER", "exchange", "reply.compensate", "{\"orderId\":3}")
+        ));
+
+        assertThat(ids).hasSize(3).doesNotHaveDuplicates();
+
+        List<UserOutbox> saved = userOutboxRepository.findAllByIdsAndStatusForUpdate(ids, OutboxStatus.PENDING);
+
+        assertThat(saved).extracting(UserOutbox::getId).containsExactlyElementsOf(ids);
+        assertThat(saved).extracting(UserOutbox::getAggregateId).containsExactly(1L, 2L, 3L);
+        assertThat(saved).extracting(UserOutbox::getRoutingKey)
+                .containsExactly("reply.order", "reply.order", "reply.compensate");
+        assertThat(saved).allSatisfy(outbox -> {
+            assertThat(outbox.getRetryCount()).isZero();
+            assertThat(outbox.getCreatedAt()).isNotNull();
+        });
+    }
+
+    @Test
+    @DisplayName("발행 대기 행만 잡음 - 이미 발행한 행은 제외")
+    void test2() {
+        List<Long> ids = userOutboxRepository.insertAll(List.of(
+                new OutboxRow(1L, "USER", "exchange", "reply.order", "{}"),
+                new OutboxRow(2L, "USER", "exchange", "reply.order", "{}")
+        ));
+
+        userOutboxRepository.updateStatus(List.of(ids.get(0)), OutboxStatus.PUBLISHED, LocalDateTime.now());
+
+        assertThat(userOutboxRepository.findAllByIdsAndStatusForUpdate(ids, OutboxStatus.PENDING))
+                .extracting(UserOutbox::getId)
+                .containsExactly(ids.get(1));
+    }
+
+    @Test
+    @DisplayName("재시도 예약 - 행마다 다음 시도 시각 기록, 폴링 릴레이에서 빠지고 시각이 지난 행만 시각 순서로 재시도")
+    void test3() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> ids = userOutboxRepository.insertAll(List.of(
+                new OutboxRow(1L, "USER", "exchange", "reply.order", "{}"),
+                new OutboxRow(2L, "USER", "exchange", "reply.order", "{}"),
+                new OutboxRow(3L, "USER", "exchange", "reply.order", "{}")
+        ));
+
+        int scheduled = userOutboxRepository.scheduleRetries(Map.of(
+                ids.get(0), now.minusSeconds(1),
+                ids.get(1), now.minusSeconds(5),
+                ids.get(2), now.plusMinutes(1)), now);
+
+        assertThat(scheduled).isEqualTo(3);
+        assertThat(userOutboxRepository.findRetryStates(ids)).allSatisfy(state ->
+                assertThat(state.retryCount()).isEqualTo(1));
+        assertThat(userOutboxRepository.findBatchForUpdate(OutboxStatus.PENDING, now.plusSeconds(1), Limit.of(10)))
+                .isEmpty();
+        assertThat(userOutboxRepository.findDueRetriesForUpdate(now, Limit.of(10)))
+                .extracting(UserOutbox::getId)
+                .containsExactly(ids.get(1), ids.get(0));
+    }
+
+    @Test
+    @DisplayName("관리자 재처리 - FAILED 행만 재시도 횟수 0, 바로 재시도 대상으로 되돌림")
+    void test4() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> ids = userOutboxRepository.insertAll(List.of(
+                new OutboxRow(1L, "USER", "exchange", "reply.order", "{}"),
+                new OutboxRow(2L, "USER", "exchange", "reply.order", "{}")
+        ));
+        userOutboxRepository.updateStatus(List.of(ids.get(0)), OutboxStatus.FAILED, now);
+
+        List<Long> failedIds = userOutboxRepository.findFailedIds(Limit.of(10));
+
+        assertThat(failedIds).containsExactly(ids.get(0));
+        assertThat(userOutboxRepository.replayFailed(failedIds, now)).isEqualTo(1);
+        assertThat(userOutboxRepository.findFailedIds(Limit.of(10))).isEmpty();
+        assertThat(userOutboxRepository.findDueRetriesForUpdate(now, Limit.of(10)))
+                .extracting(UserOutbox::getId)
+                .containsExactly(ids.get(0));
+    }
+
+}
@@ -17,19 +17,24 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.nhnacademy.user.config.QueryDslConfig;
 import com.nhnacademy.user.dto.response.BirthdayUserResponse;
+import com.nhnacademy.user.dto.response.InternalAddressResponse;
 import com.nhnacademy.user.dto.response.UserResponse;
 import com.nhnacademy.user.dto.search.UserSearchCriteria;
 import com.nhnacademy.user.entity.account.Account;
 import com.nhnacademy.user.entity.account.Role;
 import com.nhnacademy.user.entity.account.Status;
+import com.nhnacademy.user.entity.address.Address;
 import com.nhnacademy.user.entity.user.Grade;
 import com.nhnacademy.user.entity.user.User;
 import com.nhnacademy.user.repository.account.AccountRepository;
 import com.nhnacademy.user.repository.account.StatusRepository;
+import com.nhnacademy.user.repository.user.projection.InternalUserRow;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import org.hibernate.Session;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -226,4 +231,33 @@ class UserRepositoryTest {
         assertThat(result.getContent().get(1).loginId()).isEqualTo("user1");
     }
 
+    @Test
+    @DisplayName("QueryDSL - 주문/결제용 회원 정보 프로젝션 (엔티티 없이 조회)")
+    void test12() {
+        User user = new User("주문자", "010-3333-3333", "order@t.com", LocalDate.now(), defaultGrade);
+        ReflectionTestUtils.setField(user, "currentPoint", 5000L);
+        ReflectionTestUtils.setField(user, "reservedPoint", 1500L);
+        userRepository.save(user);
+        accountRepository.save(new Account("orderer", "pw", Role.USER, user, defaultStatus));
+        entityManager.persist(new Address(user, "회사", "54321", "주소2", "상세2", false));
+        entityManager.persist(new Address(user, "집", "12345", "주소1", "상세1", true));
+        entityManager.flush();
+        entityManager.clear();
+
+        InternalUserRow row = userRepository.findInternalUser(user.getUserCreatedId()).orElseThrow();
+        List<InternalAddressResponse> addresses = userRepository.findInternalAddresses(user.getUserCreatedId());
+
+        assertThat(row.userName()).isEqualTo("주문자");
+        assertThat(row.gradeName()).isEqualTo("GENERAL");
+        assertThat(row.statusName()).isEqualTo("ACTIVE");
+        assertThat(row.availablePoint()).isEqualTo(3500L);
+        assertThat(addresses).extracting(InternalAddressResponse::addressName).containsExactly("회사", "집");
+        assertThat(addresses.get(1).isDefault()).isTrue();
+
+        // DTO 로만 받았으므로 영속성 컨텍스트는 비어 있음
+        assertThat(entityManager.getEntityManager().unwrap(Session.class).getStatistics().getEntityCount())
+                .isZero();
+        assertThat(userRepository.findInternalUser(999_999L)).isEmpty();
+    }
+
 }
@@ -0,0 +1,213 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.saga;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nhnacademy.user.entity.saga.OutboxStatus;
+import com.nhnacademy.user.exception.saga.ReplyPersistenceException;
+import com.nhnacademy.user.properties.OutboxRelayProperties;
+import com.nhnacademy.user.properties.SagaReplyProperties;
+import com.nhnacademy.user.repository.saga.UserOutboxRepository;
+import com.nhnacademy.user.repository.saga.jdbc.OutboxRow;
+import com.nhnacademy.user.saga.codec.JsonPayloadCodec;
+import com.nhnacademy.user.saga.codec.PayloadCodecs;
+import com.nhnacademy.user.saga.event.OrderConfirmedEvent;
+import com.nhnacademy.user.saga.event.SagaReply;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class SagaReplyAggregatorTest {
+
+    @Mock
+    UserOutboxRepository userOutboxRepository;
+
+    @Mock
+    UserOutboxPollingRelay userOutboxPollingRelay;
+
+    @Mock
+    UserOutboxAsyncRelay userOutboxAsyncRelay;
+
+    SagaReplyProperties replyProperties;
+
+    OutboxRelayProperties relayProperties;
+
+    SagaReplyAggregator sagaReplyAggregator;
+
+    @BeforeEach
+    void setUp() {
+        replyProperties = new SagaReplyProperties();
+        replyProperties.setBatching(true);
+        replyProperties.setBatchSize(3);
+        replyProperties.setWindow(Duration.ofSeconds(2));
+
+        relayProperties = new OutboxRelayProperties();
+
+        sagaReplyAggregator = new SagaReplyAggregator(
+                new PayloadCodecs(List.of(new JsonPayloadCodec(new ObjectMapper())), JsonPayloadCodec.NAME),
+                userOutboxRepository,
+                userOutboxPollingRelay, userOutboxAsyncRelay,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), replyProperties, relayProperties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        sagaReplyAggregator.stop();
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 응답 - INSERT 한 번으로 저장하고 응답마다 자기 Outbox ID 를 받음")
+    void test1() throws Exception {
+        given(userOutboxRepository.insertAll(anyList()))
+                .willAnswer(invocation -> LongStream.rangeClosed(1, invocation.<List<?>>getArgument(0).size())
+                        .map(id -> id * 10).boxed().toList());
+        sagaReplyAggregator.start();
+
+        ExecutorService callers = Executors.newFixedThreadPool(3);
+        List<Future<Long>> results = new ArrayList<>();
+        for (long orderId = 1; orderId <= 3; orderId++) {
+            long id = orderId;
+            results.add(callers.submit(() -> sagaReplyAggregator.send(event(id), reply(id), SagaTopic.REPLY_RK)));
+        }
+
+        List<Long> outboxIds = new ArrayList<>();
+        for (Future<Long> result : results) {
+            outboxIds.add(result.get());
+        }
+        callers.shutdown();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<OutboxRow>> rows = ArgumentCaptor.forClass(List.class);
+        verify(userOutboxRepository).insertAll(rows.capture());
+
+        assertThat(rows.getValue()).hasSize(3)
+                .allSatisfy(row -> assertThat(row.routingKey()).isEqualTo(SagaTopic.REPLY_RK));
+        assertThat(outboxIds).containsExactlyInAnyOrder(10L, 20L, 30L);
+        verify(userOutboxRepository, timeout(1000)).findAllByIdsAndStatusForUpdate(List.of(10L, 20L, 30L),
+                OutboxStatus.PENDING);
+    }
+
+    @Test
+    @DisplayName("묶음 저장 실패 - 응답을 넘긴 쪽에 예외 전달")
+    void test2() {
+        given(userOutboxRepository.insertAll(anyList())).willThrow(new DataIntegrityViolationException("실패"));
+        replyProperties.setWindow(Duration.ofMillis(1));
+        sagaReplyAggregator.start();
+
+        assertThatThrownBy(() -> sagaReplyAggregator.send(event(1L), reply(1L), SagaTopic.REPLY_RK))
+                .isInstanceOf(ReplyPersistenceException.class)
+                .hasCauseInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    @DisplayName("비동기 confirm 방식 - 저장한 행마다 confirm 을 기다리지 않고 발행")
+    void test3() {
+        relayProperties.setAsyncConfirm(true);
+        given(userOutboxRepository.insertAll(anyList())).willReturn(List.of(11L, 12L));
+        sagaReplyAggregator.start();
+
+        int saved = sagaReplyAggregator.flush(List.of(pending(1L), pending(2L)));
+
+        assertThat(saved).isEqualTo(2);
+        verify(userOutboxAsyncRelay, timeout(1000).times(2)).publish(any(UserOutboxCommittedEvent.class));
+    }
+
+    @Test
+    @DisplayName("묶음 모드가 아니면 응답을 받지 않음")
+    void test4() {
+        replyProperties.setBatching(false);
+        sagaReplyAggregator.start();
+
+        assertThatThrownBy(() -> sagaReplyAggregator.send(event(1L), reply(1L), SagaTopic.REPLY_RK))
+                .isInstanceOf(ReplyPersistenceException.class);
+    }
+
+    @Test
+    @DisplayName("대기 시간이 지나 포기한 응답 - 묶음에서 빼고 저장하지 않음")
+    void test5() {
+        given(userOutboxRepository.insertAll(anyList())).willReturn(List.of(12L));
+        sagaReplyAggregator.start();
+
+        SagaReplyAggregator.PendingReply abandoned = pending(1L);
+        abandoned.claimed().set(true);
+        abandoned.persisted().cancel(false);
+
+        int saved = sagaReplyAggregator.flush(List.of(abandoned, pending(2L)));
+
+        assertThat(saved).isEqualTo(1);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<OutboxRow>> rows = ArgumentCaptor.forClass(List.class);
+        verify(userOutboxRepository).insertAll(rows.capture());
+        assertThat(rows.getValue()).extracting(OutboxRow::aggregateId).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("저장 대기 시간 초과 - 묶음에 들어가기 전이면 취소하고 예외")
+    void test6() {
+        replyProperties.setPersistTimeout(Duration.ofMillis(50));
+        replyProperties.setWindow(Duration.ofSeconds(5));
+        replyProperties.setBatchSize(10);
+        sagaReplyAggregator.start();
+
+        assertThatThrownBy(() -> sagaReplyAggregator.send(event(1L), reply(1L), SagaTopic.REPLY_RK))
+                .isInstanceOf(ReplyPersistenceException.class)
+                .hasMessageContaining("시간 초과");
+    }
+
+    private SagaReplyAggregator.PendingReply pending(long orderId) {
+        return new SagaReplyAggregator.PendingReply(
+                new OutboxRow(orderId, "USER", SagaTopic.ORDER_EXCHANGE, SagaTopic.REPLY_RK, "{}"),
+                new CompletableFuture<>());
+    }
+
+    private OrderConfirmedEvent event(long orderId) {
+        OrderConfirmedEvent event = new OrderConfirmedEvent();
+        ReflectionTestUtils.setField(event, "eventId", "e-" + orderId);
+        ReflectionTestUtils.setField(event, "orderId", orderId);
+        return event;
+    }
+
+    private SagaReply reply(long orderId) {
+        return new SagaReply("e-" + orderId, orderId, "USER", true, null);
+    }
+
+}
@@ -0,0 +1,190 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.saga;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nhnacademy.user.entity.saga.OutboxStatus;
+import com.nhnacademy.user.entity.saga.UserOutbox;
+import com.nhnacademy.user.properties.OutboxRetryProperties;
+import com.nhnacademy.user.repository.saga.UserOutboxRepository;
+import com.nhnacademy.user.saga.codec.BinaryPayloadCodec;
+import com.nhnacademy.user.saga.codec.JsonPayloadCodec;
+import com.nhnacademy.user.saga.codec.PayloadCodecs;
+import com.rabbitmq.client.AMQP;
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.Envelope;
+import com.rabbitmq.client.GetResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.rabbit.core.ChannelCallback;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class UserDeadLetterReplayerTest {
+
+    @Mock
+    RabbitTemplate rabbitTemplate;
+
+    @Mock
+    UserOutboxRepository userOutboxRepository;
+
+    @Mock
+    UserOutboxRetryBackoff userOutboxRetryBackoff;
+
+    @Mock
+    Channel channel;
+
+    OutboxRetryProperties properties;
+
+    UserDeadLetterReplayer userDeadLetterReplayer;
+
+    @BeforeEach
+    void setUp() {
+        properties = new OutboxRetryProperties();
+        properties.setDeadLetterBatchSize(2);
+        properties.setDeadLetterMaxReplays(3);
+
+        userDeadLetterReplayer = new UserDeadLetterReplayer(rabbitTemplate, userOutboxRepository,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), userOutboxRetryBackoff, properties,
+                new PayloadCodecs(List.of(new JsonPayloadCodec(new ObjectMapper()), new BinaryPayloadCodec()),
+                        JsonPayloadCodec.NAME));
+    }
+
+    @Test
+    @DisplayName("DLQ 메시지 - 원래 큐로 가는 Outbox 행, 재처리 횟수에 맞춰 다음 시도 시각을 미룸")
+    void test1() {
+        LocalDateTime now = LocalDateTime.now();
+        given(userOutboxRetryBackoff.nextAttemptAt(2, now)).willReturn(now.plusSeconds(2));
+
+        UserOutbox outbox = userDeadLetterReplayer.toOutbox(message(1L, "team3.saga.user.queue", 1), now);
+
+        assertThat(outbox.getStatus()).isEqualTo(OutboxStatus.PENDING);
+        assertThat(outbox.getTopic()).isEmpty();
+        assertThat(outbox.getRoutingKey()).isEqualTo("team3.saga.user.queue");
+        assertThat(outbox.getDeadLetterReplays()).isEqualTo(2);
+        assertThat(outbox.getNextAttemptAt()).isEqualTo(now.plusSeconds(2));
+        assertThat(outbox.getPayload()).isEqualTo("{\"orderId\":1}");
+    }
+
+    @Test
+    @DisplayName("DLQ 메시지 - 재처리 횟수를 다 썼거나 원래 큐를 모르면 FAILED 로 보관")
+    void test2() {
+        LocalDateTime now = LocalDateTime.now();
+
+        UserOutbox exhausted = userDeadLetterReplayer.toOutbox(message(1L, "team3.saga.user.queue", 3), now);
+        UserOutbox unknown = userDeadLetterReplayer.toOutbox(message(2L, null, 0), now);
+
+        assertThat(exhausted.getStatus()).isEqualTo(OutboxStatus.FAILED);
+        assertThat(unknown.getStatus()).isEqualTo(OutboxStatus.FAILED);
+        assertThat(unknown.getTopic()).isEqualTo(SagaTopic.USER_DLX);
+        verify(userOutboxRetryBackoff, never()).nextAttemptAt(anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("DLQ 재처리 - 배치마다 저장한 뒤 한꺼번에 ACK, 큐가 비면 멈춤")
+    void test3() throws Exception {
+        given(rabbitTemplate.execute(any())).willAnswer(invocation ->
+                invocation.<ChannelCallback<?>>getArgument(0).doInRabbit(channel));
+        given(channel.basicGet(SagaTopic.USER_DLQ, false))
+                .willReturn(message(1L, "q", 0), message(2L, "q", 0), message(3L, "q", 0), null);
+        given(userOutboxRetryBackoff.nextAttemptAt(eq(1), any())).willReturn(LocalDateTime.now());
+
+        assertThat(userDeadLetterReplayer.replay(10)).isEqualTo(3);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<UserOutbox>> saved = ArgumentCaptor.forClass(List.class);
+        verify(userOutboxRepository, times(2)).saveAll(saved.capture());
+        assertThat(saved.getAllValues()).extracting(List::size).containsExactly(2, 1);
+        verify(channel).basicAck(2L, true);
+        verify(channel).basicAck(3L, true);
+    }
+
+    @Test
+    @DisplayName("DLQ 재처리 - 저장 실패면 꺼낸 메시지를 모두 DLQ 로 되돌림")
+    void test4() throws Exception {
+        given(rabbitTemplate.execute(any())).willAnswer(invocation ->
+                invocation.<ChannelCallback<?>>getArgument(0).doInRabbit(channel));
+        given(channel.basicGet(SagaTopic.USER_DLQ, false)).willReturn(message(1L, "q", 0), (GetResponse) null);
+        given(userOutboxRetryBackoff.nextAttemptAt(eq(1), any())).willReturn(LocalDateTime.now());
+        given(userOutboxRepository.saveAll(anyList())).willThrow(new IllegalStateException("db down"));
+
+        assertThatThrownBy(() -> userDeadLetterReplayer.replay(10)).isInstanceOf(IllegalStateException.class);
+
+        verify(channel).basicNack(1L, true, true);
+        verify(channel, never()).basicAck(anyLong(), eq(true));
+    }
+
+    @Test
+    @DisplayName("DLQ 메시지 - content_type 으로 찾은 코덱이 바이너리 형식이면 본문을 BLOB 컬럼에 그대로 저장")
+    void test5() {
+        LocalDateTime now = LocalDateTime.now();
+        byte[] body = {0x01, (byte) 0xff, 0x00};
+        given(userOutboxRetryBackoff.nextAttemptAt(1, now)).willReturn(now);
+
+        GetResponse message = new GetResponse(new Envelope(1L, false, SagaTopic.USER_DLX, SagaTopic.USER_DLQ_RK),
+                new AMQP.BasicProperties.Builder()
+                        .contentType(BinaryPayloadCodec.CONTENT_TYPE)
+                        .headers(Map.of("x-death", List.of(Map.of("queue", "q", "count", 1L))))
+                        .build(), body, 0);
+
+        UserOutbox outbox = userDeadLetterReplayer.toOutbox(message, now);
+
+        assertThat(outbox.getPayload()).isNull();
+        assertThat(outbox.getPayloadBinary()).isEqualTo(body);
+        assertThat(outbox.getContentType()).isEqualTo(BinaryPayloadCodec.CONTENT_TYPE);
+    }
+
+    private GetResponse message(long deliveryTag, String originQueue, int replays) {
+        Map<String, Object> headers = new HashMap<>();
+        if (originQueue != null) {
+            headers.put("x-death", List.of(Map.of("queue", originQueue, "count", 1L)));
+        }
+        if (replays > 0) {
+            headers.put(UserDeadLetterReplayer.REPLAY_COUNT_HEADER, replays);
+        }
+
+        AMQP.BasicProperties properties = new AMQP.BasicProperties.Builder()
+                .contentType("application/json")
+                .headers(headers)
+                .build();
+
+        return new GetResponse(new Envelope(deliveryTag, false, SagaTopic.USER_DLX, SagaTopic.USER_DLQ_RK),
+                properties, ("{\"orderId\":" + deliveryTag + "}").getBytes(StandardCharsets.UTF_8), 0);
+    }
+
+}
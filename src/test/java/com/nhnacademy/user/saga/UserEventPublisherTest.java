@@ -0,0 +1,154 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.saga;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.verify;
+
+import com.nhnacademy.user.entity.saga.UserOutbox;
+import com.nhnacademy.user.saga.codec.BinaryPayloadCodec;
+import com.nhnacademy.user.saga.codec.EncodedPayload;
+import com.nhnacademy.user.saga.event.SagaReply;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpConnectException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class UserEventPublisherTest {
+
+    @Mock
+    RabbitTemplate outboxRabbitTemplate;
+
+    @InjectMocks
+    UserEventPublisher userEventPublisher;
+
+    @Test
+    @DisplayName("배치 발행 - Outbox ID 별로 ACK/NACK 구분")
+    void test1() {
+        willAnswer(invocation -> {
+            CorrelationData correlationData = invocation.getArgument(3);
+            boolean ack = !"2".equals(correlationData.getId());
+            correlationData.getFuture().complete(new CorrelationData.Confirm(ack, ack ? null : "nack"));
+            return null;
+        }).given(outboxRabbitTemplate).send(eq("exchange"), eq("routing"), any(Message.class),
+                any(CorrelationData.class));
+
+        OutboxPublishResult result = userEventPublisher.publishConfirmed(
+                List.of(outbox(1L), outbox(2L), outbox(3L)), Duration.ofSeconds(1));
+
+        assertThat(result.ackedIds()).containsExactly(1L, 3L);
+        assertThat(result.failedIds()).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("배치 발행 - confirm 이 오지 않으면 타임아웃 후 실패 처리")
+    void test2() {
+        OutboxPublishResult result = userEventPublisher.publishConfirmed(
+                List.of(outbox(1L)), Duration.ofMillis(50));
+
+        assertThat(result.ackedIds()).isEmpty();
+        assertThat(result.failedIds()).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("배치 발행 - 전송 예외가 나면 남은 행은 보내지 않고 실패 처리")
+    void test3() {
+        willThrow(new AmqpConnectException(new RuntimeException("down")))
+                .given(outboxRabbitTemplate).send(any(), any(), any(Message.class), any(CorrelationData.class));
+
+        OutboxPublishResult result = userEventPublisher.publishConfirmed(
+                List.of(outbox(1L), outbox(2L)), Duration.ofSeconds(1));
+
+        assertThat(result.ackedIds()).isEmpty();
+        assertThat(result.failedIds()).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("비동기 발행 - confirm 을 기다리지 않고 반환, ACK 가 오면 future 완료")
+    void test4() {
+        CorrelationData[] sent = new CorrelationData[1];
+        willAnswer(invocation -> {
+            sent[0] = invocation.getArgument(3);
+            return null;
+        }).given(outboxRabbitTemplate).send(eq("exchange"), eq("routing"), any(Message.class),
+                any(CorrelationData.class));
+
+        CompletableFuture<Boolean> future = userEventPublisher.publishAsync(7L, "exchange", "routing",
+                "application/json", "{}".getBytes(StandardCharsets.UTF_8));
+
+        assertThat(future).isNotDone();
+        assertThat(sent[0].getId()).isEqualTo("7");
+
+        sent[0].getFuture().complete(new CorrelationData.Confirm(true, null));
+
+        assertThat(future).isCompletedWithValue(true);
+    }
+
+    @Test
+    @DisplayName("바이너리 본문 Outbox - content_type 헤더와 본문 바이트를 그대로 발행")
+    void test5() {
+        SagaReply reply = new SagaReply("e-1", 1L, "USER", true, null);
+        EncodedPayload encoded = new BinaryPayloadCodec().encode(reply);
+        UserOutbox outbox = new UserOutbox(1L, "USER", "exchange", "routing", encoded);
+
+        userEventPublisher.publishUserOutboxMessage(outbox.getTopic(), outbox.getRoutingKey(), outbox.body(),
+                outbox.getContentType());
+
+        ArgumentCaptor<Message> message = ArgumentCaptor.forClass(Message.class);
+        verify(outboxRabbitTemplate).send(eq("exchange"), eq("routing"), message.capture());
+
+        assertThat(outbox.getPayload()).isNull();
+        assertThat(message.getValue().getBody()).isEqualTo(encoded.body());
+        assertThat(message.getValue().getMessageProperties().getContentType())
+                .isEqualTo(BinaryPayloadCodec.CONTENT_TYPE);
+    }
+
+    @Test
+    @DisplayName("코덱 도입 전 JSON Outbox - content_type 은 application/json")
+    void test6() {
+        userEventPublisher.publishUserOutboxMessage("exchange", "routing", "{\"orderId\":1}");
+
+        ArgumentCaptor<Message> message = ArgumentCaptor.forClass(Message.class);
+        verify(outboxRabbitTemplate).send(eq("exchange"), eq("routing"), message.capture());
+
+        assertThat(message.getValue().getMessageProperties().getContentType())
+                .isEqualTo(MessageProperties.CONTENT_TYPE_JSON);
+        assertThat(message.getValue().getMessageProperties().getContentEncoding()).isEqualTo("UTF-8");
+        assertThat(outbox(1L).getContentType()).isEqualTo(MessageProperties.CONTENT_TYPE_JSON);
+    }
+
+    private UserOutbox outbox(Long id) {
+        UserOutbox outbox = new UserOutbox(id, "ORDER", "exchange", "routing", "{}");
+        ReflectionTestUtils.setField(outbox, "id", id);
+        return outbox;
+    }
+
+}
@@ -0,0 +1,127 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.saga;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.nhnacademy.user.entity.saga.OutboxStatus;
+import com.nhnacademy.user.entity.saga.UserOutbox;
+import com.nhnacademy.user.properties.OutboxRelayProperties;
+import com.nhnacademy.user.repository.saga.UserOutboxRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class UserOutboxAsyncRelayTest {
+
+    @Mock
+    UserEventPublisher userEventPublisher;
+
+    @Mock
+    UserOutboxRepository userOutboxRepository;
+
+    @Mock
+    UserOutboxRetryBackoff userOutboxRetryBackoff;
+
+    UserOutboxAsyncRelay userOutboxAsyncRelay;
+
+    @BeforeEach
+    void setUp() {
+        OutboxRelayProperties properties = new OutboxRelayProperties();
+        properties.setMaxInFlight(2);
+
+        userOutboxAsyncRelay = new UserOutboxAsyncRelay(userEventPublisher, userOutboxRepository,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), properties, userOutboxRetryBackoff);
+    }
+
+    @Test
+    @DisplayName("비동기 발행 - ACK 는 모았다가 UPDATE 한 번으로 PUBLISHED")
+    void test1() {
+        given(userEventPublisher.publishAsync(anyLong(), anyString(), anyString(), anyString(), any(byte[].class)))
+                .willReturn(CompletableFuture.completedFuture(true));
+
+        assertThat(userOutboxAsyncRelay.publish(event(1L))).isTrue();
+        assertThat(userOutboxAsyncRelay.publish(event(2L))).isTrue();
+        assertThat(userOutboxAsyncRelay.getInFlight()).isZero();
+
+        assertThat(userOutboxAsyncRelay.flush()).isEqualTo(2);
+
+        verify(userOutboxRepository).updateStatus(eq(List.of(1L, 2L)), eq(OutboxStatus.PUBLISHED),
+                any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("비동기 발행 - NACK, 전송 실패는 다음 시도 시각 기록")
+    void test2() {
+        given(userEventPublisher.publishAsync(eq(1L), anyString(), anyString(), anyString(), any(byte[].class)))
+                .willReturn(CompletableFuture.completedFuture(false));
+        given(userEventPublisher.publishAsync(eq(2L), anyString(), anyString(), anyString(), any(byte[].class)))
+                .willReturn(CompletableFuture.failedFuture(new IllegalStateException("down")));
+
+        userOutboxAsyncRelay.publish(event(1L));
+        userOutboxAsyncRelay.publish(event(2L));
+
+        assertThat(userOutboxAsyncRelay.flush()).isZero();
+
+        verify(userOutboxRetryBackoff).recordFailures(eq(List.of(1L, 2L)), any(LocalDateTime.class));
+        verify(userOutboxRepository, never()).updateStatus(anyList(), any(), any());
+    }
+
+    @Test
+    @DisplayName("비동기 발행 - confirm 대기 한도를 넘으면 보내지 않음")
+    void test3() {
+        given(userEventPublisher.publishAsync(anyLong(), anyString(), anyString(), anyString(), any(byte[].class)))
+                .willReturn(new CompletableFuture<>());
+
+        assertThat(userOutboxAsyncRelay.publish(event(1L))).isTrue();
+        assertThat(userOutboxAsyncRelay.publish(event(2L))).isTrue();
+        assertThat(userOutboxAsyncRelay.publish(event(3L))).isFalse();
+
+        assertThat(userOutboxAsyncRelay.getInFlight()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("비동기 발행 - 메시지 내용이 없는 이벤트는 보내지 않음")
+    void test4() {
+        assertThat(userOutboxAsyncRelay.publish(new UserOutboxCommittedEvent(this, 1L))).isFalse();
+
+        verify(userEventPublisher, never())
+                .publishAsync(anyLong(), anyString(), anyString(), anyString(), any(byte[].class));
+    }
+
+    private UserOutboxCommittedEvent event(Long id) {
+        UserOutbox outbox = new UserOutbox(id, "USER", "exchange", "routing", "{}");
+        ReflectionTestUtils.setField(outbox, "id", id);
+        return new UserOutboxCommittedEvent(this, outbox);
+    }
+
+}
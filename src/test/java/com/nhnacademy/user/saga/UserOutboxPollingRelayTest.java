@@ -0,0 +1,119 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.saga;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.nhnacademy.user.entity.saga.OutboxStatus;
+import com.nhnacademy.user.entity.saga.UserOutbox;
+import com.nhnacademy.user.properties.OutboxRelayProperties;
+import com.nhnacademy.user.repository.saga.UserOutboxRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class UserOutboxPollingRelayTest {
+
+    @Mock
+    UserOutboxRepository userOutboxRepository;
+
+    @Mock
+    UserEventPublisher userEventPublisher;
+
+    @Mock
+    UserOutboxRetryBackoff userOutboxRetryBackoff;
+
+    UserOutboxPollingRelay userOutboxPollingRelay;
+
+    @BeforeEach
+    void setUp() {
+        OutboxRelayProperties properties = new OutboxRelayProperties();
+        properties.setBatchSize(2);
+
+        userOutboxPollingRelay = new UserOutboxPollingRelay(userOutboxRepository, userEventPublisher,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), properties, userOutboxRetryBackoff);
+    }
+
+    @Test
+    @DisplayName("발행 대기 행 없음 - 발행하지 않음")
+    void test1() {
+        given(userOutboxRepository.findBatchForUpdate(eq(OutboxStatus.PENDING), any(LocalDateTime.class),
+                any(Limit.class))).willReturn(List.of());
+
+        assertThat(userOutboxPollingRelay.relay()).isZero();
+
+        verify(userEventPublisher, never()).publishConfirmed(anyList(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("배치 발행 - ACK 받은 행은 UPDATE 한 번으로 PUBLISHED, 배치가 가득 차면 다음 배치 계속")
+    void test2() {
+        List<UserOutbox> first = List.of(outbox(1L), outbox(2L));
+        List<UserOutbox> second = List.of(outbox(3L));
+        given(userOutboxRepository.findBatchForUpdate(eq(OutboxStatus.PENDING), any(LocalDateTime.class),
+                any(Limit.class))).willReturn(first, second);
+        given(userEventPublisher.publishConfirmed(eq(first), any(Duration.class)))
+                .willReturn(new OutboxPublishResult(List.of(1L, 2L), List.of()));
+        given(userEventPublisher.publishConfirmed(eq(second), any(Duration.class)))
+                .willReturn(new OutboxPublishResult(List.of(3L), List.of()));
+
+        assertThat(userOutboxPollingRelay.relay()).isEqualTo(3);
+
+        verify(userOutboxRepository).updateStatus(eq(List.of(1L, 2L)), eq(OutboxStatus.PUBLISHED),
+                any(LocalDateTime.class));
+        verify(userOutboxRepository).updateStatus(eq(List.of(3L)), eq(OutboxStatus.PUBLISHED),
+                any(LocalDateTime.class));
+        verify(userOutboxRetryBackoff, never()).recordFailures(anyList(), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("발행 실패 - 실패한 행은 다음 시도 시각 기록, 다음 주기로 넘김")
+    void test3() {
+        List<UserOutbox> batch = List.of(outbox(1L), outbox(2L));
+        given(userOutboxRepository.findBatchForUpdate(eq(OutboxStatus.PENDING), any(LocalDateTime.class),
+                any(Limit.class))).willReturn(batch);
+        given(userEventPublisher.publishConfirmed(eq(batch), any(Duration.class)))
+                .willReturn(new OutboxPublishResult(List.of(1L), List.of(2L)));
+
+        assertThat(userOutboxPollingRelay.relay()).isEqualTo(1);
+
+        verify(userOutboxRepository, times(1)).findBatchForUpdate(any(), any(), any());
+        verify(userOutboxRetryBackoff).recordFailures(eq(List.of(2L)), any(LocalDateTime.class));
+    }
+
+    private UserOutbox outbox(Long id) {
+        UserOutbox outbox = new UserOutbox(id, "ORDER", "exchange", "routing", "{}");
+        ReflectionTestUtils.setField(outbox, "id", id);
+        return outbox;
+    }
+
+}
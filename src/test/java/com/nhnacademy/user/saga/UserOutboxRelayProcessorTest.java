@@ -0,0 +1,104 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.saga;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.nhnacademy.user.entity.saga.OutboxStatus;
+import com.nhnacademy.user.entity.saga.UserOutbox;
+import com.nhnacademy.user.exception.saga.ExternalServiceException;
+import com.nhnacademy.user.properties.OutboxRelayProperties;
+import com.nhnacademy.user.repository.saga.UserOutboxRepository;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class UserOutboxRelayProcessorTest {
+
+    @Mock
+    UserEventPublisher userEventPublisher;
+
+    @Mock
+    UserOutboxRepository userOutboxRepository;
+
+    @Mock
+    UserOutboxRetryBackoff userOutboxRetryBackoff;
+
+    UserOutboxRelayProcessor userOutboxRelayProcessor;
+
+    @BeforeEach
+    void setUp() {
+        userOutboxRelayProcessor = new UserOutboxRelayProcessor(userEventPublisher, userOutboxRepository,
+                userOutboxRetryBackoff, new OutboxRelayProperties());
+    }
+
+    @Test
+    @DisplayName("발행 실패 - 재시도 횟수 증가, 다음 시도 시각을 기록하고 예외는 그대로 던짐")
+    void test1() {
+        UserOutbox outbox = outbox(0);
+        LocalDateTime nextAttemptAt = LocalDateTime.now().plusSeconds(1);
+        given(userOutboxRepository.findByIdAndStatusForUpdate(1L, OutboxStatus.PENDING))
+                .willReturn(Optional.of(outbox));
+        given(userOutboxRetryBackoff.nextAttemptAt(eq(1), any(LocalDateTime.class))).willReturn(nextAttemptAt);
+        willThrow(new ExternalServiceException("down")).given(userEventPublisher)
+                .publishUserOutboxMessage(anyString(), anyString(), any(byte[].class), anyString());
+
+        assertThatThrownBy(() -> userOutboxRelayProcessor.processRelay(1L))
+                .isInstanceOf(ExternalServiceException.class);
+
+        assertThat(outbox.getStatus()).isEqualTo(OutboxStatus.PENDING);
+        assertThat(outbox.getRetryCount()).isEqualTo(1);
+        assertThat(outbox.getNextAttemptAt()).isEqualTo(nextAttemptAt);
+        verify(userOutboxRepository).save(outbox);
+    }
+
+    @Test
+    @DisplayName("발행 실패 - 재시도 횟수를 다 썼으면 FAILED")
+    void test2() {
+        UserOutbox outbox = outbox(3);
+        given(userOutboxRepository.findByIdAndStatusForUpdate(1L, OutboxStatus.PENDING))
+                .willReturn(Optional.of(outbox));
+        willThrow(new ExternalServiceException("down")).given(userEventPublisher)
+                .publishUserOutboxMessage(anyString(), anyString(), any(byte[].class), anyString());
+
+        assertThatThrownBy(() -> userOutboxRelayProcessor.processRelay(1L))
+                .isInstanceOf(ExternalServiceException.class);
+
+        assertThat(outbox.getStatus()).isEqualTo(OutboxStatus.FAILED);
+        verify(userOutboxRetryBackoff, never()).nextAttemptAt(anyInt(), any());
+    }
+
+    private UserOutbox outbox(int retryCount) {
+        UserOutbox outbox = new UserOutbox(1L, "ORDER", "exchange", "routing", "{}");
+        ReflectionTestUtils.setField(outbox, "id", 1L);
+        ReflectionTestUtils.setField(outbox, "retryCount", retryCount);
+        return outbox;
+    }
+
+}
@@ -0,0 +1,125 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.saga;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.nhnacademy.user.properties.OutboxRetentionProperties;
+import com.nhnacademy.user.repository.saga.UserOutboxRepository;
+import com.nhnacademy.user.repository.saga.jdbc.OutboxPartition;
+import com.nhnacademy.user.repository.saga.jdbc.OutboxTableSize;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class UserOutboxRetentionTest {
+
+    @Mock
+    UserOutboxRepository userOutboxRepository;
+
+    OutboxRetentionProperties properties;
+
+    SimpleMeterRegistry meterRegistry;
+
+    UserOutboxRetention userOutboxRetention;
+
+    @BeforeEach
+    void setUp() {
+        properties = new OutboxRetentionProperties();
+        properties.setRetention(Duration.ofDays(7));
+        properties.setChunkSize(2);
+        properties.setPartitionsAhead(3);
+        meterRegistry = new SimpleMeterRegistry();
+
+        userOutboxRetention = new UserOutboxRetention(userOutboxRepository,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), properties, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("청크 삭제 - 보관 기간이 지난 발행 완료 행을 청크마다 삭제하고 지표 기록")
+    void test1() {
+        given(userOutboxRepository.findPublishedIdsBefore(any(LocalDateTime.class), any(Limit.class)))
+                .willReturn(List.of(1L, 2L), List.of(3L));
+        given(userOutboxRepository.findTableSize()).willReturn(Optional.of(new OutboxTableSize(10L, 4096L)));
+
+        assertThat(userOutboxRetention.prune()).isEqualTo(3L);
+
+        verify(userOutboxRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+        verify(userOutboxRepository).deleteAllByIdInBatch(List.of(3L));
+        verify(userOutboxRepository, never()).findPartitions();
+
+        assertThat(meterRegistry.get("outbox.retention.deleted").counter().count()).isEqualTo(3.0);
+        assertThat(meterRegistry.get("outbox.table.rows").gauge().value()).isEqualTo(10.0);
+        assertThat(meterRegistry.get("outbox.table.bytes").gauge().value()).isEqualTo(4096.0);
+    }
+
+    @Test
+    @DisplayName("파티션 모드 - 지난 파티션은 버리고, 발행 대기 행이 남은 파티션은 유지, 앞날 파티션 추가")
+    void test2() {
+        properties.setPartitioned(true);
+        LocalDate today = LocalDate.now();
+
+        given(userOutboxRepository.findPartitions()).willReturn(List.of(
+                new OutboxPartition("p_old", today.minusDays(10)),
+                new OutboxPartition("p_pending", today.minusDays(9)),
+                new OutboxPartition("p_recent", today.plusDays(1)),
+                new OutboxPartition("pmax", null)));
+        given(userOutboxRepository.countUnpublished("p_old")).willReturn(0L);
+        given(userOutboxRepository.countUnpublished("p_pending")).willReturn(1L);
+        given(userOutboxRepository.countRows("p_old")).willReturn(500L);
+        given(userOutboxRepository.findPublishedIdsBefore(any(LocalDateTime.class), any(Limit.class)))
+                .willReturn(List.of());
+
+        assertThat(userOutboxRetention.prune()).isEqualTo(500L);
+
+        verify(userOutboxRepository).dropPartition("p_old");
+        verify(userOutboxRepository, never()).dropPartition("p_pending");
+        verify(userOutboxRepository).addPartitions(List.of(today.plusDays(2), today.plusDays(3), today.plusDays(4)));
+    }
+
+    @Test
+    @DisplayName("파티션 모드 - 파티션 테이블이 아니면 청크 삭제만 수행")
+    void test3() {
+        properties.setPartitioned(true);
+
+        given(userOutboxRepository.findPartitions()).willReturn(List.of());
+        given(userOutboxRepository.findPublishedIdsBefore(any(LocalDateTime.class), any(Limit.class)))
+                .willReturn(List.of());
+
+        assertThat(userOutboxRetention.prune()).isZero();
+
+        verify(userOutboxRepository, never()).dropPartition(anyString());
+        verify(userOutboxRepository, never()).addPartitions(anyList());
+    }
+
+}
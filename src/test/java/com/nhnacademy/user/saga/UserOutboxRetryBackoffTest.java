@@ -0,0 +1,99 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.saga;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+import com.nhnacademy.user.properties.OutboxRelayProperties;
+import com.nhnacademy.user.properties.OutboxRetryProperties;
+import com.nhnacademy.user.repository.saga.UserOutboxRepository;
+import com.nhnacademy.user.repository.saga.projection.OutboxRetryState;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class UserOutboxRetryBackoffTest {
+
+    @Mock
+    UserOutboxRepository userOutboxRepository;
+
+    OutboxRetryProperties retryProperties;
+
+    UserOutboxRetryBackoff userOutboxRetryBackoff;
+
+    @BeforeEach
+    void setUp() {
+        retryProperties = new OutboxRetryProperties();
+        retryProperties.setInitialBackoff(Duration.ofSeconds(1));
+        retryProperties.setMultiplier(2.0);
+        retryProperties.setMaxBackoff(Duration.ofSeconds(10));
+
+        userOutboxRetryBackoff = new UserOutboxRetryBackoff(userOutboxRepository, new OutboxRelayProperties(),
+                retryProperties);
+    }
+
+    @Test
+    @DisplayName("대기 시간 - 시도마다 두 배, 상한에서 멈춤 (jitter 없음)")
+    void test1() {
+        retryProperties.setJitter(0);
+
+        assertThat(userOutboxRetryBackoff.delay(1)).isEqualTo(Duration.ofSeconds(1));
+        assertThat(userOutboxRetryBackoff.delay(2)).isEqualTo(Duration.ofSeconds(2));
+        assertThat(userOutboxRetryBackoff.delay(3)).isEqualTo(Duration.ofSeconds(4));
+        assertThat(userOutboxRetryBackoff.delay(10)).isEqualTo(Duration.ofSeconds(10));
+    }
+
+    @Test
+    @DisplayName("대기 시간 - jitter 비율만큼 줄어든 범위 안에서 무작위")
+    void test2() {
+        retryProperties.setJitter(0.5);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(userOutboxRetryBackoff.delay(3)).isBetween(Duration.ofSeconds(2), Duration.ofSeconds(4));
+        }
+    }
+
+    @Test
+    @DisplayName("발행 실패 기록 - 재시도 횟수를 다 쓴 행은 FAILED, 나머지는 행마다 재시도 횟수에 맞는 시각으로 미룸")
+    void test3() {
+        retryProperties.setJitter(0);
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 0, 0);
+        given(userOutboxRepository.markFailedOverRetries(eq(List.of(1L, 2L, 3L)), anyInt(), eq(now))).willReturn(1);
+        given(userOutboxRepository.findRetryStates(List.of(1L, 2L, 3L)))
+                .willReturn(List.of(new OutboxRetryState(1L, 0), new OutboxRetryState(2L, 2)));
+
+        assertThat(userOutboxRetryBackoff.recordFailures(List.of(1L, 2L, 3L), now)).isEqualTo(1);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<Long, LocalDateTime>> nextAttemptAts = ArgumentCaptor.forClass(Map.class);
+        verify(userOutboxRepository).scheduleRetries(nextAttemptAts.capture(), eq(now));
+
+        assertThat(nextAttemptAts.getValue()).containsExactly(
+                Map.entry(1L, now.plusSeconds(1)),
+                Map.entry(2L, now.plusSeconds(4)));
+    }
+
+}
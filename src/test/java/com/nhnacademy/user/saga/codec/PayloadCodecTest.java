@@ -0,0 +1,86 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.saga.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nhnacademy.user.exception.saga.FailedSerializationException;
+import com.nhnacademy.user.saga.event.SagaReply;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PayloadCodecTest {
+
+    JsonPayloadCodec json = new JsonPayloadCodec(new ObjectMapper());
+
+    BinaryPayloadCodec binary = new BinaryPayloadCodec();
+
+    @Test
+    @DisplayName("바이너리 코덱 - 인코딩한 응답을 그대로 복원, JSON 보다 작음")
+    void test1() {
+        SagaReply reply = new SagaReply(UUID.randomUUID().toString(), 1_234_567L, "USER", false,
+                "INSUFFICIENT_POINTS");
+
+        EncodedPayload encoded = binary.encode(reply);
+        SagaReply decoded = binary.decode(encoded.body());
+
+        assertThat(decoded).usingRecursiveComparison().isEqualTo(reply);
+        assertThat(encoded.textual()).isFalse();
+        assertThat(encoded.body().length).isLessThan(json.encode(reply).body().length / 2);
+    }
+
+    @Test
+    @DisplayName("바이너리 코덱 - null 필드, UUID 가 아닌 이벤트 ID, 음수 주문 ID 도 복원")
+    void test2() {
+        List<SagaReply> replies = List.of(
+                new SagaReply(null, null, null, true, null),
+                new SagaReply("order-7-이벤트", -3L, "USER", true, null),
+                new SagaReply(UUID.randomUUID().toString().toUpperCase(), Long.MAX_VALUE, "USER", false, "SYSTEM_ERROR")
+        );
+
+        for (SagaReply reply : replies) {
+            assertThat(binary.decode(binary.encode(reply).body())).usingRecursiveComparison().isEqualTo(reply);
+        }
+    }
+
+    @Test
+    @DisplayName("바이너리 코덱 - 잘린 본문이나 다른 버전은 역직렬화 실패")
+    void test3() {
+        byte[] body = binary.encode(new SagaReply("e-1", 1L, "USER", true, null)).body();
+        byte[] truncated = Arrays.copyOf(body, body.length - 2);
+        byte[] otherVersion = body.clone();
+        otherVersion[0] = 9;
+
+        assertThatThrownBy(() -> binary.decode(truncated)).isInstanceOf(FailedSerializationException.class);
+        assertThatThrownBy(() -> binary.decode(otherVersion)).isInstanceOf(FailedSerializationException.class);
+    }
+
+    @Test
+    @DisplayName("코덱 선택 - 설정한 코덱으로 인코딩, content_type 헤더로 읽을 코덱을 찾음")
+    void test4() {
+        PayloadCodecs codecs = new PayloadCodecs(List.of(json, binary), "binary");
+
+        assertThat(codecs.current()).isSameAs(binary);
+        assertThat(codecs.forContentType(BinaryPayloadCodec.CONTENT_TYPE)).containsSame(binary);
+        assertThat(codecs.forContentType("application/json; charset=UTF-8")).containsSame(json);
+        assertThat(codecs.forContentType(null)).containsSame(json);
+        assertThat(codecs.forContentType("application/xml")).isEmpty();
+        assertThatThrownBy(() -> new PayloadCodecs(List.of(json), "avro")).isInstanceOf(IllegalStateException.class);
+    }
+
+}
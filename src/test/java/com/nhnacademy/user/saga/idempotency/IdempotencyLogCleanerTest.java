@@ -0,0 +1,80 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.saga.idempotency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.nhnacademy.user.properties.SagaIdempotencyProperties;
+import com.nhnacademy.user.repository.saga.UserDeduplicationRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyLogCleanerTest {
+
+    @Mock
+    UserDeduplicationRepository deduplicationRepository;
+
+    @Mock
+    JpaIdempotencyStore jpaIdempotencyStore;
+
+    IdempotencyLogCleaner idempotencyLogCleaner;
+
+    @BeforeEach
+    void setUp() {
+        SagaIdempotencyProperties properties = new SagaIdempotencyProperties();
+        properties.setCleanupChunkSize(2);
+
+        idempotencyLogCleaner = new IdempotencyLogCleaner(deduplicationRepository, jpaIdempotencyStore,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), properties);
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 기록을 청크마다 삭제하고 Bloom filter 재적재")
+    void test1() {
+        given(deduplicationRepository.findMessageIdsReceivedBefore(any(LocalDateTime.class), any(Limit.class)))
+                .willReturn(List.of("a", "b"), List.of("c"));
+
+        assertThat(idempotencyLogCleaner.cleanup()).isEqualTo(3);
+
+        verify(deduplicationRepository).deleteAllByMessageIdIn(List.of("a", "b"));
+        verify(deduplicationRepository).deleteAllByMessageIdIn(List.of("c"));
+        verify(jpaIdempotencyStore).rebuild();
+    }
+
+    @Test
+    @DisplayName("지울 기록이 없으면 Bloom filter 유지")
+    void test2() {
+        given(deduplicationRepository.findMessageIdsReceivedBefore(any(LocalDateTime.class), any(Limit.class)))
+                .willReturn(List.of());
+
+        assertThat(idempotencyLogCleaner.cleanup()).isZero();
+
+        verify(jpaIdempotencyStore, never()).rebuild();
+    }
+
+}
@@ -0,0 +1,102 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.saga.idempotency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.nhnacademy.user.entity.saga.UserDeduplicationLog;
+import com.nhnacademy.user.properties.SagaIdempotencyProperties;
+import com.nhnacademy.user.repository.saga.UserDeduplicationRepository;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+
+@ExtendWith(MockitoExtension.class)
+class JpaIdempotencyStoreTest {
+
+    @Mock
+    UserDeduplicationRepository deduplicationRepository;
+
+    JpaIdempotencyStore jpaIdempotencyStore;
+
+    @BeforeEach
+    void setUp() {
+        SagaIdempotencyProperties properties = new SagaIdempotencyProperties();
+        properties.setBloomExpectedInsertions(1_000);
+
+        jpaIdempotencyStore = new JpaIdempotencyStore(deduplicationRepository, properties);
+    }
+
+    @Test
+    @DisplayName("Bloom filter 적재 전 - 테이블 조회 후 기록")
+    void test1() {
+        given(deduplicationRepository.existsByMessageId("evt-1")).willReturn(false);
+
+        assertThat(jpaIdempotencyStore.tryAcquire("evt-1")).isTrue();
+
+        verify(deduplicationRepository).saveAndFlush(any(UserDeduplicationLog.class));
+    }
+
+    @Test
+    @DisplayName("Bloom filter 적재 후 - 처음 보는 키는 조회 없이 INSERT 한 번")
+    void test2() {
+        given(deduplicationRepository.findMessageIdsAfter(anyString(), any(Limit.class))).willReturn(List.of("evt-0"));
+        jpaIdempotencyStore.rebuild();
+
+        assertThat(jpaIdempotencyStore.tryAcquire("evt-1")).isTrue();
+
+        verify(deduplicationRepository, never()).existsByMessageId("evt-1");
+        verify(deduplicationRepository).saveAndFlush(any(UserDeduplicationLog.class));
+    }
+
+    @Test
+    @DisplayName("이미 처리한 키 - Bloom filter 에 있으면 테이블 확인 후 거부")
+    void test3() {
+        given(deduplicationRepository.findMessageIdsAfter(anyString(), any(Limit.class))).willReturn(List.of("evt-0"));
+        given(deduplicationRepository.existsByMessageId("evt-0")).willReturn(true);
+        jpaIdempotencyStore.rebuild();
+
+        assertThat(jpaIdempotencyStore.tryAcquire("evt-0")).isFalse();
+
+        verify(deduplicationRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("Bloom filter 가 놓친 키 - PK 중복으로 실패하고, 재시도 때는 테이블 확인으로 거부")
+    void test4() {
+        given(deduplicationRepository.findMessageIdsAfter(anyString(), any(Limit.class))).willReturn(List.of());
+        given(deduplicationRepository.saveAndFlush(any(UserDeduplicationLog.class)))
+                .willThrow(new DataIntegrityViolationException("duplicate"));
+        jpaIdempotencyStore.rebuild();
+
+        assertThatThrownBy(() -> jpaIdempotencyStore.tryAcquire("evt-9"))
+                .isInstanceOf(DataIntegrityViolationException.class);
+
+        given(deduplicationRepository.existsByMessageId("evt-9")).willReturn(true);
+
+        assertThat(jpaIdempotencyStore.tryAcquire("evt-9")).isFalse();
+    }
+
+}
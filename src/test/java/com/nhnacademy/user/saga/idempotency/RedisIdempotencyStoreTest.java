@@ -0,0 +1,126 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.saga.idempotency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.nhnacademy.user.properties.SagaIdempotencyProperties;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+class RedisIdempotencyStoreTest {
+
+    @Mock
+    StringRedisTemplate redisTemplate;
+
+    @Mock
+    ValueOperations<String, String> valueOperations;
+
+    @Mock
+    JpaIdempotencyStore jpaIdempotencyStore;
+
+    RedisIdempotencyStore redisIdempotencyStore;
+
+    @BeforeEach
+    void setUp() {
+        SagaIdempotencyProperties properties = new SagaIdempotencyProperties();
+        properties.setTtl(Duration.ofDays(1));
+
+        redisIdempotencyStore = new RedisIdempotencyStore(redisTemplate, jpaIdempotencyStore, properties);
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("처음 보는 키 - SET NX EX 성공, DB 에도 기록")
+    void test1() {
+        given(valueOperations.setIfAbsent("saga:idempotency:evt-1", "1", Duration.ofDays(1))).willReturn(true);
+        given(jpaIdempotencyStore.tryAcquire("evt-1")).willReturn(true);
+
+        assertThat(redisIdempotencyStore.tryAcquire("evt-1")).isTrue();
+
+        verify(jpaIdempotencyStore).tryAcquire("evt-1");
+    }
+
+    @Test
+    @DisplayName("이미 처리한 키 - SET NX EX 실패")
+    void test2() {
+        given(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).willReturn(false);
+
+        assertThat(redisIdempotencyStore.tryAcquire("evt-1")).isFalse();
+
+        verify(jpaIdempotencyStore, never()).tryAcquire(anyString());
+    }
+
+    @Test
+    @DisplayName("트랜잭션 롤백 - 기록한 키 삭제")
+    void test3() {
+        given(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).willReturn(true);
+        given(jpaIdempotencyStore.tryAcquire("evt-1")).willReturn(true);
+        TransactionSynchronizationManager.initSynchronization();
+
+        redisIdempotencyStore.tryAcquire("evt-1");
+
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        verify(redisTemplate).delete("saga:idempotency:evt-1");
+    }
+
+    @Test
+    @DisplayName("Redis 장애 - JPA 저장소로 처리")
+    void test4() {
+        given(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+                .willThrow(new RedisConnectionFailureException("down"));
+        given(jpaIdempotencyStore.tryAcquire("evt-1")).willReturn(true);
+
+        assertThat(redisIdempotencyStore.tryAcquire("evt-1")).isTrue();
+
+        verify(jpaIdempotencyStore).tryAcquire(eq("evt-1"));
+        verify(redisTemplate, never()).delete(anyString());
+    }
+
+    @Test
+    @DisplayName("Redis 키가 유실된 메시지 - DB 기록으로 중복 확인")
+    void test5() {
+        given(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).willReturn(true);
+        given(jpaIdempotencyStore.tryAcquire("evt-1")).willReturn(false);
+
+        assertThat(redisIdempotencyStore.tryAcquire("evt-1")).isFalse();
+    }
+
+}
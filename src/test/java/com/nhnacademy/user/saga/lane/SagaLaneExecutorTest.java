@@ -0,0 +1,87 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.saga.lane;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SagaLaneExecutorTest {
+
+    @Test
+    @DisplayName("같은 키의 작업은 넘긴 순서대로 처리")
+    void test1() {
+        SagaLaneExecutor executor = new SagaLaneExecutor(8);
+        List<Integer> done = Collections.synchronizedList(new ArrayList<>());
+
+        for (int i = 0; i < 1000; i++) {
+            int seq = i;
+            executor.execute(7L, () -> done.add(seq));
+        }
+
+        assertThat(executor.shutdown(Duration.ofSeconds(5))).isTrue();
+        assertThat(done).hasSize(1000).isSorted();
+    }
+
+    @Test
+    @DisplayName("다른 레인의 작업은 앞 레인이 막혀 있어도 처리")
+    void test2() throws Exception {
+        SagaLaneExecutor executor = new SagaLaneExecutor(8);
+        long blockedKey = 1L;
+        long otherKey = 2L;
+        while (executor.laneOf(otherKey) == executor.laneOf(blockedKey)) {
+            otherKey++;
+        }
+
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch otherDone = new CountDownLatch(1);
+        executor.execute(blockedKey, () -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        executor.execute(otherKey, otherDone::countDown);
+
+        assertThat(otherDone.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(executor.backlog(executor.laneOf(blockedKey))).isEqualTo(1);
+
+        release.countDown();
+        assertThat(executor.shutdown(Duration.ofSeconds(5))).isTrue();
+    }
+
+    @Test
+    @DisplayName("연속된 회원 ID 는 여러 레인에 고르게 배정")
+    void test3() {
+        SagaLaneExecutor executor = new SagaLaneExecutor(8);
+        int[] counts = new int[8];
+
+        for (long userId = 1; userId <= 8000; userId++) {
+            counts[executor.laneOf(userId)]++;
+        }
+
+        for (int count : counts) {
+            assertThat(count).isBetween(800, 1200);
+        }
+        executor.shutdown(Duration.ofSeconds(1));
+    }
+
+}
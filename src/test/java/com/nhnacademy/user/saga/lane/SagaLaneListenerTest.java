@@ -0,0 +1,140 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.saga.lane;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.nhnacademy.user.properties.SagaConsumerProperties;
+import com.nhnacademy.user.saga.SagaListener;
+import com.nhnacademy.user.saga.SagaTopic;
+import com.nhnacademy.user.saga.event.OrderCompensateEvent;
+import com.nhnacademy.user.saga.event.OrderConfirmedEvent;
+import com.rabbitmq.client.Channel;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class SagaLaneListenerTest {
+
+    @Mock
+    SagaListener sagaListener;
+
+    @Mock
+    AmqpAdmin amqpAdmin;
+
+    @Mock
+    Channel channel;
+
+    SimpleMeterRegistry meterRegistry;
+
+    SagaLaneListener sagaLaneListener;
+
+    @BeforeEach
+    void setUp() {
+        SagaConsumerProperties properties = new SagaConsumerProperties();
+        properties.setCount(4);
+        properties.setMaxAttempts(3);
+        properties.setRetryInterval(Duration.ofMillis(1));
+
+        meterRegistry = new SimpleMeterRegistry();
+        sagaLaneListener = new SagaLaneListener(sagaListener, properties, amqpAdmin, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        sagaLaneListener.shutdown();
+    }
+
+    @Test
+    @DisplayName("명령 큐 이벤트 - SagaListener 로 처리한 뒤 ACK")
+    void test1() throws Exception {
+        OrderConfirmedEvent event = confirmed("e-1", 7L);
+
+        sagaLaneListener.onMessage(event, message(SagaTopic.USER_QUEUE, 1L), channel);
+
+        verify(channel, timeout(1000)).basicAck(1L, false);
+        verify(sagaListener).onEvent(event);
+        verify(sagaListener, never()).onCompensateEvent(any());
+        assertThat(meterRegistry.get("saga.consumer.process").tag("outcome", "success").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("보상 큐 이벤트 - 보상 메소드로 처리")
+    void test2() throws Exception {
+        OrderCompensateEvent event = new OrderCompensateEvent("c-1", confirmed("e-1", 7L), "재고 부족");
+
+        sagaLaneListener.onMessage(event, message(SagaTopic.USER_COMPENSATION_QUEUE, 2L), channel);
+
+        verify(channel, timeout(1000)).basicAck(2L, false);
+        verify(sagaListener).onCompensateEvent(event);
+        verify(sagaListener, never()).onEvent(any());
+    }
+
+    @Test
+    @DisplayName("재시도를 다 쓰면 다시 큐에 넣지 않고 reject (DLQ)")
+    void test3() throws Exception {
+        OrderConfirmedEvent event = confirmed("e-1", 7L);
+        willThrow(new IllegalStateException("잔액 부족")).given(sagaListener).onEvent(event);
+
+        sagaLaneListener.onMessage(event, message(SagaTopic.USER_QUEUE, 3L), channel);
+
+        verify(channel, timeout(1000)).basicNack(3L, false, false);
+        verify(sagaListener, times(3)).onEvent(event);
+        verify(channel, never()).basicAck(3L, false);
+    }
+
+    @Test
+    @DisplayName("레인 배정 키 - 보상 이벤트는 원래 이벤트의 회원 ID 로 같은 레인에 배정")
+    void test4() {
+        OrderConfirmedEvent original = confirmed("e-1", 42L);
+        OrderCompensateEvent compensate = new OrderCompensateEvent("c-1", original, "실패");
+
+        assertThat(SagaLaneListener.laneKey(original)).isEqualTo(42L);
+        assertThat(SagaLaneListener.laneKey(compensate)).isEqualTo(42L);
+        assertThat(SagaLaneListener.laneKey(new OrderCompensateEvent("c-2", null, "실패"))).isZero();
+    }
+
+    private OrderConfirmedEvent confirmed(String eventId, Long userId) {
+        OrderConfirmedEvent event = new OrderConfirmedEvent();
+        ReflectionTestUtils.setField(event, "eventId", eventId);
+        ReflectionTestUtils.setField(event, "orderId", 100L);
+        ReflectionTestUtils.setField(event, "userId", userId);
+        return event;
+    }
+
+    private Message message(String queue, long deliveryTag) {
+        MessageProperties properties = new MessageProperties();
+        properties.setConsumerQueue(queue);
+        properties.setDeliveryTag(deliveryTag);
+        return new Message(new byte[0], properties);
+    }
+
+}
@@ -15,6 +15,7 @@ package com.nhnacademy.user.service.account;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -27,16 +28,19 @@ import com.nhnacademy.user.exception.account.StateNotFoundException;
 import com.nhnacademy.user.exception.user.UserNotFoundException;
 import com.nhnacademy.user.repository.account.AccountRepository;
 import com.nhnacademy.user.repository.account.AccountStatusHistoryRepository;
-import com.nhnacademy.user.repository.account.StatusRepository;
 import com.nhnacademy.user.repository.user.UserRepository;
 import com.nhnacademy.user.service.account.impl.AccountServiceImpl;
+import com.nhnacademy.user.service.user.cache.ReferenceDataRegistry;
+import com.nhnacademy.user.service.user.cache.UserExistenceIndex;
 import java.util.Optional;
+import java.util.function.BooleanSupplier;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 class AccountServiceTest {
@@ -51,7 +55,13 @@ class AccountServiceTest {
     private AccountStatusHistoryRepository accountStatusHistoryRepository;
 
     @Mock
-    private StatusRepository statusRepository;
+    private ReferenceDataRegistry referenceDataRegistry;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private UserExistenceIndex userExistenceIndex;
 
     @InjectMocks
     private AccountServiceImpl accountService;
@@ -60,6 +70,8 @@ class AccountServiceTest {
     @DisplayName("로그인 아이디 존재 여부 확인 - 존재함")
     void test1() {
         given(accountRepository.existsById("existId")).willReturn(true);
+        given(userExistenceIndex.existsLoginId(eq("existId"), any()))
+                .willAnswer(invocation -> invocation.<BooleanSupplier>getArgument(1).getAsBoolean());
         boolean result = accountService.existsLoginId("existId");
         assertThat(result).isTrue();
     }
@@ -68,6 +80,8 @@ class AccountServiceTest {
     @DisplayName("로그인 아이디 존재 여부 확인 - 존재하지 않음")
     void test2() {
         given(accountRepository.existsById("noneId")).willReturn(false);
+        given(userExistenceIndex.existsLoginId(eq("noneId"), any()))
+                .willAnswer(invocation -> invocation.<BooleanSupplier>getArgument(1).getAsBoolean());
         boolean result = accountService.existsLoginId("noneId");
         assertThat(result).isFalse();
     }
@@ -82,7 +96,7 @@ class AccountServiceTest {
 
         given(userRepository.findByIdWithAccount(userCreatedId)).willReturn(Optional.of(mockUser));
         given(mockUser.getAccount()).willReturn(mockAccount);
-        given(statusRepository.findByStatusName("ACTIVE")).willReturn(Optional.of(activeStatus));
+        given(referenceDataRegistry.findStatus("ACTIVE")).willReturn(Optional.of(activeStatus));
 
         accountService.activeUser(userCreatedId);
 
@@ -110,7 +124,7 @@ class AccountServiceTest {
 
         given(userRepository.findByIdWithAccount(userCreatedId)).willReturn(Optional.of(mockUser));
         given(mockUser.getAccount()).willReturn(mockAccount);
-        given(statusRepository.findByStatusName("ACTIVE")).willReturn(Optional.empty());
+        given(referenceDataRegistry.findStatus("ACTIVE")).willReturn(Optional.empty());
 
         assertThatThrownBy(() -> accountService.activeUser(userCreatedId))
                 .isInstanceOf(StateNotFoundException.class)
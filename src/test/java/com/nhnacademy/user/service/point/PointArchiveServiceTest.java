@@ -0,0 +1,89 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.service.point;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.nhnacademy.user.properties.PointArchiveProperties;
+import com.nhnacademy.user.repository.point.PointHistoryArchiveRepository;
+import com.nhnacademy.user.repository.point.PointHistoryRepository;
+import com.nhnacademy.user.service.point.impl.PointArchiveServiceImpl;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class PointArchiveServiceTest {
+
+    @Mock
+    PointHistoryRepository pointHistoryRepository;
+
+    @Mock
+    PointHistoryArchiveRepository pointHistoryArchiveRepository;
+
+    PointArchiveServiceImpl pointArchiveService;
+
+    @BeforeEach
+    void setUp() {
+        PointArchiveProperties properties = new PointArchiveProperties();
+        properties.setChunkSize(2);
+
+        pointArchiveService = new PointArchiveServiceImpl(pointHistoryRepository, pointHistoryArchiveRepository,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), properties);
+    }
+
+    @Test
+    @DisplayName("내역 보관 - 청크마다 보관 테이블로 복사 후 삭제, 체크포인트는 마지막 ID")
+    void test1() {
+        given(pointHistoryRepository.findLastIdCreatedBefore(any(LocalDateTime.class), eq(Limit.of(1))))
+                .willReturn(List.of(100L));
+        given(pointHistoryRepository.findArchivableIds(0L, 100L, Limit.of(2))).willReturn(List.of(1L, 2L));
+        given(pointHistoryRepository.findArchivableIds(2L, 100L, Limit.of(2))).willReturn(List.of(7L));
+
+        int archived = pointArchiveService.archive();
+
+        assertThat(archived).isEqualTo(3);
+        verify(pointHistoryArchiveRepository).copyFromHistories(eq(List.of(1L, 2L)), any(LocalDateTime.class));
+        verify(pointHistoryRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+        verify(pointHistoryArchiveRepository).copyFromHistories(eq(List.of(7L)), any(LocalDateTime.class));
+        verify(pointHistoryRepository).deleteAllByIdInBatch(List.of(7L));
+    }
+
+    @Test
+    @DisplayName("내역 보관 - 보관 기간이 지난 내역이 없으면 아무것도 옮기지 않음")
+    void test2() {
+        given(pointHistoryRepository.findLastIdCreatedBefore(any(LocalDateTime.class), eq(Limit.of(1))))
+                .willReturn(List.of());
+        given(pointHistoryRepository.findArchivableIds(0L, 0L, Limit.of(2))).willReturn(List.of());
+
+        assertThat(pointArchiveService.archive()).isZero();
+
+        verify(pointHistoryArchiveRepository, never()).copyFromHistories(anyList(), any());
+    }
+
+}
@@ -0,0 +1,223 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.service.point;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.nhnacademy.user.entity.point.PointLot;
+import com.nhnacademy.user.entity.point.PointLotStatus;
+import com.nhnacademy.user.entity.point.Type;
+import com.nhnacademy.user.entity.user.User;
+import com.nhnacademy.user.properties.PointExpiryProperties;
+import com.nhnacademy.user.repository.point.PointLotRepository;
+import com.nhnacademy.user.repository.point.jdbc.PointHistoryRow;
+import com.nhnacademy.user.repository.point.projection.PointLotRef;
+import com.nhnacademy.user.repository.user.UserRepository;
+import com.nhnacademy.user.service.point.impl.PointExpiryServiceImpl;
+import com.nhnacademy.user.service.point.ledger.PointHistoryWriter;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class PointExpiryServiceTest {
+
+    @Mock
+    PointLotRepository pointLotRepository;
+
+    @Mock
+    UserRepository userRepository;
+
+    @Mock
+    PointHistoryWriter pointHistoryWriter;
+
+    PointExpiryServiceImpl pointExpiryService;
+
+    @BeforeEach
+    void setUp() {
+        PointExpiryProperties properties = new PointExpiryProperties();
+        properties.setChunkSize(2);
+
+        pointExpiryService = new PointExpiryServiceImpl(pointLotRepository, userRepository, pointHistoryWriter,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), properties);
+    }
+
+    @Test
+    @DisplayName("만료 처리 - 청크마다 잔액 차감, 묶음 소멸, EXPIRE 내역 저장")
+    @SuppressWarnings("unchecked")
+    void test1() {
+        User user1 = user(1L, 1000L);
+        User user2 = user(2L, 500L);
+        PointLot lot1 = lot(user1, 300L);
+        PointLot lot2 = lot(user2, 200L);
+        PointLot lot3 = lot(user1, 100L);
+
+        given(pointLotRepository.findExpired(any(LocalDateTime.class), any(Limit.class)))
+                .willReturn(List.of(ref(10L, 1L), ref(11L, 2L)));
+        given(pointLotRepository.findExpiredAfter(any(LocalDateTime.class), any(LocalDateTime.class), eq(11L),
+                any(Limit.class))).willReturn(List.of(ref(12L, 1L)));
+        given(userRepository.findAllByIdForUpdate(List.of(1L, 2L))).willReturn(List.of(user1, user2));
+        given(userRepository.findAllByIdForUpdate(List.of(1L))).willReturn(List.of(user1));
+        given(pointLotRepository.findOpenByIdsForUpdate(List.of(10L, 11L))).willReturn(List.of(lot1, lot2));
+        given(pointLotRepository.findOpenByIdsForUpdate(List.of(12L))).willReturn(List.of(lot3));
+
+        int expired = pointExpiryService.expire();
+
+        assertThat(expired).isEqualTo(3);
+        assertThat(user1.getCurrentPoint()).isEqualTo(600L);
+        assertThat(user2.getCurrentPoint()).isEqualTo(300L);
+        assertThat(lot1.getStatus()).isEqualTo(PointLotStatus.EXPIRED);
+        assertThat(lot1.getRemainingAmount()).isZero();
+
+        ArgumentCaptor<List<PointHistoryRow>> captor = ArgumentCaptor.forClass(List.class);
+        verify(pointHistoryWriter, times(2)).appendAll(captor.capture());
+
+        PointHistoryRow first = captor.getAllValues().getFirst().getFirst();
+        assertThat(first.type()).isEqualTo(Type.EXPIRE);
+        assertThat(first.amount()).isEqualTo(300L);
+    }
+
+    @Test
+    @DisplayName("만료 처리 - 후보 조회 이후 사용된 묶음은 건너뜀")
+    void test2() {
+        User user1 = user(1L, 1000L);
+
+        given(pointLotRepository.findExpired(any(LocalDateTime.class), any(Limit.class)))
+                .willReturn(List.of(ref(10L, 1L)));
+        given(userRepository.findAllByIdForUpdate(List.of(1L))).willReturn(List.of(user1));
+        given(pointLotRepository.findOpenByIdsForUpdate(List.of(10L))).willReturn(List.of());
+
+        int expired = pointExpiryService.expire();
+
+        assertThat(expired).isZero();
+        assertThat(user1.getCurrentPoint()).isEqualTo(1000L);
+        verify(pointHistoryWriter).appendAll(List.of());
+    }
+
+    @Test
+    @DisplayName("만료 처리 - 만료 금액이 잔액보다 크면 잔액만큼만 차감")
+    @SuppressWarnings("unchecked")
+    void test3() {
+        User user1 = user(1L, 100L);
+        PointLot lot1 = lot(user1, 300L);
+
+        given(pointLotRepository.findExpired(any(LocalDateTime.class), any(Limit.class)))
+                .willReturn(List.of(ref(10L, 1L)));
+        given(userRepository.findAllByIdForUpdate(List.of(1L))).willReturn(List.of(user1));
+        given(pointLotRepository.findOpenByIdsForUpdate(List.of(10L))).willReturn(List.of(lot1));
+
+        int expired = pointExpiryService.expire();
+
+        assertThat(expired).isZero();
+        assertThat(user1.getCurrentPoint()).isZero();
+        assertThat(lot1.getStatus()).isEqualTo(PointLotStatus.OPEN);
+        assertThat(lot1.getRemainingAmount()).isEqualTo(200L);
+
+        ArgumentCaptor<List<PointHistoryRow>> captor = ArgumentCaptor.forClass(List.class);
+        verify(pointHistoryWriter).appendAll(captor.capture());
+        assertThat(captor.getValue().getFirst().amount()).isEqualTo(100L);
+    }
+
+    @Test
+    @DisplayName("만료 처리 - 대상이 없으면 바로 종료")
+    void test4() {
+        given(pointLotRepository.findExpired(any(LocalDateTime.class), any(Limit.class))).willReturn(List.of());
+
+        assertThat(pointExpiryService.expire()).isZero();
+
+        verify(pointHistoryWriter, never()).appendAll(anyList());
+    }
+
+    @Test
+    @DisplayName("만료 처리 - 주문 사가가 잡아 둔 포인트는 소멸시키지 않고 묶음에 남김")
+    @SuppressWarnings("unchecked")
+    void test5() {
+        User user1 = user(1L, 500L);
+        ReflectionTestUtils.setField(user1, "reservedPoint", 400L);
+        PointLot lot1 = lot(user1, 300L);
+
+        given(pointLotRepository.findExpired(any(LocalDateTime.class), any(Limit.class)))
+                .willReturn(List.of(ref(10L, 1L)));
+        given(userRepository.findAllByIdForUpdate(List.of(1L))).willReturn(List.of(user1));
+        given(pointLotRepository.findOpenByIdsForUpdate(List.of(10L))).willReturn(List.of(lot1));
+
+        pointExpiryService.expire();
+
+        assertThat(user1.getCurrentPoint()).isEqualTo(400L);
+        assertThat(user1.getAvailablePoint()).isZero();
+        assertThat(lot1.getStatus()).isEqualTo(PointLotStatus.OPEN);
+        assertThat(lot1.getRemainingAmount()).isEqualTo(200L);
+
+        ArgumentCaptor<List<PointHistoryRow>> captor = ArgumentCaptor.forClass(List.class);
+        verify(pointHistoryWriter).appendAll(captor.capture());
+        assertThat(captor.getValue().getFirst().amount()).isEqualTo(100L);
+    }
+
+    @Test
+    @DisplayName("만료 처리 - 잡아 둔 포인트로 남은 묶음은 다시 읽지 않고 다음 청크로 넘어감")
+    void test6() {
+        User user1 = user(1L, 300L);
+        ReflectionTestUtils.setField(user1, "reservedPoint", 300L);
+        PointLot lot1 = lot(user1, 100L);
+        PointLot lot2 = lot(user1, 200L);
+
+        given(pointLotRepository.findExpired(any(LocalDateTime.class), any(Limit.class)))
+                .willReturn(List.of(ref(10L, 1L), ref(11L, 1L)));
+        given(pointLotRepository.findExpiredAfter(any(LocalDateTime.class), any(LocalDateTime.class), eq(11L),
+                any(Limit.class))).willReturn(List.of());
+        given(userRepository.findAllByIdForUpdate(List.of(1L))).willReturn(List.of(user1));
+        given(pointLotRepository.findOpenByIdsForUpdate(List.of(10L, 11L))).willReturn(List.of(lot1, lot2));
+
+        assertThat(pointExpiryService.expire()).isZero();
+        assertThat(user1.getCurrentPoint()).isEqualTo(300L);
+        assertThat(lot1.getRemainingAmount()).isEqualTo(100L);
+        assertThat(lot2.getRemainingAmount()).isEqualTo(200L);
+        verify(pointLotRepository).findExpired(any(LocalDateTime.class), any(Limit.class));
+    }
+
+    private PointLotRef ref(Long id, Long userId) {
+        return new PointLotRef(id, userId, LocalDateTime.now().minusDays(1));
+    }
+
+    private User user(Long id, long point) {
+        User user = new User("테스트", "010-1234-5678", "test@test.com", LocalDate.now());
+        ReflectionTestUtils.setField(user, "userCreatedId", id);
+        ReflectionTestUtils.setField(user, "currentPoint", point);
+        return user;
+    }
+
+    private PointLot lot(User user, long amount) {
+        LocalDateTime now = LocalDateTime.now();
+        return new PointLot(user, amount, now.minusDays(400), now.minusDays(1));
+    }
+
+}
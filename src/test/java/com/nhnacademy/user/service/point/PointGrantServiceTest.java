@@ -0,0 +1,209 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.service.point;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.nhnacademy.user.dto.request.PointGrantRequest;
+import com.nhnacademy.user.dto.response.PointGrantJobResponse;
+import com.nhnacademy.user.entity.point.PointGrantJob;
+import com.nhnacademy.user.entity.point.PointGrantJobStatus;
+import com.nhnacademy.user.entity.point.PointGrantTarget;
+import com.nhnacademy.user.entity.user.Grade;
+import com.nhnacademy.user.exception.point.InvalidPointInputException;
+import com.nhnacademy.user.exception.user.GradeNotFoundException;
+import com.nhnacademy.user.properties.PointGrantProperties;
+import com.nhnacademy.user.repository.account.StatusRepository;
+import com.nhnacademy.user.repository.point.PointGrantJobRepository;
+import com.nhnacademy.user.repository.point.PointGrantJobTargetRepository;
+import com.nhnacademy.user.repository.user.GradeRepository;
+import com.nhnacademy.user.repository.user.UserRepository;
+import com.nhnacademy.user.service.point.impl.PointGrantServiceImpl;
+import com.nhnacademy.user.service.point.ledger.PointHistoryWriter;
+import com.nhnacademy.user.service.point.ledger.PointLotManager;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class PointGrantServiceTest {
+
+    @Mock
+    private PointGrantJobRepository pointGrantJobRepository;
+
+    @Mock
+    private PointGrantJobTargetRepository pointGrantJobTargetRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private GradeRepository gradeRepository;
+
+    @Mock
+    private StatusRepository statusRepository;
+
+    @Mock
+    private PointHistoryWriter pointHistoryWriter;
+
+    @Mock
+    private PointLotManager pointLotManager;
+
+    private PointGrantServiceImpl pointGrantService;
+
+    private PointGrantJob savedJob;
+
+    @BeforeEach
+    void setUp() {
+        PointGrantProperties properties = new PointGrantProperties();
+        properties.setChunkSize(2);
+
+        // 작업을 호출 스레드에서 바로 실행, 트랜잭션 매니저는 목
+        pointGrantService = new PointGrantServiceImpl(pointGrantJobRepository, pointGrantJobTargetRepository, userRepository, gradeRepository,
+                statusRepository, pointHistoryWriter, pointLotManager, new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                new SyncTaskExecutor(), properties);
+    }
+
+    private void givenJobPersisted() {
+        given(pointGrantJobRepository.save(any(PointGrantJob.class))).willAnswer(invocation -> {
+            savedJob = invocation.getArgument(0);
+            ReflectionTestUtils.setField(savedJob, "pointGrantJobId", 1L);
+            return savedJob;
+        });
+        given(pointGrantJobRepository.findByIdForUpdate(1L)).willAnswer(invocation -> Optional.of(savedJob));
+    }
+
+    @Test
+    @DisplayName("등급 대상 일괄 지급 - 청크마다 UPDATE 한 번, 내역 다건 INSERT 후 완료")
+    void test1() {
+        givenJobPersisted();
+        given(gradeRepository.findByGradeName("GENERAL")).willReturn(Optional.of(mock(Grade.class)));
+        given(userRepository.findIdsByGradeAfter(eq("GENERAL"), anyLong(), any(Pageable.class)))
+                .willReturn(List.of(1L, 2L), List.of(3L), List.of());
+
+        Long jobId = pointGrantService.startGrant(
+                new PointGrantRequest(PointGrantTarget.GRADE, null, "GENERAL", null, 1000L, null));
+
+        assertThat(jobId).isEqualTo(1L);
+        verify(userRepository).addPointToAll(List.of(1L, 2L), 1000L);
+        verify(userRepository).addPointToAll(List.of(3L), 1000L);
+        verify(pointHistoryWriter, times(2)).appendAll(anyList());
+        verify(pointLotManager).openAll(List.of(1L, 2L), 1000L);
+        verify(pointLotManager).openAll(List.of(3L), 1000L);
+
+        assertThat(savedJob.getStatus()).isEqualTo(PointGrantJobStatus.COMPLETED);
+        assertThat(savedJob.getProcessedCount()).isEqualTo(3L);
+        assertThat(savedJob.getLastUserCreatedId()).isEqualTo(3L);
+        assertThat(savedJob.getDescription()).isEqualTo("포인트 일괄 지급");
+    }
+
+    @Test
+    @DisplayName("ID 목록 대상 일괄 지급 - 없는 회원은 건너뛰고 체크포인트는 구간 끝까지 이동")
+    void test2() {
+        givenJobPersisted();
+        given(pointGrantJobTargetRepository.findUserIdsAfter(eq(1L), eq(0L), any(Pageable.class)))
+                .willReturn(List.of(3L, 5L));
+        given(pointGrantJobTargetRepository.findUserIdsAfter(eq(1L), eq(5L), any(Pageable.class)))
+                .willReturn(List.of(9L));
+        given(pointGrantJobTargetRepository.findUserIdsAfter(eq(1L), eq(9L), any(Pageable.class)))
+                .willReturn(List.of());
+        given(userRepository.findExistingIds(List.of(3L, 5L))).willReturn(List.of(3L));
+        given(userRepository.findExistingIds(List.of(9L))).willReturn(List.of());
+
+        pointGrantService.startGrant(
+                new PointGrantRequest(PointGrantTarget.IDS, List.of(9L, 5L, 3L, 3L), null, null, 500L, "이벤트"));
+
+        // 대상 ID 는 중복 제거, 오름차순으로 작업 행과 함께 저장
+        verify(pointGrantJobTargetRepository).insertAll(1L, List.of(3L, 5L, 9L));
+        verify(userRepository).addPointToAll(List.of(3L), 500L);
+        verify(userRepository, times(1)).addPointToAll(anyList(), anyLong());
+
+        assertThat(savedJob.getStatus()).isEqualTo(PointGrantJobStatus.COMPLETED);
+        assertThat(savedJob.getProcessedCount()).isEqualTo(1L);
+        assertThat(savedJob.getLastUserCreatedId()).isEqualTo(9L);
+    }
+
+    @Test
+    @DisplayName("청크 처리 중 실패 - 작업 FAILED, 재개하면 체크포인트 이후부터 진행")
+    void test3() {
+        givenJobPersisted();
+        given(gradeRepository.findByGradeName("GENERAL")).willReturn(Optional.of(mock(Grade.class)));
+        given(userRepository.findIdsByGradeAfter(eq("GENERAL"), anyLong(), any(Pageable.class)))
+                .willReturn(List.of(1L, 2L), List.of(3L, 4L), List.of(3L, 4L), List.of());
+        // 두 번째 청크 (3, 4) 에서 한 번 실패
+        given(userRepository.addPointToAll(anyList(), eq(100L)))
+                .willReturn(2)
+                .willThrow(new IllegalStateException("lock timeout"))
+                .willReturn(2);
+        given(pointGrantJobRepository.findById(1L)).willAnswer(invocation -> Optional.of(savedJob));
+
+        pointGrantService.startGrant(
+                new PointGrantRequest(PointGrantTarget.GRADE, null, "GENERAL", null, 100L, null));
+
+        assertThat(savedJob.getStatus()).isEqualTo(PointGrantJobStatus.FAILED);
+        assertThat(savedJob.getLastUserCreatedId()).isEqualTo(2L);
+        assertThat(savedJob.getFailureReason()).isEqualTo("lock timeout");
+
+        pointGrantService.resumeGrant(1L);
+
+        PointGrantJobResponse response = pointGrantService.getGrantJob(1L);
+        assertThat(response.status()).isEqualTo(PointGrantJobStatus.COMPLETED);
+        assertThat(response.processedCount()).isEqualTo(4L);
+        assertThat(response.lastUserCreatedId()).isEqualTo(4L);
+    }
+
+    @Test
+    @DisplayName("완료된 작업 재개 - 실패")
+    void test4() {
+        PointGrantJob job = new PointGrantJob(PointGrantTarget.GRADE, "GENERAL", 100L, "이벤트");
+        job.complete();
+
+        given(pointGrantJobRepository.findById(1L)).willReturn(Optional.of(job));
+
+        assertThatThrownBy(() -> pointGrantService.resumeGrant(1L))
+                .isInstanceOf(InvalidPointInputException.class);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 등급 대상 - 작업 등록 안 함")
+    void test5() {
+        given(gradeRepository.findByGradeName("NONE")).willReturn(Optional.empty());
+
+        assertThatThrownBy(() -> pointGrantService.startGrant(
+                new PointGrantRequest(PointGrantTarget.GRADE, null, "NONE", null, 100L, null)))
+                .isInstanceOf(GradeNotFoundException.class);
+
+        verify(pointGrantJobRepository, never()).save(any());
+    }
+
+}
@@ -0,0 +1,248 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.service.point;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.nhnacademy.user.entity.point.PointHold;
+import com.nhnacademy.user.entity.point.PointHoldStatus;
+import com.nhnacademy.user.entity.point.Type;
+import com.nhnacademy.user.entity.user.User;
+import com.nhnacademy.user.exception.point.PointNotEnoughException;
+import com.nhnacademy.user.properties.SagaPointHoldProperties;
+import com.nhnacademy.user.repository.point.PointHoldRepository;
+import com.nhnacademy.user.repository.point.jdbc.PointHistoryRow;
+import com.nhnacademy.user.repository.point.projection.PointHoldRef;
+import com.nhnacademy.user.repository.user.UserRepository;
+import com.nhnacademy.user.service.point.impl.PointHoldServiceImpl;
+import com.nhnacademy.user.service.point.ledger.PointChange;
+import com.nhnacademy.user.service.point.ledger.PointHistoryWriter;
+import com.nhnacademy.user.service.point.ledger.PointLotManager;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class PointHoldServiceTest {
+
+    @Mock
+    PointHoldRepository pointHoldRepository;
+
+    @Mock
+    UserRepository userRepository;
+
+    @Mock
+    PointHistoryWriter pointHistoryWriter;
+
+    @Mock
+    PointLotManager pointLotManager;
+
+    PointHoldServiceImpl pointHoldService;
+
+    @BeforeEach
+    void setUp() {
+        SagaPointHoldProperties properties = new SagaPointHoldProperties();
+        properties.setTtl(Duration.ofMinutes(30));
+        properties.setChunkSize(2);
+
+        pointHoldService = new PointHoldServiceImpl(pointHoldRepository, userRepository, pointHistoryWriter,
+                pointLotManager, new TransactionTemplate(mock(PlatformTransactionManager.class)), properties);
+    }
+
+    @Test
+    @DisplayName("홀드 - 사용 포인트를 잡아 두고 홀드 한 행만 저장 (내역/묶음 없음)")
+    void test1() {
+        given(pointHoldRepository.existsByOrderId(100L)).willReturn(false);
+        given(userRepository.reservePointIfAvailable(1L, 300L)).willReturn(1);
+
+        pointHoldService.hold(1L, 100L, 300L, 30L);
+
+        ArgumentCaptor<PointHold> captor = ArgumentCaptor.forClass(PointHold.class);
+        verify(pointHoldRepository).save(captor.capture());
+
+        PointHold hold = captor.getValue();
+        assertThat(hold.getStatus()).isEqualTo(PointHoldStatus.HELD);
+        assertThat(hold.getUsedAmount()).isEqualTo(300L);
+        assertThat(hold.getSavedAmount()).isEqualTo(30L);
+        assertThat(hold.getExpiresAt()).isAfter(hold.getCreatedAt());
+        verify(pointHistoryWriter, never()).append(any());
+        verify(pointLotManager, never()).record(any());
+    }
+
+    @Test
+    @DisplayName("홀드 - 사용 가능 잔액이 부족하면 PointNotEnoughException")
+    void test2() {
+        given(pointHoldRepository.existsByOrderId(100L)).willReturn(false);
+        given(userRepository.reservePointIfAvailable(1L, 300L)).willReturn(0);
+        given(userRepository.existsById(1L)).willReturn(true);
+
+        assertThatThrownBy(() -> pointHoldService.hold(1L, 100L, 300L, 30L))
+                .isInstanceOf(PointNotEnoughException.class);
+
+        verify(pointHoldRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("홀드 - 이미 홀드가 있는 주문은 다시 잡지 않음")
+    void test3() {
+        given(pointHoldRepository.existsByOrderId(100L)).willReturn(true);
+
+        pointHoldService.hold(1L, 100L, 300L, 30L);
+
+        verify(userRepository, never()).reservePointIfAvailable(any(), anyLong());
+        verify(pointHoldRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("취소 - 잡아 둔 포인트만 풀고 홀드는 CANCELLED")
+    void test4() {
+        User user = user(1L, 1000L, 300L);
+        PointHold hold = hold(10L, 1L, 300L, 30L);
+
+        given(pointHoldRepository.existsByOrderIdAndStatus(100L, PointHoldStatus.HELD)).willReturn(true);
+        given(userRepository.findByIdForUpdate(1L)).willReturn(Optional.of(user));
+        given(pointHoldRepository.findHeldByOrderIdForUpdate(100L)).willReturn(Optional.of(hold));
+
+        boolean cancelled = pointHoldService.cancel(1L, 100L);
+
+        assertThat(cancelled).isTrue();
+        assertThat(hold.getStatus()).isEqualTo(PointHoldStatus.CANCELLED);
+        assertThat(user.getReservedPoint()).isZero();
+        assertThat(user.getCurrentPoint()).isEqualTo(1000L);
+        verify(pointHistoryWriter, never()).appendAll(anyList());
+    }
+
+    @Test
+    @DisplayName("취소 - 홀드가 없으면 회원 행을 잠그지 않고 false (기존 방식으로 되돌리도록)")
+    void test5() {
+        given(pointHoldRepository.existsByOrderIdAndStatus(100L, PointHoldStatus.HELD)).willReturn(false);
+
+        assertThat(pointHoldService.cancel(1L, 100L)).isFalse();
+        verify(userRepository, never()).findByIdForUpdate(any());
+        verify(pointHoldRepository, never()).findHeldByOrderIdForUpdate(any());
+    }
+
+    @Test
+    @DisplayName("확정 - 청크마다 잡아 둔 포인트를 차감하고 적립, 내역/묶음은 한 번에 반영")
+    @SuppressWarnings("unchecked")
+    void test6() {
+        User user1 = user(1L, 1000L, 300L);
+        User user2 = user(2L, 500L, 100L);
+        PointHold hold1 = hold(10L, 1L, 300L, 30L);
+        PointHold hold2 = hold(11L, 2L, 100L, 0L);
+
+        given(pointHoldRepository.findExpired(any(LocalDateTime.class), any(Limit.class)))
+                .willReturn(List.of(ref(10L, 1L), ref(11L, 2L)));
+        given(pointHoldRepository.findExpiredAfter(any(LocalDateTime.class), any(LocalDateTime.class), eq(11L),
+                any(Limit.class))).willReturn(List.of());
+        given(userRepository.findAllByIdForUpdate(List.of(1L, 2L))).willReturn(List.of(user1, user2));
+        given(pointHoldRepository.findHeldByIdsForUpdate(List.of(10L, 11L))).willReturn(List.of(hold1, hold2));
+
+        int committed = pointHoldService.commitExpired();
+
+        assertThat(committed).isEqualTo(2);
+        assertThat(hold1.getStatus()).isEqualTo(PointHoldStatus.COMMITTED);
+        assertThat(user1.getCurrentPoint()).isEqualTo(730L);
+        assertThat(user1.getReservedPoint()).isZero();
+        assertThat(user2.getCurrentPoint()).isEqualTo(400L);
+        assertThat(user2.getReservedPoint()).isZero();
+
+        ArgumentCaptor<List<PointHistoryRow>> rows = ArgumentCaptor.forClass(List.class);
+        verify(pointHistoryWriter).appendAll(rows.capture());
+        assertThat(rows.getValue()).extracting(PointHistoryRow::type)
+                .containsExactly(Type.USE, Type.EARN, Type.USE);
+
+        ArgumentCaptor<List<PointChange>> changes = ArgumentCaptor.forClass(List.class);
+        verify(pointLotManager).recordAll(changes.capture());
+        assertThat(changes.getValue()).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("확정 - 후보 조회 이후 취소된 홀드는 건너뜀")
+    void test7() {
+        User user1 = user(1L, 1000L, 0L);
+
+        given(pointHoldRepository.findExpired(any(LocalDateTime.class), any(Limit.class)))
+                .willReturn(List.of(ref(10L, 1L)));
+        given(userRepository.findAllByIdForUpdate(List.of(1L))).willReturn(List.of(user1));
+        given(pointHoldRepository.findHeldByIdsForUpdate(List.of(10L))).willReturn(List.of());
+
+        assertThat(pointHoldService.commitExpired()).isZero();
+        assertThat(user1.getCurrentPoint()).isEqualTo(1000L);
+        verify(pointHistoryWriter).appendAll(List.of());
+    }
+
+    @Test
+    @DisplayName("확정 - 잔액이 사용 포인트보다 적으면 차감을 줄이지 않고 홀드를 남김")
+    @SuppressWarnings("unchecked")
+    void test8() {
+        User user1 = user(1L, 100L, 300L);
+        PointHold hold1 = hold(10L, 1L, 300L, 30L);
+
+        given(pointHoldRepository.findExpired(any(LocalDateTime.class), any(Limit.class)))
+                .willReturn(List.of(ref(10L, 1L)));
+        given(userRepository.findAllByIdForUpdate(List.of(1L))).willReturn(List.of(user1));
+        given(pointHoldRepository.findHeldByIdsForUpdate(List.of(10L))).willReturn(List.of(hold1));
+
+        assertThat(pointHoldService.commitExpired()).isZero();
+        assertThat(hold1.getStatus()).isEqualTo(PointHoldStatus.HELD);
+        assertThat(user1.getCurrentPoint()).isEqualTo(100L);
+        assertThat(user1.getReservedPoint()).isEqualTo(300L);
+
+        ArgumentCaptor<List<PointHistoryRow>> rows = ArgumentCaptor.forClass(List.class);
+        verify(pointHistoryWriter).appendAll(rows.capture());
+        assertThat(rows.getValue()).isEmpty();
+    }
+
+    private PointHoldRef ref(Long id, Long userId) {
+        return new PointHoldRef(id, userId, LocalDateTime.now().minusMinutes(30));
+    }
+
+    private User user(Long id, long point, long reserved) {
+        User user = new User("테스트", "010-1234-5678", "test@test.com", LocalDate.now());
+        ReflectionTestUtils.setField(user, "userCreatedId", id);
+        ReflectionTestUtils.setField(user, "currentPoint", point);
+        ReflectionTestUtils.setField(user, "reservedPoint", reserved);
+        return user;
+    }
+
+    private PointHold hold(Long id, Long userId, long used, long saved) {
+        LocalDateTime now = LocalDateTime.now();
+        PointHold hold = new PointHold(userId, id * 10, used, saved, now.minusHours(1), now.minusMinutes(30));
+        ReflectionTestUtils.setField(hold, "pointHoldId", id);
+        return hold;
+    }
+
+}
@@ -23,6 +23,7 @@ import com.nhnacademy.user.dto.request.PointPolicyRequest;
 import com.nhnacademy.user.dto.response.PointPolicyResponse;
 import com.nhnacademy.user.entity.point.Method;
 import com.nhnacademy.user.entity.point.PointPolicy;
+import com.nhnacademy.user.event.PointPolicyChangedEvent;
 import com.nhnacademy.user.exception.point.PointPolicyAlreadyExistsException;
 import com.nhnacademy.user.exception.point.PointPolicyNotFoundException;
 import com.nhnacademy.user.repository.point.PointPolicyRepository;
@@ -36,6 +37,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
@@ -44,6 +46,9 @@ class PointPolicyServiceTest {
     @Mock
     private PointPolicyRepository pointPolicyRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private PointPolicyServiceImpl pointPolicyService;
 
@@ -58,6 +63,7 @@ class PointPolicyServiceTest {
         pointPolicyService.createPolicy(request);
 
         verify(pointPolicyRepository, times(1)).save(any(PointPolicy.class));
+        verify(eventPublisher).publishEvent(new PointPolicyChangedEvent("REGISTER"));
     }
 
     @Test
@@ -120,6 +126,8 @@ class PointPolicyServiceTest {
         assertThat(mockPolicy.getPolicyName()).isEqualTo("리뷰수정");
         assertThat(mockPolicy.getEarnPoint()).isEqualTo(BigDecimal.valueOf(0.01));
         assertThat(mockPolicy.getMethod()).isEqualTo(Method.AMOUNT);
+        // 바뀌기 전 정책 타입으로 캐시 무효화
+        verify(eventPublisher).publishEvent(new PointPolicyChangedEvent("REVIEW"));
     }
 
     @Test
@@ -139,11 +147,13 @@ class PointPolicyServiceTest {
     @DisplayName("정책 삭제 - 성공")
     void test7() {
         Long policyId = 1L;
-        given(pointPolicyRepository.existsById(policyId)).willReturn(true);
+        PointPolicy policy = new PointPolicy("리뷰", "REVIEW", Method.AMOUNT, BigDecimal.valueOf(100));
+        given(pointPolicyRepository.findById(policyId)).willReturn(Optional.of(policy));
 
         pointPolicyService.deletePolicy(policyId);
 
-        verify(pointPolicyRepository, times(1)).deleteById(policyId);
+        verify(pointPolicyRepository, times(1)).delete(policy);
+        verify(eventPublisher).publishEvent(new PointPolicyChangedEvent("REVIEW"));
     }
 
     @Test
@@ -151,7 +161,7 @@ class PointPolicyServiceTest {
     void test8() {
         Long policyId = 999L;
 
-        given(pointPolicyRepository.existsById(policyId)).willReturn(false);
+        given(pointPolicyRepository.findById(policyId)).willReturn(Optional.empty());
 
         assertThatThrownBy(() -> pointPolicyService.deletePolicy(policyId))
                 .isInstanceOf(PointPolicyNotFoundException.class);
@@ -0,0 +1,151 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.service.point;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import com.nhnacademy.user.dto.response.PointDriftResponse;
+import com.nhnacademy.user.dto.response.PointReconciliationReport;
+import com.nhnacademy.user.entity.point.PointBalanceSnapshot;
+import com.nhnacademy.user.entity.user.Grade;
+import com.nhnacademy.user.entity.user.User;
+import com.nhnacademy.user.properties.PointReconciliationProperties;
+import com.nhnacademy.user.repository.point.PointBalanceSnapshotRepository;
+import com.nhnacademy.user.repository.point.PointHistoryRepository;
+import com.nhnacademy.user.repository.point.projection.PointBalanceDelta;
+import com.nhnacademy.user.repository.point.projection.UserPointBalance;
+import com.nhnacademy.user.repository.user.UserRepository;
+import com.nhnacademy.user.service.point.impl.PointReconciliationServiceImpl;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class PointReconciliationServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PointHistoryRepository pointHistoryRepository;
+
+    @Mock
+    private PointBalanceSnapshotRepository pointBalanceSnapshotRepository;
+
+    private PointReconciliationServiceImpl pointReconciliationService;
+
+    @BeforeEach
+    void setUp() {
+        pointReconciliationService = new PointReconciliationServiceImpl(userRepository, pointHistoryRepository,
+                pointBalanceSnapshotRepository, new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                new PointReconciliationProperties());
+    }
+
+    @Test
+    @DisplayName("잔액 검증 - 스냅샷 이후 내역만 합산해 불일치 보고, 스냅샷은 기준 ID 까지 이동")
+    void test1() {
+        PointBalanceSnapshot snapshot = new PointBalanceSnapshot(1L, 100L, 10L);
+
+        given(pointHistoryRepository.findLastIdCreatedBefore(any(), eq(Limit.of(1)))).willReturn(List.of(50L));
+        given(userRepository.findIdsAfter(anyLong(), any(Pageable.class))).willReturn(List.of(1L, 2L), List.of());
+        given(pointBalanceSnapshotRepository.findAllById(List.of(1L, 2L))).willReturn(List.of(snapshot));
+        // 회원 1: 스냅샷 100 + 이후 70 (기준 ID 이하 50) = 170 (일치)
+        given(pointHistoryRepository.sumSinceSnapshot(List.of(1L), 50L))
+                .willReturn(List.of(new PointBalanceDelta(1L, 50L, 2L, 70L)));
+        // 회원 2: 스냅샷 없음, 전체 30 인데 잔액 40 (불일치)
+        given(pointHistoryRepository.sumAll(List.of(2L), 50L))
+                .willReturn(List.of(new PointBalanceDelta(2L, 30L, 1L, 30L)));
+        given(userRepository.findPointBalances(List.of(1L, 2L)))
+                .willReturn(List.of(new UserPointBalance(1L, 170L), new UserPointBalance(2L, 40L)));
+
+        PointReconciliationReport report = pointReconciliationService.reconcile();
+
+        assertThat(report.cutPointHistoryId()).isEqualTo(50L);
+        assertThat(report.checkedUsers()).isEqualTo(2);
+        assertThat(report.advancedSnapshots()).isEqualTo(2);
+        assertThat(report.driftedUsers()).isEqualTo(1);
+        assertThat(report.drifts()).containsExactly(new PointDriftResponse(2L, 40L, 30L, 10L));
+        assertThat(pointReconciliationService.getLastReport()).isEqualTo(report);
+
+        assertThat(snapshot.getBalance()).isEqualTo(150L);
+        assertThat(snapshot.getLastPointHistoryId()).isEqualTo(50L);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<PointBalanceSnapshot>> captor = ArgumentCaptor.forClass(List.class);
+        verify(pointBalanceSnapshotRepository).saveAll(captor.capture());
+        assertThat(captor.getValue()).singleElement().satisfies(created -> {
+            assertThat(created.getUserCreatedId()).isEqualTo(2L);
+            assertThat(created.getBalance()).isEqualTo(30L);
+            assertThat(created.getLastPointHistoryId()).isEqualTo(50L);
+        });
+    }
+
+    @Test
+    @DisplayName("잔액 검증 - 기준 ID 이하 새 내역이 없으면 스냅샷 유지")
+    void test2() {
+        PointBalanceSnapshot snapshot = new PointBalanceSnapshot(1L, 100L, 10L);
+
+        given(pointHistoryRepository.findLastIdCreatedBefore(any(), eq(Limit.of(1)))).willReturn(List.of());
+        given(userRepository.findIdsAfter(anyLong(), any(Pageable.class))).willReturn(List.of(1L), List.of());
+        given(pointBalanceSnapshotRepository.findAllById(List.of(1L))).willReturn(List.of(snapshot));
+        given(pointHistoryRepository.sumSinceSnapshot(List.of(1L), 0L))
+                .willReturn(List.of(new PointBalanceDelta(1L, 0L, 0L, 20L)));
+        given(userRepository.findPointBalances(List.of(1L))).willReturn(List.of(new UserPointBalance(1L, 120L)));
+
+        PointReconciliationReport report = pointReconciliationService.reconcile();
+
+        assertThat(report.driftedUsers()).isZero();
+        assertThat(report.advancedSnapshots()).isZero();
+        assertThat(snapshot.getLastPointHistoryId()).isEqualTo(10L);
+    }
+
+    @Test
+    @DisplayName("잔액 재계산 - 스냅샷 + 이후 내역 합계로 보정")
+    void test3() {
+        User user = new User("테스트", "010-1234-5678", "test@test.com", LocalDate.now(),
+                new Grade("GENERAL", BigDecimal.ONE));
+        ReflectionTestUtils.setField(user, "currentPoint", 1000L);
+
+        given(userRepository.findByIdForUpdate(1L)).willReturn(Optional.of(user));
+        given(pointBalanceSnapshotRepository.findById(1L))
+                .willReturn(Optional.of(new PointBalanceSnapshot(1L, 700L, 10L)));
+        given(pointHistoryRepository.sumSinceSnapshot(anyList(), anyLong()))
+                .willReturn(List.of(new PointBalanceDelta(1L, 0L, 0L, 200L)));
+
+        PointDriftResponse response = pointReconciliationService.rebuild(1L);
+
+        assertThat(response).isEqualTo(new PointDriftResponse(1L, 1000L, 900L, 100L));
+        assertThat(user.getCurrentPoint()).isEqualTo(900L);
+    }
+
+}
@@ -15,16 +15,22 @@ package com.nhnacademy.user.service.point;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 import com.nhnacademy.user.dto.request.PointRequest;
 import com.nhnacademy.user.dto.response.PointHistoryResponse;
+import com.nhnacademy.user.dto.response.PointHistorySliceResponse;
 import com.nhnacademy.user.entity.account.Account;
 import com.nhnacademy.user.entity.account.Role;
 import com.nhnacademy.user.entity.account.Status;
 import com.nhnacademy.user.entity.point.Method;
 import com.nhnacademy.user.entity.point.PointHistory;
+import com.nhnacademy.user.entity.point.PointHistoryArchive;
 import com.nhnacademy.user.entity.point.PointPolicy;
 import com.nhnacademy.user.entity.point.Type;
 import com.nhnacademy.user.entity.user.Grade;
@@ -33,21 +39,30 @@ import com.nhnacademy.user.exception.point.InvalidPointInputException;
 import com.nhnacademy.user.exception.point.PointNotEnoughException;
 import com.nhnacademy.user.exception.point.PointPolicyNotFoundException;
 import com.nhnacademy.user.exception.user.UserNotFoundException;
+import com.nhnacademy.user.repository.point.PointHistoryArchiveRepository;
 import com.nhnacademy.user.repository.point.PointHistoryRepository;
 import com.nhnacademy.user.repository.point.PointPolicyRepository;
+import com.nhnacademy.user.repository.point.jdbc.PointHistoryRow;
 import com.nhnacademy.user.repository.user.UserRepository;
+import com.nhnacademy.user.service.point.cache.PointPolicyCache;
 import com.nhnacademy.user.service.point.impl.PointServiceImpl;
+import com.nhnacademy.user.service.point.ledger.PointEarnQueue;
+import com.nhnacademy.user.service.point.ledger.PointHistoryWriter;
+import com.nhnacademy.user.service.point.ledger.PointLotManager;
+import com.nhnacademy.user.service.point.ledger.impl.LockingPointLedger;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -63,10 +78,21 @@ class PointServiceTest {
     @Mock
     PointHistoryRepository pointHistoryRepository;
 
+    @Mock
+    PointHistoryArchiveRepository pointHistoryArchiveRepository;
+
     @Mock
     PointPolicyRepository pointPolicyRepository;
 
-    @InjectMocks
+    @Mock
+    PointHistoryWriter pointHistoryWriter;
+
+    @Mock
+    PointLotManager pointLotManager;
+
+    @Mock
+    PointEarnQueue pointEarnQueue;
+
     PointServiceImpl pointService;
 
     User user;
@@ -75,6 +101,10 @@ class PointServiceTest {
 
     @BeforeEach
     void setUp() {
+        pointService = new PointServiceImpl(userRepository, pointHistoryRepository, pointHistoryArchiveRepository,
+                new PointPolicyCache(pointPolicyRepository, new SimpleMeterRegistry()),
+                new LockingPointLedger(userRepository, pointHistoryWriter, pointLotManager), pointEarnQueue);
+
         Grade grade = new Grade("GENERAL", BigDecimal.valueOf(1.0));
         user = new User("테스트", "010-1234-5678", "test@test.com", LocalDate.now(), grade);
         ReflectionTestUtils.setField(user, "userCreatedId", testUserId);
@@ -93,7 +123,7 @@ class PointServiceTest {
 
         pointService.earnPointByPolicy(testUserId, "REGISTER");
 
-        verify(pointHistoryRepository).save(any());
+        verify(pointHistoryWriter).append(any());
     }
 
     @Test
@@ -106,14 +136,13 @@ class PointServiceTest {
 
         pointService.earnPointByPolicy(testUserId, "ORDER", BigDecimal.valueOf(10000));
 
-        verify(pointHistoryRepository).save(any(PointHistory.class));
+        verify(pointHistoryWriter).append(any(PointHistoryRow.class));
         assertThat(user.getCurrentPoint()).isEqualTo(1000L);
     }
 
     @Test
     @DisplayName("포인트 적립 실패 - 존재하지 않는 정책")
     void test3() {
-        given(userRepository.findByIdForUpdate(testUserId)).willReturn(Optional.of(user));
         given(pointPolicyRepository.findByPolicyType("UNKNOWN")).willReturn(Optional.empty());
 
         assertThatThrownBy(() -> pointService.earnPointByPolicy(testUserId, "UNKNOWN"))
@@ -124,7 +153,6 @@ class PointServiceTest {
     @Test
     @DisplayName("포인트 적립 실패 - 정률 정책인데 기준 금액 오류")
     void test4() {
-        given(userRepository.findByIdForUpdate(testUserId)).willReturn(Optional.of(user));
         PointPolicy policy = new PointPolicy("구매", "ORDER", Method.RATIO, BigDecimal.valueOf(0.1));
         given(pointPolicyRepository.findByPolicyType("ORDER")).willReturn(Optional.of(policy));
 
@@ -147,7 +175,7 @@ class PointServiceTest {
 
         pointService.processPoint(request);
 
-        verify(pointHistoryRepository).save(any(PointHistory.class));
+        verify(pointHistoryWriter).append(any(PointHistoryRow.class));
         assertThat(user.getCurrentPoint()).isEqualTo(4000L);
     }
 
@@ -195,6 +223,8 @@ class PointServiceTest {
     @Test
     @DisplayName("회원 조회 실패")
     void test9() {
+        PointPolicy policy = new PointPolicy("회원가입", "REGISTER", Method.AMOUNT, BigDecimal.valueOf(5000));
+        given(pointPolicyRepository.findByPolicyType("REGISTER")).willReturn(Optional.of(policy));
         given(userRepository.findByIdForUpdate(99L)).willReturn(Optional.empty());
 
         assertThatThrownBy(() -> pointService.earnPointByPolicy(99L, "REGISTER"))
@@ -202,4 +232,149 @@ class PointServiceTest {
                 .hasMessage("찾을 수 없는 회원입니다.");
     }
 
+    @Test
+    @DisplayName("내 포인트 내역 커서 조회 - 첫 페이지, 다음 커서 반환")
+    void test10() {
+        LocalDateTime now = LocalDateTime.now();
+        PointHistory first = history(3L, now);
+        PointHistory second = history(2L, now.minusSeconds(1));
+        PointHistory third = history(1L, now.minusSeconds(2));
+
+        given(userRepository.existsById(testUserId)).willReturn(true);
+        given(pointHistoryRepository.findBefore(eq(testUserId), any(LocalDateTime.class), eq(Long.MAX_VALUE), eq(Limit.of(3))))
+                .willReturn(List.of(first, second, third));
+
+        PointHistorySliceResponse result = pointService.scrollMyPointHistory(testUserId, null, null, 2);
+
+        assertThat(result.content()).hasSize(2);
+        assertThat(result.hasNext()).isTrue();
+        assertThat(result.nextCursorCreatedAt()).isEqualTo(second.getCreatedAt());
+        assertThat(result.nextCursorId()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("내 포인트 내역 커서 조회 - 마지막 페이지")
+    void test11() {
+        LocalDateTime cursor = LocalDateTime.now();
+        PointHistory last = history(1L, cursor.minusSeconds(1));
+
+        given(pointHistoryRepository.findBefore(testUserId, cursor, 2L, Limit.of(3))).willReturn(List.of(last));
+
+        PointHistorySliceResponse result = pointService.scrollMyPointHistory(testUserId, cursor, 2L, 2);
+
+        assertThat(result.content()).hasSize(1);
+        assertThat(result.hasNext()).isFalse();
+        assertThat(result.nextCursorId()).isNull();
+    }
+
+    @Test
+    @DisplayName("내 포인트 내역 커서 조회 실패 - 커서 값 하나만 전달")
+    void test12() {
+        assertThatThrownBy(() -> pointService.scrollMyPointHistory(testUserId, LocalDateTime.now(), null, 20))
+                .isInstanceOf(InvalidPointInputException.class);
+    }
+
+    @Test
+    @DisplayName("포인트 수동 처리 실패 - 만료 차감은 배치 전용")
+    void test13() {
+        assertThatThrownBy(() -> pointService.processPoint(new PointRequest(testUserId, 100L, Type.EXPIRE, "만료")))
+                .isInstanceOf(InvalidPointInputException.class);
+
+        verify(pointLotManager, never()).record(any());
+    }
+
+    @Test
+    @DisplayName("정책 기반 적립 대기열 접수 - 정률 적립액 계산 후 접수, 회원 행은 잠그지 않음")
+    void test14() {
+        PointPolicy policy = new PointPolicy("구매적립", "ORDER_BASIC", Method.RATIO, BigDecimal.valueOf(0.01));
+        given(pointPolicyRepository.findByPolicyType("ORDER_BASIC")).willReturn(Optional.of(policy));
+        given(pointEarnQueue.enqueue(testUserId, 77L, 300L, "구매적립")).willReturn(true);
+
+        boolean accepted = pointService.enqueueEarnByPolicy(testUserId, "ORDER_BASIC", BigDecimal.valueOf(30000), 77L);
+
+        assertThat(accepted).isTrue();
+        verify(userRepository, never()).findByIdForUpdate(any());
+    }
+
+    @Test
+    @DisplayName("정책 기반 적립 대기열 접수 실패 - 정률 정책에 기준 금액 없음")
+    void test15() {
+        PointPolicy policy = new PointPolicy("구매적립", "ORDER_BASIC", Method.RATIO, BigDecimal.valueOf(0.01));
+        given(pointPolicyRepository.findByPolicyType("ORDER_BASIC")).willReturn(Optional.of(policy));
+
+        assertThatThrownBy(() -> pointService.enqueueEarnByPolicy(testUserId, "ORDER_BASIC", null, 77L))
+                .isInstanceOf(InvalidPointInputException.class);
+
+        verify(pointEarnQueue, never()).enqueue(any(), any(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("내 포인트 내역 커서 조회 - hot 구간을 지나면 보관 내역으로 이어서 조회")
+    void test16() {
+        LocalDateTime now = LocalDateTime.now();
+        PointHistory hot = history(10L, now);
+        PointHistoryArchive older = archive(5L, now.minusDays(200));
+        PointHistoryArchive oldest = archive(4L, now.minusDays(201));
+
+        given(userRepository.existsById(testUserId)).willReturn(true);
+        given(pointHistoryRepository.findBefore(eq(testUserId), any(LocalDateTime.class), eq(Long.MAX_VALUE), eq(Limit.of(3))))
+                .willReturn(List.of(hot));
+        given(pointHistoryArchiveRepository.findBefore(eq(testUserId), any(LocalDateTime.class), eq(Long.MAX_VALUE),
+                eq(Limit.of(3)))).willReturn(List.of(older, oldest));
+
+        PointHistorySliceResponse result = pointService.scrollMyPointHistory(testUserId, null, null, 2);
+
+        assertThat(result.content()).extracting(PointHistoryResponse::createdAt)
+                .containsExactly(hot.getCreatedAt(), older.getCreatedAt());
+        assertThat(result.hasNext()).isTrue();
+        assertThat(result.nextCursorId()).isEqualTo(5L);
+    }
+
+    @Test
+    @DisplayName("내 포인트 내역 커서 조회 - hot 내역으로 페이지가 차면 보관 테이블은 읽지 않음")
+    void test17() {
+        LocalDateTime now = LocalDateTime.now();
+
+        given(userRepository.existsById(testUserId)).willReturn(true);
+        given(pointHistoryRepository.findBefore(eq(testUserId), any(LocalDateTime.class), eq(Long.MAX_VALUE), eq(Limit.of(2))))
+                .willReturn(List.of(history(2L, now), history(1L, now.minusSeconds(1))));
+
+        pointService.scrollMyPointHistory(testUserId, null, null, 1);
+
+        verify(pointHistoryArchiveRepository, never()).findBefore(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("내 포인트 내역 페이지 조회 - hot 내역 뒤에 보관 내역을 이어 붙이고 전체 건수는 합산")
+    void test18() {
+        Pageable pageable = PageRequest.of(0, 3);
+        PointHistory hot = history(10L, LocalDateTime.now());
+        PointHistoryArchive older = archive(5L, LocalDateTime.now().minusDays(200));
+
+        given(userRepository.findByIdWithAccount(testUserId)).willReturn(Optional.of(user));
+        given(pointHistoryRepository.findAllByUserOrderByCreatedAtDesc(user, pageable))
+                .willReturn(new PageImpl<>(List.of(hot), pageable, 1));
+        given(pointHistoryArchiveRepository.countByUserCreatedId(testUserId)).willReturn(4L);
+        given(pointHistoryArchiveRepository.findLatest(testUserId, 0L, 2)).willReturn(List.of(older));
+
+        Page<PointHistoryResponse> result = pointService.getMyPointHistory(testUserId, pageable);
+
+        assertThat(result.getContent()).hasSize(2);
+        assertThat(result.getTotalElements()).isEqualTo(5L);
+    }
+
+    private PointHistoryArchive archive(Long id, LocalDateTime createdAt) {
+        PointHistoryArchive archive = mock(PointHistoryArchive.class);
+        given(archive.getPointHistoryId()).willReturn(id);
+        given(archive.getCreatedAt()).willReturn(createdAt);
+        return archive;
+    }
+
+    private PointHistory history(Long id, LocalDateTime createdAt) {
+        PointHistory history = new PointHistory(user, 100L, Type.EARN, "테스트 적립");
+        ReflectionTestUtils.setField(history, "pointHistoryId", id);
+        ReflectionTestUtils.setField(history, "createdAt", createdAt);
+        return history;
+    }
+
 }
@@ -0,0 +1,93 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.service.point.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.nhnacademy.user.dto.response.PointPolicyResponse;
+import com.nhnacademy.user.entity.point.Method;
+import com.nhnacademy.user.entity.point.PointPolicy;
+import com.nhnacademy.user.repository.point.PointPolicyRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class PointPolicyCacheTest {
+
+    @Mock
+    private PointPolicyRepository pointPolicyRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private PointPolicyCache pointPolicyCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        pointPolicyCache = new PointPolicyCache(pointPolicyRepository, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("같은 정책 반복 조회 - DB 는 한 번만 조회, 적중/미스 메트릭 기록")
+    void test1() {
+        given(pointPolicyRepository.findByPolicyType("REGISTER"))
+                .willReturn(Optional.of(new PointPolicy("회원가입", "REGISTER", Method.AMOUNT, BigDecimal.valueOf(5000))));
+
+        Optional<PointPolicyResponse> first = pointPolicyCache.get("REGISTER");
+        Optional<PointPolicyResponse> second = pointPolicyCache.get("REGISTER");
+
+        assertThat(first).isPresent();
+        assertThat(second.orElseThrow().earnPoint()).isEqualTo(BigDecimal.valueOf(5000));
+        verify(pointPolicyRepository, times(1)).findByPolicyType("REGISTER");
+
+        assertThat(meterRegistry.get("cache.gets").tag("cache", PointPolicyCache.CACHE_NAME).tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", PointPolicyCache.CACHE_NAME).tag("result", "miss")
+                .functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("없는 정책 - 캐시하지 않고 매번 DB 확인")
+    void test2() {
+        given(pointPolicyRepository.findByPolicyType("NONE")).willReturn(Optional.empty());
+
+        assertThat(pointPolicyCache.get("NONE")).isEmpty();
+        assertThat(pointPolicyCache.get("NONE")).isEmpty();
+
+        verify(pointPolicyRepository, times(2)).findByPolicyType("NONE");
+    }
+
+    @Test
+    @DisplayName("무효화 후 조회 - 바뀐 정책을 다시 읽음")
+    void test3() {
+        given(pointPolicyRepository.findByPolicyType("REGISTER"))
+                .willReturn(Optional.of(new PointPolicy("회원가입", "REGISTER", Method.AMOUNT, BigDecimal.valueOf(5000))))
+                .willReturn(Optional.of(new PointPolicy("회원가입", "REGISTER", Method.AMOUNT, BigDecimal.valueOf(3000))));
+
+        pointPolicyCache.get("REGISTER");
+        pointPolicyCache.invalidateAll();
+
+        assertThat(pointPolicyCache.get("REGISTER").orElseThrow().earnPoint()).isEqualTo(BigDecimal.valueOf(3000));
+    }
+
+}
@@ -0,0 +1,95 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.service.point.ledger;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.nhnacademy.user.entity.point.Type;
+import com.nhnacademy.user.exception.point.PointNotEnoughException;
+import com.nhnacademy.user.exception.user.UserNotFoundException;
+import com.nhnacademy.user.repository.point.jdbc.PointHistoryRow;
+import com.nhnacademy.user.repository.user.UserRepository;
+import com.nhnacademy.user.service.point.ledger.impl.AtomicPointLedger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class AtomicPointLedgerTest {
+
+    @Mock
+    UserRepository userRepository;
+
+    @Mock
+    PointHistoryWriter pointHistoryWriter;
+
+    @Mock
+    PointLotManager pointLotManager;
+
+    @InjectMocks
+    AtomicPointLedger pointLedger;
+
+    @Test
+    @DisplayName("포인트 적립 - 조건부 UPDATE 후 내역 저장")
+    void test1() {
+        given(userRepository.addPointIfSufficient(1L, 1000L)).willReturn(1);
+
+        pointLedger.apply(new PointChange(1L, 1000L, Type.EARN, "적립"));
+
+        verify(pointHistoryWriter).append(any(PointHistoryRow.class));
+        verify(pointLotManager).record(any(PointChange.class));
+    }
+
+    @Test
+    @DisplayName("포인트 사용 - 차감 값은 음수로 전달")
+    void test2() {
+        given(userRepository.addPointIfSufficient(1L, -500L)).willReturn(1);
+
+        pointLedger.apply(new PointChange(1L, 500L, Type.USE, "사용"));
+
+        verify(pointHistoryWriter).append(any(PointHistoryRow.class));
+    }
+
+    @Test
+    @DisplayName("포인트 사용 실패 - 잔액 부족")
+    void test3() {
+        given(userRepository.addPointIfSufficient(1L, -500L)).willReturn(0);
+        given(userRepository.existsById(1L)).willReturn(true);
+
+        assertThatThrownBy(() -> pointLedger.apply(new PointChange(1L, 500L, Type.USE, "사용")))
+                .isInstanceOf(PointNotEnoughException.class)
+                .hasMessage("포인트 잔액이 부족합니다.");
+
+        verify(pointHistoryWriter, never()).append(any());
+        verify(pointLotManager, never()).record(any());
+    }
+
+    @Test
+    @DisplayName("포인트 변동 실패 - 존재하지 않는 회원")
+    void test4() {
+        given(userRepository.addPointIfSufficient(99L, 500L)).willReturn(0);
+        given(userRepository.existsById(99L)).willReturn(false);
+
+        assertThatThrownBy(() -> pointLedger.apply(new PointChange(99L, 500L, Type.EARN, "적립")))
+                .isInstanceOf(UserNotFoundException.class)
+                .hasMessage("찾을 수 없는 회원입니다.");
+    }
+
+}
@@ -0,0 +1,213 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.service.point.ledger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.nhnacademy.user.entity.point.Type;
+import com.nhnacademy.user.entity.user.User;
+import com.nhnacademy.user.exception.point.PointNotEnoughException;
+import com.nhnacademy.user.exception.user.UserNotFoundException;
+import com.nhnacademy.user.properties.PointCoalescingProperties;
+import com.nhnacademy.user.repository.point.jdbc.PointHistoryRow;
+import com.nhnacademy.user.repository.user.UserRepository;
+import com.nhnacademy.user.service.point.ledger.impl.CoalescingPointLedger;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class CoalescingPointLedgerTest {
+
+    @Mock
+    PointLedger delegate;
+
+    @Mock
+    UserRepository userRepository;
+
+    @Mock
+    PointHistoryWriter pointHistoryWriter;
+
+    @Mock
+    PointLotManager pointLotManager;
+
+    CoalescingPointLedger pointLedger;
+
+    @BeforeEach
+    void setUp() {
+        PointCoalescingProperties properties = new PointCoalescingProperties();
+        properties.setHotUserIds(Set.of(1L, 2L));
+        properties.setStripes(4);
+        properties.setMaxBatchSize(50);
+
+        pointLedger = new CoalescingPointLedger(delegate, userRepository, pointHistoryWriter, pointLotManager,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), properties);
+    }
+
+    @Test
+    @DisplayName("지정하지 않은 회원 - 기본 엔진에 위임")
+    void test1() {
+        PointChange change = new PointChange(99L, 1000L, Type.EARN, "적립");
+
+        pointLedger.apply(change);
+
+        verify(delegate).apply(change);
+        verify(userRepository, never()).findByIdForUpdate(any());
+    }
+
+    @Test
+    @DisplayName("진행 중인 트랜잭션 안에서 호출 - 묶지 않고 기본 엔진에 위임")
+    void test2() {
+        PointChange change = new PointChange(1L, 1000L, Type.EARN, "적립");
+
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            pointLedger.apply(change);
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+
+        verify(delegate).apply(change);
+    }
+
+    @Test
+    @DisplayName("지정한 회원 적립 - 회원 행 잠금 후 잔액, 내역, 포인트 묶음 반영")
+    void test3() {
+        User user = user(1L, 500L);
+        given(userRepository.findByIdForUpdate(1L)).willReturn(Optional.of(user));
+
+        pointLedger.apply(new PointChange(1L, 1000L, Type.EARN, "적립"));
+
+        assertThat(user.getCurrentPoint()).isEqualTo(1500L);
+        verify(pointHistoryWriter).appendAll(anyList());
+        verify(pointLotManager).recordAll(anyList());
+        verify(delegate, never()).apply(any());
+    }
+
+    @Test
+    @DisplayName("지정한 회원 사용 실패 - 잔액 부족이면 반영하지 않음")
+    void test4() {
+        User user = user(1L, 100L);
+        given(userRepository.findByIdForUpdate(1L)).willReturn(Optional.of(user));
+
+        assertThatThrownBy(() -> pointLedger.apply(new PointChange(1L, 500L, Type.USE, "사용")))
+                .isInstanceOf(PointNotEnoughException.class)
+                .hasMessage("포인트 잔액이 부족합니다.");
+
+        assertThat(user.getCurrentPoint()).isEqualTo(100L);
+        verify(pointHistoryWriter, never()).appendAll(anyList());
+    }
+
+    @Test
+    @DisplayName("지정한 회원 변동 실패 - 존재하지 않는 회원")
+    void test5() {
+        given(userRepository.findByIdForUpdate(2L)).willReturn(Optional.empty());
+
+        assertThatThrownBy(() -> pointLedger.apply(new PointChange(2L, 500L, Type.EARN, "적립")))
+                .isInstanceOf(UserNotFoundException.class)
+                .hasMessage("찾을 수 없는 회원입니다.");
+    }
+
+    @Test
+    @DisplayName("동시 요청 - 묶음으로 반영하고 잔액과 내역 건수가 요청과 일치")
+    void test6() throws Exception {
+        User user = user(1L, 0L);
+        AtomicInteger flushes = new AtomicInteger();
+        AtomicInteger rows = new AtomicInteger();
+
+        // 회원 행 잠금에 시간이 걸리는 동안 뒤 요청이 대기열에 쌓이도록 지연
+        given(userRepository.findByIdForUpdate(1L)).willAnswer(invocation -> {
+            Thread.sleep(5);
+            return Optional.of(user);
+        });
+        willAnswer(invocation -> {
+            List<PointHistoryRow> appended = invocation.getArgument(0);
+            flushes.incrementAndGet();
+            rows.addAndGet(appended.size());
+            return appended.size();
+        }).given(pointHistoryWriter).appendAll(anyList());
+
+        int threads = 8;
+        int perThread = 25;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        try {
+            List<Future<?>> futures = IntStream.range(0, threads)
+                    .mapToObj(i -> executor.submit(() -> {
+                        for (int j = 0; j < perThread; j++) {
+                            pointLedger.apply(new PointChange(1L, 10L, Type.EARN, "적립"));
+                        }
+                    }))
+                    .<Future<?>>map(future -> future)
+                    .toList();
+
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(user.getCurrentPoint()).isEqualTo(threads * perThread * 10L);
+        assertThat(rows.get()).isEqualTo(threads * perThread);
+        assertThat(flushes.get()).isLessThan(threads * perThread);
+    }
+
+    @Test
+    @DisplayName("묶음 반영 중 Error - 요청에 그대로 전달하고 대기열을 정리해 다음 요청은 정상 반영")
+    void test7() {
+        User user = user(1L, 500L);
+        given(userRepository.findByIdForUpdate(1L))
+                .willThrow(new OutOfMemoryError("test"))
+                .willReturn(Optional.of(user));
+
+        assertThatThrownBy(() -> pointLedger.apply(new PointChange(1L, 100L, Type.EARN, "적립")))
+                .isInstanceOf(OutOfMemoryError.class);
+
+        pointLedger.apply(new PointChange(1L, 100L, Type.EARN, "적립"));
+
+        assertThat(user.getCurrentPoint()).isEqualTo(600L);
+    }
+
+    private User user(Long id, long point) {
+        User user = new User("테스트", "010-1234-5678", "test@test.com", LocalDate.now());
+        ReflectionTestUtils.setField(user, "userCreatedId", id);
+        ReflectionTestUtils.setField(user, "currentPoint", point);
+        return user;
+    }
+
+}
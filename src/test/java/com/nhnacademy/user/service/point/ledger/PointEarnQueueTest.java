@@ -0,0 +1,173 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.service.point.ledger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.nhnacademy.user.entity.point.PendingPointEarn;
+import com.nhnacademy.user.entity.point.Type;
+import com.nhnacademy.user.properties.PointEarnQueueProperties;
+import com.nhnacademy.user.repository.point.PendingPointEarnRepository;
+import com.nhnacademy.user.repository.point.PointHistoryRepository;
+import com.nhnacademy.user.repository.point.jdbc.PointHistoryRow;
+import com.nhnacademy.user.repository.user.UserRepository;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class PointEarnQueueTest {
+
+    @Mock
+    PendingPointEarnRepository pendingPointEarnRepository;
+
+    @Mock
+    PointHistoryRepository pointHistoryRepository;
+
+    @Mock
+    UserRepository userRepository;
+
+    @Mock
+    PointHistoryWriter pointHistoryWriter;
+
+    @Mock
+    PointLotManager pointLotManager;
+
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    PointEarnQueue pointEarnQueue;
+
+    @BeforeEach
+    void setUp() {
+        PointEarnQueueProperties properties = new PointEarnQueueProperties();
+        properties.setBatchSize(10);
+
+        pointEarnQueue = new PointEarnQueue(pendingPointEarnRepository, pointHistoryRepository, userRepository,
+                pointHistoryWriter, pointLotManager, new TransactionTemplate(transactionManager),
+                properties);
+    }
+
+    @Test
+    @DisplayName("적립 접수 - 대기 테이블에 한 행 저장")
+    void test1() {
+        given(pendingPointEarnRepository.existsByOrderId(77L)).willReturn(false);
+        given(pointHistoryRepository.existsByOrderIdAndType(77L, Type.EARN)).willReturn(false);
+
+        assertThat(pointEarnQueue.enqueue(1L, 77L, 300L, "구매적립")).isTrue();
+
+        verify(pendingPointEarnRepository).save(any(PendingPointEarn.class));
+        verify(userRepository, never()).addPoint(any(), eq(300L));
+        verify(transactionManager).getTransaction(argThat(definition ->
+                definition.getPropagationBehavior() == TransactionDefinition.PROPAGATION_REQUIRES_NEW));
+    }
+
+    @Test
+    @DisplayName("적립 접수 - 이미 적립된 주문은 다시 접수하지 않음")
+    void test2() {
+        given(pendingPointEarnRepository.existsByOrderId(77L)).willReturn(false);
+        given(pointHistoryRepository.existsByOrderIdAndType(77L, Type.EARN)).willReturn(true);
+
+        assertThat(pointEarnQueue.enqueue(1L, 77L, 300L, "구매적립")).isFalse();
+
+        verify(pendingPointEarnRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("적립 접수 - 동시에 들어온 같은 주문은 유니크 키로 하나만 접수")
+    void test3() {
+        given(pendingPointEarnRepository.existsByOrderId(77L)).willReturn(false);
+        given(pointHistoryRepository.existsByOrderIdAndType(77L, Type.EARN)).willReturn(false);
+        given(pendingPointEarnRepository.save(any(PendingPointEarn.class)))
+                .willThrow(new DataIntegrityViolationException("uk_pending_point_earns_order_id"));
+
+        assertThat(pointEarnQueue.enqueue(1L, 77L, 300L, "구매적립")).isFalse();
+        verify(transactionManager).rollback(any());
+    }
+
+    @Test
+    @DisplayName("대기열 반영 - 같은 회원 적립은 UPDATE 한 번으로 합치고 내역은 주문별로 저장")
+    @SuppressWarnings("unchecked")
+    void test4() {
+        List<PendingPointEarn> batch = List.of(
+                new PendingPointEarn(1L, 100L, 300L, "구매적립"),
+                new PendingPointEarn(2L, 101L, 500L, "구매적립"),
+                new PendingPointEarn(1L, 102L, 200L, "구매적립"));
+
+        given(pendingPointEarnRepository.findBatchForUpdate(any(Limit.class))).willReturn(batch);
+        given(pointHistoryRepository.findOrderIdsByType(List.of(100L, 101L, 102L), Type.EARN)).willReturn(List.of());
+        given(userRepository.findExistingIds(List.of(1L, 2L))).willReturn(List.of(1L, 2L));
+
+        assertThat(pointEarnQueue.drain()).isEqualTo(3);
+
+        verify(userRepository).addPoint(1L, 500L);
+        verify(userRepository).addPoint(2L, 500L);
+        verify(pointLotManager).openAll(Map.of(1L, 500L, 2L, 500L));
+        verify(pendingPointEarnRepository).deleteAllInBatch(batch);
+
+        ArgumentCaptor<List<PointHistoryRow>> captor = ArgumentCaptor.forClass(List.class);
+        verify(pointHistoryWriter).appendAll(captor.capture());
+        assertThat(captor.getValue()).extracting(PointHistoryRow::orderId).containsExactly(100L, 101L, 102L);
+    }
+
+    @Test
+    @DisplayName("대기열 반영 - 이미 적립된 주문과 없는 회원의 요청은 버리고 대기 행만 삭제")
+    @SuppressWarnings("unchecked")
+    void test5() {
+        List<PendingPointEarn> batch = List.of(
+                new PendingPointEarn(1L, 100L, 300L, "구매적립"),
+                new PendingPointEarn(9L, 101L, 500L, "구매적립"));
+
+        given(pendingPointEarnRepository.findBatchForUpdate(any(Limit.class))).willReturn(batch);
+        given(pointHistoryRepository.findOrderIdsByType(List.of(100L, 101L), Type.EARN)).willReturn(List.of(100L));
+        given(userRepository.findExistingIds(List.of(1L, 9L))).willReturn(List.of(1L));
+
+        pointEarnQueue.drain();
+
+        verify(userRepository, never()).addPoint(any(), eq(300L));
+        verify(pendingPointEarnRepository).deleteAllInBatch(batch);
+
+        ArgumentCaptor<List<PointHistoryRow>> captor = ArgumentCaptor.forClass(List.class);
+        verify(pointHistoryWriter).appendAll(captor.capture());
+        assertThat(captor.getValue()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("대기열 반영 - 비어 있으면 아무것도 하지 않음")
+    void test6() {
+        given(pendingPointEarnRepository.findBatchForUpdate(any(Limit.class))).willReturn(List.of());
+
+        assertThat(pointEarnQueue.drain()).isZero();
+
+        verify(pointHistoryWriter, never()).appendAll(anyList());
+    }
+
+}
@@ -0,0 +1,97 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.service.point.ledger;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.nhnacademy.user.entity.point.Type;
+import com.nhnacademy.user.repository.point.PointHistoryRepository;
+import com.nhnacademy.user.repository.point.jdbc.PointHistoryRow;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+class PointHistoryWriterTest {
+
+    @Mock
+    PointHistoryRepository pointHistoryRepository;
+
+    @InjectMocks
+    PointHistoryWriter pointHistoryWriter;
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        TransactionSynchronizationManager.unbindResourceIfPossible(pointHistoryWriter);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서는 즉시 저장")
+    void test1() {
+        PointHistoryRow row = row(1L);
+
+        pointHistoryWriter.append(row);
+
+        verify(pointHistoryRepository).insertAll(List.of(row));
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서는 모아두었다가 커밋 직전에 한 번에 저장")
+    void test2() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        PointHistoryRow first = row(1L);
+        PointHistoryRow second = row(2L);
+
+        pointHistoryWriter.append(first);
+        pointHistoryWriter.append(second);
+
+        verify(pointHistoryRepository, never()).insertAll(anyList());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(sync -> sync.beforeCommit(false));
+
+        verify(pointHistoryRepository).insertAll(List.of(first, second));
+    }
+
+    @Test
+    @DisplayName("롤백되면 모아둔 내역은 저장하지 않음")
+    void test3() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        pointHistoryWriter.append(row(1L));
+
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        verify(pointHistoryRepository, never()).insertAll(anyList());
+    }
+
+    private PointHistoryRow row(Long userCreatedId) {
+        return new PointHistoryRow(userCreatedId, null, 100L, Type.EARN, "적립", LocalDateTime.now());
+    }
+
+}
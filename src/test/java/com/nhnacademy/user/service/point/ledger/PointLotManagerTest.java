@@ -0,0 +1,132 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.service.point.ledger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.nhnacademy.user.entity.point.PointLot;
+import com.nhnacademy.user.entity.point.PointLotStatus;
+import com.nhnacademy.user.entity.point.Type;
+import com.nhnacademy.user.properties.PointExpiryProperties;
+import com.nhnacademy.user.repository.point.PointLotRepository;
+import com.nhnacademy.user.repository.point.jdbc.PointLotRow;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+@ExtendWith(MockitoExtension.class)
+class PointLotManagerTest {
+
+    @Mock
+    PointLotRepository pointLotRepository;
+
+    PointLotManager pointLotManager;
+
+    @BeforeEach
+    void setUp() {
+        PointExpiryProperties properties = new PointExpiryProperties();
+        properties.setValidity(Duration.ofDays(30));
+
+        pointLotManager = new PointLotManager(pointLotRepository, properties);
+    }
+
+    @Test
+    @DisplayName("포인트 적립 - 유효기간이 있는 묶음 생성")
+    @SuppressWarnings("unchecked")
+    void test1() {
+        pointLotManager.record(new PointChange(1L, 1000L, Type.EARN, "적립"));
+
+        ArgumentCaptor<List<PointLotRow>> captor = ArgumentCaptor.forClass(List.class);
+        verify(pointLotRepository).insertAll(captor.capture());
+
+        PointLotRow row = captor.getValue().getFirst();
+        assertThat(row.userCreatedId()).isEqualTo(1L);
+        assertThat(row.amount()).isEqualTo(1000L);
+        assertThat(Duration.between(row.earnedAt(), row.expiresAt())).isEqualTo(Duration.ofDays(30));
+    }
+
+    @Test
+    @DisplayName("포인트 사용 - 만료가 가까운 묶음부터 차감")
+    void test2() {
+        PointLot first = lot(300L, 1);
+        PointLot second = lot(500L, 2);
+        given(pointLotRepository.findOpenLotsForUpdate(eq(1L), any(Limit.class))).willReturn(List.of(first, second));
+
+        pointLotManager.record(new PointChange(1L, 400L, Type.USE, "사용"));
+
+        assertThat(first.getRemainingAmount()).isZero();
+        assertThat(first.getStatus()).isEqualTo(PointLotStatus.USED);
+        assertThat(second.getRemainingAmount()).isEqualTo(400L);
+        assertThat(second.getStatus()).isEqualTo(PointLotStatus.OPEN);
+    }
+
+    @Test
+    @DisplayName("포인트 사용 - 묶음 잔여 합계보다 크면 남은 금액은 묶음 없이 차감")
+    void test3() {
+        PointLot only = lot(100L, 1);
+        given(pointLotRepository.findOpenLotsForUpdate(eq(1L), any(Limit.class))).willReturn(List.of(only));
+
+        pointLotManager.record(new PointChange(1L, 500L, Type.USE, "사용"));
+
+        assertThat(only.getStatus()).isEqualTo(PointLotStatus.USED);
+        verify(pointLotRepository).findOpenLotsForUpdate(eq(1L), any(Limit.class));
+    }
+
+    @Test
+    @DisplayName("만료 차감은 포인트 엔진으로 처리할 수 없음")
+    void test4() {
+        assertThatThrownBy(() -> pointLotManager.record(new PointChange(1L, 100L, Type.EXPIRE, "만료")))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verify(pointLotRepository, never()).insertAll(anyList());
+    }
+
+    @Test
+    @DisplayName("여러 건 반영 - 적립 묶음은 한 번에 생성하고 사용은 순서대로 차감")
+    @SuppressWarnings("unchecked")
+    void test5() {
+        PointLot first = lot(300L, 1);
+        given(pointLotRepository.findOpenLotsForUpdate(eq(1L), any(Limit.class))).willReturn(List.of(first));
+
+        pointLotManager.recordAll(List.of(
+                new PointChange(1L, 1000L, Type.EARN, "적립"),
+                new PointChange(1L, 200L, Type.USE, "사용"),
+                new PointChange(1L, 500L, Type.CANCEL, "취소")));
+
+        ArgumentCaptor<List<PointLotRow>> captor = ArgumentCaptor.forClass(List.class);
+        verify(pointLotRepository).insertAll(captor.capture());
+        assertThat(captor.getValue()).extracting(PointLotRow::amount).containsExactly(1000L, 500L);
+        assertThat(first.getRemainingAmount()).isEqualTo(100L);
+    }
+
+    private PointLot lot(long amount, int daysLeft) {
+        LocalDateTime now = LocalDateTime.now();
+        return new PointLot(null, amount, now, now.plusDays(daysLeft));
+    }
+
+}
@@ -37,10 +37,9 @@ import com.nhnacademy.user.exception.account.StateNotFoundException;
 import com.nhnacademy.user.exception.user.GradeNotFoundException;
 import com.nhnacademy.user.exception.user.UserNotFoundException;
 import com.nhnacademy.user.repository.account.AccountStatusHistoryRepository;
-import com.nhnacademy.user.repository.account.StatusRepository;
-import com.nhnacademy.user.repository.user.GradeRepository;
 import com.nhnacademy.user.repository.user.UserGradeHistoryRepository;
 import com.nhnacademy.user.repository.user.UserRepository;
+import com.nhnacademy.user.service.user.cache.ReferenceDataRegistry;
 import com.nhnacademy.user.service.user.impl.AdminServiceImpl;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -53,6 +52,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -65,10 +65,7 @@ class AdminServiceTest {
     private UserRepository userRepository;
 
     @Mock
-    private GradeRepository gradeRepository;
-
-    @Mock
-    private StatusRepository statusRepository;
+    private ReferenceDataRegistry referenceDataRegistry;
 
     @Mock
     private AccountStatusHistoryRepository accountStatusHistoryRepository;
@@ -76,6 +73,9 @@ class AdminServiceTest {
     @Mock
     private UserGradeHistoryRepository userGradeHistoryRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private AdminServiceImpl adminService;
 
@@ -169,7 +169,7 @@ class AdminServiceTest {
 
         given(userRepository.findByIdWithAccount(targetUserId)).willReturn(Optional.of(mockUser));
         given(mockUser.getAccount()).willReturn(mockAccount);
-        given(statusRepository.findByStatusName("BANNED")).willReturn(Optional.of(mockStatus));
+        given(referenceDataRegistry.findStatus("BANNED")).willReturn(Optional.of(mockStatus));
 
         adminService.modifyAccountStatus(adminId, targetUserId, request);
 
@@ -185,7 +185,7 @@ class AdminServiceTest {
         AccountStatusRequest request = new AccountStatusRequest("WEIRD_STATUS");
 
         given(userRepository.findByIdWithAccount(targetUserId)).willReturn(Optional.of(mockUser));
-        given(statusRepository.findByStatusName("WEIRD_STATUS")).willReturn(Optional.empty());
+        given(referenceDataRegistry.findStatus("WEIRD_STATUS")).willReturn(Optional.empty());
 
         assertThatThrownBy(() -> adminService.modifyAccountStatus(adminId, targetUserId, request))
                 .isInstanceOf(StateNotFoundException.class)
@@ -200,7 +200,7 @@ class AdminServiceTest {
         UserGradeRequest request = new UserGradeRequest("GOLD");
 
         given(userRepository.findByIdWithAccount(targetUserId)).willReturn(Optional.of(mockUser));
-        given(gradeRepository.findByGradeName("GOLD")).willReturn(Optional.of(mockGrade));
+        given(referenceDataRegistry.findGrade("GOLD")).willReturn(Optional.of(mockGrade));
 
         adminService.modifyUserGrade(adminId, targetUserId, request);
 
@@ -224,7 +224,7 @@ class AdminServiceTest {
         UserGradeRequest request = new UserGradeRequest("DIAMOND");
 
         given(userRepository.findByIdWithAccount(anyLong())).willReturn(Optional.of(mockUser));
-        given(gradeRepository.findByGradeName("DIAMOND")).willReturn(Optional.empty());
+        given(referenceDataRegistry.findGrade("DIAMOND")).willReturn(Optional.empty());
 
         assertThatThrownBy(() -> adminService.modifyUserGrade(999L, 1L, request))
                 .isInstanceOf(GradeNotFoundException.class)
@@ -18,7 +18,12 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
+import com.nhnacademy.user.dto.response.InternalAddressResponse;
+import com.nhnacademy.user.dto.response.InternalUserBatchResponse;
 import com.nhnacademy.user.entity.account.Account;
 import com.nhnacademy.user.entity.account.Role;
 import com.nhnacademy.user.entity.account.Status;
@@ -27,21 +32,29 @@ import com.nhnacademy.user.entity.user.Grade;
 import com.nhnacademy.user.entity.user.User;
 import com.nhnacademy.user.exception.account.AccountWithdrawnException;
 import com.nhnacademy.user.exception.user.UserNotFoundException;
+import com.nhnacademy.user.properties.UserExistenceIndexProperties;
+import com.nhnacademy.user.repository.account.AccountRepository;
 import com.nhnacademy.user.repository.address.AddressRepository;
 import com.nhnacademy.user.repository.user.UserRepository;
+import com.nhnacademy.user.repository.user.projection.InternalUserRow;
+import com.nhnacademy.user.service.user.cache.InternalUserInfoCache;
+import com.nhnacademy.user.service.user.cache.UserExistenceIndex;
 import com.nhnacademy.user.service.user.impl.InternalUserServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
 
 @ExtendWith(MockitoExtension.class)
 class InternalUserServiceTest {
@@ -52,23 +65,29 @@ class InternalUserServiceTest {
     @Mock
     private AddressRepository addressRepository;
 
-    @InjectMocks
+    private SimpleMeterRegistry meterRegistry;
+
+    private InternalUserInfoCache internalUserInfoCache;
+
     private InternalUserServiceImpl internalUserService;
 
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        internalUserInfoCache = new InternalUserInfoCache(new ConcurrentMapCacheManager(), meterRegistry);
+        // 적재 전 존재 여부 인덱스: 모든 조회를 DB 로 확인
+        UserExistenceIndex userExistenceIndex = new UserExistenceIndex(userRepository, mock(AccountRepository.class),
+                new UserExistenceIndexProperties(), mock(PlatformTransactionManager.class), meterRegistry);
+        internalUserService = new InternalUserServiceImpl(userRepository, addressRepository, internalUserInfoCache,
+                userExistenceIndex);
+    }
+
     @Test
     @DisplayName("내부 통신용 회원 정보 조회 (getInternalUserInfo)")
     void test1() {
-        Grade goldGrade = new Grade("GOLD", BigDecimal.valueOf(2.5));
-        Status activeStatus = new Status("ACTIVE");
-        User user = new User("홍길동", "010-1234-5678", "test@test.com", LocalDate.of(1990, 1, 1), goldGrade);
-        Account account = new Account("testId", "rawPassword", Role.USER, user, activeStatus);
-
-        ReflectionTestUtils.setField(user, "currentPoint", 5000L);
-        ReflectionTestUtils.setField(user, "account", account);
-
-        given(userRepository.findByIdWithAccount(anyLong())).willReturn(Optional.of(user));
-
-        given(addressRepository.findAllByUser(any(User.class))).willReturn(Collections.emptyList());
+        given(userRepository.findInternalUser(1L)).willReturn(Optional.of(activeRow("홍길동")));
+        given(userRepository.findInternalAddresses(1L)).willReturn(Collections.emptyList());
+        given(userRepository.findAvailablePoint(1L)).willReturn(Optional.of(5000L));
 
         var response = internalUserService.getInternalUserInfo(1L);
 
@@ -81,22 +100,11 @@ class InternalUserServiceTest {
     @Test
     @DisplayName("내부 통신용 회원 정보 조회 - 주소가 있는 경우")
     void test2() {
-        Grade grade = new Grade("GOLD", BigDecimal.valueOf(2.5));
-        Status status = new Status("ACTIVE");
-        User user = new User("홍길동", "010-1234-5678", "t@t.com", LocalDate.now(), grade);
-        Account account = new Account("testId", "pw", Role.USER, user, status);
-        ReflectionTestUtils.setField(user, "account", account);
+        InternalAddressResponse address = new InternalAddressResponse(10L, "집", "12345", "서울시", "상세", true);
 
-        Address address = mock(Address.class);
-        given(address.getAddressId()).willReturn(10L);
-        given(address.getAddressName()).willReturn("집");
-        given(address.getZipCode()).willReturn("12345");
-        given(address.getRoadAddress()).willReturn("서울시");
-        given(address.getAddressDetail()).willReturn("상세");
-        given(address.isDefault()).willReturn(true);
-
-        given(userRepository.findByIdWithAccount(anyLong())).willReturn(Optional.of(user));
-        given(addressRepository.findAllByUser(any(User.class))).willReturn(List.of(address));
+        given(userRepository.findInternalUser(1L)).willReturn(Optional.of(activeRow("홍길동")));
+        given(userRepository.findInternalAddresses(1L)).willReturn(List.of(address));
+        given(userRepository.findAvailablePoint(1L)).willReturn(Optional.of(0L));
 
         var response = internalUserService.getInternalUserInfo(1L);
 
@@ -117,7 +125,7 @@ class InternalUserServiceTest {
     @Test
     @DisplayName("내부 통신용 회원 정보 조회 실패 - 찾을 수 없는 회원")
     void test4() {
-        given(userRepository.findByIdWithAccount(anyLong())).willReturn(Optional.empty());
+        given(userRepository.findInternalUser(anyLong())).willReturn(Optional.empty());
 
         assertThatThrownBy(() -> internalUserService.getInternalUserInfo(99L))
                 .isInstanceOf(UserNotFoundException.class)
@@ -127,17 +135,109 @@ class InternalUserServiceTest {
     @Test
     @DisplayName("내부 통신용 회원 정보 조회 실패 - 탈퇴한 계정")
     void test5() {
-        User user = mock(User.class);
-        Account account = mock(Account.class);
-        Status withdrawnStatus = new Status("WITHDRAWN");
+        InternalUserRow withdrawn = new InternalUserRow(
+                1L, "홍길동", "010-1234-5678", "test@test.com", "GOLD", BigDecimal.valueOf(2.5), 0L, 0L, "WITHDRAWN");
 
-        given(userRepository.findByIdWithAccount(anyLong())).willReturn(Optional.of(user));
-        given(user.getAccount()).willReturn(account);
-        given(account.getStatus()).willReturn(withdrawnStatus);
+        given(userRepository.findInternalUser(anyLong())).willReturn(Optional.of(withdrawn));
 
         assertThatThrownBy(() -> internalUserService.getInternalUserInfo(1L))
                 .isInstanceOf(AccountWithdrawnException.class)
                 .hasMessage("이미 탈퇴한 계정입니다.");
+        verify(userRepository, never()).findInternalAddresses(anyLong());
+    }
+
+    @Test
+    @DisplayName("내부 통신용 회원 정보 반복 조회 - 회원/배송지는 캐시에서, 포인트는 매번 최신 값")
+    void test6() {
+        given(userRepository.findInternalUser(1L)).willReturn(Optional.of(activeRow("홍길동")));
+        given(userRepository.findInternalAddresses(1L)).willReturn(Collections.emptyList());
+        given(userRepository.findAvailablePoint(1L)).willReturn(Optional.of(5000L), Optional.of(4000L));
+
+        var first = internalUserService.getInternalUserInfo(1L);
+        var second = internalUserService.getInternalUserInfo(1L);
+
+        assertThat(first.point()).isEqualTo(5000L);
+        assertThat(second.point()).isEqualTo(4000L);
+        assertThat(second.userName()).isEqualTo("홍길동");
+        verify(userRepository, times(1)).findInternalUser(1L);
+        verify(userRepository, times(1)).findInternalAddresses(1L);
+
+        assertThat(meterRegistry.get("cache.gets").tag("cache", InternalUserInfoCache.CACHE_NAME).tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("internal.user.cache.load").timer().count()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("내부 통신용 회원 정보 캐시 무효화 후 조회 - 바뀐 회원 정보를 다시 읽음")
+    void test7() {
+        given(userRepository.findInternalUser(1L))
+                .willReturn(Optional.of(activeRow("홍길동")), Optional.of(activeRow("김철수")));
+        given(userRepository.findInternalAddresses(1L)).willReturn(Collections.emptyList());
+        given(userRepository.findAvailablePoint(1L)).willReturn(Optional.of(0L));
+
+        internalUserService.getInternalUserInfo(1L);
+        internalUserInfoCache.evict(1L);
+
+        assertThat(internalUserService.getInternalUserInfo(1L).userName()).isEqualTo("김철수");
+        verify(userRepository, times(2)).findInternalUser(1L);
+    }
+
+    @Test
+    @DisplayName("회원 정보 일괄 조회 - 요청 순서대로, 없는 회원/탈퇴한 계정은 항목별 에러")
+    void test8() {
+        User active = activeUser();
+        ReflectionTestUtils.setField(active, "userCreatedId", 1L);
+        ReflectionTestUtils.setField(active, "currentPoint", 3000L);
+
+        User withdrawn = new User("김철수", "010-0000-0000", "w@test.com", LocalDate.of(1990, 1, 1),
+                new Grade("GENERAL", BigDecimal.ONE));
+        ReflectionTestUtils.setField(withdrawn, "userCreatedId", 2L);
+        ReflectionTestUtils.setField(withdrawn, "account",
+                new Account("withdrawnId", "pw", Role.USER, withdrawn, new Status("WITHDRAWN")));
+
+        Address address = mock(Address.class);
+        given(address.getUser()).willReturn(active);
+        given(address.getAddressId()).willReturn(10L);
+        given(address.getAddressName()).willReturn("집");
+
+        given(userRepository.findAllWithAccountByIdIn(List.of(3L, 1L, 2L))).willReturn(List.of(active, withdrawn));
+        given(addressRepository.findAllByUserIds(List.of(1L))).willReturn(List.of(address));
+
+        List<InternalUserBatchResponse> result = internalUserService.getInternalUserInfos(List.of(3L, 1L, 2L, 1L));
+
+        assertThat(result).extracting(InternalUserBatchResponse::userCreatedId).containsExactly(3L, 1L, 2L);
+        assertThat(result.get(0).error()).isEqualTo(InternalUserBatchResponse.NOT_FOUND);
+        assertThat(result.get(1).error()).isNull();
+        assertThat(result.get(1).user().point()).isEqualTo(3000L);
+        assertThat(result.get(1).user().addresses()).hasSize(1);
+        assertThat(result.get(1).user().addresses().getFirst().addressName()).isEqualTo("집");
+        assertThat(result.get(2).error()).isEqualTo(InternalUserBatchResponse.WITHDRAWN);
+        assertThat(result.get(2).user()).isNull();
+    }
+
+    @Test
+    @DisplayName("회원 정보 일괄 조회 - 살아있는 회원이 없으면 배송지 조회 생략")
+    void test9() {
+        given(userRepository.findAllWithAccountByIdIn(List.of(1L, 2L))).willReturn(Collections.emptyList());
+
+        List<InternalUserBatchResponse> result = internalUserService.getInternalUserInfos(List.of(1L, 2L));
+
+        assertThat(result).extracting(InternalUserBatchResponse::error)
+                .containsOnly(InternalUserBatchResponse.NOT_FOUND);
+        verify(addressRepository, never()).findAllByUserIds(any());
+    }
+
+    private InternalUserRow activeRow(String userName) {
+        return new InternalUserRow(
+                1L, userName, "010-1234-5678", "test@test.com", "GOLD", BigDecimal.valueOf(2.5), 0L, 0L, "ACTIVE");
+    }
+
+    private User activeUser() {
+        Grade grade = new Grade("GOLD", BigDecimal.valueOf(2.5));
+        User user = new User("홍길동", "010-1234-5678", "test@test.com", LocalDate.of(1990, 1, 1), grade);
+        Account account = new Account("testId", "pw", Role.USER, user, new Status("ACTIVE"));
+        ReflectionTestUtils.setField(user, "account", account);
+        return user;
     }
 
 }
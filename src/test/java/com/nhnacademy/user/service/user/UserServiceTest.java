@@ -34,17 +34,18 @@ import com.nhnacademy.user.entity.account.Role;
 import com.nhnacademy.user.entity.account.Status;
 import com.nhnacademy.user.entity.user.Grade;
 import com.nhnacademy.user.entity.user.User;
+import com.nhnacademy.user.event.UserSignedUpEvent;
+import com.nhnacademy.user.event.WelcomeCouponEvent;
 import com.nhnacademy.user.exception.account.AccountWithdrawnException;
 import com.nhnacademy.user.exception.user.PasswordNotMatchException;
 import com.nhnacademy.user.exception.user.UserAlreadyExistsException;
 import com.nhnacademy.user.exception.user.UserNotFoundException;
 import com.nhnacademy.user.repository.account.AccountRepository;
 import com.nhnacademy.user.repository.account.AccountStatusHistoryRepository;
-import com.nhnacademy.user.repository.account.StatusRepository;
-import com.nhnacademy.user.repository.user.GradeRepository;
 import com.nhnacademy.user.repository.user.UserGradeHistoryRepository;
 import com.nhnacademy.user.repository.user.UserRepository;
 import com.nhnacademy.user.service.point.PointService;
+import com.nhnacademy.user.service.user.cache.ReferenceDataRegistry;
 import com.nhnacademy.user.service.user.impl.UserServiceImpl;
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -78,10 +79,7 @@ class UserServiceTest {
     private AccountStatusHistoryRepository accountStatusHistoryRepository;
 
     @Mock
-    private GradeRepository gradeRepository;
-
-    @Mock
-    private StatusRepository statusRepository;
+    private ReferenceDataRegistry referenceDataRegistry;
 
     @Mock
     private PasswordEncoder passwordEncoder;
@@ -122,8 +120,8 @@ class UserServiceTest {
         given(accountRepository.existsById(anyString())).willReturn(false);
         given(userRepository.existsByPhoneNumber(anyString())).willReturn(false);
         given(userRepository.existsByEmail(anyString())).willReturn(false);
-        given(gradeRepository.findByGradeName("GENERAL")).willReturn(Optional.of(generalGrade));
-        given(statusRepository.findByStatusName("ACTIVE")).willReturn(Optional.of(activeStatus));
+        given(referenceDataRegistry.findGrade("GENERAL")).willReturn(Optional.of(generalGrade));
+        given(referenceDataRegistry.findStatus("ACTIVE")).willReturn(Optional.of(activeStatus));
 
         User savedUser =
                 new User(request.userName(), request.phoneNumber(), request.email(), request.birth(), generalGrade);
@@ -132,7 +130,8 @@ class UserServiceTest {
 
         userService.signUp(request);
 
-        verify(eventPublisher, times(1)).publishEvent(any(Object.class));
+        verify(eventPublisher, times(1)).publishEvent(any(WelcomeCouponEvent.class));
+        verify(eventPublisher, times(1)).publishEvent(new UserSignedUpEvent(1L, "testId"));
         verify(userRepository).save(any(User.class));
         verify(accountRepository).save(any(Account.class));
     }
@@ -313,7 +312,7 @@ class UserServiceTest {
     void test13() {
         Status withdrawnStatus = new Status("WITHDRAWN");
         given(userRepository.findByIdWithAccount(testUserId)).willReturn(Optional.of(testUser));
-        given(statusRepository.findByStatusName("WITHDRAWN")).willReturn(Optional.of(withdrawnStatus));
+        given(referenceDataRegistry.findStatus("WITHDRAWN")).willReturn(Optional.of(withdrawnStatus));
 
         Account accountSpy = mock(Account.class);
         ReflectionTestUtils.setField(testUser, "account", accountSpy);
@@ -332,8 +331,8 @@ class UserServiceTest {
         Status activeStatus = new Status("ACTIVE");
 
         given(accountRepository.findById(anyString())).willReturn(Optional.empty());
-        given(gradeRepository.findByGradeName("GENERAL")).willReturn(Optional.of(generalGrade));
-        given(statusRepository.findByStatusName("ACTIVE")).willReturn(Optional.of(activeStatus));
+        given(referenceDataRegistry.findGrade("GENERAL")).willReturn(Optional.of(generalGrade));
+        given(referenceDataRegistry.findStatus("ACTIVE")).willReturn(Optional.of(activeStatus));
 
         User savedUser = new User("Payco User", "010-0000-0000", "payco@test.com", LocalDate.now(), generalGrade);
         ReflectionTestUtils.setField(savedUser, "userCreatedId", 1L);
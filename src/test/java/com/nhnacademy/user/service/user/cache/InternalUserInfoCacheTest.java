@@ -0,0 +1,96 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.service.user.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import com.nhnacademy.user.dto.response.InternalUserResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+class InternalUserInfoCacheTest {
+
+    @Test
+    @DisplayName("다른 인스턴스가 L2 에 넣은 회원 정보 - DB 를 읽지 않고 L2 적중")
+    void test1() {
+        CacheManager shared = new ConcurrentMapCacheManager();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        InternalUserInfoCache node1 = new InternalUserInfoCache(shared, new SimpleMeterRegistry());
+        InternalUserInfoCache node2 = new InternalUserInfoCache(shared, meterRegistry);
+        AtomicInteger loads = new AtomicInteger();
+        Function<Long, InternalUserResponse> loader = id -> {
+            loads.incrementAndGet();
+            return response(id);
+        };
+
+        node1.get(1L, loader);
+        InternalUserResponse response = node2.get(1L, loader);
+
+        assertThat(response.userName()).isEqualTo("홍길동");
+        assertThat(loads).hasValue(1);
+        assertThat(meterRegistry.get("internal.user.cache.remote").tag("result", "hit").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("무효화 - L1, L2 모두 비우면 다시 DB 에서 읽음 (다른 인스턴스 L1 은 evictLocal)")
+    void test2() {
+        CacheManager shared = new ConcurrentMapCacheManager();
+        InternalUserInfoCache node1 = new InternalUserInfoCache(shared, new SimpleMeterRegistry());
+        InternalUserInfoCache node2 = new InternalUserInfoCache(shared, new SimpleMeterRegistry());
+        AtomicInteger loads = new AtomicInteger();
+        Function<Long, InternalUserResponse> loader = id -> {
+            loads.incrementAndGet();
+            return response(id);
+        };
+
+        node1.get(1L, loader);
+        node2.get(1L, loader);
+
+        node1.evict(1L);
+        node2.evictLocal(1L);
+        node2.get(1L, loader);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("L2 장애 - 예외 없이 DB 에서 읽어 응답")
+    void test3() {
+        CacheManager cacheManager = mock(CacheManager.class);
+        Cache remote = mock(Cache.class);
+        given(cacheManager.getCache(InternalUserInfoCache.CACHE_NAME)).willReturn(remote);
+        given(remote.get(any(), any(Class.class))).willThrow(new IllegalStateException("redis down"));
+
+        InternalUserInfoCache cache = new InternalUserInfoCache(cacheManager, new SimpleMeterRegistry());
+
+        assertThat(cache.get(1L, this::response).userCreatedId()).isEqualTo(1L);
+    }
+
+    private InternalUserResponse response(Long id) {
+        return new InternalUserResponse(id, "홍길동", "010-1234-5678", "test@test.com", "GOLD",
+                BigDecimal.valueOf(2.5), 0L, List.of());
+    }
+
+}
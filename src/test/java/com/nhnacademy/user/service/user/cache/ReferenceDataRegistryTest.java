@@ -0,0 +1,123 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.service.user.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.nhnacademy.user.dto.response.ReferenceDataRefreshResponse;
+import com.nhnacademy.user.entity.account.Status;
+import com.nhnacademy.user.entity.user.Grade;
+import com.nhnacademy.user.repository.account.StatusRepository;
+import com.nhnacademy.user.repository.user.GradeRepository;
+import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class ReferenceDataRegistryTest {
+
+    private GradeRepository gradeRepository;
+
+    private StatusRepository statusRepository;
+
+    private EntityManager entityManager;
+
+    private ReferenceDataRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        gradeRepository = mock(GradeRepository.class);
+        statusRepository = mock(StatusRepository.class);
+        entityManager = mock(EntityManager.class);
+        registry = new ReferenceDataRegistry(gradeRepository, statusRepository, entityManager);
+
+        given(gradeRepository.findAll()).willReturn(List.of(grade(1L, "GENERAL"), grade(2L, "GOLD")));
+        given(statusRepository.findAll()).willReturn(List.of(status(1L, "ACTIVE"), status(3L, "WITHDRAWN")));
+    }
+
+    @Test
+    @DisplayName("적재 후 조회 - 테이블 조회 없이 PK 로 만든 참조를 돌려줌")
+    void test1() {
+        Grade goldReference = mock(Grade.class);
+        Status withdrawnReference = mock(Status.class);
+        given(entityManager.getReference(Grade.class, 2L)).willReturn(goldReference);
+        given(entityManager.getReference(Status.class, 3L)).willReturn(withdrawnReference);
+
+        ReferenceDataRefreshResponse loaded = registry.refresh();
+
+        assertThat(loaded.gradeCount()).isEqualTo(2);
+        assertThat(loaded.statusCount()).isEqualTo(2);
+        for (int i = 0; i < 3; i++) {
+            assertThat(registry.findGrade("GOLD")).containsSame(goldReference);
+            assertThat(registry.findStatus("WITHDRAWN")).containsSame(withdrawnReference);
+        }
+        verify(gradeRepository, times(1)).findAll();
+        verify(statusRepository, times(1)).findAll();
+    }
+
+    @Test
+    @DisplayName("적재 전 조회 - 스냅샷에 없으면 한 번 다시 읽어서 확인")
+    void test2() {
+        Grade generalReference = mock(Grade.class);
+        given(entityManager.getReference(Grade.class, 1L)).willReturn(generalReference);
+
+        assertThat(registry.findGrade("GENERAL")).containsSame(generalReference);
+        verify(gradeRepository, times(1)).findAll();
+    }
+
+    @Test
+    @DisplayName("없는 이름이 연달아 들어와도 최소 간격 안에서는 다시 읽지 않음")
+    void test3() {
+        registry.refresh();
+
+        assertThat(registry.findGrade("DIAMOND")).isEmpty();
+        assertThat(registry.findStatus("WEIRD_STATUS")).isEmpty();
+
+        verify(gradeRepository, times(1)).findAll();
+        verify(statusRepository, times(1)).findAll();
+    }
+
+    @Test
+    @DisplayName("관리자 갱신 - 새로 추가된 등급을 반영")
+    void test4() {
+        registry.refresh();
+        given(gradeRepository.findAll()).willReturn(List.of(grade(1L, "GENERAL"), grade(2L, "GOLD"),
+                grade(4L, "PLATINUM")));
+        Grade platinumReference = mock(Grade.class);
+        given(entityManager.getReference(Grade.class, 4L)).willReturn(platinumReference);
+
+        registry.refresh();
+
+        assertThat(registry.findGrade("PLATINUM")).containsSame(platinumReference);
+    }
+
+    private Grade grade(Long gradeId, String gradeName) {
+        Grade grade = new Grade(gradeName, BigDecimal.ONE);
+        ReflectionTestUtils.setField(grade, "gradeId", gradeId);
+        return grade;
+    }
+
+    private Status status(Long statusId, String statusName) {
+        Status status = new Status(statusName);
+        ReflectionTestUtils.setField(status, "statusId", statusId);
+        return status;
+    }
+
+}
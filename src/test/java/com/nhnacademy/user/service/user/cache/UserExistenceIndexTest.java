@@ -0,0 +1,188 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.user.service.user.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import com.nhnacademy.user.dto.response.ExistenceIndexRebuildResponse;
+import com.nhnacademy.user.properties.UserExistenceIndexProperties;
+import com.nhnacademy.user.repository.account.AccountRepository;
+import com.nhnacademy.user.repository.user.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class UserExistenceIndexTest {
+
+    private UserRepository userRepository;
+
+    private AccountRepository accountRepository;
+
+    private UserExistenceIndexProperties properties;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private UserExistenceIndex index;
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        accountRepository = mock(AccountRepository.class);
+        properties = new UserExistenceIndexProperties();
+        properties.setExpectedInsertions(1000);
+        meterRegistry = new SimpleMeterRegistry();
+        index = new UserExistenceIndex(userRepository, accountRepository, properties,
+                mock(PlatformTransactionManager.class), meterRegistry);
+
+        given(userRepository.streamAllIds()).willReturn(Stream.of(1L, 2L, 3L));
+        given(accountRepository.streamAllLoginIds()).willReturn(Stream.of("alice", "Bob"));
+        given(accountRepository.findMaxUserIdJoinedBefore(any(LocalDateTime.class))).willReturn(3L);
+    }
+
+    @Test
+    @DisplayName("적재 전 - 모든 조회를 DB 로 확인")
+    void test1() {
+        assertThat(index.existsLoginId("alice", db(true))).isTrue();
+        assertThat(index.existsLoginId("nobody", db(false))).isFalse();
+
+        assertThat(loads).hasValue(2);
+        assertThat(lookups("login_id", "miss")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("적재 후 - 없는 키는 DB 없이 false, 있는 키는 한 번만 DB 확인 후 캐시")
+    void test2() {
+        ExistenceIndexRebuildResponse rebuilt = index.rebuild();
+
+        assertThat(rebuilt.userCount()).isEqualTo(3L);
+        assertThat(rebuilt.loginIdCount()).isEqualTo(2L);
+
+        assertThat(index.existsLoginId("nobody", db(false))).isFalse();
+        assertThat(index.existsLoginId("alice", db(true))).isTrue();
+        assertThat(index.existsLoginId("alice", db(true))).isTrue();
+        assertThat(index.existsUser(2L, db(true))).isTrue();
+
+        assertThat(loads).hasValue(2);
+        assertThat(lookups("login_id", "absent")).isEqualTo(1.0);
+        assertThat(lookups("login_id", "cached")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("적재 후 Bloom filter 를 통과했지만 DB 에 없음 - 거짓 양성 비율에 반영")
+    void test3() {
+        index.rebuild();
+
+        index.existsLoginId("nobody", db(false));
+        index.existsLoginId("bob", db(false));  // 적재 후 사라진 키 (거짓 양성과 같은 경로)
+
+        assertThat(lookups("login_id", "false_positive")).isEqualTo(1.0);
+        assertThat(meterRegistry.get("user.existence.bloom.false_positive_rate").tag("index", "login_id")
+                .gauge().value()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("적재 시점 최대 ID 보다 큰 회원 ID - 다른 인스턴스에서 방금 가입했을 수 있으므로 DB 로 확인")
+    void test4() {
+        index.rebuild();
+
+        assertThat(index.existsUser(10L, db(true))).isTrue();
+        assertThat(index.existsUser(2_000_000L, db(false))).isFalse();
+
+        assertThat(loads).hasValue(2);
+        assertThat(lookups("user", "miss")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("가입 반영 - 적재 후 추가한 키는 DB 없이 true")
+    void test5() {
+        index.rebuild();
+
+        index.add(4L, "carol");
+
+        assertThat(index.existsLoginId("carol", db(false))).isTrue();
+        assertThat(index.existsUser(4L, db(false))).isTrue();
+        assertThat(loads).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("탈퇴 반영 - 있음 캐시만 비우고 다음 조회는 DB 로 확인")
+    void test6() {
+        index.rebuild();
+        index.add(4L, "carol");
+
+        index.evict(4L, "carol");
+
+        assertThat(index.existsLoginId("carol", db(true))).isTrue();
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("비활성화 - 항상 DB 조회")
+    void test7() {
+        properties.setEnabled(false);
+        index.rebuild();
+
+        assertThat(index.existsLoginId("nobody", db(false))).isFalse();
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("로그인 아이디 - DB 처럼 대소문자를 무시하고 확인")
+    void test8() {
+        index.rebuild();
+        index.add(4L, "Carol");
+
+        assertThat(index.existsLoginId("BOB", db(true))).isTrue();
+        assertThat(index.existsLoginId("carol", db(false))).isTrue();
+        assertThat(lookups("login_id", "absent")).isZero();
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("회원 ID 기준점 - 적재 중 아직 커밋되지 않아 빠진 낮은 ID 도 DB 로 확인")
+    void test9() {
+        // 3 은 할당됐지만 흘려 읽는 동안 커밋 전이라 빠지고, 그 뒤의 4 는 읽힘
+        given(userRepository.streamAllIds()).willReturn(Stream.of(1L, 2L, 4L));
+        given(accountRepository.findMaxUserIdJoinedBefore(any(LocalDateTime.class))).willReturn(2L);
+        index.rebuild();
+
+        assertThat(index.existsUser(3L, db(true))).isTrue();
+
+        assertThat(loads).hasValue(1);
+        assertThat(lookups("user", "absent")).isZero();
+    }
+
+    private BooleanSupplier db(boolean exists) {
+        return () -> {
+            loads.incrementAndGet();
+            return exists;
+        };
+    }
+
+    private double lookups(String indexName, String result) {
+        return meterRegistry.get("user.existence.lookup").tag("index", indexName).tag("result", result)
+                .counter().count();
+    }
+
+}